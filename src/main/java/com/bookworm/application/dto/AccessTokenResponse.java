@@ -0,0 +1,19 @@
+package com.bookworm.application.dto;
+
+/**
+ * 서명 토큰 발급 응답 DTO
+ * - 클라이언트는 이후 요청에 Authorization: Bearer {accessToken} 헤더 사용
+ *
+ * @param expiresIn 남은 유효 시간 (초)
+ */
+public record AccessTokenResponse(
+        String accessToken,
+        String tokenType,
+        long expiresIn,
+        LoginResponse user
+) {
+
+    public static AccessTokenResponse bearer(String accessToken, long expiresIn, LoginResponse user) {
+        return new AccessTokenResponse(accessToken, "Bearer", expiresIn, user);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookworm.application.dto;
+
+import com.bookworm.domain.entity.User;
+
+import java.io.Serializable;
+
+/**
+ * 인증된 사용자 스냅샷 (불변)
+ * - 로그인 시 한 번 만들어 Principal, 로그인 응답, 세션 검증에서 재사용
+ * - SecurityContext와 함께 세션에 직렬화되므로 엔티티 대신 값만 보관
+ * - version: 엔티티 버전 (캐시 무효화 기준)
+ */
+public record AuthenticatedUser(
+        Long id,
+        String email,
+        String encodedPassword,
+        String firstName,
+        String lastName,
+        String fullName,
+        String role,
+        String status,
+        Long version
+) implements Serializable {
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(
+                user.getId(),
+                user.getEmail().getValue(),
+                user.getPassword().getValue(),
+                user.getFirstName().getValue(),
+                user.getLastName().getValue(),
+                user.getFullName(),
+                user.getRole().name(),
+                user.getStatus().name(),
+                user.getVersion()
+        );
+    }
+
+    /**
+     * 비밀번호 해시를 제거한 사본 (인증 완료 후 세션 보관용)
+     */
+    public AuthenticatedUser withoutPassword() {
+        return encodedPassword == null
+                ? this
+                : new AuthenticatedUser(id, email, null, firstName, lastName, fullName, role, status, version);
+    }
+
+    public boolean isActive() {
+        return "ACTIVE".equals(status);
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+
+    public LoginResponse toLoginResponse() {
+        return new LoginResponse(id, email, firstName, lastName, fullName, role, status);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookworm.application.dto;
+
+import java.util.List;
+
+/**
+ * 도서/대출 변경 피드 응답 DTO
+ *
+ * - nextToken: 다음 요청의 since 값
+ * - hasMore: 바로 이어서 더 받을 변경이 있음
+ * - resetRequired: since가 보관 기간을 벗어남 → 전체 목록을 다시 받은 뒤 nextToken부터 이어서 조회
+ * - 같은 엔티티의 여러 변경은 마지막 상태 하나로 합쳐짐 (수정 → 현재 값, 삭제 → ID만)
+ */
+public record ChangeFeedResponse(
+        String nextToken,
+        boolean hasMore,
+        boolean resetRequired,
+        List<BookResponse> books,
+        List<LoanResponse> loans,
+        List<Long> deletedBookIds,
+        List<Long> deletedLoanIds
+) {
+
+    public static ChangeFeedResponse reset(String nextToken) {
+        return new ChangeFeedResponse(nextToken, false, true, List.of(), List.of(), List.of(), List.of());
+    }
+}
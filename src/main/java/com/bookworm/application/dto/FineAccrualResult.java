@@ -0,0 +1,13 @@
+package com.bookworm.application.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 연체료 일괄 부과 결과 DTO
+ */
+public record FineAccrualResult(
+        LocalDate accrualDate,
+        int chunks,
+        long accruedLoans,
+        long postedEntries
+) {}
@@ -0,0 +1,16 @@
+package com.bookworm.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 연체료 잔액 응답 DTO
+ */
+public record FineBalanceResponse(
+        Long userId,
+        long balance,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime updatedAt
+) {}
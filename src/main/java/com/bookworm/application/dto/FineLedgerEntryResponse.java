@@ -0,0 +1,35 @@
+package com.bookworm.application.dto;
+
+import com.bookworm.domain.entity.FineLedgerEntry;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 연체료 원장 항목 응답 DTO
+ */
+public record FineLedgerEntryResponse(
+        Long id,
+        Long loanId,
+        String entryType,
+        long amount,
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate accrualDate,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdAt
+) {
+
+    public static FineLedgerEntryResponse from(FineLedgerEntry entry) {
+        return new FineLedgerEntryResponse(
+                entry.getId(),
+                entry.getLoanId(),
+                entry.getEntryType().name(),
+                entry.getAmount(),
+                entry.getAccrualDate(),
+                entry.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.bookworm.application.dto;
+
+/**
+ * 연체료 납부/면제 요청 DTO
+ * - type: PAYMENT 또는 WAIVER
+ */
+public record FineSettlementRequest(
+        String type,
+        Long amount
+) {}
@@ -0,0 +1,13 @@
+package com.bookworm.application.dto;
+
+/**
+ * 실시간 변경 이벤트 내용 (SSE changes 이벤트)
+ *
+ * - since: 이 이벤트가 이어지는 이전 토큰 (직전에 받은 이벤트 id와 다르면 그 사이를 놓친 것)
+ * - changes: since 이후 변경 (이벤트 id = changes.nextToken)
+ * 놓친 구간은 GET /api/changes?since={마지막으로 받은 id}로 다시 조회
+ */
+public record LiveChangesMessage(
+        String since,
+        ChangeFeedResponse changes
+) {}
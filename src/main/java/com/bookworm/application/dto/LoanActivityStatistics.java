@@ -0,0 +1,36 @@
+package com.bookworm.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간별 대출 활동 통계 DTO (일별 롤업 기준)
+ */
+public record LoanActivityStatistics(
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate startDate,
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate endDate,
+
+        long loans,
+        long returns,
+        long overdueReturns,
+        long extensions,
+        List<Breakdown> breakdown
+) {
+
+    /**
+     * 도서 유형/언어별 합계
+     */
+    public record Breakdown(
+            String bookType,
+            String language,
+            long loans,
+            long returns,
+            long overdueReturns,
+            long extensions
+    ) {}
+}
@@ -0,0 +1,19 @@
+package com.bookworm.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대출 감사 로그 응답 DTO
+ */
+public record LoanAuditLogResponse(
+        Long id,
+        String eventType,
+        Long loanId,
+        Long userId,
+        Long bookId,
+        String performedBy,
+        @JsonRawValue String details,
+        LocalDateTime occurredAt
+) {}
@@ -0,0 +1,49 @@
+package com.bookworm.application.dto;
+
+import com.bookworm.domain.entity.ArchivedLoanExtension;
+import com.bookworm.domain.entity.LoanExtension;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대출 연장 이력 응답 DTO
+ */
+public record LoanExtensionResponse(
+        Long id,
+        int extensionNo,
+        int extensionDays,
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate previousDueDate,
+
+        @JsonFormat(pattern = "yyyy-MM-dd")
+        LocalDate newDueDate,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime extendedAt
+) {
+
+    public static LoanExtensionResponse from(LoanExtension extension) {
+        return new LoanExtensionResponse(
+                extension.getId(),
+                extension.getExtensionNo(),
+                extension.getExtensionDays(),
+                extension.getPreviousDueDate(),
+                extension.getNewDueDate(),
+                extension.getExtendedAt()
+        );
+    }
+
+    public static LoanExtensionResponse from(ArchivedLoanExtension extension) {
+        return new LoanExtensionResponse(
+                extension.getId(),
+                extension.getExtensionNo(),
+                extension.getExtensionDays(),
+                extension.getPreviousDueDate(),
+                extension.getNewDueDate(),
+                extension.getExtendedAt()
+        );
+    }
+}
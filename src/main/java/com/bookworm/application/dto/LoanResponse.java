@@ -1,6 +1,7 @@
 package com.bookworm.application.dto;
 
 
+import com.bookworm.domain.entity.ArchivedBookLoan;
 import com.bookworm.domain.entity.BookLoan;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
@@ -95,6 +96,48 @@ public record LoanResponse(
         );
     }
 
+    /**
+     * 보관된 대출로부터 LoanResponse 생성 (종료된 대출이므로 활성/연체 아님)
+     */
+    public static LoanResponse from(ArchivedBookLoan archivedLoan) {
+        if (archivedLoan == null) {
+            return null;
+        }
+
+        return new LoanResponse(
+                archivedLoan.getId(),
+
+                // 도서 정보
+                archivedLoan.getBook().getId(),
+                archivedLoan.getBook().getTitle().getValue(),
+                archivedLoan.getBook().getType().getValue(),
+                archivedLoan.getBook().getLanguage().getValue(),
+
+                // 사용자 정보
+                archivedLoan.getUser().getId(),
+                archivedLoan.getUser().getFullName(),
+                archivedLoan.getUser().getEmail().getValue(),
+
+                // 대출 정보
+                archivedLoan.getQuantity(),
+                archivedLoan.getLoanDate(),
+                archivedLoan.getDueDate(),
+                archivedLoan.getStatus().name(),
+                archivedLoan.getStatus().getDescription(),
+
+                // 상태 정보
+                false,
+                false,
+                archivedLoan.isReturned(),
+                0,
+                archivedLoan.getOverdueDays(),
+
+                // 메타 정보
+                archivedLoan.getCreatedAt(),
+                archivedLoan.getUpdatedAt()
+        );
+    }
+
     /**
      * 간단한 LoanResponse 생성 (필수 정보만)
      */
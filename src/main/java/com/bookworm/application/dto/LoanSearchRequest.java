@@ -1,20 +1,28 @@
 package com.bookworm.application.dto;
 
 
+import org.springframework.format.annotation.DateTimeFormat;
+
 import java.time.LocalDate;
 
 /**
  * 대출 검색 요청 DTO
+ * - 모든 조건은 선택 사항이며 null이면 조건에서 제외
+ * - sortBy: id, loanDate, dueDate, returnedAt, createdAt 중 하나 (기본: id)
  */
 public record LoanSearchRequest(
+        Long userId,
+        Long bookId,
         String userName,
         String bookTitle,
         String status,
-        LocalDate loanDateFrom,
-        LocalDate loanDateTo,
-        LocalDate dueDateFrom,
-        LocalDate dueDateTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate loanDateFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate loanDateTo,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
         Boolean overdue,
         Integer page,
-        Integer size
-) {}
\ No newline at end of file
+        Integer size,
+        String sortBy,
+        String direction
+) {}
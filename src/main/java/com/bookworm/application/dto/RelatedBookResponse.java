@@ -0,0 +1,11 @@
+package com.bookworm.application.dto;
+
+/**
+ * 함께 대출된 도서 DTO
+ * - score: 동시 대출 회원 수 기반 코사인 유사도 (0~1)
+ */
+public record RelatedBookResponse(
+        Long bookId,
+        float score,
+        int coBorrowCount
+) {}
@@ -0,0 +1,10 @@
+package com.bookworm.application.dto;
+
+/**
+ * 도서 예약 요청 DTO
+ * - userId: 관리자가 다른 회원 대신 예약할 때만 사용 (일반 회원은 로그인 정보로 결정)
+ */
+public record ReservationRequest(
+        Long bookId,
+        Long userId
+) {}
@@ -0,0 +1,44 @@
+package com.bookworm.application.dto;
+
+import com.bookworm.domain.entity.BookReservation;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 예약 응답 DTO
+ */
+public record ReservationResponse(
+        Long id,
+        Long bookId,
+        String bookTitle,
+        Long userId,
+        String userName,
+        String status,
+        String statusDescription,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime queuedAt,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime readyAt,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime expiresAt
+) {
+
+    public static ReservationResponse from(BookReservation reservation) {
+        return new ReservationResponse(
+                reservation.getId(),
+                reservation.getBook().getId(),
+                reservation.getBook().getTitle().getValue(),
+                reservation.getUser().getId(),
+                reservation.getUser().getFullName(),
+                reservation.getStatus().name(),
+                reservation.getStatus().getDescription(),
+                reservation.getQueuedAt(),
+                reservation.getReadyAt(),
+                reservation.getExpiresAt()
+        );
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookworm.application.dto;
+
+/**
+ * 인기 도서 순위 DTO
+ */
+public record TrendingBookResponse(
+        int rank,
+        Long bookId,
+        String title,
+        String type,
+        String language,
+        long loanCount
+) {}
@@ -3,11 +3,17 @@ package com.bookworm.application.service.Loan;
 import com.bookworm.application.dto.BookReturnRequest;
 import com.bookworm.application.dto.BookReturnResponse;
 import com.bookworm.application.dto.BookReturnStatistics;
+import com.bookworm.application.dto.LoanActivityStatistics;
 import com.bookworm.application.dto.LoanResponse;
+import com.bookworm.application.service.reservation.ReservationService;
 import com.bookworm.domain.common.TimeProvider;
 import com.bookworm.domain.constant.LoanStatus;
 import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.event.BookReturnedEvent;
+import com.bookworm.domain.event.DomainEventPublisher;
+import com.bookworm.domain.event.StockChangedEvent;
 import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.infrastructure.repository.ArchivedBookLoanRepository;
 import com.bookworm.infrastructure.repository.BookLoanRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 도서 반납 서비스
@@ -36,6 +43,11 @@ public class BookReturnService {
 
     private final BookLoanRepository bookLoanRepository;
     private final TimeProvider timeProvider;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ReservationService reservationService;
+    private final BookReturnStatisticsService bookReturnStatisticsService;
+    private final LoanStatisticsRollupService loanStatisticsRollupService;
+    private final ArchivedBookLoanRepository archivedBookLoanRepository;
 
     /**
      * 도서 반납 처리 (핵심 메서드)
@@ -68,10 +80,22 @@ public class BookReturnService {
             // 4. 변경사항 저장 (JPA dirty checking)
             bookLoanRepository.save(loan);
 
+            // 반납된 재고를 예약 대기자에게 보관
+            reservationService.promoteWaitingReservations(loan.getBook());
+
+            // 일별 롤업 반영
+            loanStatisticsRollupService.recordReturn(loan, wasOverdue);
+
+            // 5. 반납/재고 이벤트 기록 (감사, 알림은 커밋 이후 비동기 처리)
+            domainEventPublisher.publish(BookReturnedEvent.from(loan, wasOverdue, overdueDays,
+                    timeProvider.currentDateTime()));
+            domainEventPublisher.publish(StockChangedEvent.of(loan.getBook(), loan.getQuantity().getValue(),
+                    timeProvider.currentDateTime()));
+
             log.info("도서 반납 완료. 대출 ID: {}, 연체 여부: {}, 연체 일수: {}",
                     loan.getId(), wasOverdue, overdueDays);
 
-            // 5. 성공 응답 생성
+            // 6. 성공 응답 생성
             return createSuccessResponse(loan, wasOverdue, overdueDays);
 
         } catch (LoanBusinessException e) {
@@ -253,23 +277,12 @@ public class BookReturnService {
         }
 
         try {
-            // 전체 반납 건수
-            long totalReturns = bookLoanRepository.countLoansByPeriod(startDate, endDate);
-
-            // 연체 반납 건수 (연체였던 대출들 중 해당 기간에 반납된 것들)
-            List<BookLoan> returnedLoans = bookLoanRepository.findLoansBetweenDates(startDate, endDate)
-                    .stream()
-                    .filter(loan -> loan.getStatus() == LoanStatus.RETURNED)
-                    .collect(Collectors.toList());
-
-            long overdueReturns = returnedLoans.stream()
-                    .mapToLong(loan -> loan.getLoanPeriod().getOverdueDays() > 0 ? 1 : 0)
-                    .sum();
+            BookReturnStatistics statistics = bookReturnStatisticsService.getStatisticsForPeriod(startDate, endDate);
 
             log.debug("반납 통계 조회: Period={} to {}, Total={}, Overdue={}",
-                    startDate, endDate, totalReturns, overdueReturns);
+                    startDate, endDate, statistics.totalReturns(), statistics.overdueReturns());
 
-            return BookReturnStatistics.of(totalReturns, overdueReturns, timeProvider.currentDate());
+            return statistics;
 
         } catch (Exception e) {
             log.error("반납 통계 조회 실패: Period={} to {}", startDate, endDate, e);
@@ -277,6 +290,22 @@ public class BookReturnService {
         }
     }
 
+    /**
+     * 대출 활동 통계 조회 (일별 롤업 기준)
+     */
+    @Transactional(readOnly = true)
+    public LoanActivityStatistics getActivityStatistics(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null) {
+            throw new LoanBusinessException("통계 조회 기간은 필수입니다.");
+        }
+
+        if (startDate.isAfter(endDate)) {
+            throw new LoanBusinessException("시작일은 종료일보다 늦을 수 없습니다.");
+        }
+
+        return bookReturnStatisticsService.getActivityForPeriod(startDate, endDate);
+    }
+
     /**
      * 반납 가능한 대출 조회 (사용자별)
      */
@@ -314,11 +343,18 @@ public class BookReturnService {
                     .filter(loan -> loan.getStatus() == LoanStatus.RETURNED)
                     .collect(Collectors.toList());
 
-            log.debug("사용자 반납 이력 조회: UserId={}, Count={}", userId, returnHistory.size());
-
-            return returnHistory.stream()
+            // 보관 기간이 지난 반납 이력은 보관 테이블에 있음
+            List<LoanResponse> archivedHistory = archivedBookLoanRepository
+                    .findByUserIdAndStatusWithDetails(userId, LoanStatus.RETURNED)
+                    .stream()
                     .map(LoanResponse::from)
                     .collect(Collectors.toList());
+
+            log.debug("사용자 반납 이력 조회: UserId={}, Count={}, Archived={}",
+                    userId, returnHistory.size(), archivedHistory.size());
+
+            return Stream.concat(returnHistory.stream().map(LoanResponse::from), archivedHistory.stream())
+                    .collect(Collectors.toList());
         } catch (Exception e) {
             log.error("사용자 반납 이력 조회 실패: UserId={}", userId, e);
             throw new LoanBusinessException("사용자 반납 이력 조회에 실패했습니다.", e);
@@ -1,15 +1,22 @@
 package com.bookworm.application.service.Loan;
 
 import com.bookworm.application.dto.BookReturnStatistics;
+import com.bookworm.application.dto.LoanActivityStatistics;
 import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.infrastructure.repository.ArchivedBookLoanRepository;
 import com.bookworm.infrastructure.repository.BookLoanRepository;
+import com.bookworm.infrastructure.repository.ReturnCountSummary;
+import com.bookworm.infrastructure.stats.LoanDailyTotals;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -28,6 +35,8 @@ public class BookReturnStatisticsService {
 
     private final BookLoanRepository bookLoanRepository;
     private final TimeProvider timeProvider;
+    private final LoanStatisticsRollupService loanStatisticsRollupService;
+    private final ArchivedBookLoanRepository archivedBookLoanRepository;
 
     /**
      * 오늘의 반납 통계
@@ -62,12 +71,16 @@ public class BookReturnStatisticsService {
         log.debug("반납 통계 조회: {} ~ {}", startDate, endDate);
 
         try {
-            long totalReturns = bookLoanRepository.countLoansByPeriod(startDate, endDate);
+            // 일별 롤업 합산 (기간 길이와 무관하게 일자 수 x 유형/언어 조합 수만큼만 읽음)
+            if (loanStatisticsRollupService.isReady()) {
+                LoanDailyTotals totals = loanStatisticsRollupService.getTotals(startDate, endDate);
+                return BookReturnStatistics.of(totals.returns(), totals.overdueReturns(), timeProvider.currentDate());
+            }
 
-            // 연체 반납 수는 별도 계산 필요 (실제로는 더 복잡한 쿼리 필요)
-            long overdueReturns = calculateOverdueReturns(startDate, endDate);
+            // 롤업 준비 전: 반납일(returned_at) 기준 집계 한 번으로 전체/연체 반납 수를 함께 조회
+            ReturnCountSummary summary = bookLoanRepository.summarizeReturnsByPeriod(startDate, endDate);
 
-            return BookReturnStatistics.of(totalReturns, overdueReturns, timeProvider.currentDate());
+            return BookReturnStatistics.of(summary.total(), summary.overdue(), timeProvider.currentDate());
 
         } catch (Exception e) {
             log.error("반납 통계 조회 실패: {} ~ {}", startDate, endDate, e);
@@ -75,6 +88,38 @@ public class BookReturnStatisticsService {
         }
     }
 
+    /**
+     * 올해 반납 통계
+     */
+    public BookReturnStatistics getYearlyStatistics() {
+        LocalDate today = timeProvider.currentDate();
+        return getStatisticsForPeriod(today.withDayOfYear(1), today);
+    }
+
+    /**
+     * 특정 기간 대출 활동 통계 (대출/반납/연체 반납/연장, 유형·언어별 합계 포함)
+     */
+    public LoanActivityStatistics getActivityForPeriod(LocalDate startDate, LocalDate endDate) {
+        log.debug("대출 활동 통계 조회: {} ~ {}", startDate, endDate);
+
+        try {
+            LoanDailyTotals totals = loanStatisticsRollupService.getTotals(startDate, endDate);
+            List<LoanActivityStatistics.Breakdown> breakdown = loanStatisticsRollupService
+                    .getBreakdown(startDate, endDate)
+                    .stream()
+                    .map(row -> new LoanActivityStatistics.Breakdown(row.bookType(), row.language(),
+                            row.loans(), row.returns(), row.overdueReturns(), row.extensions()))
+                    .toList();
+
+            return new LoanActivityStatistics(startDate, endDate,
+                    totals.loans(), totals.returns(), totals.overdueReturns(), totals.extensions(), breakdown);
+
+        } catch (Exception e) {
+            log.error("대출 활동 통계 조회 실패: {} ~ {}", startDate, endDate, e);
+            throw new RuntimeException("대출 활동 통계 조회에 실패했습니다.", e);
+        }
+    }
+
     /**
      * 대시보드용 종합 통계
      */
@@ -107,6 +152,11 @@ public class BookReturnStatisticsService {
             stats.put("monthlyReturns", monthlyStats.totalReturns());
             stats.put("monthlyOverdueRate", monthlyStats.overdueRate());
 
+            // 올해 반납 통계
+            BookReturnStatistics yearlyStats = getYearlyStatistics();
+            stats.put("yearlyReturns", yearlyStats.totalReturns());
+            stats.put("yearlyOverdueRate", yearlyStats.overdueRate());
+
             log.debug("대시보드 통계 조회 완료: {}", stats);
             return stats;
 
@@ -125,8 +175,9 @@ public class BookReturnStatisticsService {
         try {
             Map<String, Object> stats = new HashMap<>();
 
-            // 사용자의 총 대출 수
-            long totalLoans = bookLoanRepository.findByUserId(userId).size();
+            // 사용자의 총 대출 수 (운영 + 보관)
+            long totalLoans = bookLoanRepository.findByUserId(userId).size()
+                    + archivedBookLoanRepository.countByUserId(userId);
             stats.put("totalLoans", totalLoans);
 
             // 사용자의 현재 활성 대출 수
@@ -151,14 +202,18 @@ public class BookReturnStatisticsService {
     }
 
     /**
-     * 연체 반납 수 계산 (헬퍼 메서드)
+     * 반납 일시 컬럼 추가 이전에 반납된 대출 보정 (애플리케이션 시작 시 1회)
      */
-    private long calculateOverdueReturns(LocalDate startDate, LocalDate endDate) {
-        // 실제 구현에서는 더 복잡한 쿼리가 필요할 수 있음
-        // 여기서는 간단한 계산으로 대체
-        return bookLoanRepository.findLoansBetweenDates(startDate, endDate)
-                .stream()
-                .mapToLong(loan -> loan.getLoanPeriod().getOverdueDays() > 0 ? 1 : 0)
-                .sum();
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillReturnedAt() {
+        try {
+            int updated = bookLoanRepository.backfillReturnedAt();
+            if (updated > 0) {
+                log.info("반납 일시 보정 완료: {}건", updated);
+            }
+        } catch (Exception e) {
+            log.warn("반납 일시 보정 실패", e);
+        }
     }
 }
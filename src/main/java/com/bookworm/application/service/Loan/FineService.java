@@ -0,0 +1,182 @@
+package com.bookworm.application.service.Loan;
+
+import com.bookworm.application.dto.FineAccrualResult;
+import com.bookworm.application.dto.FineBalanceResponse;
+import com.bookworm.application.dto.FineLedgerEntryResponse;
+import com.bookworm.application.dto.FineSettlementRequest;
+import com.bookworm.domain.common.LibraryPolicy;
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.constant.FineEntryType;
+import com.bookworm.domain.entity.FineLedgerEntry;
+import com.bookworm.domain.entity.UserFineBalance;
+import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.infrastructure.fine.FineAccrualJdbcRepository;
+import com.bookworm.infrastructure.repository.FineLedgerRepository;
+import com.bookworm.infrastructure.repository.UserFineBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 연체료 서비스
+ *
+ * 처리 방식:
+ * 1. 매일 새벽 전날 하루치 연체료를 부과 (반납 예정일 구간별 INSERT ... SELECT, 구간마다 별도 트랜잭션)
+ * 2. 구간별로 미반영 원장 항목을 사용자 잔액(user_fine_balances)에 누적
+ * 3. 잔액 조회는 PK 단건 조회 → 연체 대출 수와 무관하게 일정한 비용
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FineService {
+
+    private static final int DUE_DATE_CHUNK_DAYS = 7;
+    private static final int MAX_LEDGER_QUERY_LIMIT = 500;
+
+    private final FineAccrualJdbcRepository fineAccrualJdbcRepository;
+    private final FineLedgerRepository fineLedgerRepository;
+    private final UserFineBalanceRepository userFineBalanceRepository;
+    private final LibraryPolicy libraryPolicy;
+    private final TimeProvider timeProvider;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 야간 연체료 부과 (매일 새벽 0시 10분, 전날 기준)
+     */
+    @Scheduled(cron = "0 10 0 * * *")
+    public void accrueDailyFines() {
+        try {
+            accrueFines(timeProvider.currentDate().minusDays(1));
+        } catch (Exception e) {
+            log.error("야간 연체료 부과 실패", e);
+        }
+    }
+
+    /**
+     * 지정한 날짜 하루치 연체료 부과 (재실행해도 중복 부과 없음)
+     * - 오늘 이후 날짜는 아직 확정되지 않은 연체료이므로 거부
+     */
+    public FineAccrualResult accrueFines(LocalDate accrualDate) {
+        if (accrualDate == null) {
+            throw new LoanBusinessException("부과 기준일은 필수입니다.");
+        }
+        if (!accrualDate.isBefore(timeProvider.currentDate())) {
+            throw new LoanBusinessException("부과 기준일은 오늘 이전 날짜여야 합니다: " + accrualDate);
+        }
+
+        long dailyFine = libraryPolicy.getDailyOverdueFine();
+        LocalDate oldestDueDate = fineAccrualJdbcRepository.findOldestOverdueDueDate(accrualDate);
+
+        if (dailyFine <= 0 || oldestDueDate == null) {
+            log.info("연체료 부과 대상 없음 - 기준일: {}", accrualDate);
+            return new FineAccrualResult(accrualDate, 0, 0, 0);
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int chunks = 0;
+        long accrued = 0;
+        long posted = 0;
+
+        // 반납 예정일이 기준일 이전인 대출만 연체 (due_date < accrualDate)
+        for (LocalDate from = oldestDueDate; from.isBefore(accrualDate); from = from.plusDays(DUE_DATE_CHUNK_DAYS)) {
+            LocalDate to = from.plusDays(DUE_DATE_CHUNK_DAYS).isBefore(accrualDate)
+                    ? from.plusDays(DUE_DATE_CHUNK_DAYS)
+                    : accrualDate;
+            LocalDate chunkFrom = from;
+
+            int[] counts = transactionTemplate.execute(status -> {
+                LocalDateTime now = timeProvider.currentDateTime();
+                int inserted = fineAccrualJdbcRepository.insertAccruals(accrualDate, chunkFrom, to, dailyFine, now);
+                int postedEntries = inserted > 0 ? fineAccrualJdbcRepository.postPendingEntries(now) : 0;
+                return new int[]{inserted, postedEntries};
+            });
+
+            chunks++;
+            accrued += counts[0];
+            posted += counts[1];
+        }
+
+        log.info("연체료 부과 완료 - 기준일: {}, 구간: {}, 부과: {}건, 잔액 반영: {}건",
+                accrualDate, chunks, accrued, posted);
+        return new FineAccrualResult(accrualDate, chunks, accrued, posted);
+    }
+
+    /**
+     * 사용자 연체료 잔액 조회
+     */
+    @Transactional(readOnly = true)
+    public FineBalanceResponse getOutstandingBalance(Long userId) {
+        if (userId == null) {
+            throw new LoanBusinessException("사용자 ID는 필수입니다.");
+        }
+
+        return userFineBalanceRepository.findById(userId)
+                .map(balance -> new FineBalanceResponse(userId, balance.getBalance(), balance.getUpdatedAt()))
+                .orElseGet(() -> new FineBalanceResponse(userId, 0, null));
+    }
+
+    /**
+     * 사용자 연체료 원장 내역 조회 (최신순)
+     */
+    @Transactional(readOnly = true)
+    public List<FineLedgerEntryResponse> getLedger(Long userId, int limit) {
+        int size = limit <= 0 ? 50 : Math.min(limit, MAX_LEDGER_QUERY_LIMIT);
+        return fineLedgerRepository.findByUserIdOrderByAccrualDateDescIdDesc(userId, PageRequest.of(0, size))
+                .stream()
+                .map(FineLedgerEntryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 연체료 납부/면제 처리 (원장 기록과 잔액 반영을 한 트랜잭션으로)
+     */
+    @Transactional
+    public FineBalanceResponse settle(Long userId, FineSettlementRequest request) {
+        FineEntryType type = parseSettlementType(request.type());
+        if (request.amount() == null || request.amount() <= 0) {
+            throw new LoanBusinessException("금액은 0보다 커야 합니다.");
+        }
+
+        LocalDateTime now = timeProvider.currentDateTime();
+        UserFineBalance balance = userFineBalanceRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new LoanBusinessException("연체료 내역이 없는 사용자입니다: " + userId));
+
+        if (request.amount() > balance.getBalance()) {
+            throw new LoanBusinessException(
+                    String.format("처리 금액이 잔액을 초과합니다. 잔액: %d원, 요청: %d원",
+                            balance.getBalance(), request.amount()));
+        }
+
+        FineLedgerEntry entry = fineLedgerRepository.save(
+                FineLedgerEntry.settlement(userId, type, request.amount(), now));
+        balance.apply(entry.getAmount(), now);
+
+        log.info("연체료 {} 처리 - 사용자 ID: {}, 금액: {}원, 잔액: {}원",
+                type.getDescription(), userId, request.amount(), balance.getBalance());
+        return new FineBalanceResponse(userId, balance.getBalance(), balance.getUpdatedAt());
+    }
+
+    private FineEntryType parseSettlementType(String type) {
+        if (type == null) {
+            return FineEntryType.PAYMENT;
+        }
+        try {
+            FineEntryType entryType = FineEntryType.valueOf(type.toUpperCase());
+            if (entryType == FineEntryType.ACCRUAL) {
+                throw new LoanBusinessException("연체료 부과는 직접 요청할 수 없습니다.");
+            }
+            return entryType;
+        } catch (IllegalArgumentException e) {
+            throw new LoanBusinessException("유효하지 않은 처리 유형입니다: " + type);
+        }
+    }
+}
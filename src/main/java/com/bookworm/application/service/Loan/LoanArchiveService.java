@@ -0,0 +1,99 @@
+package com.bookworm.application.service.Loan;
+
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.infrastructure.archive.LoanArchiveProperties;
+import com.bookworm.infrastructure.archive.LoanArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대출 보관 서비스 (hot/cold 분리)
+ *
+ * 처리 방식:
+ * 1. 매일 새벽 반납/취소 후 보관 기준 일수가 지난 대출을 ID 순으로 batchSize건씩 조회 (키셋)
+ * 2. 배치마다 별도 트랜잭션으로 book_loans_archive에 복사 후 원본 삭제 → 잠금 범위를 배치 단위로 제한
+ * 3. 배치 사이 pauseMs만큼 대기해 운영 트래픽과의 경합 완화
+ *
+ * 기간별 통계는 loan_daily_stats 롤업이 보존하므로 보관 후에도 그대로 유지됨
+ * 함께 대출된 도서 추천 인덱스(CoBorrowIndexBuilder)는 보관 테이블도 함께 읽으므로 추천 근거가 줄지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanArchiveService {
+
+    private final LoanArchiveRepository loanArchiveRepository;
+    private final LoanArchiveProperties properties;
+    private final TimeProvider timeProvider;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 야간 보관 작업 (매일 새벽 2시)
+     */
+    @Scheduled(cron = "${bookworm.archive.cron:0 0 2 * * *}")
+    public void archiveClosedLoans() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        try {
+            archive(timeProvider.currentDateTime().minusDays(properties.getRetentionDays()));
+        } catch (Exception e) {
+            log.error("대출 보관 작업 실패", e);
+        }
+    }
+
+    /**
+     * cutoff 이전에 종료된 대출을 보관 테이블로 이동
+     *
+     * @return 이동한 대출 수
+     */
+    public long archive(LocalDateTime cutoff) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long afterId = 0;
+        long moved = 0;
+        int batches = 0;
+
+        while (batches < properties.getMaxBatchesPerRun()) {
+            List<Long> ids = loanArchiveRepository.findArchivableIds(cutoff, afterId, properties.getBatchSize());
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Integer count = transactionTemplate.execute(status ->
+                    loanArchiveRepository.moveToArchive(ids, timeProvider.currentDateTime()));
+
+            moved += count != null ? count : 0;
+            afterId = ids.get(ids.size() - 1);
+            batches++;
+
+            if (ids.size() < properties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+
+        log.info("대출 보관 완료 - 기준 시각: {}, 배치: {}, 이동: {}건", cutoff, batches, moved);
+        return moved;
+    }
+
+    private boolean pause() {
+        if (properties.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("대출 보관 작업 중단 - 인터럽트 발생");
+            return false;
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.bookworm.application.service.Loan;
 
+import com.bookworm.application.dto.LoanAuditLogResponse;
 import com.bookworm.application.dto.LoanAuditReportDto;
 import com.bookworm.domain.entity.BookLoan;
-
+import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.infrastructure.audit.LoanAuditLogRepository;
+import com.bookworm.infrastructure.audit.LoanAuditRecord;
+import com.bookworm.infrastructure.audit.LoanAuditWriter;
 import com.bookworm.infrastructure.repository.BookLoanRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -18,34 +23,35 @@ import java.util.Map;
  * - 대출 활동 추적
  * - 감사 로그 생성
  * - 규정 준수 확인
+ *
+ * 감사 레코드는 LoanAuditWriter의 버퍼에 넣고 즉시 반환하며,
+ * 별도 기록 스레드가 loan_audit_log 테이블에 일괄 저장
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class LoanAuditService {
 
+    private static final int DEFAULT_AUDIT_QUERY_LIMIT = 100;
+    private static final int MAX_AUDIT_QUERY_LIMIT = 1000;
+
     private final BookLoanRepository bookLoanRepository;
+    private final LoanAuditWriter loanAuditWriter;
+    private final LoanAuditLogRepository loanAuditLogRepository;
 
     /**
      * 대출 생성 감사 로그
      */
     public void auditLoanCreation(BookLoan loan, String performedBy) {
         try {
-            Map<String, Object> auditData = Map.of(
-                    "eventType", "LOAN_CREATED",
-                    "loanId", loan.getId(),
-                    "userId", loan.getUser().getId(),
+            Map<String, Object> details = Map.of(
                     "userName", loan.getUser().getFullName(),
-                    "bookId", loan.getBook().getId(),
                     "bookTitle", loan.getBook().getTitle().getValue(),
                     "quantity", loan.getQuantity().getValue(),
-                    "dueDate", loan.getLoanPeriod().getDueDate(),
-                    "performedBy", performedBy,
-                    "timestamp", java.time.LocalDateTime.now()
+                    "dueDate", loan.getLoanPeriod().getDueDate()
             );
 
-            // 실제로는 별도의 감사 로그 저장소에 저장
-            log.info("대출 생성 감사 로그: {}", auditData);
+            appendAudit("LOAN_CREATED", loan, performedBy, details);
 
         } catch (Exception e) {
             log.error("대출 생성 감사 로그 기록 실패 - 대출 ID: {}", loan.getId(), e);
@@ -57,20 +63,14 @@ public class LoanAuditService {
      */
     public void auditBookReturn(BookLoan loan, String performedBy) {
         try {
-            Map<String, Object> auditData = Map.of(
-                    "eventType", "BOOK_RETURNED",
-                    "loanId", loan.getId(),
-                    "userId", loan.getUser().getId(),
+            Map<String, Object> details = Map.of(
                     "userName", loan.getUser().getFullName(),
-                    "bookId", loan.getBook().getId(),
                     "bookTitle", loan.getBook().getTitle().getValue(),
                     "returnDate", LocalDate.now(),
-                    "wasOverdue", loan.isOverdue(),
-                    "performedBy", performedBy,
-                    "timestamp", java.time.LocalDateTime.now()
+                    "wasOverdue", loan.isOverdue()
             );
 
-            log.info("반납 감사 로그: {}", auditData);
+            appendAudit("BOOK_RETURNED", loan, performedBy, details);
 
         } catch (Exception e) {
             log.error("반납 감사 로그 기록 실패 - 대출 ID: {}", loan.getId(), e);
@@ -82,20 +82,14 @@ public class LoanAuditService {
      */
     public void auditLoanExtension(BookLoan loan, int extensionDays, String performedBy) {
         try {
-            Map<String, Object> auditData = Map.of(
-                    "eventType", "LOAN_EXTENDED",
-                    "loanId", loan.getId(),
-                    "userId", loan.getUser().getId(),
+            Map<String, Object> details = Map.of(
                     "userName", loan.getUser().getFullName(),
-                    "bookId", loan.getBook().getId(),
                     "bookTitle", loan.getBook().getTitle().getValue(),
                     "extensionDays", extensionDays,
-                    "newDueDate", loan.getLoanPeriod().getDueDate(),
-                    "performedBy", performedBy,
-                    "timestamp", java.time.LocalDateTime.now()
+                    "newDueDate", loan.getLoanPeriod().getDueDate()
             );
 
-            log.info("대출 연장 감사 로그: {}", auditData);
+            appendAudit("LOAN_EXTENDED", loan, performedBy, details);
 
         } catch (Exception e) {
             log.error("대출 연장 감사 로그 기록 실패 - 대출 ID: {}", loan.getId(), e);
@@ -107,20 +101,14 @@ public class LoanAuditService {
      */
     public void auditLoanCancellation(BookLoan loan, String performedBy, String reason) {
         try {
-            Map<String, Object> auditData = Map.of(
-                    "eventType", "LOAN_CANCELLED",
-                    "loanId", loan.getId(),
-                    "userId", loan.getUser().getId(),
+            Map<String, Object> details = Map.of(
                     "userName", loan.getUser().getFullName(),
-                    "bookId", loan.getBook().getId(),
                     "bookTitle", loan.getBook().getTitle().getValue(),
                     "cancellationDate", LocalDate.now(),
-                    "reason", reason != null ? reason : "사용자 요청",
-                    "performedBy", performedBy,
-                    "timestamp", java.time.LocalDateTime.now()
+                    "reason", reason != null ? reason : "사용자 요청"
             );
 
-            log.info("대출 취소 감사 로그: {}", auditData);
+            appendAudit("LOAN_CANCELLED", loan, performedBy, details);
 
         } catch (Exception e) {
             log.error("대출 취소 감사 로그 기록 실패 - 대출 ID: {}", loan.getId(), e);
@@ -136,20 +124,14 @@ public class LoanAuditService {
             List<BookLoan> overdueLoans = bookLoanRepository.findOverdueLoans();
 
             for (BookLoan loan : overdueLoans) {
-                Map<String, Object> auditData = Map.of(
-                        "eventType", "OVERDUE_DETECTED",
-                        "loanId", loan.getId(),
-                        "userId", loan.getUser().getId(),
+                Map<String, Object> details = Map.of(
                         "userName", loan.getUser().getFullName(),
-                        "bookId", loan.getBook().getId(),
                         "bookTitle", loan.getBook().getTitle().getValue(),
                         "dueDate", loan.getLoanPeriod().getDueDate(),
-                        "overdueDays", loan.getLoanPeriod().getOverdueDays(),
-                        "performedBy", "SYSTEM",
-                        "timestamp", java.time.LocalDateTime.now()
+                        "overdueDays", loan.getLoanPeriod().getOverdueDays()
                 );
 
-                log.info("연체 감지 감사 로그: {}", auditData);
+                appendAudit("OVERDUE_DETECTED", loan, "SYSTEM", details);
             }
 
             if (!overdueLoans.isEmpty()) {
@@ -166,17 +148,20 @@ public class LoanAuditService {
      */
     public void auditPolicyViolation(Long userId, String violationType, String details, String performedBy) {
         try {
-            Map<String, Object> auditData = Map.of(
-                    "eventType", "POLICY_VIOLATION",
-                    "userId", userId,
-                    "violationType", violationType,
-                    "violationDetails", details,
-                    "detectionDate", LocalDate.now(),
-                    "performedBy", performedBy,
-                    "timestamp", java.time.LocalDateTime.now()
-            );
-
-            log.warn("대출 정책 위반 감사 로그: {}", auditData);
+            loanAuditWriter.append(LoanAuditRecord.of(
+                    "POLICY_VIOLATION",
+                    null,
+                    userId,
+                    null,
+                    performedBy,
+                    Map.of(
+                            "violationType", violationType,
+                            "violationDetails", details,
+                            "detectionDate", LocalDate.now()
+                    )
+            ));
+
+            log.warn("대출 정책 위반 - 사용자 ID: {}, 유형: {}", userId, violationType);
 
         } catch (Exception e) {
             log.error("대출 정책 위반 감사 로그 기록 실패 - 사용자 ID: {}", userId, e);
@@ -272,4 +257,69 @@ public class LoanAuditService {
             throw new RuntimeException("감사 리포트 생성에 실패했습니다.", e);
         }
     }
-}
\ No newline at end of file
+
+    // ==================== 감사 로그 조회 (관리자) ====================
+
+    /**
+     * 대출별 감사 로그 조회
+     */
+    public List<LoanAuditLogResponse> findAuditLogsByLoan(Long loanId, int limit) {
+        if (loanId == null) {
+            throw new LoanBusinessException("대출 ID는 필수입니다.");
+        }
+        return loanAuditLogRepository.findByLoanId(loanId, normalizeLimit(limit));
+    }
+
+    /**
+     * 사용자별 감사 로그 조회
+     */
+    public List<LoanAuditLogResponse> findAuditLogsByUser(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        if (userId == null) {
+            throw new LoanBusinessException("사용자 ID는 필수입니다.");
+        }
+        validateAuditPeriod(from, to);
+        return loanAuditLogRepository.findByUserId(userId, from, to, normalizeLimit(limit));
+    }
+
+    /**
+     * 기간별 감사 로그 조회
+     */
+    public List<LoanAuditLogResponse> findAuditLogsByPeriod(LocalDateTime from, LocalDateTime to,
+                                                            String eventType, int limit) {
+        validateAuditPeriod(from, to);
+        String normalizedType = eventType != null && !eventType.isBlank() ? eventType.toUpperCase() : null;
+        return loanAuditLogRepository.findByPeriod(from, to, normalizedType, normalizeLimit(limit));
+    }
+
+    // ==================== Private 메서드 ====================
+
+    /**
+     * 대출 관련 감사 레코드를 기록 버퍼에 추가
+     */
+    private void appendAudit(String eventType, BookLoan loan, String performedBy, Map<String, Object> details) {
+        loanAuditWriter.append(LoanAuditRecord.of(
+                eventType,
+                loan.getId(),
+                loan.getUser().getId(),
+                loan.getBook().getId(),
+                performedBy,
+                details
+        ));
+    }
+
+    private void validateAuditPeriod(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new LoanBusinessException("조회 기간은 필수입니다.");
+        }
+        if (!from.isBefore(to)) {
+            throw new LoanBusinessException("시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+    }
+
+    private int normalizeLimit(int limit) {
+        if (limit <= 0) {
+            return DEFAULT_AUDIT_QUERY_LIMIT;
+        }
+        return Math.min(limit, MAX_AUDIT_QUERY_LIMIT);
+    }
+}
@@ -0,0 +1,77 @@
+package com.bookworm.application.service.Loan;
+
+import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.event.BookReturnedEvent;
+import com.bookworm.domain.event.LoanCreatedEvent;
+import com.bookworm.domain.event.LoanExtendedEvent;
+import com.bookworm.infrastructure.repository.BookLoanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대출 생명주기 이벤트 리스너
+ * - 아웃박스 릴레이가 커밋 이후에 전달한 이벤트로 감사 로그, 알림 처리
+ * - 요청 트랜잭션에서 후처리를 분리하여 대출/반납 응답 지연 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanLifecycleEventListener {
+
+    private static final String PERFORMED_BY = "SYSTEM";
+
+    private final BookLoanRepository bookLoanRepository;
+    private final LoanAuditService loanAuditService;
+    private final LoanNotificationService loanNotificationService;
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onLoanCreated(LoanCreatedEvent event) {
+        BookLoan loan = findLoan(event.getLoanId());
+        if (loan == null) {
+            return;
+        }
+
+        loanAuditService.auditLoanCreation(loan, PERFORMED_BY);
+        loanNotificationService.sendLoanConfirmationNotification(loan);
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onBookReturned(BookReturnedEvent event) {
+        BookLoan loan = findLoan(event.getLoanId());
+        if (loan == null) {
+            return;
+        }
+
+        loanAuditService.auditBookReturn(loan, PERFORMED_BY);
+        loanNotificationService.sendReturnConfirmationNotification(loan);
+    }
+
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onLoanExtended(LoanExtendedEvent event) {
+        BookLoan loan = findLoan(event.getLoanId());
+        if (loan == null) {
+            return;
+        }
+
+        loanAuditService.auditLoanExtension(loan, event.getExtensionDays(), PERFORMED_BY);
+        loanNotificationService.sendExtensionConfirmationNotification(loan, event.getExtensionDays());
+    }
+
+    /**
+     * 이벤트 대상 대출 조회
+     * - 이벤트 기록 후 대출이 삭제된 경우 재시도해도 성공할 수 없으므로 건너뜀
+     */
+    private BookLoan findLoan(Long loanId) {
+        return bookLoanRepository.findById(loanId)
+                .orElseGet(() -> {
+                    log.warn("이벤트 대상 대출을 찾을 수 없습니다. 대출 ID: {}", loanId);
+                    return null;
+                });
+    }
+}
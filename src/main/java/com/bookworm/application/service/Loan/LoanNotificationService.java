@@ -1,6 +1,7 @@
 package com.bookworm.application.service.Loan;
 
 import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.entity.BookReservation;
 import com.bookworm.infrastructure.repository.BookLoanRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -190,4 +191,29 @@ public class LoanNotificationService {
             log.error("대출 연장 알림 발송 실패 - 대출 ID: {}", loan.getId(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 예약 도서 수령 가능 알림
+     */
+    @Async
+    public void sendReservationAvailableNotification(BookReservation reservation) {
+        log.info("예약 도서 수령 가능 알림 발송 - 사용자: {}, 도서: '{}'",
+                reservation.getUser().getFullName(), reservation.getBook().getTitle().getValue());
+
+        try {
+            String userEmail = reservation.getUser().getEmail().getValue();
+            String message = String.format(
+                    "안녕하세요 %s님, 예약하신 '%s' 도서를 수령하실 수 있습니다. 보관 기한: %s",
+                    reservation.getUser().getFullName(),
+                    reservation.getBook().getTitle().getValue(),
+                    reservation.getExpiresAt()
+            );
+
+            // emailNotificationService.sendEmail(userEmail, "예약 도서 수령 안내", message);
+            log.info("예약 도서 수령 가능 알림 발송 완료 - {}", userEmail);
+
+        } catch (Exception e) {
+            log.error("예약 도서 수령 가능 알림 발송 실패 - 예약 ID: {}", reservation.getId(), e);
+        }
+    }
+}
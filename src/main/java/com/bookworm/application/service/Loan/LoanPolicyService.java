@@ -1,6 +1,8 @@
 package com.bookworm.application.service.Loan;
 
 
+import com.bookworm.application.service.reservation.ReservationService;
+import com.bookworm.domain.common.LibraryPolicy;
 import com.bookworm.domain.entity.Book;
 import com.bookworm.domain.entity.BookLoan;
 import com.bookworm.domain.entity.User;
@@ -26,13 +28,14 @@ public class LoanPolicyService {
 
     private final BookLoanRepository bookLoanRepository;
     private final LoanAuditService loanAuditService;
+    private final ReservationService reservationService;
+    private final LibraryPolicy libraryPolicy;
 
     // 정책 상수들
     private static final int MAX_LOANS_PER_USER = 5;
     private static final int MAX_LOAN_DAYS = 30;
     private static final int DEFAULT_LOAN_DAYS = 14;
     private static final int MAX_EXTENSION_DAYS = 14;
-    private static final int MAX_EXTENSIONS_PER_LOAN = 2;
     private static final int MAX_DAILY_LOANS_PER_USER = 3;
 
     /**
@@ -236,13 +239,11 @@ public class LoanPolicyService {
      * 연장 횟수 확인
      */
     private void validateExtensionCount(BookLoan loan) {
-        // 실제로는 LoanExtensionHistory 엔티티에서 확인
-        // 여기서는 간단히 구현
-        int extensionCount = 0; // 실제로는 DB에서 조회
-
-        if (extensionCount >= MAX_EXTENSIONS_PER_LOAN) {
+        // 연장 이력(loan_extensions)을 세지 않고 대출의 연장 횟수 컬럼으로 확인 (한도는 LibraryPolicy와 동일)
+        int maxExtensionCount = libraryPolicy.getMaxExtensionCount();
+        if (loan.getExtensionCount() >= maxExtensionCount) {
             throw new LoanPolicyViolationException(
-                    String.format("최대 %d회까지만 연장 가능합니다.", MAX_EXTENSIONS_PER_LOAN)
+                    String.format("최대 %d회까지만 연장 가능합니다.", maxExtensionCount)
             );
         }
     }
@@ -251,11 +252,8 @@ public class LoanPolicyService {
      * 예약 충돌 확인
      */
     private void validateReservationConflict(BookLoan loan) {
-        // 실제로는 BookReservation 엔티티에서 확인
-        // 다른 사용자가 이 도서를 예약했다면 연장 불가
-        boolean hasReservation = false; // 실제로는 DB에서 조회
-
-        if (hasReservation) {
+        // 다른 사용자가 이 도서를 예약했다면 연장 불가 (대기열 맨 앞 인덱스 조회)
+        if (reservationService.hasWaitingReservation(loan.getBook().getId())) {
             throw new LoanPolicyViolationException(
                     "다른 사용자가 예약한 도서는 연장할 수 없습니다."
             );
@@ -1,11 +1,23 @@
 package com.bookworm.application.service.Loan;
 
 import com.bookworm.application.dto.*;
+import com.bookworm.application.service.reservation.ReservationService;
 import com.bookworm.domain.entity.Book;
 import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.common.LibraryPolicy;
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.entity.LoanExtension;
 import com.bookworm.domain.entity.User;
+import com.bookworm.domain.event.BookReturnedEvent;
+import com.bookworm.domain.event.DomainEventPublisher;
+import com.bookworm.domain.event.LoanCreatedEvent;
+import com.bookworm.domain.event.LoanExtendedEvent;
+import com.bookworm.domain.event.StockChangedEvent;
 import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.infrastructure.repository.ArchivedBookLoanRepository;
+import com.bookworm.infrastructure.repository.ArchivedLoanExtensionRepository;
 import com.bookworm.infrastructure.repository.BookLoanRepository;
+import com.bookworm.infrastructure.repository.LoanExtensionRepository;
 import com.bookworm.domain.vo.bookloan.LoanPeriod;
 import com.bookworm.domain.vo.bookloan.LoanQuantity;
 import lombok.RequiredArgsConstructor;
@@ -18,7 +30,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * 간단한 대출 서비스
@@ -30,9 +44,19 @@ import java.util.List;
 @Slf4j
 public class LoanService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final BookLoanRepository bookLoanRepository;
     private final LoanHelper loanHelper;
     private final LoanMapper loanMapper;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ReservationService reservationService;
+    private final LoanExtensionRepository loanExtensionRepository;
+    private final LibraryPolicy libraryPolicy;
+    private final TimeProvider timeProvider;
+    private final LoanStatisticsRollupService loanStatisticsRollupService;
+    private final ArchivedBookLoanRepository archivedBookLoanRepository;
+    private final ArchivedLoanExtensionRepository archivedLoanExtensionRepository;
 
     // ==================== 대출 생성 ====================
 
@@ -56,19 +80,20 @@ public class LoanService {
 
         // 대출 생성
         LoanPeriod loanPeriod = request.dueDate() != null
-                ? LoanPeriod.of(LocalDate.now(), request.dueDate())
+                ? LoanPeriod.of(timeProvider.currentDate(), request.dueDate())
                 : LoanPeriod.createDefault();
 
         List<BookLoan> loans = books.stream()
                 .map(book -> createAndExecuteLoan(book, user, loanPeriod))
                 .toList();
 
-        // 저장
         // 저장
         List<BookLoan> savedLoans = loans.stream()
                 .map(bookLoanRepository::save)
                 .toList();
 
+        savedLoans.forEach(this::publishLoanCreated);
+
         log.info("도서 대출 완료 - 사용자: {}, 대출 도서 수: {}", user.getFullName(), books.size());
 
         return loanMapper.toBorrowResponseDto(user, books, savedLoans.get(0), loanPeriod);
@@ -100,6 +125,8 @@ public class LoanService {
         BookLoan loan = createAndExecuteLoan(book, user, loanPeriod);
         BookLoan savedLoan = bookLoanRepository.save(loan);
 
+        publishLoanCreated(savedLoan);
+
         log.info("단일 도서 대출 완료 - 사용자: {}, 도서: '{}'",
                 user.getFullName(), book.getTitle().getValue());
 
@@ -121,9 +148,21 @@ public class LoanService {
             throw new LoanBusinessException("활성 상태가 아닌 대출은 반납할 수 없습니다.");
         }
 
-        loan.returnBook(null); // TimeProvider 없이 간단하게
+        boolean wasOverdue = loan.isOverdue();
+        long overdueDays = wasOverdue ? loan.getLoanPeriod().getOverdueDays() : 0;
+
+        loan.returnBook(timeProvider);
         BookLoan updatedLoan = bookLoanRepository.save(loan);
 
+        // 반납으로 생긴 재고를 예약 대기자에게 보관
+        reservationService.promoteWaitingReservations(updatedLoan.getBook());
+        loanStatisticsRollupService.recordReturn(updatedLoan, wasOverdue);
+
+        LocalDateTime now = timeProvider.currentDateTime();
+        domainEventPublisher.publish(BookReturnedEvent.from(updatedLoan, wasOverdue, overdueDays, now));
+        domainEventPublisher.publish(StockChangedEvent.of(updatedLoan.getBook(),
+                updatedLoan.getQuantity().getValue(), now));
+
         log.info("도서 반납 완료 - 대출 ID: {}", loanId);
         return LoanResponse.from(updatedLoan);
     }
@@ -146,9 +185,21 @@ public class LoanService {
         if (request.extensionDays() <= 0 || request.extensionDays() > 14) {
             throw new LoanBusinessException("연장 일수는 1일 이상 14일 이하여야 합니다.");
         }
+        if (reservationService.hasWaitingReservation(loan.getBook().getId())) {
+            throw new LoanBusinessException("다른 사용자가 예약한 도서는 연장할 수 없습니다.");
+        }
 
-        loan.extendLoan(request.extensionDays());
+        LocalDate previousDueDate = loan.getLoanPeriod().getDueDate();
+        loan.extendLoan(request.extensionDays(), libraryPolicy.getMaxExtensionCount());
         BookLoan updatedLoan = bookLoanRepository.save(loan);
+        LocalDateTime now = timeProvider.currentDateTime();
+
+        loanExtensionRepository.save(
+                LoanExtension.record(updatedLoan, request.extensionDays(), previousDueDate, now));
+        loanStatisticsRollupService.recordExtension(updatedLoan);
+
+        domainEventPublisher.publish(
+                LoanExtendedEvent.from(updatedLoan, request.extensionDays(), now));
 
         log.info("대출 연장 완료 - 대출 ID: {}, 새 반납일: {}", loanId, loan.getLoanPeriod().getDueDate());
         return LoanResponse.from(updatedLoan);
@@ -161,10 +212,32 @@ public class LoanService {
      */
     @Transactional(readOnly = true)
     public LoanResponse getLoan(Long loanId) {
+        if (loanId != null && bookLoanRepository.findById(loanId).isEmpty()) {
+            // 보관된 대출이면 보관 테이블에서 조회
+            return archivedBookLoanRepository.findById(loanId)
+                    .map(LoanResponse::from)
+                    .orElseThrow(() -> new LoanNotFoundException("대출을 찾을 수 없습니다: " + loanId));
+        }
         BookLoan loan = loanHelper.getLoanOrThrow(loanId);
         return LoanResponse.from(loan);
     }
 
+    /**
+     * 대출 연장 이력 조회 (운영 테이블에 없으면 보관 테이블 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<LoanExtensionResponse> getExtensionHistory(Long loanId) {
+        List<LoanExtensionResponse> history = loanExtensionRepository.findByLoanIdOrderByExtensionNoAsc(loanId).stream()
+                .map(LoanExtensionResponse::from)
+                .toList();
+        if (!history.isEmpty()) {
+            return history;
+        }
+        return archivedLoanExtensionRepository.findByLoanIdOrderByExtensionNoAsc(loanId).stream()
+                .map(LoanExtensionResponse::from)
+                .toList();
+    }
+
     /**
      * 모든 대출 조회 (페이징)
      */
@@ -176,12 +249,38 @@ public class LoanService {
     }
 
     /**
-     * 사용자별 대출 조회
+     * 조건 검색 (페이징)
+     * - 조건은 모두 DB 조건으로 처리되므로 서비스에서 추가로 거르지 않음
+     */
+    @Transactional(readOnly = true)
+    public LoanPageResponse searchLoans(LoanSearchRequest request) {
+        int page = request.page() != null ? Math.max(0, request.page()) : 0;
+        int size = request.size() != null ? Math.min(Math.max(1, request.size()), MAX_SEARCH_PAGE_SIZE) : 20;
+        Sort.Direction direction = "ASC".equalsIgnoreCase(request.direction())
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+        String sortBy = request.sortBy() != null && !request.sortBy().isBlank() ? request.sortBy() : "id";
+
+        Page<BookLoan> loanPage = bookLoanRepository.findLoansWithConditions(
+                request.userId(), request.bookId(), request.status(),
+                request.loanDateFrom(), request.loanDateTo(),
+                request.dueDateFrom(), request.dueDateTo(),
+                request.overdue(), request.userName(), request.bookTitle(),
+                PageRequest.of(page, size, Sort.by(direction, sortBy)));
+
+        return loanMapper.toLoanPageResponse(loanPage);
+    }
+
+    /**
+     * 사용자별 대출 조회 (운영 + 보관 대출)
      */
     @Transactional(readOnly = true)
     public List<LoanResponse> getUserLoans(Long userId) {
         List<BookLoan> loans = bookLoanRepository.findByUserId(userId);
-        return loans.stream().map(LoanResponse::from).toList();
+        return Stream.concat(
+                loans.stream().map(LoanResponse::from),
+                archivedBookLoanRepository.findByUserIdWithDetails(userId).stream().map(LoanResponse::from)
+        ).toList();
     }
 
     /**
@@ -243,10 +342,21 @@ public class LoanService {
         }
     }
 
+    /**
+     * 대출 생성 이벤트 기록 (대출 + 재고 감소) 및 일별 롤업 반영
+     */
+    private void publishLoanCreated(BookLoan loan) {
+        loanStatisticsRollupService.recordLoanCreated(loan);
+        LocalDateTime now = timeProvider.currentDateTime();
+        domainEventPublisher.publish(LoanCreatedEvent.from(loan, now));
+        domainEventPublisher.publish(StockChangedEvent.of(loan.getBook(), -loan.getQuantity().getValue(), now));
+    }
+
     /**
      * 대출 생성 및 실행
      */
     private BookLoan createAndExecuteLoan(Book book, User user, LoanPeriod loanPeriod) {
+        reservationService.claimForBorrow(book, user); // 예약 보관분 확인 및 수령 처리
         BookLoan loan = BookLoan.create(book, user, LoanQuantity.of(1), loanPeriod);
         loan.executeLoan(); // 재고 감소
         return loan;
@@ -0,0 +1,141 @@
+package com.bookworm.application.service.Loan;
+
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.infrastructure.stats.LoanDailyStatsJdbcRepository;
+import com.bookworm.infrastructure.stats.LoanDailyTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 대출/반납 롤업 서비스
+ *
+ * 처리 방식:
+ * 1. 대출/반납/연장 트랜잭션 안에서 증분 행을 함께 기록 (롤백 시 함께 취소되어 정확히 한 번 반영)
+ * 2. 매일 새벽 지난 날짜의 증분 행을 (일자, 유형, 언어)별 1행으로 압축
+ * 3. 재구성된 적이 없으면 시작 시 기존 이력으로 한 번 재구성
+ *    - 롤업 테이블을 잠근 채 재구성하므로 동시에 뜬 인스턴스의 증분 기록/재구성과 겹치지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanStatisticsRollupService {
+
+    private final LoanDailyStatsJdbcRepository loanDailyStatsJdbcRepository;
+    private final TimeProvider timeProvider;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile boolean ready = false;
+
+    /**
+     * 대출 생성 반영 (대출일 기준)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordLoanCreated(BookLoan loan) {
+        record(loan.getLoanPeriod().getLoanDate(), loan.getBook(), 1, 0, 0, 0);
+    }
+
+    /**
+     * 반납 반영 (반납일 기준, 연체 여부는 반납 전 상태)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordReturn(BookLoan loan, boolean wasOverdue) {
+        record(timeProvider.currentDate(), loan.getBook(), 0, 1, wasOverdue ? 1 : 0, 0);
+    }
+
+    /**
+     * 연장 반영 (연장일 기준)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordExtension(BookLoan loan) {
+        record(timeProvider.currentDate(), loan.getBook(), 0, 0, 0, 1);
+    }
+
+    /**
+     * 기간 합계 [startDate, endDate]
+     */
+    @Transactional(readOnly = true)
+    public LoanDailyTotals getTotals(LocalDate startDate, LocalDate endDate) {
+        return loanDailyStatsJdbcRepository.sumPeriod(startDate, endDate);
+    }
+
+    /**
+     * 기간 내 유형/언어별 합계 [startDate, endDate]
+     */
+    @Transactional(readOnly = true)
+    public List<LoanDailyTotals> getBreakdown(LocalDate startDate, LocalDate endDate) {
+        return loanDailyStatsJdbcRepository.sumPeriodByTypeAndLanguage(startDate, endDate);
+    }
+
+    /**
+     * 롤업 사용 가능 여부 (시작 시 재구성 완료 전에는 false)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 지난 날짜 압축 (매일 새벽 0시 20분)
+     * - 날짜별로 별도 트랜잭션에서 처리
+     */
+    @Scheduled(cron = "0 20 0 * * *")
+    public void compactDailyStats() {
+        LocalDate today = timeProvider.currentDate();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        try {
+            List<LocalDate> dates = loanDailyStatsJdbcRepository.findDatesToCompact(today);
+            int removed = 0;
+            for (LocalDate date : dates) {
+                Integer count = transactionTemplate.execute(status -> loanDailyStatsJdbcRepository.compact(date));
+                removed += count != null ? count : 0;
+            }
+
+            if (!dates.isEmpty()) {
+                log.info("일별 롤업 압축 완료 - 날짜: {}일, 정리된 행: {}건", dates.size(), removed);
+            }
+        } catch (Exception e) {
+            log.error("일별 롤업 압축 실패", e);
+        }
+    }
+
+    /**
+     * 재구성된 적이 없으면 기존 이력으로 재구성 (최초 배포 시 1회)
+     * - 재구성/압축 행이 이미 있으면 잠금 없이 바로 건너뜀
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeRollup() {
+        try {
+            if (!loanDailyStatsJdbcRepository.hasCompactedRows()) {
+                TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+                Integer rows = transactionTemplate.execute(status -> loanDailyStatsJdbcRepository.rebuildIfNeeded());
+                if (rows != null && rows >= 0) {
+                    log.info("일별 롤업 재구성 완료: {}행", rows);
+                }
+            }
+            ready = true;
+        } catch (Exception e) {
+            log.error("일별 롤업 초기화 실패 - 기간 통계는 대출 테이블에서 직접 집계합니다.", e);
+        }
+    }
+
+    private void record(LocalDate statDate, Book book, int loans, int returns, int overdueReturns, int extensions) {
+        loanDailyStatsJdbcRepository.insertDelta(statDate,
+                book.getType().getValue(), book.getLanguage().getValue(),
+                loans, returns, overdueReturns, extensions);
+    }
+}
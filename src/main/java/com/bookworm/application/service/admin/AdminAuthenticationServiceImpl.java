@@ -1,13 +1,14 @@
 package com.bookworm.application.service.admin;
 
 import com.bookworm.application.dto.AdminLoginResponse;
+import com.bookworm.application.service.common.PasswordRehashService;
 import com.bookworm.application.service.common.PasswordService;
-import com.bookworm.domain.common.TimeProvider;
 import com.bookworm.domain.constant.UserStatus;
 import com.bookworm.domain.entity.User;
 import com.bookworm.domain.exception.AuthenticationException;
 import com.bookworm.domain.repository.AdminRepository;
 import com.bookworm.domain.vo.user.Email;
+import com.bookworm.infrastructure.security.LastLoginRecorder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,10 +27,10 @@ public class AdminAuthenticationServiceImpl implements AdminAuthenticationServic
     private final AdminRepository adminRepository;
     private final AdminQueryService adminQueryService;
     private final PasswordService passwordService;
-    private final TimeProvider timeProvider;
+    private final PasswordRehashService passwordRehashService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Override
-    @Transactional  // 로그인 시간 기록을 위해 쓰기 트랜잭션
     public AdminLoginResponse authenticate(String email, String password) {
         log.info("관리자 인증 시도: {}", email);
 
@@ -52,9 +53,11 @@ public class AdminAuthenticationServiceImpl implements AdminAuthenticationServic
             throw new AuthenticationException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
-        // 4. 로그인 시간 기록 (User 엔티티의 비즈니스 메서드 활용)
-        admin.recordLogin(timeProvider);
-        adminRepository.save(admin);
+        // BCrypt cost 설정이 바뀌었으면 검증한 평문으로 재해싱
+        passwordRehashService.rehashIfNeeded(admin, password);
+
+        // 4. 로그인 시간 기록 예약 (행 UPDATE/버전 증가 없이 주기적으로 일괄 기록)
+        lastLoginRecorder.record(admin.getId());
 
         log.info("관리자 인증 성공: 관리자 ID={}, 이름={}", admin.getId(), admin.getFullName());
         return AdminLoginResponse.from(admin);
@@ -2,6 +2,7 @@ package com.bookworm.application.service.admin;
 
 import com.bookworm.domain.repository.AdminRepository;
 import com.bookworm.domain.vo.user.Email;
+import com.bookworm.infrastructure.search.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,9 +18,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class AdminValidationServiceImpl implements AdminValidationService {
 
     private final AdminRepository adminRepository;
+    private final EmailBloomFilter emailBloomFilter;
 
+    /**
+     * 필터가 "확실히 없음"이면 DB 조회 없이 false (회원 전체 이메일 기준이므로 관리자 여부는 조회로 확인)
+     */
     @Override
     public boolean existsByEmail(String email) {
-        return adminRepository.existsAdminByEmail(Email.of(email));
+        Email target = Email.of(email);
+        return emailBloomFilter.mightContain(target) && adminRepository.existsAdminByEmail(target);
     }
 }
\ No newline at end of file
@@ -5,9 +5,12 @@ import com.bookworm.application.service.common.BookCreationValues;
 import com.bookworm.application.service.common.BookHelper;
 import com.bookworm.application.service.common.BookMapper;
 import com.bookworm.application.service.common.BookUpdateValues;
+import com.bookworm.application.service.reservation.ReservationService;
 import com.bookworm.domain.constant.BookStatus;
 import com.bookworm.domain.entity.Book;
 import com.bookworm.domain.entity.User;
+import com.bookworm.domain.event.DomainEventPublisher;
+import com.bookworm.domain.event.StockChangedEvent;
 import com.bookworm.domain.exception.BookBusinessException;
 import com.bookworm.domain.repository.BookRepository;
 import com.bookworm.domain.service.BookDomainService;
@@ -18,6 +21,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.LocalDateTime;
+
 /**
  * 도서 Command Service (쓰기 작업 전용)
  * - 생성, 수정, 삭제, 상태변경, 재고추가
@@ -35,6 +40,8 @@ public class BookCommandService {
     private final BookDomainService bookDomainService;
     private final BookHelper bookHelper;
     private final BookMapper bookMapper;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ReservationService reservationService;
 
     /**
      * 새로운 도서 등록
@@ -44,10 +51,14 @@ public class BookCommandService {
         BookCreationValues values = bookMapper.toBookCreationValues(request);
         User registeredBy = bookHelper.getUserOrThrow(registeredByEmail);
 
-        // 도메인 서비스를 통한 도서 등록
-        Book createdBook = bookDomainService.registerNewBook(
+        // 도메인 서비스를 통한 도서 등록 (중복이면 기존 도서 재고 증가)
+        BookDomainService.Registration registration = bookDomainService.registerNewBook(
                 values.title(), values.language(), values.type(), values.quantity(), registeredBy
         );
+        Book createdBook = registration.book();
+        if (registration.addedToExisting() > 0) {
+            onStockIncreased(createdBook, registration.addedToExisting());
+        }
 
         log.info("도서 등록 완료 - 등록자: {}, 도서 ID: {}", registeredByEmail, createdBook.getId());
         return bookMapper.toBookResponse(createdBook);
@@ -65,9 +76,17 @@ public class BookCommandService {
 
         // 도서 조회 및 수정
         Book book = bookHelper.getBookOrThrow(bookId);
+        int previousQuantity = book.getQuantity().getValue();
         book.updateInfo(values.title(), values.language(), values.type(), values.quantity());
         Book updatedBook = bookRepository.save(book);
 
+        int delta = updatedBook.getQuantity().getValue() - previousQuantity;
+        if (delta > 0) {
+            onStockIncreased(updatedBook, delta);
+        } else if (delta < 0) {
+            domainEventPublisher.publish(StockChangedEvent.of(updatedBook, delta, LocalDateTime.now()));
+        }
+
         log.info("도서 정보 수정 완료 - ID: {}", bookId);
         return bookMapper.toBookResponse(updatedBook);
     }
@@ -95,6 +114,9 @@ public class BookCommandService {
         book.changeStatus(newStatus);
         Book updatedBook = bookRepository.save(book);
 
+        domainEventPublisher.publish(StockChangedEvent.of(updatedBook, 0, LocalDateTime.now()));
+        reservationService.promoteWaitingReservations(updatedBook);
+
         log.info("도서 상태 변경 완료 - ID: {}, 새로운 상태: {}", bookId, newStatus);
         return bookMapper.toBookResponse(updatedBook);
     }
@@ -108,12 +130,23 @@ public class BookCommandService {
         book.addStock(request.additionalQuantity());
         Book updatedBook = bookRepository.save(book);
 
+        onStockIncreased(updatedBook, request.additionalQuantity());
+
         log.info("도서 재고 추가 완료 - ID: {}, 추가 수량: {}, 총 수량: {}",
                 bookId, request.additionalQuantity(), updatedBook.getQuantity().getValue());
 
         return bookMapper.toBookResponse(updatedBook);
     }
 
+    /**
+     * 재고 증가 후속 처리 (등록 중복 병합, 정보 수정, 재고 추가 공통)
+     * - 재고 변경 이벤트 발행 후 늘어난 재고만큼 대기 예약 승격
+     */
+    private void onStockIncreased(Book book, int delta) {
+        domainEventPublisher.publish(StockChangedEvent.of(book, delta, LocalDateTime.now()));
+        reservationService.promoteWaitingReservations(book);
+    }
+
     /**
      * 도서 상태 파싱
      */
@@ -10,6 +10,7 @@ import com.bookworm.domain.repository.BookRepository;
 import com.bookworm.domain.repository.BookStatisticsRepository;
 import com.bookworm.domain.vo.book.BookLanguage;
 import com.bookworm.domain.vo.book.BookType;
+import com.bookworm.infrastructure.stats.BookInventoryStatistics;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,6 +36,7 @@ public class BookQueryService {
 
     private final BookRepository bookRepository;
     private final BookStatisticsRepository bookStatisticsRepository;
+    private final BookInventoryStatistics bookInventoryStatistics;
     private final BookHelper bookHelper;
     private final BookQueryHelper bookQueryHelper;
     private final BookMapper bookMapper;
@@ -93,13 +95,28 @@ public class BookQueryService {
      * 도서 통계 조회
      */
     public BookStatisticsResponse getBookStatistics() {
+        // 메모리 집계 (초기화 전에만 DB 집계)
+        if (bookInventoryStatistics.isReady()) {
+            return BookStatisticsResponse.from(new BookStatisticsData(
+                    bookInventoryStatistics.getCountByStatus(),
+                    bookInventoryStatistics.getCountByType(),
+                    bookInventoryStatistics.getCountByLanguage(),
+                    bookInventoryStatistics.getTotalQuantity(),
+                    bookInventoryStatistics.getAvailableQuantity(),
+                    bookInventoryStatistics.getBorrowedQuantity()
+            ));
+        }
+
+        Long totalQuantity = bookStatisticsRepository.getTotalQuantity();
+        Long availableQuantity = bookStatisticsRepository.getAvailableQuantity();
+
         BookStatisticsData statisticsData = new BookStatisticsData(
                 bookStatisticsRepository.getBookCountByStatus(),
                 bookStatisticsRepository.getBookCountByType(),
                 bookStatisticsRepository.getBookCountByLanguage(),
-                bookStatisticsRepository.getTotalQuantity(),
-                bookStatisticsRepository.getAvailableQuantity(),
-                bookStatisticsRepository.getBorrowedQuantity()
+                totalQuantity,
+                availableQuantity,
+                totalQuantity - availableQuantity
         );
 
         return BookStatisticsResponse.from(statisticsData);
@@ -118,6 +135,12 @@ public class BookQueryService {
      * 전체 도서 수 조회
      */
     public long getTotalBookCount() {
+        // 메모리 집계 (상태별 건수 합계, 초기화 전에만 DB 조회)
+        if (bookInventoryStatistics.isReady()) {
+            return bookInventoryStatistics.getCountByStatus().values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+        }
         return bookRepository.count();
     }
 }
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.bookworm.application.service.book;
+
+import com.bookworm.application.dto.RelatedBookResponse;
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.infrastructure.recommendation.CoBorrowIndexBuilder;
+import com.bookworm.infrastructure.recommendation.RecommendationProperties;
+import com.bookworm.infrastructure.recommendation.RelatedBooksIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 함께 대출된 도서 추천 서비스
+ *
+ * 처리 방식:
+ * 1. 매일 새벽 대출 이력으로 추천 인덱스를 다시 계산하여 파일로 저장
+ * 2. 저장한 파일을 메모리 매핑하여 조회 (DB 조회 없음)
+ * 3. 재시작 시 기존 파일을 바로 매핑하고, 파일이 없을 때만 백그라운드에서 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RelatedBookService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final CoBorrowIndexBuilder coBorrowIndexBuilder;
+    private final RecommendationProperties properties;
+    private final TaskScheduler taskScheduler;
+    private final TimeProvider timeProvider;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile RelatedBooksIndex index;
+
+    /**
+     * 함께 대출된 도서 조회 (인덱스 준비 전이면 빈 목록)
+     */
+    public List<RelatedBookResponse> getRelatedBooks(Long bookId, int limit) {
+        RelatedBooksIndex current = this.index;
+        if (current == null || bookId == null) {
+            return List.of();
+        }
+
+        return current.neighbours(bookId, Math.min(limit, MAX_LIMIT))
+                .stream()
+                .map(neighbour -> new RelatedBookResponse(
+                        neighbour.bookId(), neighbour.score(), neighbour.coBorrowCount()))
+                .toList();
+    }
+
+    /**
+     * 시작 시 기존 인덱스 매핑 (없으면 백그라운드 계산)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Path path = Path.of(properties.getIndexPath());
+        if (Files.exists(path)) {
+            try {
+                this.index = RelatedBooksIndex.open(path);
+                log.info("추천 인덱스 매핑 완료 - 도서: {}권, 생성 시각: {}",
+                        index.getBookCount(), Instant.ofEpochMilli(index.getBuiltAt()));
+                return;
+            } catch (Exception e) {
+                log.warn("추천 인덱스 매핑 실패 - 다시 계산합니다: {}", path, e);
+            }
+        }
+
+        taskScheduler.schedule(this::rebuildIndex, Instant.now());
+    }
+
+    /**
+     * 추천 인덱스 재계산 (매일 새벽 3시 30분)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void rebuildIndex() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("추천 인덱스 계산이 이미 진행 중입니다.");
+            return;
+        }
+
+        Path path = Path.of(properties.getIndexPath());
+        try {
+            RelatedBooksIndex.Data data = coBorrowIndexBuilder.build();
+            RelatedBooksIndex.write(path, data, timeProvider.getClock().millis());
+            this.index = RelatedBooksIndex.open(path);
+            log.info("추천 인덱스 갱신 완료 - 도서: {}권, 파일: {}", index.getBookCount(), path.toAbsolutePath());
+        } catch (Exception e) {
+            log.error("추천 인덱스 계산 실패 - 기존 인덱스를 유지합니다.", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.bookworm.application.service.book;
+
+import com.bookworm.application.dto.TrendingBookResponse;
+import com.bookworm.application.service.common.ChangeFeedService;
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.repository.BookRepository;
+import com.bookworm.infrastructure.changefeed.ChangeFeedProperties;
+import com.bookworm.infrastructure.changefeed.EntityChange;
+import com.bookworm.infrastructure.changefeed.EntityChangeLogRepository;
+import com.bookworm.infrastructure.repository.BookLoanJpaRepository;
+import com.bookworm.infrastructure.trending.SlidingWindowCounter;
+import com.bookworm.infrastructure.trending.TrendingBookCounter;
+import com.bookworm.infrastructure.trending.TrendingWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 도서 서비스
+ *
+ * 처리 방식:
+ * 1. 몇 초마다 변경 피드(entity_changes)의 LOAN INSERT 행을 읽어 도서별 슬라이딩 윈도우 카운터 증가
+ *    - 모든 인스턴스가 같은 이력을 읽으므로 어느 인스턴스가 응답해도 같은 순위
+ *    - 순번 공백 규칙은 변경 피드와 같음 (커밋이 늦은 대출도 빠지거나 두 번 세지 않음)
+ * 2. 같은 주기에 윈도우별 상위 K개를 계산해 도서 정보와 함께 스냅샷으로 보관
+ * 3. 조회는 스냅샷을 그대로 반환 (DB 조회 없음)
+ *
+ * 시작 시 초기화:
+ * - 변경 피드 현재 토큰(워터마크)을 먼저 잡은 뒤 최근 7일 대출로 카운터를 채움
+ * - 워터마크 이후 INSERT 이력이 있는 대출은 채우기에서 빼고 피드 반영에 맡김 → 중복 집계 없음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingBookService {
+
+    static final int MAX_RANKING_SIZE = 100;
+
+    /** 한 번의 갱신에서 이어 읽는 최대 변경 피드 페이지 수 */
+    private static final int MAX_FEED_PAGES_PER_REFRESH = 10;
+
+    private final TrendingBookCounter trendingBookCounter;
+    private final BookRepository bookRepository;
+    private final BookLoanJpaRepository bookLoanJpaRepository;
+    private final ChangeFeedService changeFeedService;
+    private final EntityChangeLogRepository entityChangeLogRepository;
+    private final ChangeFeedProperties changeFeedProperties;
+    private final TimeProvider timeProvider;
+
+    private volatile Map<TrendingWindow, List<TrendingBookResponse>> rankings = new EnumMap<>(TrendingWindow.class);
+
+    /**
+     * 마지막으로 반영한 변경 피드 순번 (초기화 전에는 -1)
+     */
+    private long feedSequence = -1;
+
+    /**
+     * 인기 도서 조회
+     *
+     * @param windowCode 1h, 1d, 7d
+     */
+    public List<TrendingBookResponse> getTrendingBooks(String windowCode, int limit) {
+        TrendingWindow window = TrendingWindow.fromCode(windowCode);
+        List<TrendingBookResponse> ranking = rankings.getOrDefault(window, List.of());
+        int size = Math.max(0, Math.min(limit, ranking.size()));
+        return ranking.subList(0, size);
+    }
+
+    /**
+     * 시작 시 워터마크를 잡고 최근 7일 대출로 카운터 채움
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            seed();
+        } catch (Exception e) {
+            log.error("인기 도서 카운터 초기화 실패", e);
+        }
+        refreshRankings();
+    }
+
+    /**
+     * 변경 피드 반영 후 윈도우별 순위 스냅샷 갱신
+     */
+    @Scheduled(fixedDelayString = "${bookworm.trending.refresh-interval-ms:5000}")
+    public void refreshRankings() {
+        try {
+            pullNewLoans();
+        } catch (Exception e) {
+            log.error("인기 도서 변경 피드 반영 실패 - 순번: {}", feedSequence, e);
+        }
+
+        try {
+            trendingBookCounter.advance();
+
+            Map<TrendingWindow, List<SlidingWindowCounter.Ranked>> topByWindow = new EnumMap<>(TrendingWindow.class);
+            Set<Long> bookIds = new HashSet<>();
+            for (TrendingWindow window : TrendingWindow.values()) {
+                List<SlidingWindowCounter.Ranked> top = trendingBookCounter.topK(window, MAX_RANKING_SIZE);
+                topByWindow.put(window, top);
+                top.forEach(ranked -> bookIds.add(ranked.key()));
+            }
+
+            Map<Long, Book> books = bookIds.isEmpty()
+                    ? Map.of()
+                    : bookRepository.findByIdIn(new ArrayList<>(bookIds)).stream()
+                    .collect(Collectors.toMap(Book::getId, Function.identity()));
+
+            Map<TrendingWindow, List<TrendingBookResponse>> refreshed = new EnumMap<>(TrendingWindow.class);
+            topByWindow.forEach((window, top) -> refreshed.put(window, toResponses(top, books)));
+            this.rankings = refreshed;
+        } catch (Exception e) {
+            log.error("인기 도서 순위 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 워터마크 → 최근 대출 조회 → 워터마크 이후 INSERT 이력 조회 순서로 실행
+     * - 채우기에서 보인 대출은 이미 커밋되었으므로, 그 INSERT 이력도 마지막 조회에서 반드시 보임
+     */
+    private synchronized void seed() {
+        long watermark = Long.parseLong(changeFeedService.currentToken());
+
+        LocalDateTime since = timeProvider.currentDateTime().minusDays(7);
+        List<Object[]> loans = bookLoanJpaRepository.findBookIdAndCreatedAtSince(since.toLocalDate(), since);
+        Set<Long> fedLater = new HashSet<>(entityChangeLogRepository.findEntityIdsAfter(
+                EntityChange.EntityType.LOAN, EntityChange.ChangeType.INSERT, watermark));
+
+        int seeded = 0;
+        for (Object[] loan : loans) {
+            if (!fedLater.contains((Long) loan[0])) {
+                record(loan);
+                seeded++;
+            }
+        }
+        feedSequence = watermark;
+        log.info("인기 도서 카운터 초기화 완료: 최근 7일 대출 {}건 (변경 피드 순번 {} 이후는 피드로 반영)",
+                seeded, watermark);
+    }
+
+    /**
+     * 변경 피드의 새 대출(LOAN INSERT) 반영
+     */
+    private synchronized void pullNewLoans() {
+        if (feedSequence < 0) {
+            return;
+        }
+
+        for (int page = 0; page < MAX_FEED_PAGES_PER_REFRESH; page++) {
+            ChangeFeedService.ChangeRows changes =
+                    changeFeedService.readRows(feedSequence, changeFeedProperties.getMaxPageSize());
+
+            if (changes.expired()) {
+                long restart = Long.parseLong(changeFeedService.currentToken());
+                log.warn("인기 도서 변경 피드 순번 만료 - {} → {} (사이 대출은 집계되지 않음)", feedSequence, restart);
+                feedSequence = restart;
+                return;
+            }
+
+            List<Long> loanIds = changes.rows().stream()
+                    .filter(row -> row.entityType() == EntityChange.EntityType.LOAN
+                            && row.changeType() == EntityChange.ChangeType.INSERT)
+                    .map(EntityChange::entityId)
+                    .toList();
+            if (!loanIds.isEmpty()) {
+                bookLoanJpaRepository.findBookIdAndCreatedAtByIdIn(loanIds).forEach(this::record);
+            }
+            feedSequence = changes.nextSequence();
+
+            if (!changes.hasMore()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * [대출 ID, 도서 ID, 대출 일시, 수량] 행 반영
+     */
+    private void record(Object[] loan) {
+        trendingBookCounter.record((Long) loan[1], (LocalDateTime) loan[2], ((Number) loan[3]).longValue());
+    }
+
+    private List<TrendingBookResponse> toResponses(List<SlidingWindowCounter.Ranked> top, Map<Long, Book> books) {
+        List<TrendingBookResponse> responses = new ArrayList<>(top.size());
+        for (SlidingWindowCounter.Ranked ranked : top) {
+            Book book = books.get(ranked.key());
+            if (book == null) {
+                continue; // 삭제된 도서
+            }
+            responses.add(new TrendingBookResponse(
+                    responses.size() + 1,
+                    book.getId(),
+                    book.getTitle().getValue(),
+                    book.getType().getValue(),
+                    book.getLanguage().getValue(),
+                    ranked.count()));
+        }
+        return List.copyOf(responses);
+    }
+}
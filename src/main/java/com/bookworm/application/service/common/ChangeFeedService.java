@@ -0,0 +1,231 @@
+package com.bookworm.application.service.common;
+
+import com.bookworm.application.dto.BookResponse;
+import com.bookworm.application.dto.ChangeFeedResponse;
+import com.bookworm.application.dto.LoanResponse;
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.entity.QBook;
+import com.bookworm.domain.entity.QBookLoan;
+import com.bookworm.domain.entity.QUser;
+import com.bookworm.infrastructure.changefeed.ChangeFeedProperties;
+import com.bookworm.infrastructure.changefeed.EntityChange;
+import com.bookworm.infrastructure.changefeed.EntityChangeLogRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 도서/대출 변경 피드 (since 토큰 이후 변경분만 조회)
+ *
+ * 원리:
+ * 1. 토큰 = entity_changes 순번, 순번 이후 행만 PK 범위 스캔
+ * 2. AUTO_INCREMENT 순번은 커밋 순서가 아니므로, 순번이 비어 있으면 그 다음 행의 기록 시각(DB 시계)을
+ *    공백 기준 시각(EntityChangeLogRepository.findGapCutoff)과 비교
+ *    - 기준 시각 이후면 빈 순번이 아직 커밋 전일 수 있어 공백 직전에서 멈춤 (다음 요청에서 이어서 조회)
+ *    - 기준 시각 이전이면 빈 순번을 받은 트랜잭션이 이미 끝난 것(롤백)으로 보고 건너뜀
+ *    - 기준 시각은 진행 중인 가장 오래된 트랜잭션 시작 이전이므로 오래 걸린 커밋도 건너뛰지 않음
+ *    - 기준 시각을 이력 조회보다 먼저 구하고 READ COMMITTED로 읽음 (그 사이 커밋된 순번이 보이도록)
+ * 3. 같은 엔티티의 변경은 마지막 변경 하나로 합친 뒤, 수정분은 현재 값을 한 번에 조회
+ *    (이미 삭제되었거나 보관 이동된 엔티티는 삭제로 응답)
+ * 4. 토큰이 보관 기간을 벗어나면 resetRequired - 클라이언트는 전체 목록을 다시 받아야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChangeFeedService {
+
+    private static final QBook book = QBook.book;
+    private static final QBookLoan bookLoan = QBookLoan.bookLoan;
+    private static final QUser user = QUser.user;
+
+    private final EntityChangeLogRepository entityChangeLogRepository;
+    private final ChangeFeedProperties properties;
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 공백 규칙을 적용한 연속 변경 이력 (같은 엔티티 합치기 전 원본 행)
+     *
+     * @param rows         after 다음부터 빈 순번 없이 이어진(또는 롤백으로 판정된 공백만 건너뛴) 행
+     * @param nextSequence 다음 조회의 after (rows가 비면 요청한 after 그대로)
+     * @param hasMore      이어서 읽을 행이 더 있음
+     * @param expired      after가 보관 기간을 벗어남 - 처음부터 다시 받아야 함
+     */
+    public record ChangeRows(List<EntityChange> rows, long nextSequence, boolean hasMore, boolean expired) {
+    }
+
+    /**
+     * since 토큰 이후 변경 조회
+     *
+     * @param since 이전 응답의 nextToken (처음이면 currentToken() 값 또는 "0")
+     * @param limit 최대 변경 건수 (null이면 maxPageSize)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public ChangeFeedResponse getChanges(String since, Integer limit) {
+        long after = parseToken(since);
+        int pageSize = limit == null ? properties.getMaxPageSize()
+                : Math.max(1, Math.min(limit, properties.getMaxPageSize()));
+
+        ChangeRows page = readRows(after, pageSize);
+        if (page.expired()) {
+            return ChangeFeedResponse.reset(currentToken());
+        }
+
+        Map<Long, EntityChange.ChangeType> bookChanges = new LinkedHashMap<>();
+        Map<Long, EntityChange.ChangeType> loanChanges = new LinkedHashMap<>();
+        for (EntityChange row : page.rows()) {
+            Map<Long, EntityChange.ChangeType> target =
+                    row.entityType() == EntityChange.EntityType.BOOK ? bookChanges : loanChanges;
+            target.remove(row.entityId());
+            target.put(row.entityId(), row.changeType());
+        }
+
+        List<Long> deletedBookIds = new ArrayList<>();
+        List<BookResponse> books = loadBooks(bookChanges, deletedBookIds);
+        List<Long> deletedLoanIds = new ArrayList<>();
+        List<LoanResponse> loans = loadLoans(loanChanges, deletedLoanIds);
+
+        return new ChangeFeedResponse(Long.toString(page.nextSequence()), page.hasMore(), false,
+                books, loans, deletedBookIds, deletedLoanIds);
+    }
+
+    /**
+     * after 순번 이후 연속 변경 이력 (변경 피드 응답과 같은 공백 규칙 - 인스턴스 내부 소비자용)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public ChangeRows readRows(long after, int pageSize) {
+        LocalDateTime gapCutoff = entityChangeLogRepository.findGapCutoff(properties.getGapGraceMs());
+
+        Long oldest = entityChangeLogRepository.findMinSequence();
+        if (oldest != null && after < oldest - 1) {
+            log.debug("변경 피드 토큰 만료 - since: {}, 보관 최소 순번: {}", after, oldest);
+            return new ChangeRows(List.of(), after, false, true);
+        }
+
+        List<EntityChange> fetched = entityChangeLogRepository.findAfter(after, pageSize + 1);
+        List<EntityChange> accepted = new ArrayList<>();
+        long cursor = after;
+
+        for (EntityChange row : fetched) {
+            if (accepted.size() == pageSize) {
+                break;
+            }
+            if (row.sequence() != cursor + 1 && row.changedAt().isAfter(gapCutoff)) {
+                break;
+            }
+            accepted.add(row);
+            cursor = row.sequence();
+        }
+
+        return new ChangeRows(accepted, cursor, fetched.size() > accepted.size(), false);
+    }
+
+    /**
+     * 현재 시점 토큰 - 전체 목록을 받기 "전에" 조회해 두고 이후 since로 사용
+     * - 공백 기준 시각 이전에 기록된 순번까지만 - 그보다 작은 순번은 모두 커밋 또는 롤백으로 끝남
+     * (기준 시각 이후 변경은 다시 받을 수 있으나, 수정은 현재 값으로 덮어쓰므로 중복 적용해도 무방)
+     */
+    @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
+    public String currentToken() {
+        LocalDateTime before = entityChangeLogRepository.findGapCutoff(properties.getGapGraceMs());
+        Long sequence = entityChangeLogRepository.findMaxSequenceBefore(before);
+        if (sequence != null) {
+            return Long.toString(sequence);
+        }
+        Long oldest = entityChangeLogRepository.findMinSequence();
+        return Long.toString(oldest != null ? oldest - 1 : 0);
+    }
+
+    private List<BookResponse> loadBooks(Map<Long, EntityChange.ChangeType> changes, List<Long> deletedIds) {
+        List<Long> upsertIds = upsertIds(changes, deletedIds);
+        if (upsertIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Book> found = new LinkedHashMap<>();
+        jpaQueryFactory
+                .selectFrom(book)
+                .join(book.registeredBy, user).fetchJoin()
+                .where(book.id.in(upsertIds))
+                .fetch()
+                .forEach(entity -> found.put(entity.getId(), entity));
+
+        List<BookResponse> responses = new ArrayList<>(found.size());
+        for (Long id : upsertIds) {
+            Book entity = found.get(id);
+            if (entity != null) {
+                responses.add(BookResponse.from(entity));
+            } else {
+                deletedIds.add(id);
+            }
+        }
+        return responses;
+    }
+
+    private List<LoanResponse> loadLoans(Map<Long, EntityChange.ChangeType> changes, List<Long> deletedIds) {
+        List<Long> upsertIds = upsertIds(changes, deletedIds);
+        if (upsertIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, BookLoan> found = new LinkedHashMap<>();
+        jpaQueryFactory
+                .selectFrom(bookLoan)
+                .join(bookLoan.book, book).fetchJoin()
+                .join(bookLoan.user, user).fetchJoin()
+                .where(bookLoan.id.in(upsertIds))
+                .fetch()
+                .forEach(entity -> found.put(entity.getId(), entity));
+
+        List<LoanResponse> responses = new ArrayList<>(found.size());
+        for (Long id : upsertIds) {
+            BookLoan entity = found.get(id);
+            if (entity != null) {
+                responses.add(LoanResponse.from(entity));
+            } else {
+                deletedIds.add(id);
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * 마지막 변경이 수정인 ID만 추리고, 삭제인 ID는 deletedIds에 추가
+     */
+    private static List<Long> upsertIds(Map<Long, EntityChange.ChangeType> changes, List<Long> deletedIds) {
+        List<Long> upsertIds = new ArrayList<>();
+        changes.forEach((id, changeType) -> {
+            if (changeType == EntityChange.ChangeType.DELETE) {
+                deletedIds.add(id);
+            } else {
+                upsertIds.add(id);
+            }
+        });
+        return upsertIds;
+    }
+
+    private static long parseToken(String since) {
+        if (since == null || since.isBlank()) {
+            return 0L;
+        }
+        try {
+            long sequence = Long.parseLong(since.trim());
+            if (sequence < 0) {
+                throw new IllegalArgumentException("유효하지 않은 변경 토큰입니다: " + since);
+            }
+            return sequence;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 변경 토큰입니다: " + since, e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.bookworm.domain.constant.ErrorMessages;
 import com.bookworm.domain.exception.DuplicateUserException;
 import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
+import com.bookworm.infrastructure.search.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -11,9 +12,13 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class EmailService {
     private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
 
+    /**
+     * 필터가 "확실히 없음"이면 조회 없이 통과, 있을 수도 있으면 존재 여부만 조회 (엔티티 로드 없음)
+     */
     public void checkDoesNotExist(Email email) {
-        if (userRepository.findByEmail(email).isPresent()) {
+        if (emailBloomFilter.mightContain(email) && userRepository.existsByEmail(email)) {
             throw new DuplicateUserException(ErrorMessages.Duplication.EMAIL_EXISTS);
         }
     }
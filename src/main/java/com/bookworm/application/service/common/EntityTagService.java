@@ -0,0 +1,150 @@
+package com.bookworm.application.service.common;
+
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.entity.QBook;
+import com.bookworm.domain.entity.QBookLoan;
+import com.bookworm.domain.entity.QUser;
+import com.bookworm.infrastructure.changefeed.EntityChange;
+import com.bookworm.infrastructure.changefeed.EntityChangeLogRepository;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 조건부 GET(If-None-Match)용 ETag 계산
+ *
+ * 원리:
+ * 1. 단건: 엔티티와 응답에 포함되는 연관 엔티티의 @Version만 조회 (행 전체/연관 로딩 없음)
+ * 2. 목록: 응답이 의존하는 엔티티 유형의 변경 이력(entity_changes) 최대 순번
+ *    - 도서/대출 등록·수정·삭제·보관 이동은 모두 이력을 남기므로 순번이 바뀜
+ *    - (entity_type, id) 인덱스 한 번 탐색 → 테이블 전체 집계 없음
+ *    - 회원/관리자 이름 변경은 목록 ETag에 반영되지 않음 (단건 ETag에는 반영)
+ * 3. 대출 응답은 연체 여부/남은 일수가 날짜에 따라 바뀌므로 오늘 날짜를 함께 포함
+ *
+ * ETag는 본문 조회보다 먼저 계산하므로, 그 사이 변경이 있으면 다음 요청에서 다른 ETag가 나와 다시 받게 됨 (안전한 방향)
+ * 계산에 실패하면 null - 조건부 처리 없이 평소대로 응답
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EntityTagService {
+
+    private static final QBook book = QBook.book;
+    private static final QBookLoan bookLoan = QBookLoan.bookLoan;
+    private static final QUser user = QUser.user;
+
+    /** 늦은 커밋을 감지할 최근 순번 구간 (인덱스 범위 스캔 상한) */
+    private static final long RECENT_SEQUENCE_WINDOW = 1000L;
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final TimeProvider timeProvider;
+    private final EntityChangeLogRepository entityChangeLogRepository;
+
+    /**
+     * 도서 단건 (도서 버전 + 등록 관리자 버전 - 응답에 관리자 이름 포함)
+     */
+    public String bookTag(Long bookId) {
+        try {
+            Tuple versions = jpaQueryFactory
+                    .select(book.version, book.registeredBy.version)
+                    .from(book)
+                    .where(book.id.eq(bookId))
+                    .fetchOne();
+
+            return versions == null ? null
+                    : "book-" + bookId + "-" + versions.get(book.version) + "-" + versions.get(book.registeredBy.version);
+        } catch (Exception e) {
+            log.warn("도서 ETag 계산 실패: 도서 ID={}", bookId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 도서 목록 (도서 변경 이력 최대 순번)
+     */
+    public String bookCollectionTag() {
+        try {
+            return "books-" + sequenceOf(EntityChange.EntityType.BOOK);
+        } catch (Exception e) {
+            log.warn("도서 목록 ETag 계산 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 대출 단건 (대출 + 도서 + 회원 버전, 오늘 날짜)
+     */
+    public String loanTag(Long loanId) {
+        try {
+            Tuple versions = jpaQueryFactory
+                    .select(bookLoan.version, bookLoan.book.version, bookLoan.user.version)
+                    .from(bookLoan)
+                    .where(bookLoan.id.eq(loanId))
+                    .fetchOne();
+
+            // 보관된 대출은 조건부 처리 없이 평소대로 응답
+            return versions == null ? null
+                    : "loan-" + loanId + "-" + versions.get(bookLoan.version)
+                    + "-" + versions.get(bookLoan.book.version)
+                    + "-" + versions.get(bookLoan.user.version)
+                    + "-" + timeProvider.currentDate();
+        } catch (Exception e) {
+            log.warn("대출 ETag 계산 실패: 대출 ID={}", loanId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 대출 목록 (대출 + 도서 변경 이력 최대 순번, 오늘 날짜)
+     */
+    public String loanCollectionTag() {
+        try {
+            return "loans-" + sequenceOf(EntityChange.EntityType.LOAN)
+                    + "-" + sequenceOf(EntityChange.EntityType.BOOK)
+                    + "-" + timeProvider.currentDate();
+        } catch (Exception e) {
+            log.warn("대출 목록 ETag 계산 실패", e);
+            return null;
+        }
+    }
+
+    /**
+     * 회원별 대출 목록 (회원 버전 + 대출/도서 변경 이력 최대 순번, 오늘 날짜)
+     * - 다른 회원의 대출 변경에도 바뀌지만(재조회로 안전), 회원 대출 전체를 집계하지 않음
+     */
+    public String userLoansTag(Long userId) {
+        try {
+            Long userVersion = jpaQueryFactory
+                    .select(user.version)
+                    .from(user)
+                    .where(user.id.eq(userId))
+                    .fetchOne();
+
+            return "user-loans-" + userId + "-" + userVersion
+                    + "-" + sequenceOf(EntityChange.EntityType.LOAN)
+                    + "-" + sequenceOf(EntityChange.EntityType.BOOK)
+                    + "-" + timeProvider.currentDate();
+        } catch (Exception e) {
+            log.warn("회원 대출 목록 ETag 계산 실패: 회원 ID={}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 유형별 변경 이력 최대 순번 + 최근 구간 이력 수 (36진수, 이력이 없으면 0)
+     * - 순번은 커밋 순서가 아니므로, 최대 순번보다 작은 순번이 늦게 커밋되면 최대값만으로는 바뀌지 않음
+     *   → 최근 RECENT_SEQUENCE_WINDOW 구간의 건수를 함께 넣어 늦은 커밋도 반영
+     */
+    private String sequenceOf(EntityChange.EntityType entityType) {
+        Long sequence = entityChangeLogRepository.findMaxSequence(entityType);
+        if (sequence == null) {
+            return "0";
+        }
+        long recent = entityChangeLogRepository.countSequencesAfter(entityType, sequence - RECENT_SEQUENCE_WINDOW);
+        return Long.toString(sequence, 36) + "." + Long.toString(recent, 36);
+    }
+}
@@ -0,0 +1,94 @@
+package com.bookworm.application.service.common;
+
+import com.bookworm.application.dto.ChangeFeedResponse;
+import com.bookworm.application.dto.LiveChangesMessage;
+import com.bookworm.infrastructure.live.LiveUpdateBroadcaster;
+import com.bookworm.infrastructure.live.LiveUpdateProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 실시간 재고/대출 변경 발행 (변경 피드 → SSE)
+ *
+ * 원리:
+ * 1. 구독자가 있는 동안만 pollIntervalMs마다 변경 피드(entity_changes)를 인스턴스당 한 번 조회
+ *    - 모든 인스턴스가 같은 이력을 읽으므로 어느 인스턴스에 연결해도 모든 변경을 받음
+ * 2. 새 변경 페이지를 changes 이벤트 하나로 발행, 이벤트 id는 변경 피드 토큰 (인스턴스와 무관한 전역 순번)
+ * 3. 이벤트마다 이어지는 이전 토큰(since)을 함께 보내므로, 버퍼 유실/재연결로 빠진 구간은
+ *    클라이언트가 GET /api/changes?since={마지막 id}로 채움
+ * 4. 토큰이 보관 기간을 벗어나면 reset 이벤트 → 클라이언트는 전체 다시 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveUpdateService {
+
+    private static final String CHANGES_EVENT = "changes";
+    private static final String RESET_EVENT = "reset";
+
+    private final ChangeFeedService changeFeedService;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
+    private final LiveUpdateProperties properties;
+
+    /**
+     * 마지막으로 발행한 변경 피드 토큰 (구독자가 없으면 null)
+     */
+    private String token;
+
+    /**
+     * 구독 등록 - ready 이벤트 id가 이후 변경의 시작 토큰
+     */
+    public synchronized Optional<SseEmitter> subscribe() {
+        if (token == null) {
+            token = changeFeedService.currentToken();
+        }
+        return liveUpdateBroadcaster.subscribe(token, Map.of("token", token));
+    }
+
+    /**
+     * 변경 피드 조회 후 발행
+     */
+    @Scheduled(fixedDelayString = "${bookworm.live-updates.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        if (!liveUpdateBroadcaster.hasSubscribers()) {
+            token = null;
+            return;
+        }
+        if (token == null) {
+            return;
+        }
+
+        try {
+            for (int page = 0; page < properties.getMaxPagesPerPoll(); page++) {
+                ChangeFeedResponse changes = changeFeedService.getChanges(token, null);
+
+                if (changes.resetRequired()) {
+                    log.warn("실시간 변경 토큰 만료 - reset 발행: {}", token);
+                    liveUpdateBroadcaster.publish(changes.nextToken(), RESET_EVENT,
+                            new LiveChangesMessage(token, changes));
+                    token = changes.nextToken();
+                    return;
+                }
+                if (changes.nextToken().equals(token)) {
+                    return;
+                }
+
+                liveUpdateBroadcaster.publish(changes.nextToken(), CHANGES_EVENT,
+                        new LiveChangesMessage(token, changes));
+                token = changes.nextToken();
+
+                if (!changes.hasMore()) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("실시간 변경 조회 실패 - 토큰: {}", token, e);
+        }
+    }
+}
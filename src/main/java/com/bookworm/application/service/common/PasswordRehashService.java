@@ -0,0 +1,53 @@
+package com.bookworm.application.service.common;
+
+import com.bookworm.domain.entity.User;
+import com.bookworm.domain.repository.UserRepository;
+import com.bookworm.domain.vo.user.Password;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 로그인 시 비밀번호 재해싱
+ * - 저장된 해시의 BCrypt cost가 설정값과 다르면, 방금 검증한 평문으로 다시 해싱하여 저장
+ * - 호출자의 읽기 전용 트랜잭션과 분리된 새 트랜잭션에서 기록
+ * - 실패해도 로그인은 성공 처리 (다음 로그인에서 다시 시도)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordRehashService {
+
+    private final PasswordService passwordService;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    public void rehashIfNeeded(User user, String verifiedRawPassword) {
+        if (!passwordService.needsRehash(user.getPassword())) {
+            return;
+        }
+
+        try {
+            Password rehashed = passwordService.rehash(verifiedRawPassword);
+            String previousHash = user.getPassword().getValue();
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.findById(user.getId())
+                            // 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음
+                            .filter(current -> current.getPassword().getValue().equals(previousHash))
+                            .ifPresent(current -> {
+                                current.rehashPassword(rehashed);
+                                userRepository.save(current);
+                            }));
+
+            log.info("비밀번호 재해싱 완료: 사용자 ID={}", user.getId());
+        } catch (Exception e) {
+            log.warn("비밀번호 재해싱 실패: 사용자 ID={}, 오류={}", user.getId(), e.getMessage());
+        }
+    }
+}
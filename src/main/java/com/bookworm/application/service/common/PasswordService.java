@@ -17,4 +17,18 @@ public class PasswordService {
     public boolean matches(String rawPassword, Password password) {
         return password.matches(rawPassword, passwordEncoder);
     }
-}
\ No newline at end of file
+
+    /**
+     * 저장된 해시가 현재 해싱 설정(BCrypt cost)과 다른지 확인
+     */
+    public boolean needsRehash(Password password) {
+        return passwordEncoder.upgradeEncoding(password.getValue());
+    }
+
+    /**
+     * 검증을 마친 평문을 현재 설정으로 다시 암호화 (비밀번호 정책 검증 없음 - 기존 비밀번호 유지 목적)
+     */
+    public Password rehash(String verifiedRawPassword) {
+        return new Password(passwordEncoder.encode(verifiedRawPassword));
+    }
+}
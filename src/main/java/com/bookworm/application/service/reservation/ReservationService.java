@@ -0,0 +1,256 @@
+package com.bookworm.application.service.reservation;
+
+import com.bookworm.application.dto.ReservationRequest;
+import com.bookworm.application.dto.ReservationResponse;
+import com.bookworm.application.service.Loan.LoanHelper;
+import com.bookworm.application.service.Loan.LoanNotificationService;
+import com.bookworm.domain.common.LibraryPolicy;
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.constant.BookStatus;
+import com.bookworm.domain.constant.ReservationStatus;
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.entity.BookReservation;
+import com.bookworm.domain.entity.User;
+import com.bookworm.domain.event.DomainEventPublisher;
+import com.bookworm.domain.event.ReservationAvailableEvent;
+import com.bookworm.domain.exception.LibraryBusinessException;
+import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.domain.exception.ReservationNotFoundException;
+import com.bookworm.infrastructure.repository.BookReservationRepository;
+import com.bookworm.infrastructure.reservation.ReservationExpiryDueEvent;
+import com.bookworm.infrastructure.reservation.ReservationExpiryWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 도서 예약(보관) 서비스
+ *
+ * 핵심 규칙:
+ * 1. 도서별 FIFO 대기열: 대출 가능한 재고가 없을 때만 예약 가능
+ * 2. 반납/재고 추가로 여유 재고가 생기면 대기열 맨 앞부터 READY로 승격하고 보관 (reservationExpireHours)
+ * 3. READY 예약이 보관 중인 재고는 예약자만 대출 가능
+ * 4. 대기 중인 예약이 있는 도서는 대출 연장 불가
+ * 5. 보관 만료는 타이밍 휠이 알려주며, 만료 시 다음 대기자에게 승격
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ReservationService {
+
+    private static final int MAX_OPEN_RESERVATIONS_PER_USER = 5;
+    private static final Set<ReservationStatus> OPEN_STATUSES =
+            EnumSet.of(ReservationStatus.WAITING, ReservationStatus.READY);
+
+    private final BookReservationRepository bookReservationRepository;
+    private final LoanHelper loanHelper;
+    private final LibraryPolicy libraryPolicy;
+    private final TimeProvider timeProvider;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ReservationExpiryWheel reservationExpiryWheel;
+    private final LoanNotificationService loanNotificationService;
+
+    // ==================== 예약 생성/취소 ====================
+
+    /**
+     * 도서 예약 (대기열 등록)
+     * - 예약자는 로그인한 회원, 관리자만 request.userId로 다른 회원 대신 예약 가능
+     */
+    public ReservationResponse reserve(ReservationRequest request, Long requesterId, boolean admin) {
+        Long userId = admin && request.userId() != null ? request.userId() : requesterId;
+        log.info("도서 예약 요청 - 도서 ID: {}, 사용자 ID: {}", request.bookId(), userId);
+
+        User user = loanHelper.getUserOrThrow(userId);
+        Book book = loanHelper.getBookOrThrow(request.bookId());
+
+        if (bookReservationRepository.findFirstByBookIdAndUserIdAndStatusIn(
+                book.getId(), user.getId(), OPEN_STATUSES).isPresent()) {
+            throw new LibraryBusinessException("RESERVATION_DUPLICATE", "이미 예약한 도서입니다.");
+        }
+
+        if (bookReservationRepository.countByUserIdAndStatusIn(user.getId(), OPEN_STATUSES)
+                >= MAX_OPEN_RESERVATIONS_PER_USER) {
+            throw new LibraryBusinessException("RESERVATION_LIMIT_EXCEEDED",
+                    String.format("최대 %d건까지만 예약할 수 있습니다.", MAX_OPEN_RESERVATIONS_PER_USER));
+        }
+
+        if (freeCopies(book) > 0 && !hasWaitingReservation(book.getId())) {
+            throw new LibraryBusinessException("RESERVATION_NOT_NEEDED",
+                    "현재 대출 가능한 도서입니다. 바로 대출해주세요: " + book.getTitle().getValue());
+        }
+
+        BookReservation reservation = bookReservationRepository.save(
+                BookReservation.create(book, user, timeProvider.currentDateTime()));
+
+        log.info("도서 예약 완료 - 예약 ID: {}, 도서: '{}'", reservation.getId(), book.getTitle().getValue());
+        return ReservationResponse.from(reservation);
+    }
+
+    /**
+     * 예약 취소
+     * - 본인 예약만 취소 가능 (관리자는 모든 예약)
+     * - 보관 중이던 예약이면 다음 대기자에게 승격
+     */
+    public ReservationResponse cancel(Long reservationId, Long requesterId, boolean admin) {
+        BookReservation reservation = bookReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException(reservationId));
+
+        if (!admin && !reservation.getUser().getId().equals(requesterId)) {
+            log.warn("타인 예약 취소 시도 - 예약 ID: {}, 요청자 ID: {}", reservationId, requesterId);
+            throw new AccessDeniedException("본인의 예약만 취소할 수 있습니다.");
+        }
+
+        boolean wasReady = reservation.isReady();
+        reservation.cancel(timeProvider.currentDateTime());
+
+        if (wasReady) {
+            promoteWaitingReservations(reservation.getBook());
+        }
+
+        log.info("도서 예약 취소 - 예약 ID: {}", reservationId);
+        return ReservationResponse.from(reservation);
+    }
+
+    // ==================== 대출/반납 연동 ====================
+
+    /**
+     * 여유 재고를 대기열 맨 앞 예약부터 보관 상태로 승격
+     * - 반납, 재고 추가, 보관 취소/만료 시 호출 (호출자 트랜잭션에 참여)
+     */
+    public void promoteWaitingReservations(Book book) {
+        long free = freeCopies(book);
+        LocalDateTime now = timeProvider.currentDateTime();
+
+        while (free > 0) {
+            Optional<BookReservation> head = bookReservationRepository
+                    .findFirstByBookIdAndStatusOrderByQueuedAtAscIdAsc(book.getId(), ReservationStatus.WAITING);
+            if (head.isEmpty()) {
+                return;
+            }
+
+            BookReservation reservation = head.get();
+            reservation.markReady(now, libraryPolicy.getReservationExpireHours());
+            bookReservationRepository.save(reservation);
+
+            reservationExpiryWheel.schedule(reservation.getId(), reservation.getExpiresAt());
+            domainEventPublisher.publish(new ReservationAvailableEvent(
+                    reservation.getId(), book.getId(), reservation.getUser().getId(), now));
+
+            log.info("예약 보관 승격 - 예약 ID: {}, 도서 ID: {}, 만료: {}",
+                    reservation.getId(), book.getId(), reservation.getExpiresAt());
+            free--;
+        }
+    }
+
+    /**
+     * 대출 전 예약 확인 (재고 감소 전에 호출)
+     * - 본인 예약이 있으면 수령 처리
+     * - 다른 예약자를 위해 보관 중인 재고는 대출 불가
+     */
+    public void claimForBorrow(Book book, User user) {
+        Optional<BookReservation> own = bookReservationRepository
+                .findFirstByBookIdAndUserIdAndStatusIn(book.getId(), user.getId(), OPEN_STATUSES);
+
+        if (own.isPresent() && own.get().isReady()) {
+            own.get().fulfill(timeProvider.currentDateTime());
+            return;
+        }
+
+        if (freeCopies(book) < 1) {
+            throw new LoanBusinessException("예약자를 위해 보관 중인 도서입니다: " + book.getTitle().getValue());
+        }
+
+        own.ifPresent(reservation -> reservation.fulfill(timeProvider.currentDateTime()));
+    }
+
+    /**
+     * 대기 중인 예약 존재 여부 (대출 연장 검증용, 인덱스 단건 탐색)
+     */
+    @Transactional(readOnly = true)
+    public boolean hasWaitingReservation(Long bookId) {
+        return bookReservationRepository.existsByBookIdAndStatus(bookId, ReservationStatus.WAITING);
+    }
+
+    // ==================== 조회 ====================
+
+    @Transactional(readOnly = true)
+    public List<ReservationResponse> getUserReservations(Long userId) {
+        return bookReservationRepository.findByUserIdOrderByQueuedAtDesc(userId).stream()
+                .map(ReservationResponse::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReservationResponse> getBookQueue(Long bookId) {
+        return bookReservationRepository.findByBookIdAndStatusInOrderByQueuedAtAscIdAsc(bookId, OPEN_STATUSES)
+                .stream()
+                .map(ReservationResponse::from)
+                .toList();
+    }
+
+    // ==================== 보관 만료 ====================
+
+    /**
+     * 보관 기한 도래 처리 (타이밍 휠 스레드)
+     */
+    @EventListener
+    public void onExpiryDue(ReservationExpiryDueEvent event) {
+        bookReservationRepository.findById(event.reservationId()).ifPresent(reservation -> {
+            LocalDateTime now = timeProvider.currentDateTime();
+
+            if (reservation.expireIfDue(now)) {
+                log.info("예약 보관 만료 - 예약 ID: {}", reservation.getId());
+                promoteWaitingReservations(reservation.getBook());
+            } else if (reservation.isReady()) {
+                // 틱 단위 반올림으로 기한 직전에 신호가 온 경우 다시 등록
+                reservationExpiryWheel.schedule(reservation.getId(), reservation.getExpiresAt());
+            }
+        });
+    }
+
+    /**
+     * 수령 가능 알림 (아웃박스 릴레이가 커밋 이후 전달)
+     */
+    @EventListener
+    @Transactional(readOnly = true)
+    public void onReservationAvailable(ReservationAvailableEvent event) {
+        bookReservationRepository.findById(event.getReservationId())
+                .filter(BookReservation::isReady)
+                .ifPresent(loanNotificationService::sendReservationAvailableNotification);
+    }
+
+    /**
+     * 기동 시 보관 중인 예약의 만료 스케줄 복원
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restoreExpirySchedule() {
+        List<BookReservation> readyReservations = bookReservationRepository.findByStatus(ReservationStatus.READY);
+        readyReservations.forEach(reservation ->
+                reservationExpiryWheel.schedule(reservation.getId(), reservation.getExpiresAt()));
+
+        log.info("예약 만료 스케줄 복원 - {}건", readyReservations.size());
+    }
+
+    /**
+     * 예약자 보관분을 제외한 대출 가능 재고
+     */
+    private long freeCopies(Book book) {
+        if (book.getStatus() != BookStatus.AVAILABLE) {
+            return 0;
+        }
+        long held = bookReservationRepository.countByBookIdAndStatus(book.getId(), ReservationStatus.READY);
+        return book.getQuantity().getValue() - held;
+    }
+}
@@ -0,0 +1,31 @@
+package com.bookworm.application.service.user;
+
+import com.bookworm.application.dto.LoanResponse;
+import com.bookworm.application.dto.SignUpResponse;
+
+import java.util.List;
+
+/**
+ * 관리자용 회원 검색 서비스 인터페이스
+ * 이름(부분 일치) 또는 전화번호(숫자 부분 일치)로 회원과 회원의 대출을 찾습니다.
+ */
+public interface MemberSearchService extends UserService {
+
+    /**
+     * 이름 또는 전화번호로 회원 검색
+     *
+     * @param query 검색어 (숫자/하이픈만 있으면 전화번호 검색)
+     * @param limit 최대 결과 수
+     * @return 회원 목록 (ID 순)
+     */
+    List<SignUpResponse> searchMembers(String query, int limit);
+
+    /**
+     * 이름 또는 전화번호로 찾은 회원들의 대출 목록
+     *
+     * @param query 검색어
+     * @param limit 대상 회원 최대 수
+     * @return 대출 목록 (최근 대출 순)
+     */
+    List<LoanResponse> searchMemberLoans(String query, int limit);
+}
@@ -0,0 +1,119 @@
+package com.bookworm.application.service.user;
+
+import com.bookworm.application.dto.LoanResponse;
+import com.bookworm.application.dto.SignUpResponse;
+import com.bookworm.domain.entity.User;
+import com.bookworm.domain.exception.UserBusinessException;
+import com.bookworm.domain.repository.UserRepository;
+import com.bookworm.domain.vo.user.UserSearchKeys;
+import com.bookworm.infrastructure.repository.BookLoanRepository;
+import com.bookworm.infrastructure.search.UserSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자용 회원 검색 서비스 구현체
+ *
+ * - 검색은 users.search_name/search_phone과 user_search_grams 색인만 사용 (users × book_loans 전체 스캔 없음)
+ * - 기동 시 검색 키가 비어 있는 기존 회원(마이그레이션 이전 데이터, 합성 데이터)을 배치로 보정
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberSearchServiceImpl implements MemberSearchService {
+
+    private static final int MAX_LIMIT = 200;
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final UserSearchIndex userSearchIndex;
+    private final UserRepository userRepository;
+    private final BookLoanRepository bookLoanRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<SignUpResponse> searchMembers(String query, int limit) {
+        List<Long> userIds = findUserIds(query, limit);
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        log.debug("회원 검색: Query={}, Count={}", query, users.size());
+
+        return userIds.stream()
+                .map(users::get)
+                .filter(Objects::nonNull)
+                .map(SignUpResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoanResponse> searchMemberLoans(String query, int limit) {
+        List<Long> userIds = findUserIds(query, limit);
+
+        List<LoanResponse> loans = bookLoanRepository.findByUserIds(userIds).stream()
+                .map(LoanResponse::from)
+                .collect(Collectors.toList());
+
+        log.debug("회원 대출 검색: Query={}, Members={}, Loans={}", query, userIds.size(), loans.size());
+        return loans;
+    }
+
+    /**
+     * 검색 키가 비어 있거나 2-gram 색인이 없는 회원 보정 (배치마다 별도 트랜잭션)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSearchKeys() {
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            long afterId = 0;
+            long total = 0;
+
+            while (true) {
+                List<UserSearchIndex.PendingUser> pending =
+                        userSearchIndex.findPendingUsers(afterId, BACKFILL_BATCH_SIZE);
+                if (pending.isEmpty()) {
+                    break;
+                }
+
+                transactionTemplate.executeWithoutResult(status -> userSearchIndex.applySearchKeys(pending));
+                afterId = pending.get(pending.size() - 1).id();
+                total += pending.size();
+            }
+
+            if (total > 0) {
+                log.info("회원 검색 키 보정 완료: {}명", total);
+            }
+        } catch (Exception e) {
+            log.error("회원 검색 키 보정 실패", e);
+        }
+    }
+
+    private List<Long> findUserIds(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new UserBusinessException("검색어는 필수입니다.");
+        }
+
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_LIMIT));
+
+        if (UserSearchKeys.looksLikePhone(query)) {
+            return userSearchIndex.findUserIds(
+                    UserSearchIndex.Field.PHONE, UserSearchKeys.normalizePhone(query), boundedLimit);
+        }
+
+        return userSearchIndex.findUserIds(
+                UserSearchIndex.Field.NAME, UserSearchKeys.normalizeName(query), boundedLimit);
+    }
+}
@@ -1,15 +1,20 @@
 package com.bookworm.application.service.user;
 
+import com.bookworm.application.dto.AuthenticatedUser;
 import com.bookworm.application.dto.LoginResponse;
+import com.bookworm.application.service.common.PasswordRehashService;
 import com.bookworm.application.service.common.PasswordService;
 import com.bookworm.domain.constant.UserStatus;
 import com.bookworm.domain.entity.User;
 import com.bookworm.domain.exception.AuthenticationException;
 import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
+import com.bookworm.infrastructure.security.LastLoginRecorder;
+import com.bookworm.infrastructure.security.UserDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -25,6 +30,9 @@ public class UserAuthenticationServiceImpl implements UserAuthenticationService
     private final UserRepository userRepository;
     private final UserQueryService userQueryService;
     private final PasswordService passwordService;
+    private final PasswordRehashService passwordRehashService;
+    private final UserDetailsCache userDetailsCache;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Override
     public LoginResponse authenticate(String email, String password) {
@@ -49,16 +57,40 @@ public class UserAuthenticationServiceImpl implements UserAuthenticationService
             throw new AuthenticationException("이메일 또는 비밀번호가 올바르지 않습니다.");
         }
 
+        // BCrypt cost 설정이 바뀌었으면 검증한 평문으로 재해싱
+        passwordRehashService.rehashIfNeeded(user, password);
+
         log.info("사용자 인증 성공: 사용자 ID={}, 이름={}", user.getId(), user.getFirstName().getValue());
+
+        // 4. 이후 보안 컨텍스트 설정/세션 검증에서 재조회하지 않도록 스냅샷 캐시
+        userDetailsCache.put(AuthenticatedUser.from(user));
+
+        // 5. 로그인 시간 기록 예약 (응답 지연에 행 쓰기를 포함하지 않음)
+        lastLoginRecorder.record(user.getId());
         return LoginResponse.from(user);
     }
 
+    /**
+     * 캐시 적중 시 트랜잭션(커넥션) 없이 반환하도록 SUPPORTS 전파
+     */
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public LoginResponse findUserForSession(Long userId) {
         log.debug("세션 검증을 위한 사용자 조회: 사용자 ID={}", userId);
 
+        // 캐시된 스냅샷 우선 (회원 변경 시 버전 기준으로 무효화됨)
+        AuthenticatedUser cached = userDetailsCache.getById(userId).orElse(null);
+        if (cached != null) {
+            if (!cached.isActive()) {
+                log.warn("세션 검증 중 비활성 계정 발견: 사용자 ID={}, 상태={}", userId, cached.status());
+                throw new AuthenticationException("계정이 비활성화되어 있습니다.");
+            }
+            return cached.toLoginResponse();
+        }
+
         // 기존 UserQueryService 활용
         User user = userQueryService.getUserEntityById(userId);
+        userDetailsCache.put(AuthenticatedUser.from(user));
 
         // 계정 상태 재확인 (세션 중간에 계정이 비활성화될 수 있음)
         if (!isActiveUser(user)) {
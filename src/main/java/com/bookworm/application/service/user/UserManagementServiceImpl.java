@@ -9,8 +9,10 @@ import com.bookworm.domain.entity.User;
 import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
 import com.bookworm.domain.vo.user.Password;
+import com.bookworm.infrastructure.security.token.TokenRevocationList;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,8 @@ public class UserManagementServiceImpl implements UserManagementService {
     private final EmailService emailService;
     private final PasswordService passwordService;
     private final UserCreationService userCreationService;
+    // 서명 토큰 인증 사용 시에만 존재
+    private final ObjectProvider<TokenRevocationList> tokenRevocationList;
 
     @Override
     public SignUpResponse updateUser(Long id, SignUpRequest request) {
@@ -68,6 +72,9 @@ public class UserManagementServiceImpl implements UserManagementService {
         // JPA Dirty Checking이 트랜잭션 종료 시 자동으로 UPDATE 쿼리 실행
         // userRepository.save() 호출하면 version 충돌 에러 발생!
 
+        // 4. 이미 발급된 서명 토큰 무효화
+        tokenRevocationList.ifAvailable(revocationList -> revocationList.revokeAllForUser(id));
+
         log.info("사용자가 비활성화되었습니다. ID: {}", id);
     }
 }
\ No newline at end of file
@@ -40,8 +40,8 @@ public class UserRegistrationServiceImpl implements UserRegistrationService {
         // 사용자 생성 (UserCreationService에 위임)
         User user = userCreationService.createUser(req, password);
 
-        // 저장
-        userRepository.save(user);
+        // 저장 (즉시 INSERT - 동시 가입으로 인한 이메일 유니크 제약 위반은 DuplicateUserException)
+        userRepository.saveAndFlush(user);
         log.info("새 사용자가 등록되었습니다. ID: {}, 이메일: {}", user.getId(), user.getEmail().getValue());
 
         // 응답 생성
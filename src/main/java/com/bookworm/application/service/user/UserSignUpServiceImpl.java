@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -76,7 +77,7 @@ public class UserSignUpServiceImpl implements UserSignUpService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public LoginResponse findUserForSession(Long userId) {
         log.debug("통합 서비스를 통한 세션 사용자 조회: 사용자 ID={}", userId);
         return userAuthenticationService.findUserForSession(userId);
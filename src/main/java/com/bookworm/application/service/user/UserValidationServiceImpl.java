@@ -2,6 +2,7 @@ package com.bookworm.application.service.user;
 
 import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
+import com.bookworm.infrastructure.search.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -17,9 +18,15 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserValidationServiceImpl implements UserValidationService {
 
     private final UserRepository userRepository;
+    private final EmailBloomFilter emailBloomFilter;
 
+    /**
+     * 이메일 중복 확인 (가입 폼 입력마다 호출됨)
+     * 필터가 "확실히 없음"이면 DB 조회 없이 false
+     */
     @Override
     public boolean existsByEmail(String email) {
-        return userRepository.findByEmail(Email.of(email)).isPresent();
+        Email target = Email.of(email);
+        return emailBloomFilter.mightContain(target) && userRepository.existsByEmail(target);
     }
 }
\ No newline at end of file
@@ -0,0 +1,140 @@
+package com.bookworm.domain.common;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 정렬 64비트 ID 생성기 (TSID/Snowflake 방식)
+ *
+ * 구성 (상위 → 하위, 총 53비트):
+ * - 41비트: 기준 시각(2024-01-01 UTC) 이후 경과 ms (약 69년)
+ * - 5비트: 노드 번호 (0~31, 31은 대량 적재 도구 전용)
+ * - 7비트: 같은 ms 안의 순번 (ms당 128개)
+ *
+ * 원리:
+ * 1. 엔티티 생성 시점에 ID를 부여 → 영속화 전에도 equals/hashCode가 안정적
+ * 2. DB 왕복 없이 ID가 정해지므로 JDBC 배치 INSERT 가능
+ * 3. 값이 시간순으로 증가 → 키셋 페이징, 보관 구간 분할에 그대로 사용
+ * 4. 2^53 미만으로 유지하여 JSON(JavaScript Number)에서도 정밀도 손실 없음
+ *
+ * 순번이 넘치면 다음 ms로 넘어가고, 시계가 뒤로 가면 마지막 값에서 계속 증가
+ */
+public final class EntityIdGenerator {
+
+    public static final int NODE_BITS = 5;
+    public static final int SEQUENCE_BITS = 7;
+
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+
+    /**
+     * 대량 적재 도구 전용 노드 (애플리케이션 인스턴스는 0~30 사용)
+     */
+    public static final int BULK_LOAD_NODE = MAX_NODE;
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final String NODE_ENV = "BOOKWORM_ID_NODE";
+
+    private static volatile EntityIdGenerator shared = new EntityIdGenerator(Math.max(0, environmentNode()));
+
+    /**
+     * 공용 생성기의 노드 번호가 명시적으로 지정되었는지 (환경 변수 또는 설정)
+     */
+    private static volatile boolean nodeConfigured = environmentNode() >= 0;
+
+    private final int node;
+
+    /**
+     * (경과 ms << SEQUENCE_BITS) | 순번
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    public EntityIdGenerator(int node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 번호는 0~" + MAX_NODE + " 사이여야 합니다: " + node);
+        }
+        this.node = node;
+    }
+
+    /**
+     * 공용 생성기에서 다음 ID 발급 (엔티티 생성 시 사용)
+     */
+    public static long nextId() {
+        return shared.next();
+    }
+
+    /**
+     * 공용 생성기의 노드 번호 지정 (애플리케이션 시작 시 한 번 호출)
+     */
+    public static void configureNode(int node) {
+        if (node == BULK_LOAD_NODE) {
+            throw new IllegalArgumentException("노드 " + BULK_LOAD_NODE + "번은 대량 적재 도구 전용입니다");
+        }
+        if (shared.node != node) {
+            shared = new EntityIdGenerator(node);
+        }
+        nodeConfigured = true;
+    }
+
+    public static int currentNode() {
+        return shared.node;
+    }
+
+    /**
+     * 노드 번호가 지정되지 않았으면 false (단일 인스턴스가 아니면 시작 시 실패 처리)
+     */
+    public static boolean isNodeConfigured() {
+        return nodeConfigured;
+    }
+
+    /**
+     * 다음 ID 발급
+     */
+    public long next() {
+        while (true) {
+            long last = state.get();
+            long now = System.currentTimeMillis() - EPOCH_MILLIS;
+
+            long candidate = now > (last >>> SEQUENCE_BITS)
+                    ? now << SEQUENCE_BITS
+                    : last + 1;
+
+            if (state.compareAndSet(last, candidate)) {
+                long elapsed = candidate >>> SEQUENCE_BITS;
+                long sequence = candidate & SEQUENCE_MASK;
+                return (elapsed << (NODE_BITS + SEQUENCE_BITS)) | ((long) node << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    /**
+     * ID에 기록된 생성 시각
+     */
+    public static Instant createdAt(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * 해당 시각 이후 발급된 ID의 하한 (ID 범위로 최근 생성 행을 조회할 때 사용)
+     */
+    public static long firstIdAt(Instant instant) {
+        long elapsed = Math.max(0, instant.toEpochMilli() - EPOCH_MILLIS);
+        return elapsed << (NODE_BITS + SEQUENCE_BITS);
+    }
+
+    /**
+     * 환경 변수(BOOKWORM_ID_NODE)의 노드 번호 (없으면 -1)
+     * - 호스트명 해시 등으로 추정하지 않음: 두 인스턴스가 같은 번호를 받으면 같은 ms에 중복 ID 발급
+     */
+    private static int environmentNode() {
+        String configured = System.getenv(NODE_ENV);
+        if (configured == null || configured.isBlank()) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(configured.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(NODE_ENV + " 값이 올바른 노드 번호가 아닙니다: " + configured, e);
+        }
+    }
+}
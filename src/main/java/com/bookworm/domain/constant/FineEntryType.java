@@ -0,0 +1,37 @@
+package com.bookworm.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 연체료 원장 항목 유형
+ */
+@Getter
+public enum FineEntryType {
+
+    /**
+     * 연체료 부과 (일 단위)
+     */
+    ACCRUAL("연체료 부과", 1),
+
+    /**
+     * 연체료 납부
+     */
+    PAYMENT("연체료 납부", -1),
+
+    /**
+     * 연체료 면제
+     */
+    WAIVER("연체료 면제", -1);
+
+    private final String description;
+
+    /**
+     * 잔액에 반영되는 부호
+     */
+    private final int sign;
+
+    FineEntryType(String description, int sign) {
+        this.description = description;
+        this.sign = sign;
+    }
+}
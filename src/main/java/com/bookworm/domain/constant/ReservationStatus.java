@@ -0,0 +1,48 @@
+package com.bookworm.domain.constant;
+
+import lombok.Getter;
+
+/**
+ * 도서 예약(보관) 상태 열거형
+ */
+@Getter
+public enum ReservationStatus {
+
+    /**
+     * 대기 중 - 예약 대기열에서 순서를 기다리는 상태
+     */
+    WAITING("대기 중"),
+
+    /**
+     * 수령 대기 - 반납된 도서가 예약자에게 보관 중인 상태
+     */
+    READY("수령 대기"),
+
+    /**
+     * 수령 완료 - 예약자가 도서를 대출한 상태
+     */
+    FULFILLED("수령 완료"),
+
+    /**
+     * 예약 취소
+     */
+    CANCELLED("예약 취소"),
+
+    /**
+     * 보관 기간 만료
+     */
+    EXPIRED("보관 만료");
+
+    private final String description;
+
+    ReservationStatus(String description) {
+        this.description = description;
+    }
+
+    /**
+     * 대기열을 점유하는 상태인지 확인
+     */
+    public boolean isOpen() {
+        return this == WAITING || this == READY;
+    }
+}
@@ -0,0 +1,111 @@
+package com.bookworm.domain.entity;
+
+import com.bookworm.domain.constant.LoanStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
+
+/**
+ * 보관된 대출 엔티티 (읽기 전용)
+ * - 반납/취소 후 보관 기간이 지난 대출을 book_loans에서 옮겨 온 행
+ * - ID는 원래 대출 ID를 그대로 사용
+ * - 행은 LoanArchiveRepository의 INSERT ... SELECT로만 생성
+ */
+@Entity
+@Table(name = "book_loans_archive", indexes = {
+        @Index(name = "idx_loan_archive_user", columnList = "user_id, loan_date"),
+        @Index(name = "idx_loan_archive_book", columnList = "book_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedBookLoan {
+
+    @Id
+    private Long id;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 응답 생성용 조회 전용 연관 (FK 제약 없음)
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Book book;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false,
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User user;
+
+    @Column(name = "quantity", nullable = false)
+    private int quantity;
+
+    @Column(name = "loan_date", nullable = false)
+    private LocalDate loanDate;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private LoanStatus status;
+
+    @Column(name = "extension_count", nullable = false)
+    private int extensionCount;
+
+    @Column(name = "returned_at")
+    private LocalDateTime returnedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    /**
+     * 반납 예정일보다 늦게 반납한 일수
+     */
+    public long getOverdueDays() {
+        if (returnedAt == null || !returnedAt.toLocalDate().isAfter(dueDate)) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(dueDate, returnedAt.toLocalDate());
+    }
+
+    public boolean isReturned() {
+        return status == LoanStatus.RETURNED;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ArchivedBookLoan that = (ArchivedBookLoan) o;
+
+        if (id == null || that.id == null) {
+            return false;
+        }
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,62 @@
+package com.bookworm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 보관된 대출 연장 이력 (읽기 전용)
+ * - 대출을 보관할 때 loan_extensions에서 함께 옮겨 온 행, ID는 원래 값 유지
+ */
+@Entity
+@Table(name = "loan_extensions_archive",
+        indexes = @Index(name = "idx_loan_extension_archive_loan", columnList = "loan_id, extension_no"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedLoanExtension {
+
+    @Id
+    private Long id;
+
+    @Column(name = "loan_id", nullable = false)
+    private Long loanId;
+
+    @Column(name = "extension_no", nullable = false)
+    private int extensionNo;
+
+    @Column(name = "extension_days", nullable = false)
+    private int extensionDays;
+
+    @Column(name = "previous_due_date", nullable = false)
+    private LocalDate previousDueDate;
+
+    @Column(name = "new_due_date", nullable = false)
+    private LocalDate newDueDate;
+
+    @Column(name = "extended_at", nullable = false)
+    private LocalDateTime extendedAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ArchivedLoanExtension that = (ArchivedLoanExtension) o;
+
+        if (id == null || that.id == null) {
+            return false;
+        }
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -1,6 +1,7 @@
 package com.bookworm.domain.entity;
 
 import com.bookworm.domain.common.AuditableBaseEntity;
+import com.bookworm.domain.common.EntityIdGenerator;
 import com.bookworm.domain.constant.BookStatus;
 import com.bookworm.domain.vo.book.BookLanguage;
 import com.bookworm.domain.vo.book.BookQuantity;
@@ -30,9 +31,13 @@ import java.util.Objects;
 @Builder(builderMethodName = "of")
 public class Book extends AuditableBaseEntity {
 
+    /**
+     * 생성 시점에 부여되는 시간 정렬 ID (영속화 전에도 equals/hashCode 안정)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(name = "id")
+    @Builder.Default
+    private Long id = EntityIdGenerator.nextId();
 
     @Embedded
     @AttributeOverride(name = "value", column = @Column(name = "title", nullable = false, length = 200))
@@ -213,7 +218,7 @@ public class Book extends AuditableBaseEntity {
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.bookworm.domain.entity;
 
 import com.bookworm.domain.common.AuditableBaseEntity;
+import com.bookworm.domain.common.EntityIdGenerator;
 import com.bookworm.domain.common.TimeProvider;
 import com.bookworm.domain.constant.LoanStatus;
 import com.bookworm.domain.exception.LoanBusinessException;
@@ -8,8 +9,10 @@ import com.bookworm.domain.vo.bookloan.LoanPeriod;
 import com.bookworm.domain.vo.bookloan.LoanQuantity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Objects;
 
 /**
@@ -20,10 +23,16 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "book_loans", indexes = {
-        @Index(name = "idx_loan_user", columnList = "user_id"),
-        @Index(name = "idx_loan_book", columnList = "book_id"),
-        @Index(name = "idx_loan_status", columnList = "status"),
-        @Index(name = "idx_loan_due_date", columnList = "due_date")
+        // 사용자별 대출/활성 대출 수/활성 대출 목록(반납 예정일 순)
+        @Index(name = "idx_loan_user_status_due", columnList = "user_id, status, due_date"),
+        // 도서별 대출/활성 대출
+        @Index(name = "idx_loan_book_status", columnList = "book_id, status"),
+        // 활성/연체/반납 예정 대출 (반납 예정일 순), 연체료 부과 구간
+        @Index(name = "idx_loan_status_due", columnList = "status, due_date"),
+        // 기간별 반납 통계
+        @Index(name = "idx_loan_status_returned_at", columnList = "status, returned_at"),
+        // 기간별 대출 건수/목록, 인기 도서 초기화
+        @Index(name = "idx_loan_loan_date", columnList = "loan_date")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,9 +40,13 @@ import java.util.Objects;
 @Builder(builderMethodName = "of")
 public class BookLoan extends AuditableBaseEntity {
 
+    /**
+     * 생성 시점에 부여되는 시간 정렬 ID (영속화 전에도 equals/hashCode 안정)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(name = "id")
+    @Builder.Default
+    private Long id = EntityIdGenerator.nextId();
 
     /**
      * 대출한 도서
@@ -60,6 +73,19 @@ public class BookLoan extends AuditableBaseEntity {
     @Column(nullable = false)
     private LoanStatus status;
 
+    /**
+     * 연장 횟수 (loan_extensions 이력 건수와 동일, 제한 검증 시 이력을 세지 않도록 비정규화)
+     */
+    @ColumnDefault("0")
+    @Column(name = "extension_count", nullable = false)
+    private int extensionCount;
+
+    /**
+     * 반납 일시 (반납 완료 시에만 기록, 기간별 반납 통계의 기준)
+     */
+    @Column(name = "returned_at")
+    private LocalDateTime returnedAt;
+
     @Version
     private Long version;
 
@@ -144,12 +170,14 @@ public class BookLoan extends AuditableBaseEntity {
 
         // 대출 상태를 반납 완료로 변경
         this.status = LoanStatus.RETURNED;
+        this.returnedAt = timeProvider != null ? timeProvider.currentDateTime() : LocalDateTime.now();
     }
 
     /**
      * 대출 연장
+     * - 연장 횟수는 @Version 낙관적 잠금과 함께 갱신되므로 동시 연장 시 한쪽만 성공
      */
-    public void extendLoan(int days) {
+    public void extendLoan(int days, int maxExtensionCount) {
         if (this.status != LoanStatus.ACTIVE) {
             throw new LoanBusinessException("활성 상태의 대출만 연장할 수 있습니다.");
         }
@@ -158,7 +186,13 @@ public class BookLoan extends AuditableBaseEntity {
             throw new LoanBusinessException("연체된 대출은 연장할 수 없습니다.");
         }
 
+        if (this.extensionCount >= maxExtensionCount) {
+            throw new LoanBusinessException(
+                    String.format("최대 %d회까지만 연장 가능합니다.", maxExtensionCount));
+        }
+
         this.loanPeriod = this.loanPeriod.extend(days);
+        this.extensionCount++;
     }
 
     /**
@@ -227,7 +261,7 @@ public class BookLoan extends AuditableBaseEntity {
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 
     @Override
@@ -0,0 +1,175 @@
+package com.bookworm.domain.entity;
+
+import com.bookworm.domain.common.AuditableBaseEntity;
+import com.bookworm.domain.constant.ReservationStatus;
+import com.bookworm.domain.exception.LibraryBusinessException;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 도서 예약(보관) 엔티티
+ * - 도서별 FIFO 대기열 (queued_at, id 순)
+ * - 재고가 반납되면 대기열 맨 앞 예약이 READY로 승격되어 일정 시간 보관
+ */
+@Entity
+@Table(name = "book_reservations", indexes = {
+        @Index(name = "idx_reservation_queue", columnList = "book_id, status, queued_at, id"),
+        @Index(name = "idx_reservation_user", columnList = "user_id, status")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(builderMethodName = "of")
+public class BookReservation extends AuditableBaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    private Book book;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReservationStatus status;
+
+    /**
+     * 대기열 진입 시각 (FIFO 순서 기준)
+     */
+    @Column(name = "queued_at", nullable = false)
+    private LocalDateTime queuedAt;
+
+    /**
+     * 보관 시작 시각 (READY 승격 시각)
+     */
+    @Column(name = "ready_at")
+    private LocalDateTime readyAt;
+
+    /**
+     * 보관 만료 시각
+     */
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    /**
+     * 종료 시각 (수령/취소/만료)
+     */
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
+    @Version
+    private Long version;
+
+    /**
+     * 새로운 예약 생성 (대기열 맨 뒤)
+     */
+    public static BookReservation create(Book book, User user, LocalDateTime now) {
+        if (book == null) {
+            throw new LibraryBusinessException("RESERVATION_INVALID", "예약할 도서는 필수입니다.");
+        }
+        if (user == null) {
+            throw new LibraryBusinessException("RESERVATION_INVALID", "예약자 정보는 필수입니다.");
+        }
+        if (!user.isActive()) {
+            throw new LibraryBusinessException("RESERVATION_INVALID", "비활성화된 사용자는 도서를 예약할 수 없습니다.");
+        }
+
+        return BookReservation.of()
+                .book(book)
+                .user(user)
+                .status(ReservationStatus.WAITING)
+                .queuedAt(now)
+                .build();
+    }
+
+    /**
+     * 보관 상태로 승격
+     */
+    public void markReady(LocalDateTime now, int holdHours) {
+        if (this.status != ReservationStatus.WAITING) {
+            throw new LibraryBusinessException("RESERVATION_INVALID_STATE", "대기 중인 예약만 보관 상태로 전환할 수 있습니다.");
+        }
+        this.status = ReservationStatus.READY;
+        this.readyAt = now;
+        this.expiresAt = now.plusHours(holdHours);
+    }
+
+    /**
+     * 예약 수령 (대출 완료)
+     */
+    public void fulfill(LocalDateTime now) {
+        if (!this.status.isOpen()) {
+            throw new LibraryBusinessException("RESERVATION_INVALID_STATE", "종료된 예약은 수령할 수 없습니다.");
+        }
+        close(ReservationStatus.FULFILLED, now);
+    }
+
+    /**
+     * 예약 취소
+     */
+    public void cancel(LocalDateTime now) {
+        if (!this.status.isOpen()) {
+            throw new LibraryBusinessException("RESERVATION_INVALID_STATE", "이미 종료된 예약입니다.");
+        }
+        close(ReservationStatus.CANCELLED, now);
+    }
+
+    /**
+     * 보관 기간 만료 처리
+     *
+     * @return 만료 처리되었으면 true (이미 수령/취소되었거나 아직 기한 전이면 false)
+     */
+    public boolean expireIfDue(LocalDateTime now) {
+        if (this.status != ReservationStatus.READY || now.isBefore(this.expiresAt)) {
+            return false;
+        }
+        close(ReservationStatus.EXPIRED, now);
+        return true;
+    }
+
+    public boolean isReady() {
+        return this.status == ReservationStatus.READY;
+    }
+
+    public boolean isOpen() {
+        return this.status.isOpen();
+    }
+
+    private void close(ReservationStatus closedStatus, LocalDateTime now) {
+        this.status = closedStatus;
+        this.closedAt = now;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        BookReservation that = (BookReservation) o;
+
+        if (id == null || that.id == null) {
+            return false;
+        }
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BookReservation{id=%d, status=%s, queuedAt=%s, expiresAt=%s}",
+                id, status, queuedAt, expiresAt);
+    }
+}
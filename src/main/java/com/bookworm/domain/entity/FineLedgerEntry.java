@@ -0,0 +1,101 @@
+package com.bookworm.domain.entity;
+
+import com.bookworm.domain.constant.FineEntryType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 연체료 원장 항목 (추가 전용)
+ * - 부과(ACCRUAL)는 대출 1건당 하루 1행, 야간 일괄 작업이 INSERT ... SELECT로 생성
+ * - amount는 잔액에 반영되는 부호를 포함한 금액 (부과 +, 납부/면제 -)
+ * - posted_at이 비어 있는 항목은 아직 사용자 잔액(user_fine_balances)에 반영되지 않은 항목
+ * - post_batch: 일괄 반영 시 선점 표시 (같은 번호의 항목만 합산해 잔액에 반영)
+ */
+@Entity
+@Table(name = "fine_ledger",
+        uniqueConstraints = @UniqueConstraint(name = "uk_fine_accrual",
+                columnNames = {"loan_id", "accrual_date", "entry_type"}),
+        indexes = {
+                @Index(name = "idx_fine_user", columnList = "user_id, accrual_date"),
+                @Index(name = "idx_fine_unposted", columnList = "posted_at, user_id"),
+                @Index(name = "idx_fine_post_batch", columnList = "post_batch, user_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(builderMethodName = "of")
+public class FineLedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "loan_id")
+    private Long loanId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 20)
+    private FineEntryType entryType;
+
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "posted_at")
+    private LocalDateTime postedAt;
+
+    @Column(name = "post_batch")
+    private Long postBatch;
+
+    /**
+     * 납부/면제 항목 생성 (즉시 잔액 반영)
+     */
+    public static FineLedgerEntry settlement(Long userId, FineEntryType type, long amount, LocalDateTime now) {
+        if (type == FineEntryType.ACCRUAL) {
+            throw new IllegalArgumentException("연체료 부과는 야간 일괄 작업으로만 생성됩니다.");
+        }
+        if (amount <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+
+        return FineLedgerEntry.of()
+                .userId(userId)
+                .accrualDate(now.toLocalDate())
+                .entryType(type)
+                .amount(type.getSign() * amount)
+                .createdAt(now)
+                .postedAt(now)
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        FineLedgerEntry that = (FineLedgerEntry) o;
+
+        if (id == null || that.id == null) {
+            return false;
+        }
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -0,0 +1,73 @@
+package com.bookworm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * 일별 대출/반납 집계 (롤업)
+ * - 대출/반납/연장 시점마다 증분 행(compacted = false)을 추가하고,
+ *   야간 작업이 지난 날짜의 행을 (일자, 유형, 언어)별 1행(compacted = true)으로 압축
+ * - 기간 통계는 book_loans 대신 이 테이블의 일자 범위를 합산
+ *
+ * 쓰기/집계는 LoanDailyStatsJdbcRepository가 담당하며, 엔티티는 스키마 정의 용도
+ */
+@Entity
+@Table(name = "loan_daily_stats", indexes = {
+        @Index(name = "idx_daily_stat_date", columnList = "stat_date, book_type, language")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LoanDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "book_type", nullable = false, length = 30)
+    private String bookType;
+
+    @Column(name = "language", nullable = false, length = 20)
+    private String language;
+
+    @Column(name = "loan_count", nullable = false)
+    private long loanCount;
+
+    @Column(name = "return_count", nullable = false)
+    private long returnCount;
+
+    @Column(name = "overdue_return_count", nullable = false)
+    private long overdueReturnCount;
+
+    @Column(name = "extension_count", nullable = false)
+    private long extensionCount;
+
+    @Column(name = "compacted", nullable = false)
+    private boolean compacted;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LoanDailyStat that = (LoanDailyStat) o;
+
+        if (id == null || that.id == null) {
+            return false;
+        }
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
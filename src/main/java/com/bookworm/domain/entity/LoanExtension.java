@@ -0,0 +1,84 @@
+package com.bookworm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 대출 연장 이력 엔티티
+ * - 연장 1회당 1행 (추가 전용)
+ * - 연장 횟수 제한 검증은 BookLoan.extensionCount로 처리하고, 이 테이블은 이력 조회용
+ */
+@Entity
+@Table(name = "loan_extensions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_loan_extension_no", columnNames = {"loan_id", "extension_no"}),
+        indexes = @Index(name = "idx_loan_extension_at", columnList = "extended_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(builderMethodName = "of")
+public class LoanExtension {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loan_id", nullable = false)
+    private BookLoan loan;
+
+    /**
+     * 몇 번째 연장인지 (1부터 시작)
+     */
+    @Column(name = "extension_no", nullable = false)
+    private int extensionNo;
+
+    @Column(name = "extension_days", nullable = false)
+    private int extensionDays;
+
+    @Column(name = "previous_due_date", nullable = false)
+    private LocalDate previousDueDate;
+
+    @Column(name = "new_due_date", nullable = false)
+    private LocalDate newDueDate;
+
+    @Column(name = "extended_at", nullable = false)
+    private LocalDateTime extendedAt;
+
+    /**
+     * 연장 처리 직후의 대출로부터 이력 생성
+     */
+    public static LoanExtension record(BookLoan loan, int extensionDays, LocalDate previousDueDate,
+                                       LocalDateTime extendedAt) {
+        return LoanExtension.of()
+                .loan(loan)
+                .extensionNo(loan.getExtensionCount())
+                .extensionDays(extensionDays)
+                .previousDueDate(previousDueDate)
+                .newDueDate(loan.getLoanPeriod().getDueDate())
+                .extendedAt(extendedAt)
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        LoanExtension that = (LoanExtension) o;
+
+        if (id == null || that.id == null) {
+            return false;
+        }
+
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
@@ -1,7 +1,7 @@
 package com.bookworm.domain.entity;
 
 import com.bookworm.domain.common.AuditableBaseEntity;
-import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.common.EntityIdGenerator;
 import com.bookworm.domain.constant.Role;
 import com.bookworm.domain.constant.UserStatus;
 import com.bookworm.domain.vo.user.*;
@@ -16,7 +16,9 @@ import java.util.Objects;
 @Entity
 @Table(name = "users", indexes = {
         @Index(name = "idx_user_email", columnList = "email"),
-        @Index(name = "idx_user_status", columnList = "status")
+        @Index(name = "idx_user_status", columnList = "status"),
+        @Index(name = "idx_user_search_name", columnList = "search_name"),
+        @Index(name = "idx_user_search_phone", columnList = "search_phone")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,9 +26,13 @@ import java.util.Objects;
 @Builder(builderMethodName = "of")
 public class User extends AuditableBaseEntity {
 
+    /**
+     * 생성 시점에 부여되는 시간 정렬 ID (영속화 전에도 equals/hashCode 안정)
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    @Column(name = "id")
+    @Builder.Default
+    private Long id = EntityIdGenerator.nextId();
 
     @Embedded
     private Email email;
@@ -54,9 +60,25 @@ public class User extends AuditableBaseEntity {
     @Column(nullable = false)
     private UserStatus status;
 
-    @Column(name = "last_login_date")
+    /**
+     * 마지막 로그인 시각 - LastLoginRecorder가 version 증가 없이 일괄 기록
+     * (엔티티 수정 시 읽어 둔 옛 값으로 덮어쓰지 않도록 UPDATE 대상에서 제외)
+     */
+    @Column(name = "last_login_date", updatable = false)
     private LocalDateTime lastLoginDate;
 
+    /**
+     * 검색용 정규화 이름 (소문자 전체 이름, 저장 시 자동 갱신)
+     */
+    @Column(name = "search_name", length = 120)
+    private String searchName;
+
+    /**
+     * 검색용 정규화 전화번호 (숫자만, 저장 시 자동 갱신)
+     */
+    @Column(name = "search_phone", length = 20)
+    private String searchPhone;
+
     @Version
     private Long version;
 
@@ -165,10 +187,10 @@ public class User extends AuditableBaseEntity {
     }
 
     /**
-     * 로그인 성공 기록
+     * 비밀번호 재해싱 (해싱 설정 변경 시 같은 평문을 새 설정으로 다시 암호화한 값으로 교체)
      */
-    public void recordLogin(TimeProvider timeProvider) {
-        this.lastLoginDate = timeProvider.currentDateTime();
+    public void rehashPassword(Password rehashedPassword) {
+        this.password = rehashedPassword;
     }
 
     /**
@@ -185,6 +207,16 @@ public class User extends AuditableBaseEntity {
         return this.role == Role.ADMIN;
     }
 
+    /**
+     * 검색 키 갱신 (이름/전화번호 변경이 있는 저장마다 실행)
+     */
+    @PrePersist
+    @PreUpdate
+    void refreshSearchKeys() {
+        this.searchName = UserSearchKeys.normalizeName(getFullName());
+        this.searchPhone = phoneNumber != null ? UserSearchKeys.normalizePhone(phoneNumber.getValue()) : null;
+    }
+
     /**
      * 전체 이름 반환
      */
@@ -217,7 +249,7 @@ public class User extends AuditableBaseEntity {
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hashCode(id);
     }
 
     @Override
@@ -0,0 +1,45 @@
+package com.bookworm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 연체료 잔액 (원장 집계)
+ * - 원장 항목이 반영될 때마다 누적 갱신 → 잔액 조회는 PK 단건 조회
+ */
+@Entity
+@Table(name = "user_fine_balances")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserFineBalance {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static UserFineBalance empty(Long userId, LocalDateTime now) {
+        UserFineBalance fineBalance = new UserFineBalance();
+        fineBalance.userId = userId;
+        fineBalance.balance = 0;
+        fineBalance.updatedAt = now;
+        return fineBalance;
+    }
+
+    /**
+     * 원장 항목 반영 (부호 포함 금액)
+     */
+    public void apply(long signedAmount, LocalDateTime now) {
+        this.balance += signedAmount;
+        this.updatedAt = now;
+    }
+}
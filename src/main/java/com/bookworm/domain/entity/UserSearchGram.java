@@ -0,0 +1,62 @@
+package com.bookworm.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 회원 검색용 2-gram/3-gram 색인
+ * - 정규화 이름/전화번호를 2글자, 3글자 단위로 잘라 (필드, gram, 회원) 한 행씩 저장
+ * - 부분 일치 검색은 검색어의 gram을 모두 가진 회원만 후보로 골라 LIKE로 확인
+ * - 행은 UserSearchIndexListener가 회원 저장과 같은 트랜잭션에서 JDBC로 갱신
+ */
+@Entity
+@Table(name = "user_search_grams",
+        indexes = @Index(name = "idx_user_search_gram_user", columnList = "user_id"))
+@IdClass(UserSearchGram.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserSearchGram {
+
+    /**
+     * 색인 대상 필드 (N: 이름, P: 전화번호)
+     */
+    @Id
+    @Column(name = "search_field", length = 1)
+    private String field;
+
+    @Id
+    @Column(name = "gram", length = 12)
+    private String gram;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private String field;
+        private String gram;
+        private Long userId;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return Objects.equals(field, key.field)
+                    && Objects.equals(gram, key.gram)
+                    && Objects.equals(userId, key.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, gram, userId);
+        }
+    }
+}
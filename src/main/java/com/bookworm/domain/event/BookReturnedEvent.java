@@ -0,0 +1,70 @@
+package com.bookworm.domain.event;
+
+import com.bookworm.domain.entity.BookLoan;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 도서 반납 이벤트
+ */
+@Getter
+public class BookReturnedEvent extends DomainEvent {
+    private final Long loanId;
+    private final Long bookId;
+    private final Long userId;
+    private final Integer quantity;
+    private final LocalDate dueDate;
+    private final boolean overdue;
+    private final long overdueDays;
+
+    @JsonCreator
+    public BookReturnedEvent(@JsonProperty("loanId") Long loanId,
+                             @JsonProperty("bookId") Long bookId,
+                             @JsonProperty("userId") Long userId,
+                             @JsonProperty("quantity") Integer quantity,
+                             @JsonProperty("dueDate") LocalDate dueDate,
+                             @JsonProperty("overdue") boolean overdue,
+                             @JsonProperty("overdueDays") long overdueDays,
+                             @JsonProperty("occurredAt") LocalDateTime occurredAt) {
+        super(occurredAt);
+        this.loanId = loanId;
+        this.bookId = bookId;
+        this.userId = userId;
+        this.quantity = quantity;
+        this.dueDate = dueDate;
+        this.overdue = overdue;
+        this.overdueDays = overdueDays;
+    }
+
+    /**
+     * 반납 처리 후의 대출로부터 이벤트 생성
+     * 반납 후에는 연체 여부가 바뀌므로 반납 전 상태를 함께 전달
+     */
+    public static BookReturnedEvent from(BookLoan loan, boolean wasOverdue, long overdueDays,
+                                         LocalDateTime occurredAt) {
+        return new BookReturnedEvent(
+                loan.getId(),
+                loan.getBook().getId(),
+                loan.getUser().getId(),
+                loan.getQuantity().getValue(),
+                loan.getLoanPeriod().getDueDate(),
+                wasOverdue,
+                overdueDays,
+                occurredAt
+        );
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "BookLoan";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return loanId;
+    }
+}
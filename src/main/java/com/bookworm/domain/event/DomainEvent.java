@@ -1,5 +1,6 @@
 package com.bookworm.domain.event;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -11,4 +12,16 @@ public abstract class DomainEvent {
     protected DomainEvent(LocalDateTime occurredAt) {
         this.occurredAt = occurredAt;
     }
-}
\ No newline at end of file
+
+    /**
+     * 이벤트가 속한 애그리거트 유형 (예: BookLoan, Book)
+     */
+    @JsonIgnore
+    public abstract String getAggregateType();
+
+    /**
+     * 이벤트가 속한 애그리거트 ID
+     */
+    @JsonIgnore
+    public abstract Long getAggregateId();
+}
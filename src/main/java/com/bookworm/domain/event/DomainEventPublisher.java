@@ -0,0 +1,14 @@
+package com.bookworm.domain.event;
+
+/**
+ * 도메인 이벤트 발행 계약
+ * - 구현체는 호출한 트랜잭션과 원자적으로 이벤트를 기록해야 함
+ * - 실제 후처리(감사, 알림, 통계)는 커밋 이후 비동기로 수행
+ */
+public interface DomainEventPublisher {
+
+    /**
+     * 현재 트랜잭션에 이벤트 기록
+     */
+    void publish(DomainEvent event);
+}
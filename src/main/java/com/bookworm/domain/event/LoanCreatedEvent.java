@@ -0,0 +1,61 @@
+package com.bookworm.domain.event;
+
+import com.bookworm.domain.entity.BookLoan;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대출 생성 이벤트
+ */
+@Getter
+public class LoanCreatedEvent extends DomainEvent {
+    private final Long loanId;
+    private final Long bookId;
+    private final Long userId;
+    private final Integer quantity;
+    private final LocalDate loanDate;
+    private final LocalDate dueDate;
+
+    @JsonCreator
+    public LoanCreatedEvent(@JsonProperty("loanId") Long loanId,
+                            @JsonProperty("bookId") Long bookId,
+                            @JsonProperty("userId") Long userId,
+                            @JsonProperty("quantity") Integer quantity,
+                            @JsonProperty("loanDate") LocalDate loanDate,
+                            @JsonProperty("dueDate") LocalDate dueDate,
+                            @JsonProperty("occurredAt") LocalDateTime occurredAt) {
+        super(occurredAt);
+        this.loanId = loanId;
+        this.bookId = bookId;
+        this.userId = userId;
+        this.quantity = quantity;
+        this.loanDate = loanDate;
+        this.dueDate = dueDate;
+    }
+
+    public static LoanCreatedEvent from(BookLoan loan, LocalDateTime occurredAt) {
+        return new LoanCreatedEvent(
+                loan.getId(),
+                loan.getBook().getId(),
+                loan.getUser().getId(),
+                loan.getQuantity().getValue(),
+                loan.getLoanPeriod().getLoanDate(),
+                loan.getLoanPeriod().getDueDate(),
+                occurredAt
+        );
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "BookLoan";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return loanId;
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookworm.domain.event;
+
+import com.bookworm.domain.entity.BookLoan;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 대출 연장 이벤트
+ */
+@Getter
+public class LoanExtendedEvent extends DomainEvent {
+    private final Long loanId;
+    private final Long bookId;
+    private final Long userId;
+    private final int extensionDays;
+    private final LocalDate newDueDate;
+
+    @JsonCreator
+    public LoanExtendedEvent(@JsonProperty("loanId") Long loanId,
+                             @JsonProperty("bookId") Long bookId,
+                             @JsonProperty("userId") Long userId,
+                             @JsonProperty("extensionDays") int extensionDays,
+                             @JsonProperty("newDueDate") LocalDate newDueDate,
+                             @JsonProperty("occurredAt") LocalDateTime occurredAt) {
+        super(occurredAt);
+        this.loanId = loanId;
+        this.bookId = bookId;
+        this.userId = userId;
+        this.extensionDays = extensionDays;
+        this.newDueDate = newDueDate;
+    }
+
+    public static LoanExtendedEvent from(BookLoan loan, int extensionDays, LocalDateTime occurredAt) {
+        return new LoanExtendedEvent(
+                loan.getId(),
+                loan.getBook().getId(),
+                loan.getUser().getId(),
+                extensionDays,
+                loan.getLoanPeriod().getDueDate(),
+                occurredAt
+        );
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "BookLoan";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return loanId;
+    }
+}
@@ -1,5 +1,7 @@
 package com.bookworm.domain.event;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -10,10 +12,24 @@ public class ReservationAvailableEvent extends DomainEvent {
     private final Long bookId;
     private final Long memberId;
 
-    public ReservationAvailableEvent(Long reservationId, Long bookId, Long memberId, LocalDateTime occurredAt) {
+    @JsonCreator
+    public ReservationAvailableEvent(@JsonProperty("reservationId") Long reservationId,
+                                     @JsonProperty("bookId") Long bookId,
+                                     @JsonProperty("memberId") Long memberId,
+                                     @JsonProperty("occurredAt") LocalDateTime occurredAt) {
         super(occurredAt);
         this.reservationId = reservationId;
         this.bookId = bookId;
         this.memberId = memberId;
     }
-}
\ No newline at end of file
+
+    @Override
+    public String getAggregateType() {
+        return "Reservation";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return reservationId;
+    }
+}
@@ -0,0 +1,54 @@
+package com.bookworm.domain.event;
+
+import com.bookworm.domain.entity.Book;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도서 재고 변경 이벤트
+ * - delta: 재고 변화량 (대출 시 음수, 반납/추가 시 양수)
+ * - quantity, status: 변경 후 재고와 상태
+ */
+@Getter
+public class StockChangedEvent extends DomainEvent {
+    private final Long bookId;
+    private final int delta;
+    private final Integer quantity;
+    private final String status;
+
+    @JsonCreator
+    public StockChangedEvent(@JsonProperty("bookId") Long bookId,
+                             @JsonProperty("delta") int delta,
+                             @JsonProperty("quantity") Integer quantity,
+                             @JsonProperty("status") String status,
+                             @JsonProperty("occurredAt") LocalDateTime occurredAt) {
+        super(occurredAt);
+        this.bookId = bookId;
+        this.delta = delta;
+        this.quantity = quantity;
+        this.status = status;
+    }
+
+    public static StockChangedEvent of(Book book, int delta, LocalDateTime occurredAt) {
+        return new StockChangedEvent(
+                book.getId(),
+                delta,
+                book.getQuantity().getValue(),
+                book.getStatus().name(),
+                occurredAt
+        );
+    }
+
+    @Override
+    public String getAggregateType() {
+        return "Book";
+    }
+
+    @Override
+    public Long getAggregateId() {
+        return bookId;
+    }
+}
@@ -38,6 +38,11 @@ public interface UserRepository {
      */
     Optional<User> findById(Long id);
 
+    /**
+     * ID 목록으로 User 조회 (순서 보장 안 함)
+     */
+    List<User> findAllById(List<Long> ids);
+
     /**
      * 이메일로 User 조회
      */
@@ -71,6 +76,12 @@ public interface UserRepository {
      */
     User save(User user);
 
+    /**
+     * 신규 User 즉시 저장 (INSERT를 바로 실행)
+     * - 이메일 유니크 제약 위반은 DuplicateUserException으로 변환 (중복 확인과 저장 사이 동시 가입)
+     */
+    User saveAndFlush(User user);
+
     /**
      * User 삭제
      */
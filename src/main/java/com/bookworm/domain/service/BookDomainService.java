@@ -28,19 +28,28 @@ public class BookDomainService {
 
     private final BookRepository bookRepository;
 
+    /**
+     * 도서 등록 결과
+     *
+     * @param book            등록된 도서 (중복이면 수량이 늘어난 기존 도서)
+     * @param addedToExisting 기존 도서에 더한 수량 (새 도서면 0) - 호출자가 재고 증가 후속 처리에 사용
+     */
+    public record Registration(Book book, int addedToExisting) {
+    }
+
     /**
      * 새로운 도서 등록
      * - 중복 도서 확인
      * - 중복 시 기존 도서 수량 증가 또는 새 도서 등록
      */
-    public Book registerNewBook(BookTitle title, BookLanguage language, BookType type,
+    public Registration registerNewBook(BookTitle title, BookLanguage language, BookType type,
                                 BookQuantity quantity, User registeredBy) {
 
         // 중복 도서 확인
         Optional<Book> existingBook = bookRepository.findSameBook(title, language, type);
 
         if (existingBook.isPresent()) {
-            return handleDuplicateBook(existingBook.get(), quantity);
+            return new Registration(handleDuplicateBook(existingBook.get(), quantity), quantity.getValue());
         }
 
         // 새로운 도서 생성
@@ -50,7 +59,7 @@ public class BookDomainService {
         log.info("새로운 도서 등록 완료 - ID: {}, 제목: {}, 수량: {}",
                 savedBook.getId(), title.getValue(), quantity.getValue());
 
-        return savedBook;
+        return new Registration(savedBook, 0);
     }
 
     /**
@@ -0,0 +1,38 @@
+package com.bookworm.domain.vo.user;
+
+import java.util.Locale;
+
+/**
+ * 회원 검색 키 정규화
+ * - 이름: 소문자 + 연속 공백을 한 칸으로 ("Gil Dong  HONG" → "gil dong hong")
+ * - 전화번호: 숫자만 ("010-1234-5678" → "01012345678")
+ * - 저장 시(User)와 검색어 처리 시 같은 규칙을 써야 인덱스 검색 결과가 일치
+ */
+public final class UserSearchKeys {
+
+    private UserSearchKeys() {
+    }
+
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String normalized = name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    public static String normalizePhone(String phoneNumber) {
+        if (phoneNumber == null) {
+            return null;
+        }
+        String digits = phoneNumber.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : digits;
+    }
+
+    /**
+     * 숫자, 공백, 하이픈만으로 이루어진 검색어면 전화번호 검색으로 취급
+     */
+    public static boolean looksLikePhone(String query) {
+        return query != null && query.matches("[0-9\\s-]+") && normalizePhone(query) != null;
+    }
+}
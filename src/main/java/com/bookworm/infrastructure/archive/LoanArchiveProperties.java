@@ -0,0 +1,45 @@
+package com.bookworm.infrastructure.archive;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.archive")
+@Validated
+@Getter @Setter
+public class LoanArchiveProperties {
+
+    private boolean enabled = true;
+
+    @NotBlank(message = "보관 작업 cron 식은 필수입니다")
+    private String cron = "0 0 2 * * *";
+
+    /**
+     * 반납/취소 후 보관 테이블로 옮기기까지의 일수
+     * - 블랙리스트 판정이 최근 3개월 대출 이력을 보므로 90일 미만은 허용하지 않음
+     */
+    @Min(value = 90, message = "보관 기준 일수는 90일 이상이어야 합니다")
+    private int retentionDays = 180;
+
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    @Max(value = 5000, message = "배치 크기는 5000을 초과할 수 없습니다")
+    private int batchSize = 500;
+
+    /**
+     * 배치 사이 대기 시간 (운영 트래픽과 잠금 경합 완화)
+     */
+    @Min(value = 0, message = "배치 간 대기 시간은 0 이상이어야 합니다")
+    private long pauseMs = 200;
+
+    /**
+     * 1회 실행당 최대 배치 수 (남은 대상은 다음 실행에서 처리)
+     */
+    @Min(value = 1, message = "실행당 배치 수는 1 이상이어야 합니다")
+    private int maxBatchesPerRun = 2000;
+}
@@ -0,0 +1,107 @@
+package com.bookworm.infrastructure.archive;
+
+import com.bookworm.domain.constant.LoanStatus;
+import com.bookworm.infrastructure.changefeed.EntityChange;
+import com.bookworm.infrastructure.changefeed.EntityChangeLogRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대출 보관 저장소 (book_loans → book_loans_archive)
+ *
+ * - 감사 컬럼명이 프로파일마다 달라(camelCase/snake_case) 네이티브 SQL 대신 HQL INSERT ... SELECT 사용
+ * - 한 배치 = 보관 테이블 복사 → 연장 이력 삭제 → 대출 삭제 (loan_extensions FK 때문에 순서 고정)
+ * - 복사와 삭제 모두 상태 조건을 다시 걸어, ID 조회 이후 상태가 바뀐 행은 건드리지 않음
+ * - 벌크 삭제는 엔티티 리스너를 거치지 않으므로 삭제 직전 같은 트랜잭션에서 변경 이력(LOAN DELETE)을 직접 기록
+ *   → 변경 피드와 대출 목록 ETag에 보관 이동이 반영됨
+ */
+@Repository
+public class LoanArchiveRepository {
+
+    private static final List<LoanStatus> ARCHIVABLE_STATUSES = List.of(LoanStatus.RETURNED, LoanStatus.CANCELLED);
+    private static final List<String> ARCHIVABLE_STATUS_NAMES = ARCHIVABLE_STATUSES.stream().map(Enum::name).toList();
+
+    private static final String FIND_ARCHIVABLE_IDS =
+            "select bl.id from BookLoan bl " +
+            "where bl.status in :statuses and coalesce(bl.returnedAt, bl.updatedAt) < :cutoff " +
+            "and bl.id > :afterId order by bl.id";
+
+    private static final String COPY_LOANS =
+            "insert into ArchivedBookLoan (id, bookId, userId, quantity, loanDate, dueDate, status, " +
+            "extensionCount, returnedAt, createdAt, updatedAt, archivedAt) " +
+            "select bl.id, bl.book.id, bl.user.id, bl.quantity.value, bl.loanPeriod.loanDate, " +
+            "bl.loanPeriod.dueDate, bl.status, bl.extensionCount, bl.returnedAt, bl.createdAt, bl.updatedAt, :now " +
+            "from BookLoan bl where bl.id in :ids and bl.status in :statuses";
+
+    private static final String COPY_EXTENSIONS =
+            "insert into ArchivedLoanExtension (id, loanId, extensionNo, extensionDays, previousDueDate, " +
+            "newDueDate, extendedAt) " +
+            "select e.id, e.loan.id, e.extensionNo, e.extensionDays, e.previousDueDate, e.newDueDate, e.extendedAt " +
+            "from LoanExtension e where e.loan.id in " +
+            "(select bl.id from BookLoan bl where bl.id in :ids and bl.status in :statuses)";
+
+    private static final String DELETE_EXTENSIONS =
+            "delete from LoanExtension e where e.loan.id in " +
+            "(select bl.id from BookLoan bl where bl.id in :ids and bl.status in :statuses)";
+
+    private static final String DELETE_LOANS =
+            "delete from BookLoan bl where bl.id in :ids and bl.status in :statuses";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * cutoff 이전에 종료된 대출 ID를 afterId 다음부터 limit건 조회 (키셋 페이지네이션)
+     */
+    public List<Long> findArchivableIds(LocalDateTime cutoff, long afterId, int limit) {
+        return entityManager.createQuery(FIND_ARCHIVABLE_IDS, Long.class)
+                .setParameter("statuses", ARCHIVABLE_STATUSES)
+                .setParameter("cutoff", cutoff)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * 한 배치를 보관 테이블로 이동 (호출 측 트랜잭션 필요)
+     *
+     * @return 이동한 대출 수
+     */
+    public int moveToArchive(List<Long> ids, LocalDateTime now) {
+        entityManager.createQuery(COPY_EXTENSIONS)
+                .setParameter("ids", ids)
+                .setParameter("statuses", ARCHIVABLE_STATUSES)
+                .executeUpdate();
+
+        int copied = entityManager.createQuery(COPY_LOANS)
+                .setParameter("ids", ids)
+                .setParameter("statuses", ARCHIVABLE_STATUSES)
+                .setParameter("now", now)
+                .executeUpdate();
+
+        entityManager.unwrap(Session.class).doWork(connection ->
+                EntityChangeLogRepository.recordLoans(connection, ids, ARCHIVABLE_STATUS_NAMES,
+                        EntityChange.ChangeType.DELETE));
+
+        entityManager.createQuery(DELETE_EXTENSIONS)
+                .setParameter("ids", ids)
+                .setParameter("statuses", ARCHIVABLE_STATUSES)
+                .executeUpdate();
+
+        int deleted = entityManager.createQuery(DELETE_LOANS)
+                .setParameter("ids", ids)
+                .setParameter("statuses", ARCHIVABLE_STATUSES)
+                .executeUpdate();
+
+        if (copied != deleted) {
+            throw new IllegalStateException(
+                    String.format("보관 복사 건수(%d)와 삭제 건수(%d)가 다릅니다.", copied, deleted));
+        }
+        return deleted;
+    }
+}
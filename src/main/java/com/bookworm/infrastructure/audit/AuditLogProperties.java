@@ -0,0 +1,39 @@
+package com.bookworm.infrastructure.audit;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.audit")
+@Validated
+@Getter @Setter
+public class AuditLogProperties {
+
+    @Min(value = 64, message = "감사 버퍼 크기는 최소 64 이상이어야 합니다")
+    private int bufferCapacity = 16384;
+
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    @Max(value = 5000, message = "배치 크기는 5,000을 초과할 수 없습니다")
+    private int batchSize = 500;
+
+    @Min(value = 1, message = "플러시 간격은 최소 1ms 이상이어야 합니다")
+    private long flushIntervalMs = 5;
+
+    /**
+     * 버퍼 포화 시 생산자가 빈 슬롯을 기다리는 최대 시간
+     */
+    @Min(value = 0, message = "대기 시간은 0 이상이어야 합니다")
+    private long offerTimeoutMs = 50;
+
+    /**
+     * 미리 만들어 둘 미래 월 파티션 수
+     */
+    @Min(value = 1, message = "미리 생성할 파티션 수는 1 이상이어야 합니다")
+    @Max(value = 24, message = "미리 생성할 파티션 수는 24를 초과할 수 없습니다")
+    private int partitionsAhead = 3;
+}
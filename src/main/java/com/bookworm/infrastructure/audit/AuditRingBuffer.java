@@ -0,0 +1,83 @@
+package com.bookworm.infrastructure.audit;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 다중 생산자 / 단일 소비자 고정 크기 링 버퍼
+ *
+ * 원리:
+ * 1. 생산자는 CAS로 시퀀스를 하나 확보한 뒤 해당 슬롯에 기록 (잠금 없음)
+ * 2. 소비자는 슬롯이 채워진 구간까지만 순서대로 꺼내고 슬롯을 비운 뒤 소비 시퀀스 전진
+ * 3. 확보했지만 아직 기록되지 않은 슬롯에서 소비는 멈추고 다음 턴에 이어서 처리
+ */
+class AuditRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong producerSequence = new AtomicLong();
+    private volatile long consumerSequence = 0;
+
+    AuditRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("버퍼 크기는 2 이상이어야 합니다.");
+        }
+        this.capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * 항목 추가 (버퍼가 가득 차면 false)
+     */
+    boolean offer(T item) {
+        while (true) {
+            long sequence = producerSequence.get();
+            if (sequence - consumerSequence >= capacity) {
+                return false;
+            }
+            if (producerSequence.compareAndSet(sequence, sequence + 1)) {
+                slots.set((int) (sequence & mask), item);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 최대 maxItems개를 순서대로 꺼냄 (소비자 스레드 전용)
+     */
+    int drainTo(List<T> target, int maxItems) {
+        long sequence = consumerSequence;
+        int drained = 0;
+
+        while (drained < maxItems) {
+            int index = (int) (sequence & mask);
+            T item = slots.get(index);
+            if (item == null) {
+                break;
+            }
+            slots.set(index, null);
+            target.add(item);
+            sequence++;
+            drained++;
+        }
+
+        consumerSequence = sequence;
+        return drained;
+    }
+
+    int size() {
+        return (int) Math.max(0, producerSequence.get() - consumerSequence);
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,149 @@
+package com.bookworm.infrastructure.audit;
+
+import com.bookworm.application.dto.LoanAuditLogResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대출 감사 로그 저장소 (JDBC)
+ * - 추가(INSERT)와 조회만 제공하는 추가 전용 저장소
+ * - 조회 시 audit_month 조건을 함께 걸어 월 파티션 프루닝 유도
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class LoanAuditLogRepository {
+
+    static final String TABLE = "loan_audit_log";
+
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE +
+            " (audit_month, event_type, loan_id, user_id, book_id, performed_by, details, occurred_at)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, event_type, loan_id, user_id, book_id, performed_by, details, occurred_at FROM " + TABLE;
+
+    private static final RowMapper<LoanAuditLogResponse> ROW_MAPPER = (rs, rowNum) -> new LoanAuditLogResponse(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getObject("loan_id", Long.class),
+            rs.getObject("user_id", Long.class),
+            rs.getObject("book_id", Long.class),
+            rs.getString("performed_by"),
+            rs.getString("details"),
+            rs.getTimestamp("occurred_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 감사 로그 일괄 INSERT (기록 스레드 전용)
+     */
+    public void insertBatch(List<LoanAuditRecord> records) {
+        List<String> details = new ArrayList<>(records.size());
+        for (LoanAuditRecord record : records) {
+            details.add(toJson(record));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                LoanAuditRecord record = records.get(i);
+                ps.setInt(1, record.auditMonth());
+                ps.setString(2, record.eventType());
+                setNullableLong(ps, 3, record.loanId());
+                setNullableLong(ps, 4, record.userId());
+                setNullableLong(ps, 5, record.bookId());
+                ps.setString(6, record.performedBy());
+                ps.setString(7, details.get(i));
+                ps.setTimestamp(8, Timestamp.valueOf(record.occurredAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return records.size();
+            }
+        });
+    }
+
+    /**
+     * 대출별 감사 로그 조회 (최신순)
+     */
+    public List<LoanAuditLogResponse> findByLoanId(Long loanId, int limit) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + " WHERE loan_id = ? ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                ROW_MAPPER, loanId, limit);
+    }
+
+    /**
+     * 사용자별 감사 로그 조회 (기간, 최신순)
+     */
+    public List<LoanAuditLogResponse> findByUserId(Long userId, LocalDateTime from, LocalDateTime to, int limit) {
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + " WHERE user_id = ? AND audit_month BETWEEN ? AND ?" +
+                        " AND occurred_at >= ? AND occurred_at < ?" +
+                        " ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                ROW_MAPPER, userId, monthOf(from), monthOf(to),
+                Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+    }
+
+    /**
+     * 기간별 감사 로그 조회 (이벤트 유형 선택, 최신순)
+     */
+    public List<LoanAuditLogResponse> findByPeriod(LocalDateTime from, LocalDateTime to, String eventType, int limit) {
+        if (eventType == null) {
+            return jdbcTemplate.query(
+                    SELECT_COLUMNS + " WHERE audit_month BETWEEN ? AND ?" +
+                            " AND occurred_at >= ? AND occurred_at < ?" +
+                            " ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                    ROW_MAPPER, monthOf(from), monthOf(to),
+                    Timestamp.valueOf(from), Timestamp.valueOf(to), limit);
+        }
+
+        return jdbcTemplate.query(
+                SELECT_COLUMNS + " WHERE audit_month BETWEEN ? AND ?" +
+                        " AND occurred_at >= ? AND occurred_at < ? AND event_type = ?" +
+                        " ORDER BY occurred_at DESC, id DESC LIMIT ?",
+                ROW_MAPPER, monthOf(from), monthOf(to),
+                Timestamp.valueOf(from), Timestamp.valueOf(to), eventType, limit);
+    }
+
+    private String toJson(LoanAuditRecord record) {
+        if (record.details() == null || record.details().isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(record.details());
+        } catch (JsonProcessingException e) {
+            log.warn("감사 로그 상세 직렬화 실패 - 유형: {}, 대출 ID: {}", record.eventType(), record.loanId(), e);
+            return null;
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static int monthOf(LocalDateTime dateTime) {
+        return dateTime.getYear() * 100 + dateTime.getMonthValue();
+    }
+}
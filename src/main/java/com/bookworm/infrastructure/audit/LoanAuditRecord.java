@@ -0,0 +1,33 @@
+package com.bookworm.infrastructure.audit;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 감사 로그 한 건
+ * - 식별자(대출/사용자/도서)는 조회용 컬럼으로, 나머지 정보는 details(JSON)로 저장
+ * - details 직렬화는 기록 스레드에서 수행하여 호출 경로 비용 최소화
+ */
+public record LoanAuditRecord(
+        String eventType,
+        Long loanId,
+        Long userId,
+        Long bookId,
+        String performedBy,
+        Map<String, Object> details,
+        LocalDateTime occurredAt
+) {
+
+    public static LoanAuditRecord of(String eventType, Long loanId, Long userId, Long bookId,
+                                     String performedBy, Map<String, Object> details) {
+        return new LoanAuditRecord(eventType, loanId, userId, bookId,
+                performedBy != null ? performedBy : "SYSTEM", details, LocalDateTime.now());
+    }
+
+    /**
+     * 파티션 키 (yyyyMM)
+     */
+    public int auditMonth() {
+        return occurredAt.getYear() * 100 + occurredAt.getMonthValue();
+    }
+}
@@ -0,0 +1,126 @@
+package com.bookworm.infrastructure.audit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 감사 로그 테이블 스키마 관리
+ *
+ * - MySQL: audit_month(yyyyMM) 기준 RANGE 파티션, 매월 미래 파티션을 미리 생성
+ *   (오래된 감사 로그는 행 삭제 대신 DROP PARTITION으로 정리)
+ * - 그 외(H2 등): 파티션 없는 동일 구조 테이블
+ *
+ * JPA 엔티티로 관리하지 않으므로 ddl-auto와 무관하게 직접 생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanAuditSchemaManager {
+
+    private static final String TABLE = LoanAuditLogRepository.TABLE;
+    private static final String FUTURE_PARTITION = "p_future";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditLogProperties properties;
+
+    /**
+     * 테이블이 없으면 생성
+     */
+    public void initializeSchema() {
+        if (isMySql()) {
+            jdbcTemplate.execute(mySqlCreateTable(YearMonth.now()));
+            ensureFuturePartitions();
+        } else {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                    " id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+                    " audit_month INT NOT NULL," +
+                    " event_type VARCHAR(40) NOT NULL," +
+                    " loan_id BIGINT," +
+                    " user_id BIGINT," +
+                    " book_id BIGINT," +
+                    " performed_by VARCHAR(100) NOT NULL," +
+                    " details CLOB," +
+                    " occurred_at TIMESTAMP(6) NOT NULL)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_audit_loan ON " + TABLE + " (loan_id, occurred_at)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_audit_user ON " + TABLE + " (user_id, occurred_at)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_audit_month ON " + TABLE + " (audit_month, occurred_at)");
+        }
+        log.info("감사 로그 테이블 준비 완료: {}", TABLE);
+    }
+
+    /**
+     * 미래 월 파티션 생성 (매월 1일 새벽 3시)
+     * - p_future를 쪼개어 아직 없는 월 파티션 추가
+     */
+    @Scheduled(cron = "0 0 3 1 * *")
+    public void ensureFuturePartitions() {
+        if (!isMySql()) {
+            return;
+        }
+
+        try {
+            List<String> existing = jdbcTemplate.queryForList(
+                    "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                    String.class, TABLE);
+
+            YearMonth month = YearMonth.now();
+            for (int i = 0; i <= properties.getPartitionsAhead(); i++, month = month.plusMonths(1)) {
+                String name = partitionName(month);
+                if (existing.contains(name)) {
+                    continue;
+                }
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                        partitionDefinition(month) + ", " +
+                        "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)");
+                log.info("감사 로그 파티션 추가: {}", name);
+            }
+        } catch (Exception e) {
+            log.error("감사 로그 파티션 생성 실패", e);
+        }
+    }
+
+    private String mySqlCreateTable(YearMonth current) {
+        return "CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                " id BIGINT NOT NULL AUTO_INCREMENT," +
+                " audit_month INT NOT NULL," +
+                " event_type VARCHAR(40) NOT NULL," +
+                " loan_id BIGINT NULL," +
+                " user_id BIGINT NULL," +
+                " book_id BIGINT NULL," +
+                " performed_by VARCHAR(100) NOT NULL," +
+                " details TEXT NULL," +
+                " occurred_at DATETIME(6) NOT NULL," +
+                " PRIMARY KEY (id, audit_month)," +
+                " KEY idx_audit_loan (loan_id, occurred_at)," +
+                " KEY idx_audit_user (user_id, occurred_at)," +
+                " KEY idx_audit_month (audit_month, occurred_at)" +
+                ") ENGINE=InnoDB" +
+                " PARTITION BY RANGE (audit_month) (" +
+                partitionDefinition(current) + ", " +
+                "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)";
+    }
+
+    private static String partitionDefinition(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        return "PARTITION " + partitionName(month) +
+                " VALUES LESS THAN (" + (next.getYear() * 100 + next.getMonthValue()) + ")";
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+}
@@ -0,0 +1,179 @@
+package com.bookworm.infrastructure.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 그룹 커밋 기록기
+ *
+ * 원리:
+ * 1. 호출 스레드는 링 버퍼에 레코드만 넣고 즉시 반환 (마이크로초 단위)
+ * 2. 단일 기록 스레드가 batchSize건이 모이거나 flushInterval이 지나면 JDBC 배치로 INSERT
+ * 3. 종료 시 웹 서버가 멈춘 뒤 버퍼에 남은 레코드를 모두 기록하고 종료
+ *
+ * 버퍼 포화 시 offerTimeout 동안 빈 슬롯을 기다리고, 그래도 실패하면 애플리케이션 로그로 남김
+ */
+@Component
+@Slf4j
+public class LoanAuditWriter implements SmartLifecycle {
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final LoanAuditLogRepository loanAuditLogRepository;
+    private final LoanAuditSchemaManager loanAuditSchemaManager;
+    private final AuditRingBuffer<LoanAuditRecord> buffer;
+
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private volatile boolean running = false;
+    private volatile Thread writerThread;
+
+    public LoanAuditWriter(LoanAuditLogRepository loanAuditLogRepository,
+                           LoanAuditSchemaManager loanAuditSchemaManager,
+                           AuditLogProperties properties) {
+        this.loanAuditLogRepository = loanAuditLogRepository;
+        this.loanAuditSchemaManager = loanAuditSchemaManager;
+        this.buffer = new AuditRingBuffer<>(properties.getBufferCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs());
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getOfferTimeoutMs());
+    }
+
+    /**
+     * 감사 레코드 추가 (호출 스레드에서 실행)
+     */
+    public void append(LoanAuditRecord record) {
+        if (buffer.offer(record)) {
+            if (buffer.size() >= batchSize) {
+                wakeUpWriter();
+            }
+            return;
+        }
+
+        // 버퍼 포화: 기록 스레드를 깨우고 잠시 대기
+        wakeUpWriter();
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(50_000);
+            if (buffer.offer(record)) {
+                return;
+            }
+        }
+
+        droppedCount.incrementAndGet();
+        log.warn("감사 로그 버퍼 포화로 저장하지 못한 레코드: {}", record);
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        loanAuditSchemaManager.initializeSchema();
+
+        running = true;
+        Thread thread = new Thread(this::runWriterLoop, "loan-audit-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+
+        log.info("감사 로그 기록기 시작 - 버퍼: {}, 배치: {}", buffer.capacity(), batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread == null) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("감사 로그 기록기 종료 - 기록: {}건, 유실: {}건, 미기록: {}건",
+                writtenCount.get(), droppedCount.get(), buffer.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 종료 (종료 직전 요청의 감사 로그까지 기록)
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    // ==================== 기록 스레드 ====================
+
+    private void runWriterLoop() {
+        List<LoanAuditRecord> batch = new ArrayList<>(batchSize);
+
+        while (running || !buffer.isEmpty()) {
+            int drained = buffer.drainTo(batch, batchSize);
+
+            if (drained > 0) {
+                write(batch);
+                batch.clear();
+            }
+
+            // 배치가 가득 차지 않았으면 다음 그룹이 모일 때까지 대기
+            if (drained < batchSize && running) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+    }
+
+    private void write(List<LoanAuditRecord> batch) {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                loanAuditLogRepository.insertBatch(batch);
+                writtenCount.addAndGet(batch.size());
+                return;
+            } catch (Exception e) {
+                log.warn("감사 로그 배치 기록 실패 ({}/{}) - {}건", attempt, MAX_WRITE_ATTEMPTS, batch.size(), e);
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100L * attempt));
+            }
+        }
+
+        droppedCount.addAndGet(batch.size());
+        batch.forEach(record -> log.error("저장하지 못한 감사 로그: {}", record));
+    }
+
+    private void wakeUpWriter() {
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bookworm.infrastructure.changefeed;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.change-feed")
+@Validated
+@Getter @Setter
+public class ChangeFeedProperties {
+
+    /**
+     * 변경 이력 보관 기간 (일) - 이보다 오래된 토큰은 전체 재조회 필요
+     */
+    @Min(value = 1, message = "보관 기간은 최소 1일 이상이어야 합니다")
+    private int retentionDays = 7;
+
+    /**
+     * 순번 공백 판단 여유 시간 (밀리초) - 공백 기준 시각 = min(DB 현재, 진행 중 최고령 트랜잭션 시작) - 이 값
+     * - MySQL은 진행 중 트랜잭션을 함께 보므로 한 INSERT 문 실행 시간보다 길면 충분
+     * - 진행 중 트랜잭션을 조회할 수 없는 환경(H2, PROCESS 권한 없음)에서는 가장 긴 쓰기 트랜잭션보다 길게 설정
+     */
+    @Min(value = 0, message = "공백 대기 시간은 0 이상이어야 합니다")
+    @Max(value = 600_000, message = "공백 대기 시간은 600000ms를 초과할 수 없습니다")
+    private long gapGraceMs = 10_000;
+
+    /**
+     * 한 번에 읽는 최대 변경 건수
+     */
+    @Min(value = 1, message = "최대 조회 건수는 1 이상이어야 합니다")
+    @Max(value = 10_000, message = "최대 조회 건수는 10000을 초과할 수 없습니다")
+    private int maxPageSize = 1000;
+
+    /**
+     * 오래된 변경 이력 정리 주기
+     */
+    private String cleanupCron = "0 30 3 * * *";
+}
@@ -0,0 +1,30 @@
+package com.bookworm.infrastructure.changefeed;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이력 1건 (sequence = entity_changes.id)
+ */
+public record EntityChange(
+        long sequence,
+        EntityType entityType,
+        long entityId,
+        ChangeType changeType,
+        LocalDateTime changedAt
+) {
+
+    public enum EntityType {
+        BOOK,
+        LOAN
+    }
+
+    /**
+     * 변경 유형 - 피드 응답에서는 INSERT도 UPSERT와 같이 현재 값으로 내려감
+     * (INSERT는 새 대출 집계처럼 "처음 생긴 행"만 골라야 하는 소비자용)
+     */
+    public enum ChangeType {
+        INSERT,
+        UPSERT,
+        DELETE
+    }
+}
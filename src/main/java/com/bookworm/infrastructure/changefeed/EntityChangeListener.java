@@ -0,0 +1,79 @@
+package com.bookworm.infrastructure.changefeed;
+
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.entity.BookLoan;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서/대출 저장 리스너 → 변경 이력 기록
+ *
+ * - 엔티티 INSERT/UPDATE/DELETE와 같은 커넥션·트랜잭션에서 실행되므로 롤백 시 이력도 함께 롤백
+ * - JDBC로 직접 수행하는 일괄 작업(합성 데이터 생성)은 기록되지 않음
+ * - 대출 보관 이동(JPQL 벌크 삭제)은 LoanArchiveRepository가 직접 기록
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangeListener implements PostInsertEventListener,
+        PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), EntityChange.ChangeType.INSERT);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), EntityChange.ChangeType.UPSERT);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getSession(), event.getEntity(), event.getId(), EntityChange.ChangeType.DELETE);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(EventSource session, Object entity, Object id, EntityChange.ChangeType changeType) {
+        EntityChange.EntityType entityType = entityTypeOf(entity);
+        if (entityType == null) {
+            return;
+        }
+
+        long entityId = (Long) id;
+        session.doWork(connection ->
+                EntityChangeLogRepository.record(connection, entityType, entityId, changeType));
+    }
+
+    private static EntityChange.EntityType entityTypeOf(Object entity) {
+        if (entity instanceof Book) {
+            return EntityChange.EntityType.BOOK;
+        }
+        if (entity instanceof BookLoan) {
+            return EntityChange.EntityType.LOAN;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,224 @@
+package com.bookworm.infrastructure.changefeed;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 도서/대출 변경 이력 저장소 (JDBC)
+ *
+ * - 기록은 엔티티 변경과 같은 커넥션·트랜잭션에서 실행 (EntityChangeListener) → 롤백 시 이력도 함께 롤백
+ * - changed_at은 DB 시계(LOCALTIMESTAMP)로 기록 - 인스턴스마다 다른 JVM 시계에 영향받지 않음
+ * - 조회는 순번(PK) 범위 스캔
+ * - 정리 시 유형별 가장 최근 행은 남겨 둠
+ *   (재시작 후에도 AUTO_INCREMENT가 되돌아가지 않고, 유형별 최대 순번을 쓰는 ETag도 뒤로 가지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+@Slf4j
+public class EntityChangeLogRepository {
+
+    private static final String TABLE = EntityChangeSchemaManager.TABLE;
+
+    private static final String INSERT_SQL = "INSERT INTO " + TABLE +
+            " (entity_type, entity_id, change_type, changed_at) VALUES (?, ?, ?, LOCALTIMESTAMP(6))";
+
+    private static final String SELECT_AFTER = "SELECT id, entity_type, entity_id, change_type, changed_at FROM " +
+            TABLE + " WHERE id > ? ORDER BY id LIMIT ?";
+
+    private static final String INSERT_SELECT_LOANS = "INSERT INTO " + TABLE +
+            " (entity_type, entity_id, change_type, changed_at) SELECT ?, id, ?, LOCALTIMESTAMP(6) FROM book_loans WHERE id IN (%s) AND status IN (%s)";
+
+    private static final String SELECT_MAX_BY_TYPE = "SELECT MAX(id) FROM " + TABLE + " WHERE entity_type = ?";
+
+    private static final String COUNT_BY_TYPE_AFTER = "SELECT COUNT(*) FROM " + TABLE +
+            " WHERE entity_type = ? AND id > ?";
+
+    private static final String SELECT_ENTITY_IDS_AFTER = "SELECT entity_id FROM " + TABLE +
+            " WHERE entity_type = ? AND id > ? AND change_type = ?";
+
+    private static final String SELECT_DB_NOW = "SELECT LOCALTIMESTAMP(6)";
+
+    private static final String SELECT_OLDEST_ACTIVE_TRANSACTION =
+            "SELECT MIN(trx_started) FROM information_schema.innodb_trx";
+
+    private static final RowMapper<EntityChange> ROW_MAPPER = (rs, rowNum) -> new EntityChange(
+            rs.getLong("id"),
+            EntityChange.EntityType.valueOf(rs.getString("entity_type")),
+            rs.getLong("entity_id"),
+            EntityChange.ChangeType.valueOf(rs.getString("change_type")),
+            rs.getTimestamp("changed_at").toLocalDateTime()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityChangeSchemaManager schemaManager;
+    private final ChangeFeedProperties properties;
+
+    /**
+     * 진행 중인 트랜잭션 조회 가능 여부 (MySQL InnoDB, PROCESS 권한 필요)
+     */
+    private volatile boolean trackActiveTransactions;
+
+    @PostConstruct
+    void initialize() {
+        schemaManager.initializeSchema();
+        trackActiveTransactions = schemaManager.isMySql();
+    }
+
+    /**
+     * 변경 기록 (Hibernate 리스너에서 현재 트랜잭션 커넥션으로 호출)
+     */
+    public static void record(Connection connection, EntityChange.EntityType entityType, long entityId,
+                              EntityChange.ChangeType changeType) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            statement.setString(1, entityType.name());
+            statement.setLong(2, entityId);
+            statement.setString(3, changeType.name());
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * 대출 일괄 변경 기록 (JPQL 벌크 삭제 등 리스너를 거치지 않는 작업에서, 삭제 직전 같은 트랜잭션으로 호출)
+     * - book_loans에 남아 있고 상태가 statuses에 속하는 ID만 기록 (벌크 작업과 같은 조건)
+     */
+    public static int recordLoans(Connection connection, List<Long> loanIds, List<String> statuses,
+                                  EntityChange.ChangeType changeType) throws SQLException {
+        if (loanIds.isEmpty() || statuses.isEmpty()) {
+            return 0;
+        }
+
+        String sql = String.format(INSERT_SELECT_LOANS, placeholders(loanIds.size()), placeholders(statuses.size()));
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            statement.setString(index++, EntityChange.EntityType.LOAN.name());
+            statement.setString(index++, changeType.name());
+            for (Long loanId : loanIds) {
+                statement.setLong(index++, loanId);
+            }
+            for (String status : statuses) {
+                statement.setString(index++, status);
+            }
+            return statement.executeUpdate();
+        }
+    }
+
+    /**
+     * 순번 이후 변경 (순번 오름차순, 최대 limit건)
+     */
+    public List<EntityChange> findAfter(long sequence, int limit) {
+        return jdbcTemplate.query(SELECT_AFTER, ROW_MAPPER, sequence, limit);
+    }
+
+    /**
+     * 보관 중인 가장 오래된 순번 (이력이 없으면 null)
+     */
+    public Long findMinSequence() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM " + TABLE, Long.class);
+    }
+
+    /**
+     * 유형별 가장 큰 순번 ((entity_type, id) 인덱스 한 번 탐색, 이력이 없으면 null)
+     */
+    public Long findMaxSequence(EntityChange.EntityType entityType) {
+        return jdbcTemplate.queryForObject(SELECT_MAX_BY_TYPE, Long.class, entityType.name());
+    }
+
+    /**
+     * 유형별 순번 (afterSequence, 최대 순번] 구간의 이력 수 (같은 인덱스 범위 스캔)
+     */
+    public long countSequencesAfter(EntityChange.EntityType entityType, long afterSequence) {
+        Long count = jdbcTemplate.queryForObject(COUNT_BY_TYPE_AFTER, Long.class, entityType.name(), afterSequence);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 순번 이후 유형·변경별 엔티티 ID ((entity_type, id) 인덱스 범위 스캔)
+     */
+    public List<Long> findEntityIdsAfter(EntityChange.EntityType entityType, EntityChange.ChangeType changeType,
+                                         long afterSequence) {
+        return jdbcTemplate.queryForList(SELECT_ENTITY_IDS_AFTER, Long.class,
+                entityType.name(), afterSequence, changeType.name());
+    }
+
+    /**
+     * 순번 공백을 롤백으로 볼 수 있는 기준 시각 (DB 시계)
+     * - min(DB 현재 시각, 진행 중인 가장 오래된 트랜잭션 시작 시각) - graceMs
+     * - 공백 다음 행이 기준 시각 이전에 기록되었으면 공백 순번을 받은 트랜잭션은 이미 끝남 (롤백)
+     *   (순번은 발급 순서대로 증가하고, 진행 중인 트랜잭션은 모두 기준 시각 + graceMs 이후에 시작했으므로
+     *    커밋이 아무리 늦어도 건너뛰지 않음 - graceMs는 한 INSERT 문이 실행되는 시간의 여유)
+     * - 같은 트랜잭션의 이력 조회보다 먼저 호출해야 함 (이후 커밋된 공백 순번을 읽지 못한 채 건너뛰지 않도록)
+     * - 진행 중 트랜잭션을 조회할 수 없으면(H2, 권한 없음) DB 현재 시각 - graceMs만 사용
+     */
+    public LocalDateTime findGapCutoff(long graceMs) {
+        LocalDateTime boundary = jdbcTemplate.queryForObject(SELECT_DB_NOW, Timestamp.class).toLocalDateTime();
+
+        if (trackActiveTransactions) {
+            try {
+                Timestamp oldestActive = jdbcTemplate.queryForObject(SELECT_OLDEST_ACTIVE_TRANSACTION, Timestamp.class);
+                if (oldestActive != null && oldestActive.toLocalDateTime().isBefore(boundary)) {
+                    boundary = oldestActive.toLocalDateTime();
+                }
+            } catch (DataAccessException e) {
+                trackActiveTransactions = false;
+                log.warn("진행 중 트랜잭션 조회 실패 - 이후 순번 공백은 대기 시간만으로 판단 (PROCESS 권한 필요)", e);
+            }
+        }
+        return boundary.minusNanos(graceMs * 1_000_000L);
+    }
+
+    /**
+     * 기준 시각 이전에 기록된 가장 큰 순번 (없으면 null)
+     */
+    public Long findMaxSequenceBefore(LocalDateTime before) {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + TABLE + " WHERE changed_at < ?",
+                Long.class, Timestamp.valueOf(before));
+    }
+
+    /**
+     * 보관 기간이 지난 이력 정리
+     */
+    @Scheduled(cron = "${bookworm.change-feed.cleanup-cron:0 30 3 * * *}")
+    public void purgeExpired() {
+        try {
+            List<Long> newestByType = new ArrayList<>();
+            for (EntityChange.EntityType entityType : EntityChange.EntityType.values()) {
+                Long newest = findMaxSequence(entityType);
+                if (newest != null) {
+                    newestByType.add(newest);
+                }
+            }
+            if (newestByType.isEmpty()) {
+                return;
+            }
+
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getRetentionDays());
+            List<Object> args = new ArrayList<>();
+            args.add(Timestamp.valueOf(cutoff));
+            args.addAll(newestByType);
+            int deleted = jdbcTemplate.update("DELETE FROM " + TABLE + " WHERE changed_at < ? AND id NOT IN (" +
+                    placeholders(newestByType.size()) + ")", args.toArray());
+            log.info("변경 이력 정리 - {}건 삭제 (기준: {})", deleted, cutoff);
+        } catch (Exception e) {
+            log.error("변경 이력 정리 실패", e);
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
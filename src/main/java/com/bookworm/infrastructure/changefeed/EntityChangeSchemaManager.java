@@ -0,0 +1,77 @@
+package com.bookworm.infrastructure.changefeed;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 변경 이력 테이블 스키마 관리
+ *
+ * - entity_changes: 도서/대출 변경 1건당 1행, id(AUTO_INCREMENT)가 변경 순번이자 피드 토큰
+ * - 순번 조회는 PK 범위 스캔, 보관 기간 정리는 changed_at 인덱스 사용
+ * - 유형별 최대 순번(목록 ETag)은 (entity_type, id) 인덱스 한 번 탐색
+ *
+ * JPA 엔티티로 관리하지 않으므로 ddl-auto와 무관하게 직접 생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityChangeSchemaManager {
+
+    static final String TABLE = "entity_changes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 테이블이 없으면 생성
+     */
+    public void initializeSchema() {
+        if (isMySql()) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                    " id BIGINT NOT NULL AUTO_INCREMENT," +
+                    " entity_type VARCHAR(20) NOT NULL," +
+                    " entity_id BIGINT NOT NULL," +
+                    " change_type VARCHAR(10) NOT NULL," +
+                    " changed_at DATETIME(6) NOT NULL," +
+                    " PRIMARY KEY (id)," +
+                    " KEY idx_entity_changes_changed_at (changed_at)," +
+                    " KEY idx_entity_changes_type_id (entity_type, id)" +
+                    ") ENGINE=InnoDB");
+            addMySqlTypeIndexIfMissing();
+        } else {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" +
+                    " id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+                    " entity_type VARCHAR(20) NOT NULL," +
+                    " entity_id BIGINT NOT NULL," +
+                    " change_type VARCHAR(10) NOT NULL," +
+                    " changed_at TIMESTAMP(6) NOT NULL)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_entity_changes_changed_at ON " +
+                    TABLE + " (changed_at)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_entity_changes_type_id ON " +
+                    TABLE + " (entity_type, id)");
+        }
+        log.info("변경 이력 테이블 준비 완료: {}", TABLE);
+    }
+
+    /**
+     * 인덱스 추가 이전에 만들어진 테이블 보정 (MySQL은 CREATE INDEX IF NOT EXISTS 미지원)
+     */
+    private void addMySqlTypeIndexIfMissing() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = 'idx_entity_changes_type_id'",
+                Integer.class, TABLE);
+        if (existing == null || existing == 0) {
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD KEY idx_entity_changes_type_id (entity_type, id)");
+            log.info("변경 이력 유형 인덱스 추가: idx_entity_changes_type_id");
+        }
+    }
+
+    boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+}
@@ -5,6 +5,7 @@ import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
 import com.bookworm.domain.vo.user.Address;
 import com.bookworm.domain.vo.user.PhoneNumber;
+import com.bookworm.infrastructure.search.EmailBloomFilter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
@@ -21,6 +22,7 @@ public class DefaultAdminCreator implements ApplicationRunner {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EmailBloomFilter emailBloomFilter;
 
     // 기본 관리자 계정 정보
     private static final String DEFAULT_ADMIN_EMAIL = "admin@bookworm.com";
@@ -38,7 +40,9 @@ public class DefaultAdminCreator implements ApplicationRunner {
         try {
             Email adminEmail = Email.of(DEFAULT_ADMIN_EMAIL);
 
-            boolean adminExists = userRepository.existsByEmail(adminEmail);
+            // 필터 준비 전(시작 직후)이면 항상 존재 여부 조회로 확인
+            boolean adminExists = emailBloomFilter.mightContain(adminEmail)
+                    && userRepository.existsByEmail(adminEmail);
 
             if (!adminExists) {
                 // 기본 주소 정보 생성 - 생성자 사용
@@ -0,0 +1,49 @@
+package com.bookworm.infrastructure.config;
+
+import com.bookworm.domain.common.EntityIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 엔티티 ID 생성 설정
+ * - 여러 인스턴스를 띄울 때는 인스턴스마다 다른 노드 번호 지정 (bookworm.id.node 또는 BOOKWORM_ID_NODE)
+ * - 둘 다 없으면 single-instance=true일 때만 노드 0 사용, 아니면 시작 실패 (중복 ID 방지)
+ */
+@Slf4j
+@Component
+@ConfigurationProperties(prefix = "bookworm.id")
+@Validated
+@Getter @Setter
+public class EntityIdProperties {
+
+    @Min(value = 0, message = "노드 번호는 0 이상이어야 합니다")
+    @Max(value = EntityIdGenerator.BULK_LOAD_NODE - 1, message = "노드 번호는 30을 초과할 수 없습니다 (31은 대량 적재 전용)")
+    private Integer node;
+
+    /**
+     * 단일 인스턴스 실행 여부 - true면 노드 번호 미지정 시 0 사용
+     */
+    private boolean singleInstance = false;
+
+    @PostConstruct
+    void apply() {
+        if (node != null) {
+            EntityIdGenerator.configureNode(node);
+        } else if (!EntityIdGenerator.isNodeConfigured()) {
+            if (!singleInstance) {
+                throw new IllegalStateException("엔티티 ID 노드 번호가 지정되지 않았습니다. " +
+                        "인스턴스마다 다른 bookworm.id.node (또는 BOOKWORM_ID_NODE)를 지정하거나, " +
+                        "단일 인스턴스라면 bookworm.id.single-instance=true로 설정하세요.");
+            }
+            EntityIdGenerator.configureNode(0);
+        }
+        log.info("엔티티 ID 노드 번호: {}", EntityIdGenerator.currentNode());
+    }
+}
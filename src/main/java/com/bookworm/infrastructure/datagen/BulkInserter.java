@@ -0,0 +1,119 @@
+package com.bookworm.infrastructure.datagen;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 다중 행 VALUES 배치 INSERT 작성기
+ *
+ * 원리:
+ * 1. INSERT ... VALUES (?,?), (?,?), ... 형태로 한 문장에 여러 행을 담아 왕복 횟수 감소
+ * 2. 한 문장이 가득 차면 addBatch, 일정 문장 수마다 executeBatch + commit
+ * 3. 마지막 남은 행은 별도 크기의 문장으로 flush
+ */
+class BulkInserter implements AutoCloseable {
+
+    private final Connection connection;
+    private final String table;
+    private final List<String> columns;
+    private final int rowsPerStatement;
+    private final int statementsPerCommit;
+
+    private final PreparedStatement fullStatement;
+    private final Object[] buffer;
+
+    private int bufferedRows = 0;
+    private int batchedStatements = 0;
+    private long totalRows = 0;
+
+    BulkInserter(Connection connection, String table, List<String> columns,
+                 int rowsPerStatement, int statementsPerCommit) throws SQLException {
+        this.connection = connection;
+        this.table = table;
+        this.columns = columns;
+        this.rowsPerStatement = rowsPerStatement;
+        this.statementsPerCommit = statementsPerCommit;
+        this.fullStatement = connection.prepareStatement(buildSql(rowsPerStatement));
+        this.buffer = new Object[rowsPerStatement * columns.size()];
+    }
+
+    /**
+     * 한 행 추가 (컬럼 순서대로 값 전달)
+     */
+    void add(Object... values) throws SQLException {
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException(
+                    String.format("%s 컬럼 수 불일치: 기대 %d, 실제 %d", table, columns.size(), values.length));
+        }
+
+        System.arraycopy(values, 0, buffer, bufferedRows * columns.size(), values.length);
+        bufferedRows++;
+        totalRows++;
+
+        if (bufferedRows == rowsPerStatement) {
+            bind(fullStatement, rowsPerStatement);
+            fullStatement.addBatch();
+            bufferedRows = 0;
+
+            if (++batchedStatements == statementsPerCommit) {
+                fullStatement.executeBatch();
+                connection.commit();
+                batchedStatements = 0;
+            }
+        }
+    }
+
+    /**
+     * 남은 행 모두 기록 및 커밋
+     */
+    void flush() throws SQLException {
+        if (batchedStatements > 0) {
+            fullStatement.executeBatch();
+            batchedStatements = 0;
+        }
+
+        if (bufferedRows > 0) {
+            try (PreparedStatement tail = connection.prepareStatement(buildSql(bufferedRows))) {
+                bind(tail, bufferedRows);
+                tail.executeUpdate();
+            }
+            bufferedRows = 0;
+        }
+
+        connection.commit();
+    }
+
+    long getTotalRows() {
+        return totalRows;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        fullStatement.close();
+    }
+
+    private void bind(PreparedStatement statement, int rows) throws SQLException {
+        int parameterCount = rows * columns.size();
+        for (int i = 0; i < parameterCount; i++) {
+            statement.setObject(i + 1, buffer[i]);
+        }
+    }
+
+    private String buildSql(int rows) {
+        String placeholders = "(" + String.join(",", columns.stream().map(c -> "?").toList()) + ")";
+
+        StringBuilder sql = new StringBuilder(64 + rows * (placeholders.length() + 1))
+                .append("INSERT INTO ").append(table)
+                .append(" (").append(String.join(",", columns)).append(") VALUES ");
+
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(placeholders);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.bookworm.infrastructure.datagen;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 합성 데이터 생성 옵션
+ * - 명령행 인자(--key=value)로 전달
+ * - 지정하지 않은 값은 기본값 사용
+ *
+ * 예: --users=100000 --books=300000 --loans=20000000 --book-skew=2.5
+ */
+public record GeneratorOptions(
+        String jdbcUrl,
+        String username,
+        String password,
+
+        // 생성 규모
+        int users,
+        int books,
+        long loans,
+
+        // 분포 (1.0 = 균등, 값이 클수록 소수의 인기 도서/다독 회원에 집중)
+        double bookSkew,
+        double userSkew,
+
+        // 대출 상태 비율
+        double activeRatio,
+        double overdueRatio,
+        double cancelledRatio,
+
+        // 대출일 범위
+        LocalDate from,
+        LocalDate to,
+
+        // 배치 설정
+        int rowsPerStatement,
+        int statementsPerCommit,
+
+        long seed
+) {
+
+    private static final String DEFAULT_JDBC_URL =
+            "jdbc:mysql://localhost:3306/bookworm?useSSL=false&allowPublicKeyRetrieval=true"
+                    + "&serverTimezone=Asia/Seoul&characterEncoding=UTF-8&rewriteBatchedStatements=true";
+
+    /**
+     * 명령행 인자 파싱
+     */
+    public static GeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("잘못된 인자 형식입니다 (--key=value): " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        LocalDate today = LocalDate.now();
+
+        GeneratorOptions options = new GeneratorOptions(
+                values.getOrDefault("url", DEFAULT_JDBC_URL),
+                values.getOrDefault("username", "bookworm_user"),
+                values.getOrDefault("password", "bookworm_password"),
+                Integer.parseInt(values.getOrDefault("users", "10000")),
+                Integer.parseInt(values.getOrDefault("books", "50000")),
+                Long.parseLong(values.getOrDefault("loans", "1000000")),
+                Double.parseDouble(values.getOrDefault("book-skew", "2.0")),
+                Double.parseDouble(values.getOrDefault("user-skew", "1.5")),
+                Double.parseDouble(values.getOrDefault("active-ratio", "0.05")),
+                Double.parseDouble(values.getOrDefault("overdue-ratio", "0.2")),
+                Double.parseDouble(values.getOrDefault("cancelled-ratio", "0.01")),
+                LocalDate.parse(values.getOrDefault("from", today.minusYears(3).toString())),
+                LocalDate.parse(values.getOrDefault("to", today.toString())),
+                Integer.parseInt(values.getOrDefault("rows-per-statement", "1000")),
+                Integer.parseInt(values.getOrDefault("statements-per-commit", "20")),
+                Long.parseLong(values.getOrDefault("seed", "20240101"))
+        );
+
+        options.validate();
+        return options;
+    }
+
+    /**
+     * 옵션 유효성 검증
+     */
+    private void validate() {
+        if (users <= 0 || books <= 0 || loans < 0) {
+            throw new IllegalArgumentException("users, books는 1 이상, loans는 0 이상이어야 합니다.");
+        }
+        if (bookSkew < 1.0 || userSkew < 1.0) {
+            throw new IllegalArgumentException("skew 값은 1.0 이상이어야 합니다.");
+        }
+        if (activeRatio < 0 || cancelledRatio < 0 || activeRatio + cancelledRatio > 1.0) {
+            throw new IllegalArgumentException("active-ratio와 cancelled-ratio의 합은 0~1 사이여야 합니다.");
+        }
+        if (overdueRatio < 0 || overdueRatio > 1.0) {
+            throw new IllegalArgumentException("overdue-ratio는 0~1 사이여야 합니다.");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다.");
+        }
+        if (rowsPerStatement <= 0 || statementsPerCommit <= 0) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,356 @@
+package com.bookworm.infrastructure.datagen;
+
+import com.bookworm.domain.common.EntityIdGenerator;
+import com.bookworm.domain.constant.BookStatus;
+import com.bookworm.domain.constant.LoanStatus;
+import com.bookworm.domain.constant.Role;
+import com.bookworm.domain.constant.UserStatus;
+import com.bookworm.domain.vo.book.BookLanguage;
+import com.bookworm.domain.vo.book.BookType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 대규모 테스트용 합성 데이터 생성기
+ *
+ * 실행: ./gradlew generateData -PdatagenArgs="--users=100000 --books=300000 --loans=20000000"
+ *
+ * 설계 원리:
+ * 1. JPA를 거치지 않고 다중 행 VALUES 배치 INSERT로 직접 기록
+ * 2. 인기 도서/다독 회원 편중(skew)은 멱함수 샘플링으로 표현
+ * 3. 대출 계획을 같은 시드로 두 번 생성
+ *    - 1차: 도서별 대출 중 수량만 집계 (I/O 없음)
+ *    - 2차: 집계된 재고로 도서를 먼저 기록한 뒤 대출 행 기록 (FK 순서 보장)
+ * 4. 도서 재고와 회원당 최대 대출 권수를 넘는 활성 대출은 반납 완료로 전환하여 정합성 유지
+ * 5. ID는 애플리케이션과 같은 시간 정렬 방식으로 발급하되, 대량 적재 전용 노드를 사용해 운영 중인 인스턴스와 충돌 방지
+ *
+ * 스키마는 애플리케이션 기동(ddl-auto)으로 미리 생성되어 있어야 합니다.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final int MAX_ACTIVE_LOANS_PER_USER = 5;
+    private static final int LOAN_DAYS = 14;
+    private static final String DEFAULT_RAW_PASSWORD = "Password123!";
+
+    private final GeneratorOptions options;
+
+    private final EntityIdGenerator idGenerator = new EntityIdGenerator(EntityIdGenerator.BULK_LOAD_NODE);
+
+    private long[] userIds;
+    private long[] bookIds;
+    private int[] copies;
+
+    public SyntheticDataGenerator(GeneratorOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        GeneratorOptions options = GeneratorOptions.parse(args);
+        new SyntheticDataGenerator(options).run();
+    }
+
+    /**
+     * 전체 생성 실행
+     */
+    public void run() throws SQLException {
+        long started = System.nanoTime();
+
+        try (Connection connection = DriverManager.getConnection(
+                options.jdbcUrl(), options.username(), options.password())) {
+            connection.setAutoCommit(false);
+
+            userIds = issueIds(options.users());
+            bookIds = issueIds(options.books());
+            copies = planCopies();
+
+            // 1차: 도서별 대출 중 수량 집계
+            int[] borrowedPerBook = planLoans((bookIndex, userIndex, status, loanDate, dueDate) -> { });
+
+            insertUsers(connection);
+            insertBooks(connection, borrowedPerBook);
+            insertLoans(connection);
+        }
+
+        log.info("합성 데이터 생성 완료 - 회원: {}, 도서: {}, 대출: {}, 소요 시간: {}초",
+                options.users(), options.books(), options.loans(),
+                (System.nanoTime() - started) / 1_000_000_000L);
+    }
+
+    // ===== 회원 =====
+
+    private void insertUsers(Connection connection) throws SQLException {
+        List<String> columns = new ArrayList<>(List.of(
+                "id", "email", "password", "first_name", "last_name",
+                "street", "city", "state", "country", "phone_number",
+                "role", "status", "version"));
+        AuditColumns audit = resolveAuditColumns(connection, "users");
+        columns.add(audit.createdAt());
+        columns.add(audit.updatedAt());
+
+        // BCrypt는 건당 수십 ms가 걸리므로 한 번만 계산하여 공유
+        String encodedPassword = new BCryptPasswordEncoder().encode(DEFAULT_RAW_PASSWORD);
+        Timestamp createdAt = Timestamp.valueOf(options.from().atStartOfDay());
+
+        try (BulkInserter inserter = newInserter(connection, "users", columns)) {
+            for (int i = 0; i < options.users(); i++) {
+                long id = userIds[i];
+                Role role = i == 0 ? Role.ADMIN : Role.USER;
+
+                inserter.add(
+                        id,
+                        String.format("member%d@bookworm.test", id),
+                        encodedPassword,
+                        "Member",
+                        "No" + id,
+                        "합성 데이터 주소 " + id,
+                        "서울시",
+                        "서울특별시",
+                        "대한민국",
+                        String.format("010-%04d-%04d", (id / 10000) % 10000, id % 10000),
+                        role.name(),
+                        UserStatus.ACTIVE.name(),
+                        0L,
+                        createdAt,
+                        createdAt
+                );
+            }
+            inserter.flush();
+            log.info("회원 생성 완료: {}건", inserter.getTotalRows());
+        }
+    }
+
+    // ===== 도서 =====
+
+    private void insertBooks(Connection connection, int[] borrowedPerBook) throws SQLException {
+        List<String> columns = new ArrayList<>(List.of(
+                "id", "title", "language", "type", "quantity", "status", "registered_by", "version"));
+        AuditColumns audit = resolveAuditColumns(connection, "books");
+        columns.add(audit.createdAt());
+        columns.add(audit.updatedAt());
+
+        List<String> languages = BookLanguage.getSupportedLanguages();
+        // 참고도서(REFERENCE)는 대출 불가 정책이므로 대출 대상 도서에서 제외
+        List<String> types = BookType.getBookTypes().stream()
+                .filter(type -> !"REFERENCE".equals(type))
+                .toList();
+        Timestamp createdAt = Timestamp.valueOf(options.from().atStartOfDay());
+
+        try (BulkInserter inserter = newInserter(connection, "books", columns)) {
+            for (int i = 0; i < options.books(); i++) {
+                int available = copies[i] - borrowedPerBook[i];
+                BookStatus status = available > 0 ? BookStatus.AVAILABLE : BookStatus.BORROWED;
+
+                inserter.add(
+                        bookIds[i],
+                        String.format("Synthetic Book %08d", i + 1),
+                        languages.get(i % languages.size()),
+                        types.get((i / languages.size()) % types.size()),
+                        available,
+                        status.name(),
+                        userIds[0],
+                        0L,
+                        createdAt,
+                        createdAt
+                );
+            }
+            inserter.flush();
+            log.info("도서 생성 완료: {}건", inserter.getTotalRows());
+        }
+    }
+
+    // ===== 대출 =====
+
+    private void insertLoans(Connection connection) throws SQLException {
+        List<String> columns = new ArrayList<>(List.of(
+                "id", "book_id", "user_id", "quantity", "loan_date", "due_date", "status", "version", "returned_at"));
+        AuditColumns audit = resolveAuditColumns(connection, "book_loans");
+        columns.add(audit.createdAt());
+        columns.add(audit.updatedAt());
+
+        try (BulkInserter inserter = newInserter(connection, "book_loans", columns)) {
+            SQLException[] failure = new SQLException[1];
+
+            planLoans((bookIndex, userIndex, status, loanDate, dueDate) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                Timestamp createdAt = Timestamp.valueOf(loanDate.atTime(10, 0));
+                Timestamp updatedAt = status == LoanStatus.ACTIVE
+                        ? createdAt
+                        : Timestamp.valueOf(returnedAt(loanDate, dueDate));
+                Timestamp returnedAt = status == LoanStatus.RETURNED ? updatedAt : null;
+                try {
+                    inserter.add(
+                            idGenerator.next(),
+                            bookIds[bookIndex],
+                            userIds[userIndex],
+                            1,
+                            loanDate,
+                            dueDate,
+                            status.name(),
+                            0L,
+                            returnedAt,
+                            createdAt,
+                            updatedAt
+                    );
+                } catch (SQLException e) {
+                    failure[0] = e;
+                }
+            });
+
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+
+            inserter.flush();
+            log.info("대출 생성 완료: {}건", inserter.getTotalRows());
+        }
+    }
+
+    /**
+     * 대출 계획 생성
+     * 같은 시드로 호출하면 항상 같은 순서, 같은 값의 대출을 생성
+     *
+     * @return 도서별 대출 중(ACTIVE) 수량
+     */
+    private int[] planLoans(LoanSink sink) {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        int[] borrowedPerBook = new int[options.books()];
+        int[] activePerUser = new int[options.users()];
+
+        LocalDate from = options.from();
+        LocalDate to = options.to();
+        long rangeDays = Math.max(1, ChronoUnit.DAYS.between(from, to));
+        int regularUsers = Math.max(1, options.users() - 1);
+
+        for (long i = 0; i < options.loans(); i++) {
+            int bookIndex = skewedIndex(random, options.books(), options.bookSkew());
+            // 0번 회원은 도서 등록 관리자이므로 대출 대상에서 제외
+            int userIndex = options.users() > 1
+                    ? 1 + skewedIndex(random, regularUsers, options.userSkew())
+                    : 0;
+
+            double roll = random.nextDouble();
+            LoanStatus status = roll < options.activeRatio()
+                    ? LoanStatus.ACTIVE
+                    : roll < options.activeRatio() + options.cancelledRatio()
+                    ? LoanStatus.CANCELLED
+                    : LoanStatus.RETURNED;
+
+            if (status == LoanStatus.ACTIVE
+                    && (borrowedPerBook[bookIndex] >= copies[bookIndex]
+                    || activePerUser[userIndex] >= MAX_ACTIVE_LOANS_PER_USER)) {
+                status = LoanStatus.RETURNED;
+            }
+
+            LocalDate loanDate;
+            if (status == LoanStatus.ACTIVE) {
+                borrowedPerBook[bookIndex]++;
+                activePerUser[userIndex]++;
+
+                if (random.nextDouble() < options.overdueRatio()) {
+                    // 연체: 반납 예정일이 기준일 이전
+                    loanDate = to.minusDays(LOAN_DAYS + 1 + random.nextInt(60));
+                } else {
+                    // 정상: 반납 예정일이 기준일 이후
+                    loanDate = to.minusDays(random.nextInt(LOAN_DAYS));
+                }
+            } else {
+                loanDate = from.plusDays(random.nextLong(rangeDays));
+            }
+
+            sink.accept(bookIndex, userIndex, status, loanDate, loanDate.plusDays(LOAN_DAYS));
+        }
+
+        return borrowedPerBook;
+    }
+
+    /**
+     * 도서별 보유 권수 계획 (상위 1% 인기 도서는 복본을 더 보유)
+     */
+    private int[] planCopies() {
+        SplittableRandom random = new SplittableRandom(options.seed() ^ 0x5DEECE66DL);
+        int hotBoundary = Math.max(1, options.books() / 100);
+        int[] result = new int[options.books()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = 1 + random.nextInt(3) + (i < hotBoundary ? 5 + random.nextInt(10) : 0);
+        }
+        return result;
+    }
+
+    /**
+     * 멱함수 편중 샘플링 - skew가 클수록 낮은 인덱스(인기 항목)에 집중
+     */
+    private static int skewedIndex(SplittableRandom random, int size, double skew) {
+        int index = (int) (size * Math.pow(random.nextDouble(), skew));
+        return Math.min(index, size - 1);
+    }
+
+    private LocalDateTime returnedAt(LocalDate loanDate, LocalDate dueDate) {
+        LocalDate returned = loanDate.plusDays(Math.floorMod(loanDate.toEpochDay(), LOAN_DAYS + 7));
+        if (returned.isAfter(options.to())) {
+            returned = options.to();
+        }
+        return returned.isBefore(dueDate) || returned.isEqual(dueDate)
+                ? returned.atTime(15, 0)
+                : returned.atTime(18, 0);
+    }
+
+    // ===== JDBC 헬퍼 =====
+
+    private BulkInserter newInserter(Connection connection, String table, List<String> columns) throws SQLException {
+        return new BulkInserter(connection, table, columns,
+                options.rowsPerStatement(), options.statementsPerCommit());
+    }
+
+    private long[] issueIds(int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = idGenerator.next();
+        }
+        return ids;
+    }
+
+    /**
+     * 감사 컬럼명 확인
+     * 프로파일별 명명 전략(dev: createdAt, local: created_at)이 달라 실제 스키마에서 조회
+     */
+    private AuditColumns resolveAuditColumns(Connection connection, String table) throws SQLException {
+        List<String> existing = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT * FROM " + table + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                existing.add(metaData.getColumnName(i).toLowerCase());
+            }
+        }
+
+        String createdAt = existing.contains("created_at") ? "created_at" : "createdAt";
+        String updatedAt = existing.contains("updated_at") ? "updated_at" : "updatedAt";
+        return new AuditColumns(createdAt, updatedAt);
+    }
+
+    private record AuditColumns(String createdAt, String updatedAt) {
+    }
+
+    @FunctionalInterface
+    private interface LoanSink {
+        void accept(int bookIndex, int userIndex, LoanStatus status, LocalDate loanDate, LocalDate dueDate);
+    }
+}
@@ -0,0 +1,94 @@
+package com.bookworm.infrastructure.fine;
+
+import com.bookworm.domain.common.EntityIdGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 연체료 일괄 부과 저장소 (집합 기반 SQL)
+ *
+ * - 대출 엔티티를 메모리에 올리지 않고 DB 안에서 INSERT ... SELECT로 부과
+ * - 같은 날짜를 다시 실행해도 uk_fine_accrual + NOT EXISTS로 중복 부과되지 않음
+ * - 잔액 반영은 posted_at이 비어 있는 원장 항목을 먼저 배치 번호로 선점한 뒤, 선점한 항목만 합산
+ *   (선점 이후 다른 트랜잭션이 추가한 항목은 이번 배치의 합산/반영 표시 어디에도 포함되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class FineAccrualJdbcRepository {
+
+    private static final String INSERT_ACCRUALS =
+            "INSERT INTO fine_ledger (loan_id, user_id, accrual_date, entry_type, amount, created_at) " +
+            "SELECT l.id, l.user_id, ?, 'ACCRUAL', ? * l.quantity, ? " +
+            "FROM book_loans l " +
+            "WHERE l.status = 'ACTIVE' AND l.due_date >= ? AND l.due_date < ? " +
+            "AND NOT EXISTS (SELECT 1 FROM fine_ledger f " +
+            "  WHERE f.loan_id = l.id AND f.accrual_date = ? AND f.entry_type = 'ACCRUAL')";
+
+    private static final String CLAIM_PENDING =
+            "UPDATE fine_ledger SET post_batch = ?, posted_at = ? WHERE posted_at IS NULL";
+
+    private static final String INSERT_MISSING_BALANCES =
+            "INSERT INTO user_fine_balances (user_id, balance, updated_at) " +
+            "SELECT DISTINCT f.user_id, 0, ? FROM fine_ledger f " +
+            "WHERE f.post_batch = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM user_fine_balances b WHERE b.user_id = f.user_id)";
+
+    private static final String APPLY_BATCH_TO_BALANCES =
+            "UPDATE user_fine_balances b " +
+            "SET balance = balance + (SELECT COALESCE(SUM(f.amount), 0) FROM fine_ledger f " +
+            "  WHERE f.post_batch = ? AND f.user_id = b.user_id), " +
+            "updated_at = ? " +
+            "WHERE b.user_id IN (SELECT f.user_id FROM fine_ledger f WHERE f.post_batch = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 부과 대상 중 가장 오래된 반납 예정일 (없으면 null)
+     */
+    public LocalDate findOldestOverdueDueDate(LocalDate accrualDate) {
+        Date oldest = jdbcTemplate.queryForObject(
+                "SELECT MIN(due_date) FROM book_loans WHERE status = 'ACTIVE' AND due_date < ?",
+                Date.class, Date.valueOf(accrualDate));
+        return oldest != null ? oldest.toLocalDate() : null;
+    }
+
+    /**
+     * 반납 예정일이 [dueFrom, dueTo) 구간인 활성 대출에 accrualDate 하루치 연체료 부과
+     *
+     * @return 새로 부과된 건수
+     */
+    public int insertAccruals(LocalDate accrualDate, LocalDate dueFrom, LocalDate dueTo,
+                              long dailyFine, LocalDateTime now) {
+        Date date = Date.valueOf(accrualDate);
+        return jdbcTemplate.update(INSERT_ACCRUALS,
+                date, dailyFine, Timestamp.valueOf(now),
+                Date.valueOf(dueFrom), Date.valueOf(dueTo),
+                date);
+    }
+
+    /**
+     * 미반영 원장 항목을 사용자 잔액에 반영 (호출자 트랜잭션 안에서 실행)
+     * 1. 미반영 항목에 배치 번호와 반영 시각 기록 (행 잠금으로 선점)
+     * 2. 같은 배치 번호의 항목만 회원별로 합산해 잔액에 더함
+     *
+     * @return 반영된 원장 항목 수
+     */
+    public int postPendingEntries(LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        long batch = EntityIdGenerator.nextId();
+
+        int claimed = jdbcTemplate.update(CLAIM_PENDING, batch, timestamp);
+        if (claimed == 0) {
+            return 0;
+        }
+        jdbcTemplate.update(INSERT_MISSING_BALANCES, timestamp, batch);
+        jdbcTemplate.update(APPLY_BATCH_TO_BALANCES, batch, timestamp, batch);
+        return claimed;
+    }
+}
@@ -0,0 +1,313 @@
+package com.bookworm.infrastructure.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 재고/대출 이벤트 SSE 브로드캐스터 (인스턴스 내 단일 팬아웃)
+ *
+ * 원리:
+ * 1. 이벤트는 한 번만 JSON으로 직렬화해 모든 구독자 버퍼에 넣음 (발행 스레드는 쓰기를 기다리지 않음)
+ * 2. 구독자별 버퍼는 bufferSize로 제한 - 가득 차면 가장 오래된 이벤트를 버림 (느린 구독자가 메모리를 잡아두지 않음)
+ * 3. 전송은 전용 스레드 풀에서 구독자 단위로 실행, 한 번에 최대 MAX_SENDS_PER_DRAIN건 후 양보
+ *    (구독자당 전송 작업은 최대 1개만 대기하므로 풀 대기열은 구독자 수를 넘지 않음)
+ * 4. 쓰기 실패/타임아웃/종료 시 구독 해제, 하트비트로 끊긴 연결을 주기적으로 정리
+ *
+ * 이벤트 id는 발행자가 정함 (변경 피드 토큰 - 모든 인스턴스에 공통인 순번)
+ */
+@Slf4j
+@Component
+public class LiveUpdateBroadcaster {
+
+    private static final int MAX_SENDS_PER_DRAIN = 64;
+    private static final String READY_EVENT = "ready";
+
+    private final LiveUpdateProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor senderExecutor;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private volatile String lastEventId;
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    /**
+     * 브로드캐스트 지표 스냅샷
+     */
+    public record Stats(
+            int subscribers,
+            int maxSubscribers,
+            String lastEventId,
+            long publishedCount,
+            long droppedCount,
+            long rejectedSubscriptions,
+            int pendingSends
+    ) {
+    }
+
+    /**
+     * 전송 단위 (name == null이면 하트비트 주석)
+     */
+    private record LiveUpdate(String id, String name, String json) {
+    }
+
+    private static final LiveUpdate HEARTBEAT = new LiveUpdate(null, null, null);
+
+    public LiveUpdateBroadcaster(LiveUpdateProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        int threads = properties.getSenderThreads();
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.senderExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "live-update-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독 등록 (상한 초과 시 empty)
+     *
+     * @param readyId      첫 이벤트(ready)의 id - 이후 이벤트는 이 시점 다음부터
+     * @param readyPayload 첫 이벤트 내용
+     */
+    public Optional<SseEmitter> subscribe(String readyId, Object readyPayload) {
+        String readyJson = serialize(READY_EVENT, readyPayload);
+        if (readyJson == null) {
+            return Optional.empty();
+        }
+
+        if (subscribers.size() >= properties.getMaxSubscribers()) {
+            rejectedCount.increment();
+            log.warn("실시간 이벤트 구독자 상한 도달 - 구독 거절 ({}명)", subscribers.size());
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = createEmitter(properties.getTimeoutMs());
+        Subscriber subscriber = new Subscriber(emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        subscribers.add(subscriber);
+        // 첫 이벤트로 응답 헤더를 바로 내보내고 시작 위치를 알려줌
+        subscriber.offer(new LiveUpdate(readyId, READY_EVENT, readyJson));
+        schedule(subscriber);
+
+        log.debug("실시간 이벤트 구독 - 현재 {}명", subscribers.size());
+        return Optional.of(emitter);
+    }
+
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * 이벤트 발행 (직렬화 1회 후 모든 구독자 버퍼에 추가)
+     */
+    public void publish(String id, String name, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        String json = serialize(name, payload);
+        if (json == null) {
+            return;
+        }
+
+        LiveUpdate update = new LiveUpdate(id, name, json);
+        lastEventId = id;
+        publishedCount.increment();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offer(update)) {
+                droppedCount.increment();
+            }
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * 유휴 구독자에게 하트비트 (끊긴 연결은 쓰기 실패로 정리됨)
+     */
+    @Scheduled(fixedDelayString = "${bookworm.live-updates.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.offerIfIdle(HEARTBEAT)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                subscribers.size(),
+                properties.getMaxSubscribers(),
+                lastEventId,
+                publishedCount.sum(),
+                droppedCount.sum(),
+                rejectedCount.sum(),
+                senderExecutor.getQueue().size()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.closed = true;
+            try {
+                subscriber.emitter.complete();
+            } catch (Exception e) {
+                log.debug("실시간 이벤트 구독 종료 실패", e);
+            }
+        }
+        subscribers.clear();
+        senderExecutor.shutdownNow();
+    }
+
+    /**
+     * 구독 연결 생성 (테스트에서 전송을 가로채기 위한 확장 지점)
+     */
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.closed || !subscriber.scheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            senderExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.scheduled.set(false);
+        }
+    }
+
+    /**
+     * 구독자 버퍼 전송 (전송 스레드)
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            for (int i = 0; i < MAX_SENDS_PER_DRAIN && !subscriber.closed; i++) {
+                LiveUpdate update = subscriber.poll();
+                if (update == null) {
+                    break;
+                }
+                send(subscriber.emitter, update);
+            }
+        } catch (Exception e) {
+            log.debug("실시간 이벤트 전송 실패 - 구독 해제: {}", e.getMessage());
+            unsubscribe(subscriber);
+            try {
+                subscriber.emitter.completeWithError(e);
+            } catch (Exception ignored) {
+                // 이미 종료된 연결
+            }
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        // 플래그 해제 직전에 추가된 이벤트 재확인
+        if (!subscriber.isEmpty()) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(SseEmitter emitter, LiveUpdate update) throws Exception {
+        if (update.name() == null) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(update.id())
+                .name(update.name())
+                .data(update.json(), MediaType.APPLICATION_JSON));
+    }
+
+    private String serialize(String name, Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("실시간 이벤트 직렬화 실패: {}", name, e);
+            return null;
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (subscribers.remove(subscriber)) {
+            log.debug("실시간 이벤트 구독 해제 - 현재 {}명", subscribers.size());
+        }
+    }
+
+    /**
+     * 구독자 (크기 제한 버퍼, 가득 차면 가장 오래된 이벤트 버림)
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final int capacity;
+        private final ArrayDeque<LiveUpdate> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.capacity = capacity;
+            this.buffer = new ArrayDeque<>(Math.min(capacity, 16));
+        }
+
+        /**
+         * @return 가장 오래된 이벤트를 버렸으면 true
+         */
+        synchronized boolean offer(LiveUpdate update) {
+            boolean dropped = false;
+            if (buffer.size() >= capacity) {
+                buffer.pollFirst();
+                dropped = true;
+            }
+            buffer.addLast(update);
+            return dropped;
+        }
+
+        synchronized boolean offerIfIdle(LiveUpdate update) {
+            if (!buffer.isEmpty()) {
+                return false;
+            }
+            buffer.addLast(update);
+            return true;
+        }
+
+        synchronized LiveUpdate poll() {
+            return buffer.pollFirst();
+        }
+
+        synchronized boolean isEmpty() {
+            return buffer.isEmpty();
+        }
+    }
+}
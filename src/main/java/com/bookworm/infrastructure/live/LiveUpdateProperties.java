@@ -0,0 +1,60 @@
+package com.bookworm.infrastructure.live;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.live-updates")
+@Validated
+@Getter @Setter
+public class LiveUpdateProperties {
+
+    /**
+     * 동시 구독자 상한 - 넘으면 503
+     */
+    @Min(value = 1, message = "구독자 상한은 1 이상이어야 합니다")
+    private int maxSubscribers = 500;
+
+    /**
+     * 구독자별 미전송 이벤트 버퍼 크기 - 가득 차면 가장 오래된 이벤트부터 버림
+     */
+    @Min(value = 1, message = "버퍼 크기는 1 이상이어야 합니다")
+    @Max(value = 10_000, message = "버퍼 크기는 10000을 초과할 수 없습니다")
+    private int bufferSize = 256;
+
+    /**
+     * 전송 전용 스레드 수
+     */
+    @Min(value = 1, message = "전송 스레드 수는 1 이상이어야 합니다")
+    @Max(value = 64, message = "전송 스레드 수는 64를 초과할 수 없습니다")
+    private int senderThreads = 4;
+
+    /**
+     * 변경 피드 조회 주기 (밀리초) - 구독자가 있을 때만 인스턴스당 한 번씩 조회
+     */
+    @Min(value = 100, message = "조회 주기는 최소 100ms 이상이어야 합니다")
+    private long pollIntervalMs = 1000;
+
+    /**
+     * 한 번의 조회에서 이어 읽는 최대 페이지 수 (밀린 변경이 많을 때 한 주기를 붙잡지 않도록)
+     */
+    @Min(value = 1, message = "최대 페이지 수는 1 이상이어야 합니다")
+    private int maxPagesPerPoll = 10;
+
+    /**
+     * 유휴 연결 확인 주기 (밀리초) - 프록시 유휴 종료 방지, 끊긴 구독자 정리
+     */
+    @Min(value = 1000, message = "하트비트 주기는 최소 1000ms 이상이어야 합니다")
+    private long heartbeatIntervalMs = 15_000;
+
+    /**
+     * 연결 유지 시간 (밀리초) - 지나면 서버가 종료하고 EventSource가 자동 재연결
+     */
+    @Min(value = 10_000, message = "연결 유지 시간은 최소 10000ms 이상이어야 합니다")
+    private long timeoutMs = 1_800_000;
+}
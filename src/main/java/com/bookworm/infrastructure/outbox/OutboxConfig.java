@@ -0,0 +1,29 @@
+package com.bookworm.infrastructure.outbox;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 아웃박스 릴레이 설정
+ */
+@Configuration
+public class OutboxConfig {
+
+    /**
+     * 도메인 이벤트 리스너 실행 전용 스레드 풀
+     * - 요청 스레드, 스케줄러 스레드와 분리하여 리스너 지연이 다른 작업에 전파되지 않도록 함
+     */
+    @Bean(name = "domainEventExecutor")
+    public ThreadPoolTaskExecutor domainEventExecutor(OutboxProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getListenerThreads());
+        executor.setMaxPoolSize(properties.getListenerThreads());
+        executor.setQueueCapacity(properties.getBatchSize() * 2);
+        executor.setThreadNamePrefix("domain-event-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
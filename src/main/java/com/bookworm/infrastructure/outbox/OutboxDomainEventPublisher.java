@@ -0,0 +1,50 @@
+package com.bookworm.infrastructure.outbox;
+
+import com.bookworm.domain.event.DomainEvent;
+import com.bookworm.domain.event.DomainEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기반 도메인 이벤트 발행기
+ *
+ * 원리:
+ * 1. 이벤트를 JSON으로 직렬화해 outbox_events에 INSERT (호출자 트랜잭션에 참여)
+ * 2. 비즈니스 변경이 롤백되면 이벤트도 함께 롤백 → 유령 이벤트 없음
+ * 3. 실제 전달은 OutboxRelay가 커밋 이후 비동기로 수행 → 요청 경로에서 후처리 제거
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+
+            outboxEventJpaRepository.save(OutboxEvent.pending(
+                    event.getClass().getName(),
+                    event.getAggregateType(),
+                    event.getAggregateId(),
+                    payload,
+                    event.getOccurredAt()
+            ));
+
+            log.debug("아웃박스 이벤트 기록: type={}, aggregate={}#{}",
+                    event.getClass().getSimpleName(), event.getAggregateType(), event.getAggregateId());
+        } catch (JsonProcessingException e) {
+            log.error("도메인 이벤트 직렬화 실패: {}", event.getClass().getSimpleName(), e);
+            throw new RuntimeException("도메인 이벤트 기록에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.bookworm.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 레코드
+ * - 비즈니스 변경과 같은 트랜잭션에서 INSERT
+ * - 릴레이가 커밋된 레코드를 임대(lease_until)로 선점하고, 트랜잭션 밖에서 리스너에 전달한 뒤 published_at 기록
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_pending", columnList = "published_at, id"),
+        @Index(name = "idx_outbox_aggregate", columnList = "aggregate_type, aggregate_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 이벤트 클래스 전체 이름 (역직렬화에 사용)
+     */
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType;
+
+    @Column(name = "aggregate_type", nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id")
+    private Long aggregateId;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * 릴레이 선점 만료 시각 (이 시각 전까지 다른 폴링/인스턴스가 가져가지 않음)
+     */
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    public static OutboxEvent pending(String eventType, String aggregateType, Long aggregateId,
+                                      String payload, LocalDateTime occurredAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.eventType = eventType;
+        event.aggregateType = aggregateType;
+        event.aggregateId = aggregateId;
+        event.payload = payload;
+        event.occurredAt = occurredAt;
+        event.attempts = 0;
+        return event;
+    }
+
+    /**
+     * 실패 사유 저장 길이로 자르기
+     */
+    public static String truncateError(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+
+    public boolean isPublished() {
+        return publishedAt != null;
+    }
+}
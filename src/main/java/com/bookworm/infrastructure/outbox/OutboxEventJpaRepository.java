@@ -0,0 +1,71 @@
+package com.bookworm.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 선점되지 않은 미전달 이벤트를 ID 순서로 조회
+     * - 선점(lease) 기록까지만 잠금 유지 - 여러 인스턴스가 동시에 폴링해도 같은 행을 중복 선점하지 않음 (지원 DB에서는 SKIP LOCKED)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM OutboxEvent e " +
+            "WHERE e.publishedAt IS NULL AND e.attempts < :maxAttempts " +
+            "AND (e.leaseUntil IS NULL OR e.leaseUntil < :now) " +
+            "ORDER BY e.id ASC")
+    List<OutboxEvent> findPendingForUpdate(@Param("maxAttempts") int maxAttempts,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    /**
+     * 선점 기록 (잠금 조회와 같은 트랜잭션)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseUntil = :leaseUntil WHERE e.id IN :ids")
+    int lease(@Param("ids") List<Long> ids, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * 전달 성공 기록 (선점 해제)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.publishedAt = :publishedAt, e.lastError = NULL, e.leaseUntil = NULL " +
+            "WHERE e.id IN :ids")
+    int markPublished(@Param("ids") List<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    /**
+     * 전달 실패 기록 (시도 횟수 증가, 선점 해제 - 다음 폴링에서 재시도)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.leaseUntil = NULL " +
+            "WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    /**
+     * 선점 해제 (실패한 이벤트 뒤에 보류된 이벤트)
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseUntil = NULL WHERE e.id IN :ids")
+    int releaseLease(@Param("ids") List<Long> ids);
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.publishedAt IS NULL")
+    long countPending();
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt IS NOT NULL AND e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
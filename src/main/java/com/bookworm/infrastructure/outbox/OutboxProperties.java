@@ -0,0 +1,39 @@
+package com.bookworm.infrastructure.outbox;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.outbox")
+@Validated
+@Getter @Setter
+public class OutboxProperties {
+
+    @Min(value = 50, message = "폴링 간격은 최소 50ms 이상이어야 합니다")
+    private long pollIntervalMs = 500;
+
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    @Max(value = 1000, message = "배치 크기는 1,000을 초과할 수 없습니다")
+    private int batchSize = 100;
+
+    @Min(value = 1, message = "최대 재시도 횟수는 1 이상이어야 합니다")
+    private int maxAttempts = 10;
+
+    @Min(value = 1, message = "리스너 스레드 수는 1 이상이어야 합니다")
+    @Max(value = 32, message = "리스너 스레드 수는 32를 초과할 수 없습니다")
+    private int listenerThreads = 4;
+
+    /**
+     * 선점 유지 시간 - 전달 도중 인스턴스가 죽으면 이 시간 뒤 다른 폴링이 다시 가져감
+     */
+    @Min(value = 1000, message = "선점 유지 시간은 최소 1,000ms 이상이어야 합니다")
+    private long leaseMs = 60_000;
+
+    @Min(value = 1, message = "보관 기간은 최소 1일 이상이어야 합니다")
+    private int retentionDays = 7;
+}
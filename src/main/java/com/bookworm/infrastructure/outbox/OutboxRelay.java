@@ -0,0 +1,204 @@
+package com.bookworm.infrastructure.outbox;
+
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.event.DomainEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 아웃박스 폴링 릴레이
+ *
+ * 처리 흐름:
+ * 1. (트랜잭션 1) 선점되지 않은 미전달 이벤트를 ID 순서로 잠금 조회 → lease_until 기록 후 커밋 (잠금 해제)
+ * 2. (트랜잭션 밖) 같은 애그리거트의 이벤트는 순서대로, 서로 다른 애그리거트는 병렬로 리스너에 전달
+ *    - 리스너 스레드는 엔티티를 만지지 않고 전달 결과(성공 ID, 실패 ID/사유, 보류 ID)만 돌려줌
+ * 3. (트랜잭션 2, 릴레이 스레드) 성공 ID는 published_at 기록, 실패는 시도 횟수 증가, 보류는 선점 해제
+ *
+ * 전달 도중 인스턴스가 죽으면 leaseMs 뒤 다른 폴링이 다시 가져감
+ * 전달 보장: at-least-once (리스너는 같은 이벤트를 두 번 받을 수 있으므로 멱등하게 작성)
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final OutboxProperties outboxProperties;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TimeProvider timeProvider;
+    private final ThreadPoolTaskExecutor domainEventExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelay(OutboxEventJpaRepository outboxEventJpaRepository,
+                       OutboxProperties outboxProperties,
+                       ApplicationEventPublisher applicationEventPublisher,
+                       ObjectMapper objectMapper,
+                       TimeProvider timeProvider,
+                       ThreadPoolTaskExecutor domainEventExecutor,
+                       PlatformTransactionManager transactionManager) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.outboxProperties = outboxProperties;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.timeProvider = timeProvider;
+        this.domainEventExecutor = domainEventExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 선점한 이벤트 (트랜잭션 밖으로 넘기는 값 - 엔티티를 리스너 스레드에 넘기지 않음)
+     */
+    record ClaimedEvent(Long id, String aggregateKey, String eventType, String payload, int attempts) {
+    }
+
+    /**
+     * 한 애그리거트의 전달 결과
+     *
+     * @param publishedIds 전달 성공 ID
+     * @param failedId     전달 실패 ID (없으면 null)
+     * @param error        실패 사유
+     * @param heldBackIds  실패 이후 보류된 ID
+     */
+    record DispatchResult(List<Long> publishedIds, Long failedId, String error, List<Long> heldBackIds) {
+    }
+
+    /**
+     * 미전달 이벤트 릴레이
+     */
+    @Scheduled(fixedDelayString = "${bookworm.outbox.poll-interval-ms:500}")
+    public void relayPendingEvents() {
+        List<ClaimedEvent> claimed = transactionTemplate.execute(status -> claimPending());
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        // 애그리거트별 그룹 (ID 순서 유지)
+        Map<String, List<ClaimedEvent>> byAggregate = new LinkedHashMap<>();
+        for (ClaimedEvent event : claimed) {
+            byAggregate.computeIfAbsent(event.aggregateKey(), key -> new ArrayList<>()).add(event);
+        }
+
+        List<CompletableFuture<DispatchResult>> futures = new ArrayList<>(byAggregate.size());
+        for (List<ClaimedEvent> events : byAggregate.values()) {
+            futures.add(CompletableFuture.supplyAsync(() -> dispatchInOrder(events), domainEventExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        List<DispatchResult> results = futures.stream().map(CompletableFuture::join).toList();
+        int published = transactionTemplate.execute(status -> recordResults(results));
+
+        if (published < claimed.size()) {
+            log.warn("아웃박스 릴레이 일부 실패 - 대상: {}, 성공: {}", claimed.size(), published);
+        } else {
+            log.debug("아웃박스 릴레이 완료 - {}건", published);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 정리 (매일 새벽 4시)
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgePublishedEvents() {
+        LocalDateTime before = timeProvider.currentDateTime().minusDays(outboxProperties.getRetentionDays());
+        int deleted = outboxEventJpaRepository.deletePublishedBefore(before);
+        log.info("전달 완료 아웃박스 이벤트 정리 - {}건 삭제", deleted);
+    }
+
+    /**
+     * 미전달 이벤트 잠금 조회 후 선점 기록 (트랜잭션 1)
+     */
+    private List<ClaimedEvent> claimPending() {
+        LocalDateTime now = timeProvider.currentDateTime();
+        List<OutboxEvent> pending = outboxEventJpaRepository.findPendingForUpdate(
+                outboxProperties.getMaxAttempts(), now,
+                PageRequest.of(0, outboxProperties.getBatchSize()));
+
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        List<ClaimedEvent> claimed = pending.stream()
+                .map(event -> new ClaimedEvent(event.getId(),
+                        event.getAggregateType() + "#" + event.getAggregateId(),
+                        event.getEventType(), event.getPayload(), event.getAttempts()))
+                .toList();
+
+        outboxEventJpaRepository.lease(claimed.stream().map(ClaimedEvent::id).toList(),
+                now.plus(Duration.ofMillis(outboxProperties.getLeaseMs())));
+        return claimed;
+    }
+
+    /**
+     * 전달 결과 기록 (트랜잭션 2, 릴레이 스레드)
+     *
+     * @return 전달 성공 건수
+     */
+    private int recordResults(List<DispatchResult> results) {
+        List<Long> publishedIds = new ArrayList<>();
+        List<Long> heldBackIds = new ArrayList<>();
+        for (DispatchResult result : results) {
+            publishedIds.addAll(result.publishedIds());
+            heldBackIds.addAll(result.heldBackIds());
+            if (result.failedId() != null) {
+                outboxEventJpaRepository.markFailed(result.failedId(), OutboxEvent.truncateError(result.error()));
+            }
+        }
+
+        if (!publishedIds.isEmpty()) {
+            outboxEventJpaRepository.markPublished(publishedIds, timeProvider.currentDateTime());
+        }
+        if (!heldBackIds.isEmpty()) {
+            outboxEventJpaRepository.releaseLease(heldBackIds);
+        }
+        return publishedIds.size();
+    }
+
+    /**
+     * 한 애그리거트의 이벤트를 순서대로 전달 (리스너 스레드, 트랜잭션 없음)
+     * - 앞선 이벤트가 실패하면 뒤의 이벤트는 보류 (순서 역전 방지)
+     */
+    private DispatchResult dispatchInOrder(List<ClaimedEvent> events) {
+        List<Long> publishedIds = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            ClaimedEvent event = events.get(i);
+            try {
+                applicationEventPublisher.publishEvent(deserialize(event));
+                publishedIds.add(event.id());
+            } catch (Exception e) {
+                log.error("아웃박스 이벤트 전달 실패 - ID: {}, 유형: {}, 시도: {}",
+                        event.id(), event.eventType(), event.attempts() + 1, e);
+                List<Long> heldBackIds = events.subList(i + 1, events.size()).stream()
+                        .map(ClaimedEvent::id)
+                        .toList();
+                return new DispatchResult(publishedIds, event.id(),
+                        e.getClass().getSimpleName() + ": " + e.getMessage(), heldBackIds);
+            }
+        }
+        return new DispatchResult(publishedIds, null, null, List.of());
+    }
+
+    private DomainEvent deserialize(ClaimedEvent event) throws Exception {
+        Class<?> type = Class.forName(event.eventType());
+        if (!DomainEvent.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("도메인 이벤트 유형이 아닙니다: " + event.eventType());
+        }
+        return (DomainEvent) objectMapper.readValue(event.payload(), type);
+    }
+}
@@ -0,0 +1,289 @@
+package com.bookworm.infrastructure.recommendation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 함께 대출된 도서 인덱스 빌더 (배치)
+ *
+ * 처리 흐름:
+ * 1. 회원 USER_CHUNK명 단위 키셋 페이지로 (회원, 도서) 대출 이력을 읽어 회원별 도서 목록 구성
+ *    (최근 대출 우선, 최대 maxBooksPerUser권) - ID가 시간 정렬 53비트 값이라 ID 구간 순회는 쓸 수 없음
+ *    - 보관 이동된 대출(book_loans_archive)도 함께 읽음 → 보관 작업이 추천 근거를 지우지 않음
+ *    - 보관 테이블은 원래 대출 ID를 그대로 쓰므로 한 문장의 UNION ALL에서 같은 대출이 두 번 나오지 않음
+ * 2. 도서 ID를 처음 본 순서대로 0부터 시작하는 조밀한 int 번호로 바꾼 뒤,
+ *    회원별 도서 쌍마다 동시 대출 수 증가 - 쌍은 (작은 번호 << 32 | 큰 번호) long 키로 LongIntHashMap에 보관
+ * 3. 도서별로 코사인 유사도(동시 대출 수 / sqrt(각 도서 대출 회원 수 곱)) 상위 N개만 남겨 배열로 압축
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CoBorrowIndexBuilder {
+
+    static final int USER_CHUNK = 1000;
+    private static final long LOWER_INT_MASK = 0xFFFFFFFFL;
+
+    /**
+     * 다음 페이지의 마지막 회원 ID (테이블별 회원 USER_CHUNK명 단위 키셋 페이지, user_id 선두 인덱스 사용)
+     */
+    private static final String SELECT_CHUNK_END =
+            "SELECT MAX(user_id) FROM (" +
+            "SELECT DISTINCT user_id FROM %s WHERE user_id > ? ORDER BY user_id LIMIT ?) chunk";
+
+    private static final String SELECT_LOANS_CHUNK_END = String.format(SELECT_CHUNK_END, "book_loans");
+    private static final String SELECT_ARCHIVE_CHUNK_END = String.format(SELECT_CHUNK_END, "book_loans_archive");
+
+    private static final String SELECT_USER_BOOKS =
+            "SELECT user_id, book_id, id FROM book_loans " +
+            "WHERE user_id > ? AND user_id <= ? AND status <> 'CANCELLED' " +
+            "UNION ALL " +
+            "SELECT user_id, book_id, id FROM book_loans_archive " +
+            "WHERE user_id > ? AND user_id <= ? AND status <> 'CANCELLED' " +
+            "ORDER BY user_id, id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecommendationProperties properties;
+
+    /**
+     * 대출 이력 전체(보관분 포함)로 인덱스 데이터 생성
+     */
+    public RelatedBooksIndex.Data build() {
+        long startedAt = System.currentTimeMillis();
+
+        BookIndexer books = new BookIndexer();
+        LongIntHashMap borrowerCounts = new LongIntHashMap(1 << 14);
+        LongIntHashMap pairCounts = new LongIntHashMap(1 << 20);
+        UserBooks userBooks = new UserBooks(properties.getMaxBooksPerUser());
+
+        long after = 0L;
+        while (true) {
+            Long chunkEnd = nextChunkEnd(after);
+            if (chunkEnd == null) {
+                break;
+            }
+
+            jdbcTemplate.query(SELECT_USER_BOOKS, rs -> {
+                long userId = rs.getLong(1);
+                long bookId = rs.getLong(2);
+                if (userId != userBooks.userId) {
+                    userBooks.flush(borrowerCounts, pairCounts);
+                    userBooks.userId = userId;
+                }
+                userBooks.add(books.indexOf(bookId));
+            }, after, chunkEnd, after, chunkEnd);
+            after = chunkEnd;
+        }
+        userBooks.flush(borrowerCounts, pairCounts);
+
+        RelatedBooksIndex.Data data = selectTopNeighbours(books, borrowerCounts, pairCounts);
+
+        log.info("추천 인덱스 계산 완료 - 도서 쌍: {}, 추천 대상 도서: {}, 추천 항목: {}, 소요: {}ms",
+                pairCounts.size(), data.bookIds().length, data.neighbourIds().length,
+                System.currentTimeMillis() - startedAt);
+        return data;
+    }
+
+    /**
+     * 두 테이블 페이지 끝 중 작은 쪽 (그 구간의 회원은 양쪽 모두 빠짐없이 포함, 최대 2 * USER_CHUNK명)
+     * - 한쪽이 끝났으면 다른 쪽 값, 둘 다 끝났으면 null
+     */
+    private Long nextChunkEnd(long after) {
+        Long loansEnd = jdbcTemplate.queryForObject(SELECT_LOANS_CHUNK_END, Long.class, after, USER_CHUNK);
+        Long archiveEnd = jdbcTemplate.queryForObject(SELECT_ARCHIVE_CHUNK_END, Long.class, after, USER_CHUNK);
+        if (loansEnd == null || archiveEnd == null) {
+            return loansEnd != null ? loansEnd : archiveEnd;
+        }
+        return Math.min(loansEnd, archiveEnd);
+    }
+
+    /**
+     * 도서별 상위 N개 이웃 선택 후 정렬된 배열로 압축
+     */
+    private RelatedBooksIndex.Data selectTopNeighbours(BookIndexer books, LongIntHashMap borrowerCounts,
+                                                       LongIntHashMap pairCounts) {
+        int limit = properties.getNeighbours();
+        int minCoCount = properties.getMinCoBorrowCount();
+        Map<Long, TopNeighbours> topByBook = new HashMap<>();
+
+        pairCounts.forEach((pair, coCount) -> {
+            if (coCount < minCoCount) {
+                return;
+            }
+            int first = firstOf(pair);
+            int second = secondOf(pair);
+            float score = (float) (coCount / Math.sqrt(
+                    (double) borrowerCounts.get(first) * borrowerCounts.get(second)));
+
+            long firstId = books.bookIdAt(first);
+            long secondId = books.bookIdAt(second);
+            topByBook.computeIfAbsent(firstId, k -> new TopNeighbours(limit)).offer(secondId, score, coCount);
+            topByBook.computeIfAbsent(secondId, k -> new TopNeighbours(limit)).offer(firstId, score, coCount);
+        });
+
+        long[] bookIds = topByBook.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        int[] offsets = new int[bookIds.length + 1];
+        int total = topByBook.values().stream().mapToInt(top -> top.size).sum();
+
+        long[] neighbourIds = new long[total];
+        float[] scores = new float[total];
+        int[] coCounts = new int[total];
+
+        int position = 0;
+        for (int i = 0; i < bookIds.length; i++) {
+            offsets[i] = position;
+            position = topByBook.get(bookIds[i]).drainSorted(neighbourIds, scores, coCounts, position);
+        }
+        offsets[bookIds.length] = position;
+
+        return new RelatedBooksIndex.Data(bookIds, offsets, neighbourIds, scores, coCounts);
+    }
+
+    /**
+     * 도서 쌍 키 (작은 번호 << 32 | 큰 번호)
+     */
+    static long pairKey(int first, int second) {
+        return ((long) first << 32) | (second & LOWER_INT_MASK);
+    }
+
+    static int firstOf(long pair) {
+        return (int) (pair >>> 32);
+    }
+
+    static int secondOf(long pair) {
+        return (int) (pair & LOWER_INT_MASK);
+    }
+
+    /**
+     * 도서 ID ↔ 조밀한 번호 (0부터 처음 본 순서대로)
+     */
+    static final class BookIndexer {
+        private final LongIntHashMap indexById = new LongIntHashMap(1 << 14);
+        private long[] bookIds = new long[1 << 14];
+        private int size;
+
+        int indexOf(long bookId) {
+            int stored = indexById.get(bookId);
+            if (stored != 0) {
+                return stored - 1;
+            }
+
+            if (size == bookIds.length) {
+                bookIds = Arrays.copyOf(bookIds, size << 1);
+            }
+            bookIds[size] = bookId;
+            // 0은 "없음"이므로 번호 + 1로 보관
+            indexById.addTo(bookId, size + 1);
+            return size++;
+        }
+
+        long bookIdAt(int index) {
+            return bookIds[index];
+        }
+
+        int size() {
+            return size;
+        }
+    }
+
+    /**
+     * 한 회원의 대출 도서 번호 (중복 제거, 최대 개수 제한)
+     */
+    private static final class UserBooks {
+        private final int[] books;
+        private int count;
+        private long userId = Long.MIN_VALUE;
+
+        private UserBooks(int capacity) {
+            this.books = new int[capacity];
+        }
+
+        void add(int bookIndex) {
+            if (count < books.length) {
+                books[count++] = bookIndex;
+            }
+        }
+
+        void flush(LongIntHashMap borrowerCounts, LongIntHashMap pairCounts) {
+            if (count == 0) {
+                return;
+            }
+
+            Arrays.sort(books, 0, count);
+            int distinct = 0;
+            for (int i = 0; i < count; i++) {
+                if (i == 0 || books[i] != books[i - 1]) {
+                    books[distinct++] = books[i];
+                }
+            }
+
+            for (int i = 0; i < distinct; i++) {
+                borrowerCounts.addTo(books[i], 1);
+                for (int j = i + 1; j < distinct; j++) {
+                    pairCounts.addTo(pairKey(books[i], books[j]), 1);
+                }
+            }
+            count = 0;
+        }
+    }
+
+    /**
+     * 도서 1권의 상위 N개 이웃 (N이 작으므로 최솟값 교체 방식)
+     */
+    private static final class TopNeighbours {
+        private final long[] ids;
+        private final float[] scores;
+        private final int[] coCounts;
+        private int size;
+
+        private TopNeighbours(int limit) {
+            this.ids = new long[limit];
+            this.scores = new float[limit];
+            this.coCounts = new int[limit];
+        }
+
+        void offer(long id, float score, int coCount) {
+            if (size < ids.length) {
+                set(size++, id, score, coCount);
+                return;
+            }
+
+            int min = 0;
+            for (int i = 1; i < size; i++) {
+                if (scores[i] < scores[min]) {
+                    min = i;
+                }
+            }
+            if (score > scores[min]) {
+                set(min, id, score, coCount);
+            }
+        }
+
+        int drainSorted(long[] outIds, float[] outScores, int[] outCoCounts, int position) {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+
+            for (int index : order) {
+                outIds[position] = ids[index];
+                outScores[position] = scores[index];
+                outCoCounts[position] = coCounts[index];
+                position++;
+            }
+            return position;
+        }
+
+        private void set(int index, long id, float score, int coCount) {
+            ids[index] = id;
+            scores[index] = score;
+            coCounts[index] = coCount;
+        }
+    }
+}
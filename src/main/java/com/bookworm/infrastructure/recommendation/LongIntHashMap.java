@@ -0,0 +1,121 @@
+package com.bookworm.infrastructure.recommendation;
+
+/**
+ * long → int 오픈 어드레싱 해시맵 (박싱 없음)
+ *
+ * - 선형 탐사, 적재율 0.5 초과 시 2배 확장
+ * - 키 0은 빈 슬롯 표시로 쓰므로 별도 필드로 보관
+ * - 단일 스레드 배치 작업 전용 (동기화 없음)
+ */
+final class LongIntHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 키의 값에 delta를 더하고 결과 반환 (없으면 0에서 시작)
+     */
+    int addTo(long key, int delta) {
+        if (key == EMPTY) {
+            hasZeroKey = true;
+            zeroValue += delta;
+            return zeroValue;
+        }
+
+        int index = indexOf(key);
+        if (keys[index] == key) {
+            values[index] += delta;
+            return values[index];
+        }
+
+        keys[index] = key;
+        values[index] = delta;
+        if (++size > (mask + 1) >> 1) {
+            rehash();
+        }
+        return delta;
+    }
+
+    int get(long key) {
+        if (key == EMPTY) {
+            return hasZeroKey ? zeroValue : 0;
+        }
+        int index = indexOf(key);
+        return keys[index] == key ? values[index] : 0;
+    }
+
+    int size() {
+        return size + (hasZeroKey ? 1 : 0);
+    }
+
+    /**
+     * 모든 항목 순회
+     */
+    void forEach(Visitor visitor) {
+        if (hasZeroKey) {
+            visitor.visit(EMPTY, zeroValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                visitor.visit(keys[i], values[i]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    interface Visitor {
+        void visit(long key, int value);
+    }
+
+    private int indexOf(long key) {
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void rehash() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+
+        keys = new long[oldKeys.length << 1];
+        values = new int[oldValues.length << 1];
+        mask = keys.length - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int index = indexOf(oldKeys[i]);
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * 연속된 ID가 인접 슬롯에 몰리지 않도록 비트 섞기 (MurmurHash3 finalizer)
+     */
+    private static int mix(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,39 @@
+package com.bookworm.infrastructure.recommendation;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.recommendation")
+@Validated
+@Getter @Setter
+public class RecommendationProperties {
+
+    /**
+     * 추천 인덱스 파일 경로 (재시작 시 다시 계산하지 않고 매핑)
+     */
+    @NotBlank(message = "추천 인덱스 경로는 필수입니다")
+    private String indexPath = "data/related-books.idx";
+
+    @Min(value = 1, message = "도서당 추천 수는 1 이상이어야 합니다")
+    @Max(value = 100, message = "도서당 추천 수는 100을 초과할 수 없습니다")
+    private int neighbours = 20;
+
+    /**
+     * 회원 1명당 조합에 사용할 최대 도서 수 (다독 회원의 조합 수 폭증 방지)
+     */
+    @Min(value = 2, message = "회원당 도서 수는 2 이상이어야 합니다")
+    private int maxBooksPerUser = 200;
+
+    /**
+     * 추천으로 인정할 최소 동시 대출 회원 수
+     */
+    @Min(value = 1, message = "최소 동시 대출 수는 1 이상이어야 합니다")
+    private int minCoBorrowCount = 2;
+}
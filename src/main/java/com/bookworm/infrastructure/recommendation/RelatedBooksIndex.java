@@ -0,0 +1,170 @@
+package com.bookworm.infrastructure.recommendation;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 도서별 함께 대출된 도서 인덱스 (메모리 매핑 파일)
+ *
+ * 파일 구조 (빅 엔디언):
+ * - 헤더: magic(int), version(int), bookCount(int), neighbourCount(int), builtAt(long)
+ * - bookIds(long[bookCount], 오름차순) / offsets(int[bookCount + 1])
+ * - neighbourIds(long[neighbourCount]) / scores(float[neighbourCount]) / coCounts(int[neighbourCount])
+ *
+ * 조회는 bookIds 이진 탐색 후 offsets 구간을 읽으며, 절대 위치 읽기만 하므로 여러 스레드에서 동시 조회 가능
+ */
+public final class RelatedBooksIndex {
+
+    private static final int MAGIC = 0x424B5249; // "BKRI"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 4 + 4 + 8;
+
+    private final MappedByteBuffer buffer;
+    private final int bookCount;
+    private final int neighbourCount;
+    private final long builtAt;
+
+    private final int bookIdsOffset;
+    private final int offsetsOffset;
+    private final int neighbourIdsOffset;
+    private final int scoresOffset;
+    private final int coCountsOffset;
+
+    /**
+     * 함께 대출된 도서
+     */
+    public record Neighbour(long bookId, float score, int coBorrowCount) {}
+
+    /**
+     * 인덱스 내용 (빌드 결과, 도서별 이웃은 점수 내림차순)
+     */
+    public record Data(long[] bookIds, int[] offsets, long[] neighbourIds, float[] scores, int[] coCounts) {}
+
+    private RelatedBooksIndex(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("추천 인덱스 파일 형식이 올바르지 않습니다.");
+        }
+
+        this.bookCount = buffer.getInt(8);
+        this.neighbourCount = buffer.getInt(12);
+        this.builtAt = buffer.getLong(16);
+
+        this.bookIdsOffset = HEADER_BYTES;
+        this.offsetsOffset = bookIdsOffset + bookCount * Long.BYTES;
+        this.neighbourIdsOffset = offsetsOffset + (bookCount + 1) * Integer.BYTES;
+        this.scoresOffset = neighbourIdsOffset + neighbourCount * Long.BYTES;
+        this.coCountsOffset = scoresOffset + neighbourCount * Float.BYTES;
+
+        if (coCountsOffset + (long) neighbourCount * Integer.BYTES > buffer.capacity()) {
+            throw new IllegalStateException("추천 인덱스 파일이 손상되었습니다.");
+        }
+    }
+
+    /**
+     * 인덱스 파일 매핑
+     */
+    public static RelatedBooksIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            return new RelatedBooksIndex(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 인덱스 파일 기록 (임시 파일에 쓴 뒤 교체하므로 기존 매핑은 영향 없음)
+     */
+    public static void write(Path path, Data data, long builtAt) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(data.bookIds().length);
+            out.writeInt(data.neighbourIds().length);
+            out.writeLong(builtAt);
+
+            for (long bookId : data.bookIds()) {
+                out.writeLong(bookId);
+            }
+            for (int offset : data.offsets()) {
+                out.writeInt(offset);
+            }
+            for (long neighbourId : data.neighbourIds()) {
+                out.writeLong(neighbourId);
+            }
+            for (float score : data.scores()) {
+                out.writeFloat(score);
+            }
+            for (int coCount : data.coCounts()) {
+                out.writeInt(coCount);
+            }
+        }
+
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 도서의 함께 대출된 도서 (점수 내림차순, 최대 limit개)
+     */
+    public List<Neighbour> neighbours(long bookId, int limit) {
+        int index = findBook(bookId);
+        if (index < 0 || limit <= 0) {
+            return List.of();
+        }
+
+        int from = buffer.getInt(offsetsOffset + index * Integer.BYTES);
+        int to = Math.min(buffer.getInt(offsetsOffset + (index + 1) * Integer.BYTES), from + limit);
+
+        List<Neighbour> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(new Neighbour(
+                    buffer.getLong(neighbourIdsOffset + i * Long.BYTES),
+                    buffer.getFloat(scoresOffset + i * Float.BYTES),
+                    buffer.getInt(coCountsOffset + i * Integer.BYTES)));
+        }
+        return result;
+    }
+
+    public int getBookCount() {
+        return bookCount;
+    }
+
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    private int findBook(long bookId) {
+        int low = 0;
+        int high = bookCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = buffer.getLong(bookIdsOffset + mid * Long.BYTES);
+            if (value < bookId) {
+                low = mid + 1;
+            } else if (value > bookId) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,30 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.constant.LoanStatus;
+import com.bookworm.domain.entity.ArchivedBookLoan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 보관된 대출 조회 Repository (읽기 전용)
+ */
+@Repository
+public interface ArchivedBookLoanRepository extends JpaRepository<ArchivedBookLoan, Long> {
+
+    @Query("SELECT a FROM ArchivedBookLoan a JOIN FETCH a.book JOIN FETCH a.user " +
+           "WHERE a.userId = :userId ORDER BY a.loanDate DESC, a.id DESC")
+    List<ArchivedBookLoan> findByUserIdWithDetails(@Param("userId") Long userId);
+
+    @Query("SELECT a FROM ArchivedBookLoan a JOIN FETCH a.book JOIN FETCH a.user " +
+           "WHERE a.userId = :userId AND a.status = :status ORDER BY a.loanDate DESC, a.id DESC")
+    List<ArchivedBookLoan> findByUserIdAndStatusWithDetails(@Param("userId") Long userId,
+                                                            @Param("status") LoanStatus status);
+
+    long countByUserId(Long userId);
+
+    long countByUserIdAndStatus(Long userId, LoanStatus status);
+}
@@ -0,0 +1,16 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.entity.ArchivedLoanExtension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 보관된 대출 연장 이력 Repository (읽기 전용)
+ */
+@Repository
+public interface ArchivedLoanExtensionRepository extends JpaRepository<ArchivedLoanExtension, Long> {
+
+    List<ArchivedLoanExtension> findByLoanIdOrderByExtensionNoAsc(Long loanId);
+}
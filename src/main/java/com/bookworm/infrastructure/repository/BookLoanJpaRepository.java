@@ -5,11 +5,13 @@ import com.bookworm.domain.entity.BookLoan;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -59,6 +61,45 @@ public interface BookLoanJpaRepository extends JpaRepository<BookLoan, Long> {
             "WHERE bl.loanPeriod.loanDate BETWEEN :startDate AND :endDate")
     long countLoansByPeriod(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
+    /**
+     * 기간 내 반납 건수 / 연체 반납 건수 집계
+     *
+     * 원리: (status, returned_at) 복합 인덱스 범위 스캔 한 번으로 두 값을 함께 계산
+     * - 반납일이 반납 예정일보다 늦으면 연체 반납
+     */
+    @Query("SELECT new com.bookworm.infrastructure.repository.ReturnCountSummary(" +
+            "COUNT(bl), " +
+            "SUM(CASE WHEN CAST(bl.returnedAt AS LocalDate) > bl.loanPeriod.dueDate THEN 1 ELSE 0 END)) " +
+            "FROM BookLoan bl " +
+            "WHERE bl.status = :status " +
+            "AND bl.returnedAt >= :from AND bl.returnedAt < :to")
+    ReturnCountSummary summarizeReturns(@Param("status") LoanStatus status,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to);
+
+    /**
+     * 인기 도서 카운터 초기화용 최근 대출 (대출 ID, 도서 ID, 대출 일시, 수량)
+     * - loanDate 조건으로 범위를 먼저 좁힌 뒤 대출 일시로 정확히 거름
+     */
+    @Query("SELECT bl.id, bl.book.id, bl.createdAt, bl.quantity.value FROM BookLoan bl " +
+            "WHERE bl.loanPeriod.loanDate >= :sinceDate AND bl.createdAt >= :since")
+    List<Object[]> findBookIdAndCreatedAtSince(@Param("sinceDate") LocalDate sinceDate,
+                                               @Param("since") LocalDateTime since);
+
+    /**
+     * 인기 도서 카운터 반영용 대출 (대출 ID, 도서 ID, 대출 일시, 수량) - 변경 피드로 받은 새 대출 ID
+     */
+    @Query("SELECT bl.id, bl.book.id, bl.createdAt, bl.quantity.value FROM BookLoan bl WHERE bl.id IN :ids")
+    List<Object[]> findBookIdAndCreatedAtByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 반납 일시가 없는 기존 반납 완료 대출 보정 (마지막 수정 일시로 대체)
+     */
+    @Modifying
+    @Query("UPDATE BookLoan bl SET bl.returnedAt = bl.updatedAt " +
+            "WHERE bl.status = :status AND bl.returnedAt IS NULL")
+    int backfillReturnedAt(@Param("status") LoanStatus status);
+
     /**
      * 사용자별 대출 이력 (페이징, N+1 문제 해결)
      */
@@ -38,6 +38,7 @@ public interface BookLoanRepository {
     long countByBookId(Long bookId);
     List<BookLoan> findLoansBetweenDates(LocalDate startDate, LocalDate endDate);
     List<BookLoan> findByUserNameContaining(String userName);
+    List<BookLoan> findByUserIds(List<Long> userIds);
     List<BookLoan> findByBookTitleContaining(String bookTitle);
 
     // ===== 기존 동적 검색 메서드 (유지) =====
@@ -64,6 +65,16 @@ public interface BookLoanRepository {
      */
     long countLoansByPeriod(LocalDate startDate, LocalDate endDate);
 
+    /**
+     * 특정 기간(반납일 기준, 양 끝 포함) 반납 건수 / 연체 반납 건수 집계
+     */
+    ReturnCountSummary summarizeReturnsByPeriod(LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 반납 일시가 비어 있는 반납 완료 대출 보정
+     */
+    int backfillReturnedAt();
+
     // ===== 기존 편의 메서드들 (유지) =====
     default List<BookLoan> findOverdueLoans() {
         return findOverdueLoans(LocalDate.now());
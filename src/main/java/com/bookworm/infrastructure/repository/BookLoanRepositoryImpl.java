@@ -3,14 +3,15 @@ package com.bookworm.infrastructure.repository;
 
 import com.bookworm.domain.constant.LoanStatus;
 import com.bookworm.domain.entity.BookLoan;
-import com.querydsl.core.BooleanBuilder;
+import com.bookworm.domain.entity.QUser;
+import com.bookworm.domain.vo.user.UserSearchKeys;
+import com.bookworm.infrastructure.search.UserSearchIndex;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
-import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
@@ -31,7 +32,16 @@ import static com.bookworm.domain.entity.QUser.user;
 @RequiredArgsConstructor
 public class BookLoanRepositoryImpl {
 
+    /**
+     * 회원 ID 목록(IN 조건)으로 바꿔 쓸 최대 회원 수 - 넘으면 search_name 부분 일치 서브쿼리로 조회 (결과 누락 없음)
+     */
+    private static final int MAX_SEARCH_USERS = 200;
+
+    private static final QUser nameMatch = new QUser("nameMatch");
+
     private final JPAQueryFactory queryFactory;
+    private final UserSearchIndex userSearchIndex;
+    private final LoanFilterQueryEngine loanFilterQueryEngine;
 
     public List<BookLoan> findByUserId(Long userId) {
         return queryFactory
@@ -166,16 +176,45 @@ public class BookLoanRepositoryImpl {
                 .fetch();
     }
 
+    /**
+     * 회원 이름 부분 일치로 대출 검색
+     * - 회원 검색 색인으로 회원 ID를 먼저 찾은 뒤 (user_id, ...) 인덱스로 대출 조회
+     * - 일치 회원이 MAX_SEARCH_USERS명을 넘으면 search_name 부분 일치 서브쿼리로 전체 조회
+     */
     public List<BookLoan> findByUserNameContaining(String userName) {
+        String normalizedName = UserSearchKeys.normalizeName(userName);
+        UserSearchIndex.Matches matches = userSearchIndex.findMatches(
+                UserSearchIndex.Field.NAME, normalizedName, MAX_SEARCH_USERS);
+        if (!matches.truncated()) {
+            return findByUserIds(matches.userIds());
+        }
+
         return queryFactory
                 .selectFrom(bookLoan)
                 .join(bookLoan.book, book).fetchJoin()
                 .join(bookLoan.user, user).fetchJoin()
-                .where(
-                        user.firstName.value.concat(" ").concat(user.lastName.value)
-                                .toLowerCase()
-                                .contains(userName.toLowerCase())
-                )
+                .where(bookLoan.user.id.in(JPAExpressions
+                        .select(nameMatch.id)
+                        .from(nameMatch)
+                        .where(nameMatch.searchName.like(
+                                UserSearchIndex.containsPattern(normalizedName), UserSearchIndex.LIKE_ESCAPE))))
+                .orderBy(bookLoan.createdAt.desc())
+                .fetch();
+    }
+
+    /**
+     * 여러 회원의 대출 조회 (최근 대출 순)
+     */
+    public List<BookLoan> findByUserIds(List<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory
+                .selectFrom(bookLoan)
+                .join(bookLoan.book, book).fetchJoin()
+                .join(bookLoan.user, user).fetchJoin()
+                .where(bookLoan.user.id.in(userIds))
                 .orderBy(bookLoan.createdAt.desc())
                 .fetch();
     }
@@ -190,51 +229,51 @@ public class BookLoanRepositoryImpl {
                 .fetch();
     }
 
+    /**
+     * 동적 검색 (모든 조건을 SQL 조건으로 변환, 쿼리 조립은 LoanFilterQueryEngine)
+     * - 잘못된 상태값은 무시
+     * - 회원 이름은 회원 검색 색인으로 회원 ID 목록을 먼저 구한 뒤 user_id 조건으로 변환
+     */
     public Page<BookLoan> findLoansWithConditions(Long userId, Long bookId, String status,
                                                   LocalDate loanDateFrom, LocalDate loanDateTo,
                                                   LocalDate dueDateFrom, LocalDate dueDateTo,
                                                   Boolean overdue, String userName, String bookTitle,
                                                   Pageable pageable) {
 
-        BooleanBuilder builder = new BooleanBuilder();
-
-        // 조건 빌딩 로직 (기존과 동일)
-        if (userId != null) {
-            builder.and(bookLoan.user.id.eq(userId));
-        }
-
-        if (bookId != null) {
-            builder.and(bookLoan.book.id.eq(bookId));
-        }
-
+        LoanStatus loanStatus = null;
         if (status != null && !status.trim().isEmpty()) {
             try {
-                LoanStatus loanStatus = LoanStatus.valueOf(status.toUpperCase());
-                builder.and(bookLoan.status.eq(loanStatus));
+                loanStatus = LoanStatus.valueOf(status.trim().toUpperCase());
             } catch (IllegalArgumentException e) {
                 // 잘못된 상태값은 무시
             }
         }
 
-        // 기타 조건들 (기존과 동일)...
-
-        JPAQuery<BookLoan> countQuery = queryFactory
-                .selectFrom(bookLoan)
-                .join(bookLoan.book, book)
-                .join(bookLoan.user, user)
-                .where(builder);
+        List<Long> userIds = null;
+        String userNameCondition = null;
+        String normalizedName = UserSearchKeys.normalizeName(userName);
+        if (normalizedName != null && userId != null) {
+            // 회원 ID가 함께 주어지면 그 회원의 이름이 일치하는지만 확인
+            if (!userSearchIndex.matches(UserSearchIndex.Field.NAME, normalizedName, userId)) {
+                userIds = List.of();
+            }
+        } else if (normalizedName != null) {
+            UserSearchIndex.Matches matches = userSearchIndex.findMatches(
+                    UserSearchIndex.Field.NAME, normalizedName, MAX_SEARCH_USERS);
+            if (matches.truncated()) {
+                userNameCondition = normalizedName;
+            } else {
+                userIds = matches.userIds();
+            }
+        }
 
-        long total = countQuery.fetchCount();
+        String title = bookTitle != null && !bookTitle.isBlank() ? bookTitle.trim() : null;
 
-        List<BookLoan> content = queryFactory
-                .selectFrom(bookLoan)
-                .join(bookLoan.book, book).fetchJoin()
-                .join(bookLoan.user, user).fetchJoin()
-                .where(builder)
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+        LoanFilter filter = new LoanFilter(
+                userId, userIds, userNameCondition, bookId, loanStatus, overdue,
+                dueDateFrom, dueDateTo, loanDateFrom, loanDateTo,
+                title, LocalDate.now());
 
-        return new PageImpl<>(content, pageable, total);
+        return loanFilterQueryEngine.find(filter, pageable);
     }
 }
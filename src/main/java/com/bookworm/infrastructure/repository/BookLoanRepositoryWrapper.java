@@ -213,6 +213,32 @@ public class BookLoanRepositoryWrapper implements BookLoanRepository {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ReturnCountSummary summarizeReturnsByPeriod(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            log.warn("기간별 반납 집계 시도 - 잘못된 기간입니다. Start={}, End={}", startDate, endDate);
+            return new ReturnCountSummary(0L, 0L);
+        }
+
+        try {
+            // 종료일 당일을 포함하도록 [시작일 00:00, 종료일+1 00:00) 반열린 구간으로 변환
+            ReturnCountSummary summary = bookLoanJpaRepository.summarizeReturns(
+                    LoanStatus.RETURNED, startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+            log.debug("기간별 반납 집계: Start={}, End={}, Total={}, Overdue={}",
+                    startDate, endDate, summary.total(), summary.overdue());
+            return summary;
+        } catch (Exception e) {
+            log.error("기간별 반납 집계 실패: Start={}, End={}", startDate, endDate, e);
+            throw new RuntimeException("기간별 반납 집계에 실패했습니다.", e);
+        }
+    }
+
+    @Override
+    public int backfillReturnedAt() {
+        return bookLoanJpaRepository.backfillReturnedAt(LoanStatus.RETURNED);
+    }
+
     // ===== 기존 QueryDSL 구현체로 위임하는 메서드들 =====
 
     @Override
@@ -280,6 +306,11 @@ public class BookLoanRepositoryWrapper implements BookLoanRepository {
         return bookLoanRepositoryImpl.findByUserNameContaining(userName);
     }
 
+    @Override
+    public List<BookLoan> findByUserIds(List<Long> userIds) {
+        return bookLoanRepositoryImpl.findByUserIds(userIds);
+    }
+
     @Override
     public List<BookLoan> findByBookTitleContaining(String bookTitle) {
         return bookLoanRepositoryImpl.findByBookTitleContaining(bookTitle);
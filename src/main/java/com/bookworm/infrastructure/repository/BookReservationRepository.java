@@ -0,0 +1,46 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.constant.ReservationStatus;
+import com.bookworm.domain.entity.BookReservation;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 도서 예약 Repository
+ * - 대기열 조회는 모두 idx_reservation_queue (book_id, status, queued_at, id) 인덱스로 처리
+ *   (맨 앞 예약 조회/존재 확인은 인덱스 한 번 탐색)
+ */
+@Repository
+public interface BookReservationRepository extends JpaRepository<BookReservation, Long> {
+
+    /**
+     * 대기열 맨 앞 예약
+     */
+    Optional<BookReservation> findFirstByBookIdAndStatusOrderByQueuedAtAscIdAsc(Long bookId, ReservationStatus status);
+
+    boolean existsByBookIdAndStatus(Long bookId, ReservationStatus status);
+
+    long countByBookIdAndStatus(Long bookId, ReservationStatus status);
+
+    Optional<BookReservation> findFirstByBookIdAndUserIdAndStatusIn(Long bookId, Long userId,
+                                                                    Collection<ReservationStatus> statuses);
+
+    long countByUserIdAndStatusIn(Long userId, Collection<ReservationStatus> statuses);
+
+    @EntityGraph(attributePaths = {"book", "user"})
+    List<BookReservation> findByBookIdAndStatusInOrderByQueuedAtAscIdAsc(Long bookId,
+                                                                         Collection<ReservationStatus> statuses);
+
+    @EntityGraph(attributePaths = {"book", "user"})
+    List<BookReservation> findByUserIdOrderByQueuedAtDesc(Long userId);
+
+    /**
+     * 보관 중인 예약 (기동 시 만료 스케줄 복원용)
+     */
+    List<BookReservation> findByStatus(ReservationStatus status);
+}
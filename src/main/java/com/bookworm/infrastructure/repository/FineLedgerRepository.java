@@ -0,0 +1,17 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.entity.FineLedgerEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FineLedgerRepository extends JpaRepository<FineLedgerEntry, Long> {
+
+    /**
+     * 사용자 원장 내역 (최신순, idx_fine_user)
+     */
+    List<FineLedgerEntry> findByUserIdOrderByAccrualDateDescIdDesc(Long userId, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.entity.LoanExtension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 대출 연장 이력 Repository
+ */
+@Repository
+public interface LoanExtensionRepository extends JpaRepository<LoanExtension, Long> {
+
+    /**
+     * 대출별 연장 이력 (uk_loan_extension_no 인덱스 순서)
+     */
+    List<LoanExtension> findByLoanIdOrderByExtensionNoAsc(Long loanId);
+}
@@ -0,0 +1,76 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.constant.LoanStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 정규화된 대출 검색 조건
+ * - null인 항목은 조건에서 제외
+ * - userIds: 회원 이름 검색을 회원 검색 색인으로 미리 해석한 회원 ID 목록
+ * - userName: 색인 결과가 상한을 넘을 때 대신 쓰는 정규화된 회원 이름 (users.search_name 부분 일치 서브쿼리)
+ * - overdue: true면 연체 중인 대출만, false면 연체 중이 아닌 대출만 (today 기준)
+ */
+public record LoanFilter(
+        Long userId,
+        List<Long> userIds,
+        String userName,
+        Long bookId,
+        LoanStatus status,
+        Boolean overdue,
+        LocalDate dueDateFrom,
+        LocalDate dueDateTo,
+        LocalDate loanDateFrom,
+        LocalDate loanDateTo,
+        String bookTitle,
+        LocalDate today
+) {
+
+    static final int USER_ID = 1;
+    static final int USER_IDS = 1 << 1;
+    static final int BOOK_ID = 1 << 2;
+    static final int STATUS = 1 << 3;
+    static final int OVERDUE = 1 << 4;
+    static final int NOT_OVERDUE = 1 << 5;
+    static final int DUE_FROM = 1 << 6;
+    static final int DUE_TO = 1 << 7;
+    static final int LOAN_FROM = 1 << 8;
+    static final int LOAN_TO = 1 << 9;
+    static final int BOOK_TITLE = 1 << 10;
+    static final int USER_NAME = 1 << 11;
+
+    /**
+     * 조건 모양 (어떤 조건이 있는지만 나타내는 비트 집합, 값은 제외)
+     */
+    int shape() {
+        int shape = 0;
+        if (userId != null) shape |= USER_ID;
+        if (userIds != null) shape |= USER_IDS;
+        if (bookId != null) shape |= BOOK_ID;
+        if (status != null) shape |= STATUS;
+        if (Boolean.TRUE.equals(overdue)) shape |= OVERDUE;
+        if (Boolean.FALSE.equals(overdue)) shape |= NOT_OVERDUE;
+        if (dueDateFrom != null) shape |= DUE_FROM;
+        if (dueDateTo != null) shape |= DUE_TO;
+        if (loanDateFrom != null) shape |= LOAN_FROM;
+        if (loanDateTo != null) shape |= LOAN_TO;
+        if (bookTitle != null) shape |= BOOK_TITLE;
+        if (userName != null) shape |= USER_NAME;
+        return shape;
+    }
+
+    /**
+     * 결과가 없음이 확실한 조건 조합 (쿼리 생략)
+     */
+    boolean isEmptyResult() {
+        if (userIds != null && userIds.isEmpty()) {
+            return true;
+        }
+        if (Boolean.TRUE.equals(overdue) && status != null && status != LoanStatus.ACTIVE) {
+            return true;
+        }
+        return (dueDateFrom != null && dueDateTo != null && dueDateFrom.isAfter(dueDateTo))
+                || (loanDateFrom != null && loanDateTo != null && loanDateFrom.isAfter(loanDateTo));
+    }
+}
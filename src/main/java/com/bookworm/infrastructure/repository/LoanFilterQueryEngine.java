@@ -0,0 +1,255 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.constant.LoanStatus;
+import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.entity.QUser;
+import com.bookworm.infrastructure.search.UserSearchIndex;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.Param;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.bookworm.domain.entity.QBook.book;
+import static com.bookworm.domain.entity.QBookLoan.bookLoan;
+import static com.bookworm.domain.entity.QUser.user;
+
+/**
+ * 대출 동적 검색 쿼리 엔진
+ *
+ * 원리:
+ * 1. 조건 모양(있는 조건의 조합 + 정렬)마다 QueryDSL 쿼리를 값 자리표시자(Param)로 한 번만 조립해 캐시
+ *    → 호출 시에는 캐시된 템플릿을 복제해 값만 바인딩 (같은 JPQL 문자열이라 Hibernate 쿼리 계획 캐시도 재사용)
+ * 2. 조건은 선택도가 높은 순서로 배치하고 인덱스를 쓸 수 있는 형태로 변환
+ *    - 회원/도서 ID → (user_id, status, due_date), (book_id, status) 인덱스
+ *    - 연체 여부 → status = ACTIVE AND due_date < 오늘 ((status, due_date) 인덱스 범위)
+ *    - 도서 제목 → books를 먼저 거르는 서브쿼리 후 book_id IN (대출 테이블 조인 없이 book_id 인덱스)
+ *    - 회원 이름(색인 결과가 상한 초과) → users.search_name 부분 일치 서브쿼리 후 user_id IN
+ * 3. 건수 쿼리는 조인 없이 book_loans만 집계 (조회 쿼리만 응답용 도서/회원 fetch join)
+ */
+@Component
+public class LoanFilterQueryEngine {
+
+    private static final Param<Long> USER_ID = new Param<>(Long.class, "userId");
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final Param<List> USER_IDS = new Param<>(List.class, "userIds");
+    private static final Param<Long> BOOK_ID = new Param<>(Long.class, "bookId");
+    private static final Param<LoanStatus> STATUS = new Param<>(LoanStatus.class, "status");
+    private static final Param<LocalDate> TODAY = new Param<>(LocalDate.class, "today");
+    private static final Param<LocalDate> DUE_FROM = new Param<>(LocalDate.class, "dueFrom");
+    private static final Param<LocalDate> DUE_TO = new Param<>(LocalDate.class, "dueTo");
+    private static final Param<LocalDate> LOAN_FROM = new Param<>(LocalDate.class, "loanFrom");
+    private static final Param<LocalDate> LOAN_TO = new Param<>(LocalDate.class, "loanTo");
+    private static final Param<String> TITLE_PATTERN = new Param<>(String.class, "titlePattern");
+    private static final Param<String> USER_NAME_PATTERN = new Param<>(String.class, "userNamePattern");
+
+    /**
+     * 회원 이름 서브쿼리용 별칭 (조회 쿼리의 fetch join 별칭과 분리)
+     */
+    private static final QUser nameMatch = new QUser("nameMatch");
+
+    /**
+     * 정렬 가능한 속성 (그 외 속성은 무시)
+     */
+    private static final Map<String, ComparableExpressionBase<?>> SORTABLE = Map.of(
+            "id", bookLoan.id,
+            "loanDate", bookLoan.loanPeriod.loanDate,
+            "dueDate", bookLoan.loanPeriod.dueDate,
+            "returnedAt", bookLoan.returnedAt,
+            "createdAt", bookLoan.createdAt
+    );
+
+    private final Map<QueryShape, JPAQuery<BookLoan>> contentTemplates = new ConcurrentHashMap<>();
+    private final Map<Integer, JPAQuery<Long>> countTemplates = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 조회 쿼리 템플릿 키 (조건 모양 + 정렬)
+     */
+    private record QueryShape(int filterShape, List<String> orders) {
+    }
+
+    /**
+     * 조건에 맞는 대출 페이지 조회
+     */
+    public Page<BookLoan> find(LoanFilter filter, Pageable pageable) {
+        if (filter.isEmptyResult()) {
+            return new PageImpl<>(List.of(), pageable, 0);
+        }
+
+        int shape = filter.shape();
+        List<String> orders = sortKeys(pageable.getSort());
+
+        JPAQuery<Long> countQuery = bind(
+                countTemplates.computeIfAbsent(shape, this::buildCountTemplate).clone(entityManager), filter);
+        Long total = countQuery.fetchOne();
+        if (total == null || total == 0 || pageable.getOffset() >= total) {
+            return new PageImpl<>(List.of(), pageable, total != null ? total : 0);
+        }
+
+        JPAQuery<BookLoan> contentQuery = bind(
+                contentTemplates.computeIfAbsent(new QueryShape(shape, orders), this::buildContentTemplate)
+                        .clone(entityManager), filter);
+        List<BookLoan> content = contentQuery
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // ==================== 템플릿 조립 ====================
+
+    private JPAQuery<Long> buildCountTemplate(int shape) {
+        return new JPAQuery<Void>()
+                .select(bookLoan.count())
+                .from(bookLoan)
+                .where(predicate(shape));
+    }
+
+    private JPAQuery<BookLoan> buildContentTemplate(QueryShape queryShape) {
+        return new JPAQuery<Void>()
+                .select(bookLoan)
+                .from(bookLoan)
+                .join(bookLoan.book, book).fetchJoin()
+                .join(bookLoan.user, user).fetchJoin()
+                .where(predicate(queryShape.filterShape()))
+                .orderBy(orderSpecifiers(queryShape.orders()));
+    }
+
+    /**
+     * 조건 모양 → WHERE 절 (선택도 높은 조건부터)
+     */
+    @SuppressWarnings("unchecked")
+    BooleanBuilder predicate(int shape) {
+        BooleanBuilder where = new BooleanBuilder();
+
+        if (has(shape, LoanFilter.USER_ID)) {
+            where.and(bookLoan.user.id.eq(USER_ID));
+        }
+        if (has(shape, LoanFilter.USER_IDS)) {
+            where.and(Expressions.booleanTemplate("{0} in {1}", bookLoan.user.id, USER_IDS));
+        }
+        if (has(shape, LoanFilter.USER_NAME)) {
+            where.and(bookLoan.user.id.in(JPAExpressions
+                    .select(nameMatch.id)
+                    .from(nameMatch)
+                    .where(nameMatch.searchName.like(USER_NAME_PATTERN, UserSearchIndex.LIKE_ESCAPE))));
+        }
+        if (has(shape, LoanFilter.BOOK_ID)) {
+            where.and(bookLoan.book.id.eq(BOOK_ID));
+        }
+
+        // 연체 조건은 상태 조건을 포함하므로 상태 조건을 따로 두지 않음
+        if (has(shape, LoanFilter.OVERDUE)) {
+            where.and(bookLoan.status.eq(LoanStatus.ACTIVE))
+                    .and(bookLoan.loanPeriod.dueDate.lt(TODAY));
+        } else if (has(shape, LoanFilter.STATUS)) {
+            where.and(bookLoan.status.eq(STATUS));
+        }
+        if (has(shape, LoanFilter.NOT_OVERDUE)) {
+            where.and(bookLoan.status.ne(LoanStatus.ACTIVE).or(bookLoan.loanPeriod.dueDate.goe(TODAY)));
+        }
+
+        if (has(shape, LoanFilter.DUE_FROM)) {
+            where.and(bookLoan.loanPeriod.dueDate.goe(DUE_FROM));
+        }
+        if (has(shape, LoanFilter.DUE_TO)) {
+            where.and(bookLoan.loanPeriod.dueDate.loe(DUE_TO));
+        }
+        if (has(shape, LoanFilter.LOAN_FROM)) {
+            where.and(bookLoan.loanPeriod.loanDate.goe(LOAN_FROM));
+        }
+        if (has(shape, LoanFilter.LOAN_TO)) {
+            where.and(bookLoan.loanPeriod.loanDate.loe(LOAN_TO));
+        }
+
+        if (has(shape, LoanFilter.BOOK_TITLE)) {
+            where.and(bookLoan.book.id.in(JPAExpressions
+                    .select(book.id)
+                    .from(book)
+                    .where(book.title.value.toLowerCase().like(TITLE_PATTERN))));
+        }
+
+        return where;
+    }
+
+    private OrderSpecifier<?>[] orderSpecifiers(List<String> orders) {
+        List<OrderSpecifier<?>> specifiers = new ArrayList<>();
+        for (String key : orders) {
+            int separator = key.indexOf(':');
+            ComparableExpressionBase<?> path = SORTABLE.get(key.substring(0, separator));
+            boolean asc = key.endsWith("ASC");
+            specifiers.add(asc ? path.asc() : path.desc());
+        }
+        return specifiers.toArray(OrderSpecifier[]::new);
+    }
+
+    // ==================== 값 바인딩 ====================
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private <T> JPAQuery<T> bind(JPAQuery<T> query, LoanFilter filter) {
+        if (filter.userId() != null) query.set(USER_ID, filter.userId());
+        if (filter.userIds() != null) query.set((Param) USER_IDS, filter.userIds());
+        if (filter.userName() != null) query.set(USER_NAME_PATTERN, UserSearchIndex.containsPattern(filter.userName()));
+        if (filter.bookId() != null) query.set(BOOK_ID, filter.bookId());
+        if (filter.status() != null && !Boolean.TRUE.equals(filter.overdue())) query.set(STATUS, filter.status());
+        if (filter.overdue() != null) query.set(TODAY, filter.today());
+        if (filter.dueDateFrom() != null) query.set(DUE_FROM, filter.dueDateFrom());
+        if (filter.dueDateTo() != null) query.set(DUE_TO, filter.dueDateTo());
+        if (filter.loanDateFrom() != null) query.set(LOAN_FROM, filter.loanDateFrom());
+        if (filter.loanDateTo() != null) query.set(LOAN_TO, filter.loanDateTo());
+        if (filter.bookTitle() != null) query.set(TITLE_PATTERN, "%" + escapeLike(filter.bookTitle()) + "%");
+        return query;
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 정렬 → 템플릿 키 ("dueDate:ASC" 형식, 허용되지 않은 속성 제외, 마지막에 id로 순서 고정)
+     */
+    static List<String> sortKeys(Sort sort) {
+        List<String> keys = new ArrayList<>();
+        boolean hasId = false;
+
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.containsKey(order.getProperty())) {
+                continue;
+            }
+            keys.add(order.getProperty() + ":" + (order.isAscending() ? Order.ASC : Order.DESC));
+            hasId |= "id".equals(order.getProperty());
+        }
+
+        if (!hasId) {
+            keys.add("id:" + Order.DESC);
+        }
+        return List.copyOf(keys);
+    }
+
+    private static boolean has(int shape, int flag) {
+        return (shape & flag) != 0;
+    }
+
+    private static String escapeLike(String value) {
+        return value.toLowerCase(Locale.ROOT).replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -0,0 +1,19 @@
+package com.bookworm.infrastructure.repository;
+
+/**
+ * 기간별 반납 건수 집계 결과
+ * - JPQL 생성자 표현식으로 한 번의 집계 쿼리에서 생성
+ */
+public record ReturnCountSummary(
+        Long totalReturns,
+        Long overdueReturns
+) {
+
+    public long total() {
+        return totalReturns != null ? totalReturns : 0L;
+    }
+
+    public long overdue() {
+        return overdueReturns != null ? overdueReturns : 0L;
+    }
+}
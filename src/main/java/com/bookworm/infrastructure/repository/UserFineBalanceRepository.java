@@ -0,0 +1,19 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.entity.UserFineBalance;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserFineBalanceRepository extends JpaRepository<UserFineBalance, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM UserFineBalance b WHERE b.userId = :userId")
+    Optional<UserFineBalance> findByIdForUpdate(@Param("userId") Long userId);
+}
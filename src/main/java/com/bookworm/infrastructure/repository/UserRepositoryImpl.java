@@ -1,10 +1,13 @@
 package com.bookworm.infrastructure.repository;
 
+import com.bookworm.domain.constant.ErrorMessages;
 import com.bookworm.domain.entity.User;
+import com.bookworm.domain.exception.DuplicateUserException;
 import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -154,6 +157,26 @@ public class UserRepositoryImpl implements UserRepository {
         }
     }
 
+    /**
+     * 신규 User 즉시 저장
+     * - users에서 신규 가입 INSERT가 위반할 수 있는 유니크 제약은 email뿐이므로 중복 이메일로 변환
+     */
+    @Override
+    public User saveAndFlush(User user) {
+        if (user == null) {
+            throw new IllegalArgumentException("User 객체는 필수입니다.");
+        }
+
+        try {
+            User savedUser = jpaRepository.saveAndFlush(user);
+            log.debug("User 저장 완료: ID={}, Email={}", savedUser.getId(), savedUser.getEmail().getValue());
+            return savedUser;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("User 저장 실패 - 이메일 중복: Email={}", user.getEmail().getValue());
+            throw new DuplicateUserException(ErrorMessages.Duplication.EMAIL_EXISTS);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findById(Long id) {
@@ -170,6 +193,21 @@ public class UserRepositoryImpl implements UserRepository {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> findAllById(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            return jpaRepository.findAllById(ids);
+        } catch (Exception e) {
+            log.error("User 목록 조회 실패: Count={}", ids.size(), e);
+            throw new RuntimeException("User 목록 조회에 실패했습니다.", e);
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Optional<User> findByEmail(Email email) {
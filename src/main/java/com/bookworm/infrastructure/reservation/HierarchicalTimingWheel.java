@@ -0,0 +1,189 @@
+package com.bookworm.infrastructure.reservation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 원리:
+ * 1. 가장 낮은 단계는 tickMs 간격의 버킷 wheelSize개, 범위를 넘는 항목은 상위 단계(간격 x wheelSize)에 보관
+ * 2. 비어 있지 않은 버킷만 DelayQueue에 등록 → 항목 수와 무관하게 만료 버킷만 깨어나 처리
+ * 3. 상위 단계 버킷이 만료되면 항목을 다시 추가하여 하위 단계로 내려보내고, 최하위에서 만료되면 반환
+ *
+ * 추가/만료 모두 O(1) (버킷 DelayQueue 연산은 버킷 수 기준 O(log B))
+ */
+public final class HierarchicalTimingWheel<T> {
+
+    private final DelayQueue<Bucket<T>> delayQueue = new DelayQueue<>();
+    private final Level<T> root;
+    private int size = 0;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, LongSupplier clock) {
+        if (tickMs <= 0 || wheelSize <= 1) {
+            throw new IllegalArgumentException("tickMs는 1 이상, wheelSize는 2 이상이어야 합니다.");
+        }
+        this.root = new Level<>(tickMs, wheelSize, clock.getAsLong(), delayQueue, clock);
+    }
+
+    /**
+     * 항목 추가
+     *
+     * @return 이미 만료 시각이 지난 경우 false (호출자가 즉시 처리)
+     */
+    public synchronized boolean add(T item, long expirationMs) {
+        boolean added = root.add(new Entry<>(item, expirationMs));
+        if (added) {
+            size++;
+        }
+        return added;
+    }
+
+    /**
+     * 만료된 버킷을 최대 timeoutMs 동안 기다렸다가 처리하고 만료 항목 반환
+     */
+    public List<T> advance(long timeoutMs) throws InterruptedException {
+        Bucket<T> bucket = delayQueue.poll(timeoutMs, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return List.of();
+        }
+
+        List<T> expired = new ArrayList<>();
+        synchronized (this) {
+            while (bucket != null) {
+                root.advanceClock(bucket.getExpiration());
+                for (Entry<T> entry : bucket.drain()) {
+                    if (!root.add(entry)) {
+                        size--;
+                        expired.add(entry.item());
+                    }
+                }
+                bucket = delayQueue.poll();
+            }
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    // ==================== 내부 구조 ====================
+
+    private record Entry<T>(T item, long expirationMs) {
+    }
+
+    /**
+     * 한 단계의 휠
+     */
+    private static final class Level<T> {
+        private final long tickMs;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Bucket<T>> buckets;
+        private final DelayQueue<Bucket<T>> delayQueue;
+        private final LongSupplier clock;
+
+        private long currentTime;
+        private Level<T> overflow;
+
+        Level(long tickMs, int wheelSize, long startMs, DelayQueue<Bucket<T>> delayQueue, LongSupplier clock) {
+            this.tickMs = tickMs;
+            this.wheelSize = wheelSize;
+            this.interval = tickMs * wheelSize;
+            this.delayQueue = delayQueue;
+            this.clock = clock;
+            this.currentTime = startMs - (startMs % tickMs);
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>(clock));
+            }
+        }
+
+        boolean add(Entry<T> entry) {
+            long expiration = entry.expirationMs();
+
+            if (expiration < currentTime + tickMs) {
+                return false;
+            }
+
+            if (expiration < currentTime + interval) {
+                long virtualId = expiration / tickMs;
+                Bucket<T> bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * tickMs)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+
+            return overflow().add(entry);
+        }
+
+        void advanceClock(long timeMs) {
+            if (timeMs >= currentTime + tickMs) {
+                currentTime = timeMs - (timeMs % tickMs);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Level<T> overflow() {
+            if (overflow == null) {
+                overflow = new Level<>(interval, wheelSize, currentTime, delayQueue, clock);
+            }
+            return overflow;
+        }
+    }
+
+    /**
+     * 같은 만료 구간의 항목 묶음
+     */
+    private static final class Bucket<T> implements Delayed {
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private final AtomicLong expiration = new AtomicLong(-1);
+        private final LongSupplier clock;
+
+        Bucket(LongSupplier clock) {
+            this.clock = clock;
+        }
+
+        void add(Entry<T> entry) {
+            entries.add(entry);
+        }
+
+        /**
+         * @return 만료 시각이 바뀌었으면 true (DelayQueue 재등록 필요)
+         */
+        boolean setExpiration(long expirationMs) {
+            return expiration.getAndSet(expirationMs) != expirationMs;
+        }
+
+        long getExpiration() {
+            return expiration.get();
+        }
+
+        List<Entry<T>> drain() {
+            List<Entry<T>> drained = new ArrayList<>(entries);
+            entries.clear();
+            expiration.set(-1);
+            return drained;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(0, expiration.get() - clock.getAsLong()), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(expiration.get(), ((Bucket<?>) other).expiration.get());
+        }
+    }
+}
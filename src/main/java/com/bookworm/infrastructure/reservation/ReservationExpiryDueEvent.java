@@ -0,0 +1,8 @@
+package com.bookworm.infrastructure.reservation;
+
+/**
+ * 예약 보관 기한 도래 신호
+ * - 타이밍 휠 스레드에서 발행, 예약 서비스가 상태 확인 후 만료 처리
+ */
+public record ReservationExpiryDueEvent(Long reservationId) {
+}
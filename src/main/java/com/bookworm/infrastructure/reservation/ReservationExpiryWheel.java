@@ -0,0 +1,115 @@
+package com.bookworm.infrastructure.reservation;
+
+import com.bookworm.domain.common.TimeProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 보관 만료 스케줄러
+ *
+ * - 1초 단위 x 60칸 계층형 타이밍 휠 (분 → 시간 → 일 단위 상위 휠은 필요할 때 생성)
+ * - 주기적인 테이블 스캔 없이 만료 시각이 된 예약만 ReservationExpiryDueEvent로 전달
+ * - 메모리 상태이므로 기동 시 보관 중인 예약을 다시 등록해야 함 (ReservationService 참고)
+ * - 만료 처리는 DB 상태를 다시 확인하므로 수령/취소된 예약의 만료 신호는 무시됨
+ */
+@Component
+@Slf4j
+public class ReservationExpiryWheel implements SmartLifecycle {
+
+    private static final long TICK_MS = TimeUnit.SECONDS.toMillis(1);
+    private static final int WHEEL_SIZE = 60;
+    private static final long POLL_TIMEOUT_MS = 200;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final TimeProvider timeProvider;
+    private final HierarchicalTimingWheel<Long> wheel;
+
+    /**
+     * 등록 시점에 이미 기한이 지난 예약 (휠 스레드에서 처리)
+     */
+    private final Queue<Long> overdue = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running = false;
+    private volatile Thread tickerThread;
+
+    public ReservationExpiryWheel(ApplicationEventPublisher eventPublisher, TimeProvider timeProvider) {
+        this.eventPublisher = eventPublisher;
+        this.timeProvider = timeProvider;
+        this.wheel = new HierarchicalTimingWheel<>(TICK_MS, WHEEL_SIZE, () -> timeProvider.getClock().millis());
+    }
+
+    /**
+     * 예약 만료 등록
+     */
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        long expirationMs = expiresAt.atZone(timeProvider.getClock().getZone()).toInstant().toEpochMilli();
+        if (!wheel.add(reservationId, expirationMs)) {
+            overdue.add(reservationId);
+        }
+    }
+
+    public int getScheduledCount() {
+        return wheel.size() + overdue.size();
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runTicker, "reservation-expiry-wheel");
+        thread.setDaemon(true);
+        tickerThread = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = tickerThread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void runTicker() {
+        while (running) {
+            try {
+                Long reservationId;
+                while ((reservationId = overdue.poll()) != null) {
+                    fire(reservationId);
+                }
+
+                List<Long> expired = wheel.advance(POLL_TIMEOUT_MS);
+                expired.forEach(this::fire);
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("예약 만료 스케줄러 처리 중 오류", e);
+            }
+        }
+    }
+
+    private void fire(Long reservationId) {
+        try {
+            eventPublisher.publishEvent(new ReservationExpiryDueEvent(reservationId));
+        } catch (Exception e) {
+            log.error("예약 만료 처리 실패 - 예약 ID: {}", reservationId, e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.bookworm.infrastructure.search;
+
+import com.bookworm.domain.common.EntityIdGenerator;
+import com.bookworm.domain.vo.user.Email;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 가입 이메일 존재 여부 필터 (Counting Bloom Filter)
+ *
+ * 원리:
+ * 1. 정규화된 이메일(Email VO 값)을 k개 위치의 4비트 카운터에 기록
+ * 2. 하나라도 0이면 "확실히 없음" → DB 조회 없이 사용 가능 판정
+ *    모두 0이 아니면 "있을 수도 있음" → 호출자가 existsByEmail 인덱스 조회로 확인
+ * 3. 가입 시 증가, 탈퇴 시(커밋 후) 감소 - 15에 도달한 카운터는 고정 (감소하지 않음, 오탐 방향으로만 틀림)
+ *    감소는 이 필터에 개별로 더한 이메일(이 인스턴스 가입분, 동기화로 새로 더한 분)만 한 번 수행
+ *    → 재구성 적재분이나 동기화에서 이미 있다고 보고 건너뛴 이메일을 빼서 다른 이메일 카운터를 깎는 일이 없음
+ *
+ * 정합성:
+ * - 준비 전(시작 직후)에는 항상 "있을 수도 있음" → 기존과 같이 DB 조회
+ * - 다른 인스턴스 가입분은 syncIntervalMs마다 최근 ID 범위 조회로 반영 (시간 정렬 ID)
+ * - 개별 감소 대상이 아닌 탈퇴분, 다른 인스턴스 탈퇴분, 크기 재조정은 rebuildIntervalMs마다 전체 재구성으로 반영
+ * - 동기화 전의 짧은 구간에 다른 인스턴스 가입 이메일을 "없음"으로 볼 수 있으나, 가입 시 email 유니크 제약이 최종 방어
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilter {
+
+    /**
+     * 동기화 조회 범위를 앞당기는 여유 (인스턴스 간 시계 오차, 늦게 커밋된 트랜잭션)
+     */
+    private static final long SYNC_OVERLAP_MILLIS = 60_000;
+
+    private static final String SELECT_ALL = "SELECT email FROM users";
+    private static final String SELECT_RECENT = "SELECT email FROM users WHERE id >= ?";
+    private static final String COUNT_ALL = "SELECT COUNT(*) FROM users";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EmailFilterProperties properties;
+
+    private volatile Counters counters;
+
+    /**
+     * 재구성 중인 필터 - 재구성 동안의 가입도 함께 기록해 교체 시 누락 방지
+     */
+    private volatile Counters building;
+
+    private volatile Instant lastSyncedAt;
+
+    /**
+     * 확실히 없는 이메일인지 판정 (false면 DB 확인 필요)
+     */
+    public boolean mightContain(Email email) {
+        Counters current = this.counters;
+        return current == null || current.mightContain(email.getValue());
+    }
+
+    public boolean isReady() {
+        return counters != null;
+    }
+
+    /**
+     * 가입/이메일 변경 반영 (롤백되어도 오탐만 생기므로 즉시 반영)
+     */
+    public void add(Email email) {
+        String value = email.getValue();
+        // 재구성 필터를 먼저 읽어야 교체 직후에도 새 필터에 기록됨
+        Counters next = this.building;
+        Counters current = this.counters;
+        if (next != null && next != current) {
+            next.add(value);
+        }
+        if (current != null) {
+            current.add(value);
+        }
+    }
+
+    /**
+     * 탈퇴/이메일 변경 반영 (커밋 후 호출 - 롤백된 삭제를 빼면 "없음" 오판이 생김)
+     * - 현재 필터에 개별로 더한 이메일만 감소, 나머지는 재구성 때 빠짐
+     * - 재구성 중인 필터에는 반영하지 않음 (아직 적재 전인 항목의 카운터를 깎을 수 있으므로)
+     */
+    public void remove(Email email) {
+        Counters current = this.counters;
+        if (current != null) {
+            current.remove(email.getValue());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 전체 재구성 (회원 수 기준으로 크기 재계산)
+     */
+    @Scheduled(fixedDelayString = "${bookworm.auth.email-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${bookworm.auth.email-filter.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        try {
+            Instant startedAt = Instant.now();
+            Long total = jdbcTemplate.queryForObject(COUNT_ALL, Long.class);
+            long capacity = Math.max(properties.getMinCapacity(), (total != null ? total : 0) * 2);
+
+            Counters next = new Counters(capacity, properties.getFalsePositiveRate());
+            this.building = next;
+            jdbcTemplate.query(SELECT_ALL, rs -> {
+                next.load(rs.getString(1));
+            });
+
+            this.counters = next;
+            this.building = null;
+            this.lastSyncedAt = startedAt;
+
+            log.info("이메일 존재 필터 재구성 완료 - 회원: {}건, 카운터: {}개, 해시: {}개",
+                    next.size(), next.slots, next.hashes);
+        } catch (Exception e) {
+            this.building = null;
+            log.error("이메일 존재 필터 재구성 실패 - 기존 필터 유지", e);
+        }
+    }
+
+    /**
+     * 최근 가입 이메일 반영 (다른 인스턴스 가입분)
+     * - 이미 있을 수도 있다고 판정되는 이메일은 중복 증가하지 않음
+     */
+    @Scheduled(fixedDelayString = "${bookworm.auth.email-filter.sync-interval-ms:15000}",
+            initialDelayString = "${bookworm.auth.email-filter.sync-interval-ms:15000}")
+    public void syncRecent() {
+        Counters current = this.counters;
+        Instant since = this.lastSyncedAt;
+        if (current == null || since == null) {
+            return;
+        }
+
+        try {
+            Instant startedAt = Instant.now();
+            long fromId = EntityIdGenerator.firstIdAt(since.minusMillis(SYNC_OVERLAP_MILLIS));
+            AtomicLong added = new AtomicLong();
+
+            jdbcTemplate.query(SELECT_RECENT, rs -> {
+                String email = rs.getString(1);
+                if (!current.mightContain(email)) {
+                    current.add(email);
+                    added.incrementAndGet();
+                }
+            }, fromId);
+
+            this.lastSyncedAt = startedAt;
+            if (added.get() > 0) {
+                log.debug("이메일 존재 필터 동기화 - 신규 {}건", added.get());
+            }
+        } catch (Exception e) {
+            log.error("이메일 존재 필터 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 4비트 카운터 배열 (long 하나에 16개)
+     * - add로 더한 이메일은 removable에 기록해 remove 시 한 번만 감소 (재구성 간격 동안의 가입 수만큼만 보관)
+     * - load(재구성 적재)는 기록하지 않음 → 감소 대상 아님
+     */
+    static final class Counters {
+
+        private static final int COUNTERS_PER_WORD = 16;
+        private static final long MAX_COUNT = 15;
+
+        private final AtomicLongArray words;
+        private final long slots;
+        private final int hashes;
+        private final AtomicLong size = new AtomicLong();
+        private final Set<String> removable = ConcurrentHashMap.newKeySet();
+
+        Counters(long capacity, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long optimalSlots = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2));
+            this.slots = Math.max(COUNTERS_PER_WORD, optimalSlots);
+            this.hashes = Math.max(1, (int) Math.round((double) slots / capacity * ln2));
+            this.words = new AtomicLongArray(Math.toIntExact((slots + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD));
+        }
+
+        boolean mightContain(String email) {
+            long h1 = hash(email);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                if (count(Math.floorMod(h1 + i * h2, slots)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 개별 추가 (이후 remove로 한 번 감소 가능)
+         */
+        void add(String email) {
+            increment(email);
+            removable.add(email);
+        }
+
+        /**
+         * 재구성 적재 (감소 대상 아님)
+         */
+        void load(String email) {
+            increment(email);
+        }
+
+        /**
+         * add로 더한 이메일만 감소, 그 외는 무시 (재구성 때 빠짐)
+         */
+        void remove(String email) {
+            if (!removable.remove(email)) {
+                return;
+            }
+            long h1 = hash(email);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                adjust(Math.floorMod(h1 + i * h2, slots), -1);
+            }
+            size.decrementAndGet();
+        }
+
+        private void increment(String email) {
+            long h1 = hash(email);
+            long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+            for (int i = 0; i < hashes; i++) {
+                adjust(Math.floorMod(h1 + i * h2, slots), 1);
+            }
+            size.incrementAndGet();
+        }
+
+        long size() {
+            return size.get();
+        }
+
+        private long count(long slot) {
+            int shift = (int) (slot % COUNTERS_PER_WORD) * 4;
+            return (words.get((int) (slot / COUNTERS_PER_WORD)) >>> shift) & MAX_COUNT;
+        }
+
+        /**
+         * 카운터 증감 - 0에서 감소하거나 포화(15) 상태는 변경하지 않음
+         */
+        private void adjust(long slot, int delta) {
+            int index = (int) (slot / COUNTERS_PER_WORD);
+            int shift = (int) (slot % COUNTERS_PER_WORD) * 4;
+
+            while (true) {
+                long word = words.get(index);
+                long count = (word >>> shift) & MAX_COUNT;
+                if (count == MAX_COUNT || (delta < 0 && count == 0)) {
+                    return;
+                }
+                long updated = (word & ~(MAX_COUNT << shift)) | ((count + delta) << shift);
+                if (words.compareAndSet(index, word, updated)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 64비트 FNV-1a + 비트 혼합
+         */
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
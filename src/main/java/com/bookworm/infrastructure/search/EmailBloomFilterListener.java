@@ -0,0 +1,112 @@
+package com.bookworm.infrastructure.search;
+
+import com.bookworm.domain.entity.User;
+import com.bookworm.domain.vo.user.Email;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 회원 저장 리스너 → 이메일 존재 필터 갱신
+ *
+ * - 추가(가입, 이메일 변경 후 값)는 즉시 반영: 롤백되어도 오탐만 생김
+ * - 제거(탈퇴, 이메일 변경 전 값)는 커밋 후 반영: 롤백된 삭제가 "없음" 오판을 만들지 않도록
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailBloomFilterListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final EmailBloomFilter emailBloomFilter;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, new CommittedUpdateListener());
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, new CommittedDeleteListener());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User user) {
+            emailBloomFilter.add(user.getEmail());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        // 이전 상태를 모르면 바뀌었다고 보고 추가 (오탐 방향)
+        if (event.getEntity() instanceof User user && (event.getOldState() == null || emailChanged(event))) {
+            emailBloomFilter.add(user.getEmail());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private class CommittedUpdateListener implements PostCommitUpdateEventListener {
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            if (event.getEntity() instanceof User && emailChanged(event)) {
+                int emailIndex = event.getPersister().getPropertyIndex("email");
+                emailBloomFilter.remove((Email) event.getOldState()[emailIndex]);
+            }
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return User.class.equals(persister.getMappedClass());
+        }
+    }
+
+    private class CommittedDeleteListener implements PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            if (event.getEntity() instanceof User user) {
+                emailBloomFilter.remove(user.getEmail());
+            }
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return User.class.equals(persister.getMappedClass());
+        }
+    }
+
+    /**
+     * 이전 상태가 있고 이메일 값이 바뀐 경우
+     */
+    private static boolean emailChanged(PostUpdateEvent event) {
+        if (event.getOldState() == null) {
+            return false;
+        }
+        int emailIndex = event.getPersister().getPropertyIndex("email");
+        Email before = (Email) event.getOldState()[emailIndex];
+        Email after = (Email) event.getState()[emailIndex];
+        return before != null && after != null && !Objects.equals(before.getValue(), after.getValue());
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookworm.infrastructure.search;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.auth.email-filter")
+@Validated
+@Getter @Setter
+public class EmailFilterProperties {
+
+    /**
+     * 목표 오탐률 (있을 수도 있음 → 실제로는 없음)
+     */
+    @DecimalMin(value = "0.0001", message = "오탐률은 0.0001 이상이어야 합니다")
+    @DecimalMax(value = "0.2", message = "오탐률은 0.2를 초과할 수 없습니다")
+    private double falsePositiveRate = 0.01;
+
+    /**
+     * 최소 수용 건수 - 실제 크기는 재구성 시점 회원 수의 2배와 비교해 큰 값
+     */
+    @Min(value = 1000, message = "최소 수용 건수는 1000 이상이어야 합니다")
+    private int minCapacity = 100_000;
+
+    /**
+     * 다른 인스턴스에서 가입한 이메일을 반영하는 주기 (밀리초)
+     */
+    @Min(value = 1000, message = "동기화 주기는 최소 1000ms 이상이어야 합니다")
+    private long syncIntervalMs = 15_000;
+
+    /**
+     * 전체 재구성 주기 (밀리초) - 다른 인스턴스의 탈퇴 반영, 크기 재조정
+     */
+    @Min(value = 60_000, message = "재구성 주기는 최소 60000ms 이상이어야 합니다")
+    private long rebuildIntervalMs = 3_600_000;
+}
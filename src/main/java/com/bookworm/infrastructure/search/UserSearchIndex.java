@@ -0,0 +1,277 @@
+package com.bookworm.infrastructure.search;
+
+import com.bookworm.domain.vo.user.UserSearchKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회원 이름/전화번호 검색 색인 (users.search_name/search_phone + user_search_grams)
+ *
+ * 색인: 정규화 값의 2-gram과 3-gram을 모두 저장
+ *
+ * 검색 방식:
+ * 1. 검색어가 3글자 이상이면 검색어의 3-gram을, 2글자면 검색어 자체(2-gram)를 가진 회원을 gram 색인에서 후보로 추림
+ * 2. 후보만 정규화 컬럼 LIKE '%검색어%'로 최종 확인 (gram 순서까지 일치하는지)
+ * 3. 1글자 검색어만 gram 없이 정규화 컬럼 LIKE '%검색어%'를 ID 순으로 확인
+ *    - 한 글자는 대부분의 회원과 일치하므로 limit건을 채우는 즉시 스캔이 끝남
+ *
+ * 3-gram만 있던 기존 색인은 기동 시 보정 작업(findPendingUsers)이 2-gram이 없는 회원을 다시 색인함
+ *
+ * 호출 측이 건수 상한을 두는 경우 findMatches로 상한 초과 여부(truncated)를 함께 받음
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserSearchIndex {
+
+    static final int MIN_GRAM_SIZE = 2;
+
+    static final int MAX_GRAM_SIZE = 3;
+
+    public static final char LIKE_ESCAPE = '!';
+
+    private static final String DELETE_GRAMS = "DELETE FROM user_search_grams WHERE user_id = ?";
+
+    private static final String INSERT_GRAM =
+            "INSERT INTO user_search_grams (search_field, gram, user_id) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_SEARCH_KEYS =
+            "UPDATE users SET search_name = ?, search_phone = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 색인 대상 필드
+     */
+    public enum Field {
+        NAME("N", "search_name"),
+        PHONE("P", "search_phone");
+
+        private final String code;
+        private final String column;
+
+        Field(String code, String column) {
+            this.code = code;
+            this.column = column;
+        }
+    }
+
+    /**
+     * 검색 키가 아직 계산되지 않은 회원 (기존 데이터/합성 데이터 보정용)
+     */
+    public record PendingUser(Long id, String firstName, String lastName, String phoneNumber) {
+    }
+
+    /**
+     * 상한까지의 검색 결과
+     *
+     * @param userIds   ID 순 회원 ID (최대 limit건)
+     * @param truncated limit건을 넘는 회원이 더 있음
+     */
+    public record Matches(List<Long> userIds, boolean truncated) {
+    }
+
+    // ==================== 검색 ====================
+
+    /**
+     * 정규화된 검색어를 포함하는 회원 ID (ID 순, 최대 limit건)
+     */
+    public List<Long> findUserIds(Field field, String normalizedTerm, int limit) {
+        return findMatches(field, normalizedTerm, limit).userIds();
+    }
+
+    /**
+     * 정규화된 검색어를 포함하는 회원 ID와 상한 초과 여부 (limit + 1건 조회)
+     */
+    public Matches findMatches(Field field, String normalizedTerm, int limit) {
+        List<Long> ids = query(field, normalizedTerm, limit + 1);
+        if (ids.size() > limit) {
+            return new Matches(List.copyOf(ids.subList(0, limit)), true);
+        }
+        return new Matches(ids, false);
+    }
+
+    /**
+     * 특정 회원이 검색어를 포함하는지 (PK 조회 한 건)
+     */
+    public boolean matches(Field field, String normalizedTerm, long userId) {
+        if (normalizedTerm == null || normalizedTerm.isEmpty()) {
+            return false;
+        }
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE id = ? AND " + field.column +
+                " LIKE ? ESCAPE '" + LIKE_ESCAPE + "'",
+                Integer.class, userId, containsPattern(normalizedTerm));
+        return count != null && count > 0;
+    }
+
+    /**
+     * 정규화 컬럼 부분 일치 패턴 ('%검색어%', 이스케이프 문자 LIKE_ESCAPE)
+     */
+    public static String containsPattern(String normalizedTerm) {
+        return "%" + escapeLike(normalizedTerm) + "%";
+    }
+
+    private List<Long> query(Field field, String normalizedTerm, int limit) {
+        if (normalizedTerm == null || normalizedTerm.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<String> grams = termGrams(normalizedTerm);
+        if (grams.isEmpty()) {
+            return jdbcTemplate.queryForList(
+                    "SELECT id FROM users WHERE " + field.column + " LIKE ? ESCAPE '" + LIKE_ESCAPE + "' " +
+                    "ORDER BY id LIMIT ?",
+                    Long.class, containsPattern(normalizedTerm), limit);
+        }
+
+        String placeholders = String.join(",", Collections.nCopies(grams.size(), "?"));
+        String sql = "SELECT u.id FROM users u " +
+                "WHERE u.id IN (SELECT g.user_id FROM user_search_grams g " +
+                "  WHERE g.search_field = ? AND g.gram IN (" + placeholders + ") " +
+                "  GROUP BY g.user_id HAVING COUNT(*) = ?) " +
+                "AND u." + field.column + " LIKE ? ESCAPE '" + LIKE_ESCAPE + "' " +
+                "ORDER BY u.id LIMIT ?";
+
+        List<Object> args = new ArrayList<>(grams.size() + 4);
+        args.add(field.code);
+        args.addAll(grams);
+        args.add(grams.size());
+        args.add(containsPattern(normalizedTerm));
+        args.add(limit);
+
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+
+    // ==================== 색인 갱신 ====================
+
+    /**
+     * 회원 한 명의 gram 색인 재작성 (호출 측 커넥션/트랜잭션 사용)
+     */
+    public static void reindex(Connection connection, long userId, String searchName, String searchPhone)
+            throws SQLException {
+        delete(connection, userId);
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_GRAM)) {
+            addGrams(insert, Field.NAME, searchName, userId);
+            addGrams(insert, Field.PHONE, searchPhone, userId);
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * 회원 한 명의 gram 색인 삭제
+     */
+    public static void delete(Connection connection, long userId) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(DELETE_GRAMS)) {
+            delete.setLong(1, userId);
+            delete.executeUpdate();
+        }
+    }
+
+    /**
+     * 색인 보정이 필요한 회원을 afterId 다음부터 limit건 조회
+     * - 검색 키가 비어 있는 회원
+     * - 검색 키는 있으나 2-gram 행이 없는 회원 (3-gram만 저장하던 때 색인된 회원)
+     */
+    public List<PendingUser> findPendingUsers(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT u.id, u.first_name, u.last_name, u.phone_number FROM users u " +
+                "WHERE u.id > ? AND (u.search_name IS NULL " +
+                "  OR ((CHAR_LENGTH(u.search_name) >= " + MIN_GRAM_SIZE +
+                "      OR CHAR_LENGTH(u.search_phone) >= " + MIN_GRAM_SIZE + ") " +
+                "    AND NOT EXISTS (SELECT 1 FROM user_search_grams g " +
+                "      WHERE g.user_id = u.id AND CHAR_LENGTH(g.gram) = " + MIN_GRAM_SIZE + "))) " +
+                "ORDER BY u.id LIMIT ?",
+                (rs, rowNum) -> new PendingUser(
+                        rs.getLong("id"), rs.getString("first_name"),
+                        rs.getString("last_name"), rs.getString("phone_number")),
+                afterId, limit);
+    }
+
+    /**
+     * 검색 키 계산 후 users 컬럼과 gram 색인 기록 (호출 측 트랜잭션 필요)
+     */
+    public void applySearchKeys(List<PendingUser> users) {
+        jdbcTemplate.execute((Connection connection) -> {
+            try (PreparedStatement update = connection.prepareStatement(UPDATE_SEARCH_KEYS)) {
+                for (PendingUser user : users) {
+                    String searchName = UserSearchKeys.normalizeName(
+                            joinName(user.firstName(), user.lastName()));
+                    String searchPhone = UserSearchKeys.normalizePhone(user.phoneNumber());
+
+                    update.setString(1, searchName);
+                    update.setString(2, searchPhone);
+                    update.setLong(3, user.id());
+                    update.addBatch();
+
+                    reindex(connection, user.id(), searchName, searchPhone);
+                }
+                update.executeBatch();
+            }
+            return null;
+        });
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 색인에 저장할 값의 2-gram과 3-gram 집합
+     */
+    static Set<String> indexGrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int size = MIN_GRAM_SIZE; size <= MAX_GRAM_SIZE; size++) {
+            grams.addAll(grams(value, size));
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어로 조회할 gram 집합 (3글자 이상은 3-gram, 2글자는 검색어 자체, 1글자는 빈 집합)
+     */
+    static Set<String> termGrams(String term) {
+        return grams(term, Math.min(term.length(), MAX_GRAM_SIZE));
+    }
+
+    private static Set<String> grams(String value, int size) {
+        if (value == null || size < MIN_GRAM_SIZE || value.length() < size) {
+            return Collections.emptySet();
+        }
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + size <= value.length(); i++) {
+            grams.add(value.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    private static void addGrams(PreparedStatement insert, Field field, String value, long userId)
+            throws SQLException {
+        for (String gram : indexGrams(value)) {
+            insert.setString(1, field.code);
+            insert.setString(2, gram);
+            insert.setLong(3, userId);
+            insert.addBatch();
+        }
+    }
+
+    private static String joinName(String firstName, String lastName) {
+        if (firstName == null) {
+            return lastName;
+        }
+        return lastName == null ? firstName : firstName + " " + lastName;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
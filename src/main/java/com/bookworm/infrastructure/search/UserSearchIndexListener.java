@@ -0,0 +1,83 @@
+package com.bookworm.infrastructure.search;
+
+import com.bookworm.domain.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * 회원 저장 리스너 → gram 색인 갱신
+ *
+ * - 회원 INSERT/UPDATE/DELETE와 같은 커넥션·트랜잭션에서 실행되므로 롤백 시 색인도 함께 롤백
+ * - 수정은 검색 키(search_name/search_phone)가 바뀐 경우에만 다시 색인
+ */
+@Component
+@RequiredArgsConstructor
+public class UserSearchIndexListener implements PostInsertEventListener,
+        PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User user) {
+            reindex(event.getSession(), user);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof User user)) {
+            return;
+        }
+
+        if (event.getOldState() == null || searchKeysChanged(event)) {
+            reindex(event.getSession(), user);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User) {
+            long userId = (Long) event.getId();
+            event.getSession().doWork(connection -> UserSearchIndex.delete(connection, userId));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void reindex(EventSource session, User user) {
+        session.doWork(connection ->
+                UserSearchIndex.reindex(connection, user.getId(), user.getSearchName(), user.getSearchPhone()));
+    }
+
+    private boolean searchKeysChanged(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        int nameIndex = persister.getPropertyIndex("searchName");
+        int phoneIndex = persister.getPropertyIndex("searchPhone");
+
+        return !Objects.equals(event.getOldState()[nameIndex], event.getState()[nameIndex])
+                || !Objects.equals(event.getOldState()[phoneIndex], event.getState()[phoneIndex]);
+    }
+}
@@ -0,0 +1,184 @@
+package com.bookworm.infrastructure.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 전용 실행기에서 동작하는 BCrypt 인코더
+ *
+ * 원리:
+ * 1. 해싱/검증을 CPU 코어 수만큼의 전용 스레드에서 실행 → 로그인/가입이 몰려도 다른 API의 CPU를 잠식하지 않음
+ * 2. 대기열이 가득 차면 즉시 PasswordHashingRejectedException (503) - 요청 스레드가 무한정 쌓이지 않음
+ * 3. 요청 스레드는 waitTimeoutMs까지만 결과를 기다리고, 넘으면 작업을 취소하고 거절
+ * 4. upgradeEncoding: 저장된 해시의 cost가 설정값과 다르면 true → 로그인 성공 시 재해싱
+ * 5. 해싱/검증 건수, 평균/최대 소요 시간, 거절 건수 집계 (stats)
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}$");
+
+    private final BCryptPasswordEncoder delegate;
+    private final int cost;
+    private final long waitTimeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    private final LongAdder encodeCount = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder matchCount = new LongAdder();
+    private final LongAdder matchNanos = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    /**
+     * 해싱 통계 스냅샷 (밀리초 단위)
+     */
+    public record Stats(
+            int cost,
+            int threads,
+            int activeThreads,
+            int queued,
+            long encodeCount,
+            double avgEncodeMs,
+            long matchCount,
+            double avgMatchMs,
+            double avgWaitMs,
+            double maxHashMs,
+            long rejectedCount
+    ) {
+    }
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties) {
+        this.cost = properties.getBcryptCost();
+        this.waitTimeoutMs = properties.getWaitTimeoutMs();
+        this.delegate = new BCryptPasswordEncoder(cost);
+
+        int threads = properties.resolveThreads();
+        BlockingQueue<Runnable> queue = properties.getQueueCapacity() > 0
+                ? new ArrayBlockingQueue<>(properties.getQueueCapacity())
+                : new SynchronousQueue<>();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+
+        log.info("비밀번호 해싱 실행기 초기화 - cost: {}, 스레드: {}, 대기열: {}",
+                cost, threads, properties.getQueueCapacity());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeCount, encodeNanos);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchCount, matchNanos);
+    }
+
+    /**
+     * 저장된 cost가 설정값과 다르면 재해싱 대상 (낮추는 경우 포함)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    public Stats stats() {
+        long encodes = encodeCount.sum();
+        long matches = matchCount.sum();
+        return new Stats(
+                cost,
+                executor.getCorePoolSize(),
+                executor.getActiveCount(),
+                executor.getQueue().size(),
+                encodes,
+                averageMillis(encodeNanos.sum(), encodes),
+                matches,
+                averageMillis(matchNanos.sum(), matches),
+                averageMillis(waitNanos.sum(), encodes + matches),
+                maxHashNanos.get() / 1_000_000.0,
+                rejectedCount.sum()
+        );
+    }
+
+    /**
+     * @Bean 종료 시 호출 (destroyMethod 추론)
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> task, LongAdder count, LongAdder nanos) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitNanos.add(startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    long elapsed = System.nanoTime() - startedAt;
+                    count.increment();
+                    nanos.add(elapsed);
+                    maxHashNanos.accumulateAndGet(elapsed, Math::max);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("비밀번호 해싱 대기열 포화 - 요청 거절 (대기: {}건)", executor.getQueue().size());
+            throw new PasswordHashingRejectedException("요청이 많아 잠시 후 다시 시도해 주세요.", e);
+        }
+
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCount.increment();
+            log.warn("비밀번호 해싱 대기 시간 초과 - {}ms", waitTimeoutMs);
+            throw new PasswordHashingRejectedException("요청이 많아 잠시 후 다시 시도해 주세요.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0.0 : totalNanos / (double) count / 1_000_000.0;
+    }
+}
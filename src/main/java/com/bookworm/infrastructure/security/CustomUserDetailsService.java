@@ -1,40 +1,49 @@
 package com.bookworm.infrastructure.security;
 
-import com.bookworm.domain.entity.User;
+import com.bookworm.application.dto.AuthenticatedUser;
 import com.bookworm.domain.repository.UserRepository;
 import com.bookworm.domain.vo.user.Email;
+import com.bookworm.domain.vo.user.Password;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Security용 사용자 인증 서비스
  * User 엔티티를 기반으로 UserDetails를 생성하여 Spring Security에 제공
+ *
+ * - 스냅샷은 UserDetailsCache를 거쳐 조회 (캐시 적중 시 DB 조회 없음)
+ * - 로그인 성공 핸들러와 세션 검증은 Principal의 스냅샷을 재사용하므로 로그인 1회당 조회 1회
+ * - 폼 로그인 시 저장된 BCrypt cost가 설정값과 다르면 DaoAuthenticationProvider가 updatePassword로 재해싱 결과 저장
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
+    private final PlatformTransactionManager transactionManager;
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.debug("사용자 인증 시도: {}", email);
 
         try {
-            Email emailVo = Email.of(email);
-            User user = userRepository.findByEmail(emailVo)
+            AuthenticatedUser user = loadSnapshot(email)
                     .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + email));
 
             // 계정 활성화 상태 확인
@@ -43,7 +52,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 throw new UsernameNotFoundException("비활성화된 계정입니다: " + email);
             }
 
-            log.debug("사용자 인증 성공: {} (역할: {})", email, user.getRole());
+            log.debug("사용자 인증 성공: {} (역할: {})", email, user.role());
             return new CustomUserDetails(user);
 
         } catch (Exception e) {
@@ -52,34 +61,70 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
     }
 
+    /**
+     * 이메일로 인증 사용자 스냅샷 조회 (캐시 → DB)
+     */
+    public Optional<AuthenticatedUser> loadSnapshot(String email) {
+        Optional<AuthenticatedUser> cached = userDetailsCache.getByEmail(email);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        Optional<AuthenticatedUser> loaded = userRepository.findByEmail(Email.of(email))
+                .map(AuthenticatedUser::from);
+        loaded.ifPresent(userDetailsCache::put);
+        return loaded;
+    }
+
+    /**
+     * 재해싱된 비밀번호 저장 (그 사이 비밀번호가 바뀌었으면 덮어쓰지 않음)
+     * 실패해도 로그인은 성공 처리 - 다음 로그인에서 다시 시도
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newEncodedPassword) {
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.executeWithoutResult(status ->
+                    userRepository.findByEmail(Email.of(userDetails.getUsername()))
+                            .filter(user -> user.getPassword().getValue().equals(userDetails.getPassword()))
+                            .ifPresent(user -> {
+                                user.rehashPassword(new Password(newEncodedPassword));
+                                userRepository.save(user);
+                                log.info("비밀번호 재해싱 완료: 사용자 ID={}", user.getId());
+                            }));
+        } catch (Exception e) {
+            log.warn("비밀번호 재해싱 실패: {}, 오류={}", userDetails.getUsername(), e.getMessage());
+        }
+        return userDetails;
+    }
+
     /**
      * Spring Security UserDetails 구현체
-     * User 엔티티 정보를 Spring Security가 이해할 수 있는 형태로 변환
+     * 인증 사용자 스냅샷을 Spring Security가 이해할 수 있는 형태로 변환
+     * - 인증 완료 후 eraseCredentials()로 비밀번호 해시 제거 (세션에는 해시 없이 저장)
      */
-    public static class CustomUserDetails implements UserDetails {
+    public static class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-        private final User user;
+        private AuthenticatedUser user;
 
-        public CustomUserDetails(User user) {
+        public CustomUserDetails(AuthenticatedUser user) {
             this.user = user;
         }
 
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             // User의 Role을 Spring Security Authority로 변환
-            return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+            return List.of(new SimpleGrantedAuthority("ROLE_" + user.role()));
         }
 
         @Override
         public String getPassword() {
-            // Password VO에서 실제 암호화된 비밀번호 반환
-            return user.getPassword().getValue();
+            return user.encodedPassword();
         }
 
         @Override
         public String getUsername() {
-            // Email VO에서 이메일 값 반환
-            return user.getEmail().getValue();
+            return user.email();
         }
 
         @Override
@@ -106,10 +151,15 @@ public class CustomUserDetailsService implements UserDetailsService {
             return user.isActive();
         }
 
+        @Override
+        public void eraseCredentials() {
+            this.user = user.withoutPassword();
+        }
+
         /**
-         * 원본 User 엔티티 반환
+         * 인증 사용자 스냅샷 반환
          */
-        public User getUser() {
+        public AuthenticatedUser getUser() {
             return user;
         }
 
@@ -117,21 +167,21 @@ public class CustomUserDetailsService implements UserDetailsService {
          * 사용자 ID 반환
          */
         public Long getUserId() {
-            return user.getId();
+            return user.id();
         }
 
         /**
          * 사용자 전체 이름 반환
          */
         public String getFullName() {
-            return user.getFullName();
+            return user.fullName();
         }
 
         /**
          * 사용자 역할 반환
          */
         public String getRole() {
-            return user.getRole().name();
+            return user.role();
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package com.bookworm.infrastructure.security;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.auth.last-login")
+@Validated
+@Getter @Setter
+public class LastLoginProperties {
+
+    /**
+     * 마지막 로그인 시각 일괄 기록 주기 (밀리초)
+     */
+    @Min(value = 500, message = "기록 주기는 최소 500ms 이상이어야 합니다")
+    @Max(value = 60000, message = "기록 주기는 60000ms를 초과할 수 없습니다")
+    private long flushIntervalMs = 5000;
+
+    /**
+     * UPDATE 한 번에 묶을 회원 수 (CASE 분기 수)
+     */
+    @Min(value = 1, message = "배치 크기는 최소 1 이상이어야 합니다")
+    @Max(value = 1000, message = "배치 크기는 1000을 초과할 수 없습니다")
+    private int batchSize = 200;
+}
@@ -0,0 +1,120 @@
+package com.bookworm.infrastructure.security;
+
+import com.bookworm.domain.common.TimeProvider;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마지막 로그인 시각 지연 기록기 (write-behind)
+ *
+ * 원리:
+ * 1. 로그인 시 회원 행을 UPDATE하지 않고 회원별 최신 로그인 시각만 메모리에 보관 (같은 회원은 덮어씀)
+ * 2. 주기적으로 모아서 UPDATE ... SET last_login_date = CASE id WHEN ? THEN ? ... END 한 문장으로 기록
+ * 3. JPA를 거치지 않으므로 version 컬럼이 증가하지 않음 → 관리자 수정과 낙관적 락 충돌 없음
+ *    (User.lastLoginDate는 updatable = false 라서 엔티티 저장 시에도 이 값을 덮어쓰지 않음)
+ *
+ * 인스턴스가 비정상 종료되면 마지막 주기분 로그인 시각이 유실될 수 있음 (정상 종료 시에는 기록 후 종료)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LastLoginProperties properties;
+    private final TimeProvider timeProvider;
+
+    private final Map<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 로그인 시각 기록 예약 (더 최근 값만 유지)
+     */
+    public void record(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        pending.merge(userId, timeProvider.currentDateTime(),
+                (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    /**
+     * 아직 기록되지 않은 로그인 시각
+     */
+    public LocalDateTime pendingLastLogin(Long userId) {
+        return pending.get(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${bookworm.auth.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        int flushed = 0;
+        List<Map.Entry<Long, LocalDateTime>> batch = new ArrayList<>(properties.getBatchSize());
+
+        for (Long userId : List.copyOf(pending.keySet())) {
+            LocalDateTime loginAt = pending.remove(userId);
+            if (loginAt == null) {
+                continue;
+            }
+            batch.add(Map.entry(userId, loginAt));
+
+            if (batch.size() == properties.getBatchSize()) {
+                flushed += write(batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            flushed += write(batch);
+        }
+        log.debug("마지막 로그인 시각 일괄 기록: {}건", flushed);
+    }
+
+    /**
+     * CASE 분기 UPDATE 한 번으로 기록
+     * 실패하면 다음 주기에 다시 시도하도록 대기열로 되돌림 (그 사이 더 최근 로그인이 있으면 그 값 유지)
+     */
+    private int write(List<Map.Entry<Long, LocalDateTime>> batch) {
+        StringBuilder sql = new StringBuilder("UPDATE users SET last_login_date = CASE id");
+        List<Object> args = new ArrayList<>(batch.size() * 3);
+
+        for (Map.Entry<Long, LocalDateTime> entry : batch) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(entry.getKey());
+            args.add(Timestamp.valueOf(entry.getValue()));
+        }
+        sql.append(" ELSE last_login_date END WHERE id IN (");
+        for (int i = 0; i < batch.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+            args.add(batch.get(i).getKey());
+        }
+        sql.append(')');
+
+        try {
+            return jdbcTemplate.update(sql.toString(), args.toArray());
+        } catch (Exception e) {
+            log.error("마지막 로그인 시각 일괄 기록 실패: {}건", batch.size(), e);
+            batch.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                    (current, previous) -> current.isAfter(previous) ? current : previous));
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
@@ -29,14 +30,23 @@ public class LoginFailureHandler implements AuthenticationFailureHandler {
         String userEmail = request.getParameter("email");
         log.warn("로그인 실패 - 사용자: {}, 원인: {}", userEmail, exception.getMessage());
 
+        // 비밀번호 해싱 실행기 포화 - 자격 증명 오류가 아니므로 503으로 재시도 안내
+        if (exception instanceof PasswordHashingRejectedException) {
+            response.setHeader(HttpHeaders.RETRY_AFTER,
+                    String.valueOf(PasswordHashingRejectedException.RETRY_AFTER_SECONDS));
+            writeJsonResponse(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE,
+                    ApiResponse.error(503, exception.getMessage()));
+            return;
+        }
+
         ApiResponse<Void> apiResponse = ApiResponse.error(401, "이메일 또는 비밀번호가 올바르지 않습니다.");
-        writeJsonResponse(response, apiResponse);
+        writeJsonResponse(response, HttpServletResponse.SC_UNAUTHORIZED, apiResponse);
     }
 
-    private void writeJsonResponse(HttpServletResponse response, ApiResponse<?> apiResponse) throws IOException {
+    private void writeJsonResponse(HttpServletResponse response, int status, ApiResponse<?> apiResponse) throws IOException {
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setCharacterEncoding("UTF-8");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        response.setStatus(status);
 
         String jsonResponse = objectMapper.writeValueAsString(apiResponse);
         response.getWriter().write(jsonResponse);
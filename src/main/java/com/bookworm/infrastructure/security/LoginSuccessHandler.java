@@ -1,9 +1,7 @@
 package com.bookworm.infrastructure.security;
 
+import com.bookworm.application.dto.AuthenticatedUser;
 import com.bookworm.domain.constant.Role;
-import com.bookworm.domain.entity.User;
-import com.bookworm.domain.repository.UserRepository;
-import com.bookworm.domain.vo.user.Email;
 import com.bookworm.interfaces.common.ApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.ServletException;
@@ -24,6 +22,7 @@ import java.util.Map;
 /**
  * 로그인 성공 핸들러
  * Spring Security 폼 로그인 성공 시 JSON 응답 반환
+ * - 인증 과정에서 읽은 Principal의 스냅샷을 그대로 사용 (회원 재조회 없음)
  */
 @Component
 @RequiredArgsConstructor
@@ -31,7 +30,8 @@ import java.util.Map;
 public class LoginSuccessHandler implements AuthenticationSuccessHandler {
 
     private final ObjectMapper objectMapper;
-    private final UserRepository userRepository;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final LastLoginRecorder lastLoginRecorder;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request,
@@ -41,14 +41,16 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
         try {
             // 인증된 사용자 정보 가져오기
             String userEmail = authentication.getName();
-            User user = findUserByEmail(userEmail);
+            AuthenticatedUser user = resolveUser(authentication);
 
             if (user == null) {
                 handleError(response, "사용자 정보를 찾을 수 없습니다.");
                 return;
             }
 
-            Role userRole = user.getRole();
+            lastLoginRecorder.record(user.id());
+
+            Role userRole = Role.valueOf(user.role());
             String redirectUrl = determineRedirectUrl(userRole);
 
             // 응답 데이터 생성
@@ -59,7 +61,7 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
             );
 
             log.info("로그인 성공 - 사용자: {}, 역할: {}, ID: {}",
-                    userEmail, userRole, user.getId());
+                    userEmail, userRole, user.id());
 
             writeJsonResponse(response, apiResponse);
 
@@ -70,12 +72,17 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
     }
 
     /**
-     * 이메일로 사용자 조회
+     * 인증된 사용자 스냅샷 확인
+     * Principal이 CustomUserDetails가 아닌 경우에만 캐시/DB에서 조회
      */
-    private User findUserByEmail(String email) {
+    private AuthenticatedUser resolveUser(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof CustomUserDetailsService.CustomUserDetails details) {
+            return details.getUser();
+        }
+
+        String email = authentication.getName();
         try {
-            Email emailVo = Email.of(email);
-            return userRepository.findByEmail(emailVo).orElse(null);
+            return customUserDetailsService.loadSnapshot(email).orElse(null);
         } catch (Exception e) {
             log.error("사용자 조회 중 오류 발생: {}", email, e);
             return null;
@@ -95,15 +102,15 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
     /**
      * 성공 응답 데이터 생성
      */
-    private Map<String, Object> createSuccessResponse(User user, String redirectUrl) {
+    private Map<String, Object> createSuccessResponse(AuthenticatedUser user, String redirectUrl) {
         Map<String, Object> response = new HashMap<>();
-        response.put("id", user.getId());
-        response.put("email", user.getEmail().getValue());
-        response.put("name", user.getFullName());
-        response.put("firstName", user.getFirstName().getValue());
-        response.put("lastName", user.getLastName().getValue());
-        response.put("role", user.getRole().name());
-        response.put("status", user.getStatus().name());
+        response.put("id", user.id());
+        response.put("email", user.email());
+        response.put("name", user.fullName());
+        response.put("firstName", user.firstName());
+        response.put("lastName", user.lastName());
+        response.put("role", user.role());
+        response.put("status", user.status());
         response.put("redirectUrl", redirectUrl);
         return response;
     }
@@ -0,0 +1,48 @@
+package com.bookworm.infrastructure.security;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.auth.password-hashing")
+@Validated
+@Getter @Setter
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt cost (2^cost 회 반복) - 저장된 해시의 cost가 다르면 로그인 성공 시 재해싱
+     */
+    @Min(value = 4, message = "BCrypt cost는 최소 4 이상이어야 합니다")
+    @Max(value = 16, message = "BCrypt cost는 16을 초과할 수 없습니다")
+    private int bcryptCost = 10;
+
+    /**
+     * 해싱 전용 스레드 수 (0이면 CPU 코어 수)
+     */
+    @Min(value = 0, message = "스레드 수는 0 이상이어야 합니다")
+    @Max(value = 64, message = "스레드 수는 64를 초과할 수 없습니다")
+    private int threads = 0;
+
+    /**
+     * 대기열 크기 - 가득 차면 즉시 거절 (503)
+     */
+    @Min(value = 0, message = "대기열 크기는 0 이상이어야 합니다")
+    @Max(value = 10000, message = "대기열 크기는 10000을 초과할 수 없습니다")
+    private int queueCapacity = 64;
+
+    /**
+     * 요청 스레드가 해싱 결과를 기다리는 최대 시간 (밀리초)
+     */
+    @Min(value = 100, message = "대기 시간은 최소 100ms 이상이어야 합니다")
+    @Max(value = 30000, message = "대기 시간은 30000ms를 초과할 수 없습니다")
+    private long waitTimeoutMs = 3000;
+
+    public int resolveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,23 @@
+package com.bookworm.infrastructure.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해싱 실행기 포화로 요청을 거절했을 때 발생 (503 응답)
+ * - 폼 로그인에서도 LoginFailureHandler가 구분할 수 있도록 Spring Security 인증 예외를 상속
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    /**
+     * 503 응답의 Retry-After 값 (초) - 해싱 대기열은 보통 1초 안에 비워짐
+     */
+    public static final long RETRY_AFTER_SECONDS = 1;
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,9 +1,14 @@
 package com.bookworm.infrastructure.security;
 
+import com.bookworm.infrastructure.security.token.AccessTokenAuthenticationFilter;
+import com.bookworm.infrastructure.security.token.AccessTokenService;
+import com.bookworm.infrastructure.security.token.TokenRevocationList;
 import com.bookworm.interfaces.common.ApiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,9 +19,10 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -40,9 +46,19 @@ public class SecurityConfig {
     private final LoginSuccessHandler loginSuccessHandler;
     private final LoginFailureHandler loginFailureHandler;
     private final ObjectMapper objectMapper;
+    // 공유 세션 저장소 사용 시에만 존재 (없으면 메모리 세션 레지스트리 사용)
+    private final ObjectProvider<SessionRegistry> sessionRegistry;
+    // 서명 토큰 인증 사용 시에만 존재 (bookworm.token.enabled=true)
+    private final ObjectProvider<AccessTokenService> accessTokenService;
+    private final ObjectProvider<TokenRevocationList> tokenRevocationList;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        // 서명 토큰 인증 - 세션 인증보다 먼저 Bearer 토큰 확인
+        accessTokenService.ifAvailable(tokenService -> http.addFilterBefore(
+                new AccessTokenAuthenticationFilter(tokenService, tokenRevocationList.getObject()),
+                UsernamePasswordAuthenticationFilter.class));
+
         return http
                 // CORS 설정 - 가장 먼저 적용
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -78,10 +94,12 @@ public class SecurityConfig {
                         .ignoringRequestMatchers("/h2-console/**")  // H2 Console CSRF 제외
                         .disable()
                 )
-                .sessionManagement(session -> session
-                        .maximumSessions(1)
-                        .maxSessionsPreventsLogin(false)
-                )
+                .sessionManagement(session -> {
+                    var concurrency = session
+                            .maximumSessions(1)
+                            .maxSessionsPreventsLogin(false);
+                    sessionRegistry.ifAvailable(concurrency::sessionRegistry);
+                })
                 .build();
     }
 
@@ -133,6 +151,9 @@ public class SecurityConfig {
      */
     private void configureAuthorization(org.springframework.security.config.annotation.web.configurers.AuthorizeHttpRequestsConfigurer<HttpSecurity>.AuthorizationManagerRequestMatcherRegistry auth) {
         auth
+                // === 비동기 재디스패치 허용 (SSE 등 - 최초 요청에서 이미 인가됨) ===
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // === OPTIONS 요청 허용 (CORS Preflight) ===
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
@@ -160,14 +181,23 @@ public class SecurityConfig {
 
                 // === 대출 관련 API ===
                 // 모든 대출 관련 API는 인증된 사용자만 접근 가능
+                .requestMatchers("/api/loans/search").hasRole("ADMIN")
                 .requestMatchers("/api/loans/**").hasAnyRole("ADMIN", "USER")
 
+                // === 예약 관련 API ===
+                .requestMatchers("/api/reservations/**").hasAnyRole("ADMIN", "USER")
+
+                // === 연체료 관련 API ===
+                .requestMatchers("/api/fines/admin/**").hasRole("ADMIN")
+                .requestMatchers("/api/fines/**").hasAnyRole("ADMIN", "USER")
+
                 // ✅ === 새로운 반납 관련 API ===
                 // 개발 환경에서는 모든 사용자 허용, 운영 환경에서는 인증 필요
                 .requestMatchers("/api/returns/**").permitAll()  // 개발용 - 필요시 hasAnyRole("ADMIN", "USER")로 변경
 
                 // === 사용자별 전용 API ===
                 // ✅ 관리자 인증 API는 이미 위에서 처리했으므로, 나머지만 권한 체크
+                .requestMatchers("/api/changes/**").hasRole("ADMIN")
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers("/api/user/**").hasRole("USER")
 
@@ -228,7 +258,7 @@ public class SecurityConfig {
                     }
                 })
                 .invalidateHttpSession(true)
-                .deleteCookies("JSESSIONID")
+                .deleteCookies("JSESSIONID", "BOOKWORM_SESSION")
                 .permitAll();
     }
 
@@ -314,18 +344,21 @@ public class SecurityConfig {
 
     @Bean
     public DaoAuthenticationProvider authenticationProvider(
-            CustomUserDetailsService userDetailsService) {
+            CustomUserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        // 저장된 BCrypt cost가 설정값과 다르면 폼 로그인 성공 시 재해싱하여 저장
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
     /**
      * 비밀번호 인코더 빈 등록
+     * - 요청 스레드 대신 CPU 크기의 전용 실행기에서 BCrypt 수행, 포화 시 503
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+        return new BoundedPasswordEncoder(passwordHashingProperties);
     }
 }
\ No newline at end of file
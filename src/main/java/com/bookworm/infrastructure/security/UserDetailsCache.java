@@ -0,0 +1,115 @@
+package com.bookworm.infrastructure.security;
+
+import com.bookworm.application.dto.AuthenticatedUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 사용자 스냅샷 캐시 (짧은 TTL + 버전 무효화)
+ *
+ * 원리:
+ * 1. 이메일/ID로 스냅샷 조회 - 유효 시간 내면 DB 조회 없음
+ * 2. 회원이 수정/삭제되면 UserDetailsCacheListener가 새 버전으로 무효화
+ *    - 무효화한 버전을 최소 버전으로 기억해 두어, 무효화 직전에 읽힌 옛 스냅샷이 다시 저장되는 것을 차단
+ * 3. 다른 인스턴스의 변경은 TTL이 지나면 반영
+ * 4. 항목 수가 상한을 넘으면 만료 항목부터 정리하고, 그래도 넘치면 전체 비움
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCache {
+
+    private final UserDetailsCacheProperties properties;
+
+    private final Map<String, Entry> byEmail = new ConcurrentHashMap<>();
+    private final Map<Long, String> emailById = new ConcurrentHashMap<>();
+
+    /**
+     * 회원 ID → 이보다 낮은 버전의 스냅샷은 저장 거부
+     */
+    private final Map<Long, Tombstone> minimumVersions = new ConcurrentHashMap<>();
+
+    private record Entry(AuthenticatedUser user, long expiresAt) {
+    }
+
+    private record Tombstone(long version, long expiresAt) {
+    }
+
+    public Optional<AuthenticatedUser> getByEmail(String email) {
+        Entry entry = byEmail.get(email);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            byEmail.remove(email, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.user());
+    }
+
+    public Optional<AuthenticatedUser> getById(Long userId) {
+        String email = emailById.get(userId);
+        return email != null
+                ? getByEmail(email).filter(user -> user.id().equals(userId))
+                : Optional.empty();
+    }
+
+    /**
+     * 스냅샷 저장 (무효화된 버전보다 오래된 스냅샷은 무시)
+     */
+    public void put(AuthenticatedUser user) {
+        long now = System.currentTimeMillis();
+        Tombstone tombstone = minimumVersions.get(user.id());
+        if (tombstone != null && tombstone.expiresAt() > now
+                && (user.version() == null || user.version() < tombstone.version())) {
+            return;
+        }
+
+        if (byEmail.size() >= properties.getMaxEntries()) {
+            shrink(now);
+        }
+
+        byEmail.put(user.email(), new Entry(user, now + properties.getTtlSeconds() * 1000L));
+        String previousEmail = emailById.put(user.id(), user.email());
+        if (previousEmail != null && !previousEmail.equals(user.email())) {
+            byEmail.remove(previousEmail);
+        }
+    }
+
+    /**
+     * 회원 변경 시 무효화
+     *
+     * @param version 변경 후 엔티티 버전 (삭제 시 null)
+     */
+    public void invalidate(Long userId, Long version) {
+        long now = System.currentTimeMillis();
+        long minimumVersion = version != null ? version : Long.MAX_VALUE;
+        minimumVersions.merge(userId, new Tombstone(minimumVersion, now + properties.getTtlSeconds() * 1000L),
+                (current, next) -> next.version() >= current.version() ? next : current);
+
+        String email = emailById.remove(userId);
+        if (email != null) {
+            byEmail.remove(email);
+        }
+    }
+
+    public int size() {
+        return byEmail.size();
+    }
+
+    private void shrink(long now) {
+        byEmail.values().removeIf(entry -> entry.expiresAt() <= now);
+        minimumVersions.values().removeIf(tombstone -> tombstone.expiresAt() <= now);
+
+        if (byEmail.size() >= properties.getMaxEntries()) {
+            log.debug("인증 사용자 캐시 상한 초과 - 전체 비움: {}건", byEmail.size());
+            byEmail.clear();
+        }
+        emailById.values().removeIf(email -> !byEmail.containsKey(email));
+    }
+}
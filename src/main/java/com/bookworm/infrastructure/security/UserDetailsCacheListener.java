@@ -0,0 +1,56 @@
+package com.bookworm.infrastructure.security;
+
+import com.bookworm.domain.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원 수정/삭제 리스너 → 인증 사용자 캐시 무효화
+ * - 수정 후 버전(state 배열의 @Version 값)을 함께 넘겨 그보다 오래된 스냅샷이 다시 캐시되지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDetailsCacheListener implements PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserDetailsCache userDetailsCache;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User) {
+            EntityPersister persister = event.getPersister();
+            Long version = persister.isVersioned()
+                    ? (Long) event.getState()[persister.getVersionProperty()]
+                    : null;
+            userDetailsCache.invalidate((Long) event.getId(), version);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User) {
+            userDetailsCache.invalidate((Long) event.getId(), null);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
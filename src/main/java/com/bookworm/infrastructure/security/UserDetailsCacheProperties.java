@@ -0,0 +1,26 @@
+package com.bookworm.infrastructure.security;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Component
+@ConfigurationProperties(prefix = "bookworm.auth.user-cache")
+@Validated
+@Getter @Setter
+public class UserDetailsCacheProperties {
+
+    /**
+     * 캐시 유효 시간 - 다른 인스턴스에서 바뀐 회원 정보가 반영되기까지의 최대 지연
+     */
+    @Min(value = 1, message = "캐시 유효 시간은 최소 1초 이상이어야 합니다")
+    @Max(value = 300, message = "캐시 유효 시간은 300초를 초과할 수 없습니다")
+    private int ttlSeconds = 30;
+
+    @Min(value = 100, message = "최대 캐시 항목 수는 100 이상이어야 합니다")
+    private int maxEntries = 10000;
+}
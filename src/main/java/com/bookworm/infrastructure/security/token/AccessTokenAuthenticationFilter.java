@@ -0,0 +1,79 @@
+package com.bookworm.infrastructure.security.token;
+
+import com.bookworm.interfaces.common.SessionManager;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 서명 토큰 인증 필터 (Authorization: Bearer {token})
+ *
+ * 원리:
+ * 1. 서명/만료 검증 + 메모리 폐기 목록 확인만 수행 (DB, 세션 저장소 접근 없음)
+ * 2. 요청 범위 SecurityContext만 설정하고 세션에는 저장하지 않음
+ * 3. 기존 컨트롤러의 AuthenticationValidator가 그대로 동작하도록 회원/관리자 ID를 요청 속성으로 전달
+ *
+ * 헤더가 없거나 토큰이 유효하지 않으면 인증 없이 다음 필터로 넘김 (세션 인증 또는 401 처리)
+ * Spring Security 필터 체인에만 등록해야 하므로 빈으로 등록하지 않고 SecurityConfig에서 생성
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class AccessTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AccessTokenService accessTokenService;
+    private final TokenRevocationList revocationList;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        resolveToken(request)
+                .flatMap(accessTokenService::verify)
+                .filter(claims -> !revocationList.isRevoked(claims))
+                .filter(claims -> "ACTIVE".equals(claims.status()))
+                .ifPresent(claims -> authenticate(request, claims));
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(HttpServletRequest request, AccessTokenClaims claims) {
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                claims, null, List.of(new SimpleGrantedAuthority("ROLE_" + claims.role())));
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+
+        request.setAttribute(SessionManager.USER_ID_ATTR, claims.userId());
+        if (claims.isAdmin()) {
+            request.setAttribute(SessionManager.ADMIN_ID_ATTR, claims.userId());
+        }
+        log.debug("토큰 인증: 사용자 ID={}, 역할={}", claims.userId(), claims.role());
+    }
+
+    /**
+     * Authorization 헤더에서 토큰 추출
+     */
+    public static Optional<String> resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER_PREFIX)) {
+            return Optional.empty();
+        }
+        String token = header.substring(BEARER_PREFIX.length()).trim();
+        return token.isEmpty() ? Optional.empty() : Optional.of(token);
+    }
+}
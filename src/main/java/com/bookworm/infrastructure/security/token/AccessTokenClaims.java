@@ -0,0 +1,37 @@
+package com.bookworm.infrastructure.security.token;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * 서명 토큰에 담기는 정보 (토큰 인증 요청의 Principal로도 사용)
+ *
+ * @param tokenId   토큰 식별자 (개별 폐기용)
+ * @param issuedAt  발급 시각 (epoch ms)
+ * @param expiresAt 만료 시각 (epoch ms)
+ */
+public record AccessTokenClaims(
+        String tokenId,
+        Long userId,
+        String email,
+        String role,
+        String status,
+        long issuedAt,
+        long expiresAt
+) implements AuthenticatedPrincipal {
+
+    /**
+     * Spring Security의 authentication.getName()은 세션 로그인과 같이 이메일 반환
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAt;
+    }
+}
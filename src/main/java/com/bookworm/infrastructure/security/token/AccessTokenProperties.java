@@ -0,0 +1,34 @@
+package com.bookworm.infrastructure.security.token;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 서명 토큰 인증 설정
+ * - secret: Base64 인코딩된 HMAC-SHA256 키 (32바이트 이상)
+ */
+@Component
+@ConfigurationProperties(prefix = "bookworm.token")
+@Validated
+@Getter @Setter
+public class AccessTokenProperties {
+
+    private boolean enabled = false;
+
+    private String secret;
+
+    @Min(value = 60, message = "토큰 유효 시간은 최소 60초 이상이어야 합니다")
+    @Max(value = 3600, message = "토큰 유효 시간은 3600초(1시간)를 초과할 수 없습니다")
+    private int ttlSeconds = 900;
+
+    /**
+     * 다른 인스턴스의 폐기 기록을 가져오는 주기
+     */
+    @Min(value = 500, message = "폐기 목록 동기화 주기는 최소 500ms 이상이어야 합니다")
+    private long revocationSyncIntervalMs = 2000;
+}
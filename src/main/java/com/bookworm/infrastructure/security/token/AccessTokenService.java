@@ -0,0 +1,161 @@
+package com.bookworm.infrastructure.security.token;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 서명 토큰 발급/검증 (HMAC-SHA256)
+ *
+ * 형식: v1.{Base64URL(본문)}.{Base64URL(서명)}
+ * - 본문: tokenId|userId|email|role|status|issuedAt|expiresAt
+ * - 서명: "v1.{본문}"에 대한 HMAC-SHA256
+ *
+ * 검증은 서명/만료만 확인하므로 DB와 세션 저장소에 접근하지 않음
+ * (폐기 여부는 TokenRevocationList의 메모리 목록으로 확인)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "bookworm.token", name = "enabled", havingValue = "true")
+public class AccessTokenService {
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final String FIELD_SEPARATOR = "|";
+    private static final int FIELD_COUNT = 7;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final long ttlMillis;
+
+    /**
+     * Mac은 스레드 안전하지 않으므로 스레드별로 보관
+     */
+    private final ThreadLocal<Mac> macs;
+
+    public AccessTokenService(AccessTokenProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("bookworm.token.secret이 설정되지 않았습니다.");
+        }
+        byte[] secret = Base64.getDecoder().decode(properties.getSecret().trim());
+        if (secret.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("bookworm.token.secret은 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다.");
+        }
+
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.ttlMillis = properties.getTtlSeconds() * 1000L;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        log.info("서명 토큰 인증 활성화 - 유효 시간: {}초", properties.getTtlSeconds());
+    }
+
+    /**
+     * 토큰 발급
+     */
+    public IssuedToken issue(Long userId, String email, String role, String status) {
+        long now = System.currentTimeMillis();
+        AccessTokenClaims claims = new AccessTokenClaims(
+                UUID.randomUUID().toString(),
+                userId,
+                email,
+                role,
+                status,
+                now,
+                now + ttlMillis);
+
+        String body = String.join(FIELD_SEPARATOR,
+                claims.tokenId(),
+                String.valueOf(claims.userId()),
+                claims.email(),
+                claims.role(),
+                claims.status(),
+                String.valueOf(claims.issuedAt()),
+                String.valueOf(claims.expiresAt()));
+
+        String signed = VERSION + "." + ENCODER.encodeToString(body.getBytes(StandardCharsets.UTF_8));
+        return new IssuedToken(signed + "." + ENCODER.encodeToString(sign(signed)), claims);
+    }
+
+    /**
+     * 토큰 검증 - 서명 불일치, 형식 오류, 만료 시 빈 값
+     */
+    public Optional<AccessTokenClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        int signatureStart = token.lastIndexOf('.');
+        if (signatureStart <= 0 || !token.startsWith(VERSION + ".")) {
+            return Optional.empty();
+        }
+
+        try {
+            String signed = token.substring(0, signatureStart);
+            byte[] signature = DECODER.decode(token.substring(signatureStart + 1));
+            if (!MessageDigest.isEqual(signature, sign(signed))) {
+                log.debug("토큰 서명 불일치");
+                return Optional.empty();
+            }
+
+            String body = new String(DECODER.decode(signed.substring(VERSION.length() + 1)), StandardCharsets.UTF_8);
+            String[] fields = body.split("\\" + FIELD_SEPARATOR, -1);
+            if (fields.length != FIELD_COUNT) {
+                return Optional.empty();
+            }
+
+            AccessTokenClaims claims = new AccessTokenClaims(
+                    fields[0],
+                    Long.parseLong(fields[1]),
+                    fields[2],
+                    fields[3],
+                    fields[4],
+                    Long.parseLong(fields[5]),
+                    Long.parseLong(fields[6]));
+
+            if (claims.isExpired(System.currentTimeMillis())) {
+                log.debug("만료된 토큰: tokenId={}", claims.tokenId());
+                return Optional.empty();
+            }
+            return Optional.of(claims);
+        } catch (IllegalArgumentException e) {
+            log.debug("토큰 형식 오류: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    private byte[] sign(String value) {
+        Mac mac = macs.get();
+        return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
+
+    /**
+     * 발급된 토큰 문자열과 정보
+     */
+    public record IssuedToken(String value, AccessTokenClaims claims) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.bookworm.infrastructure.security.token;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명 토큰 폐기 기록
+ * - 토큰 단위 폐기(로그아웃): token_id 지정
+ * - 회원 단위 폐기(비활성화): user_id 지정, issued_before 이전에 발급된 토큰 모두 무효
+ * - expires_at 이후에는 해당 토큰이 이미 만료되었으므로 정리 대상
+ */
+@Entity
+@Table(name = "revoked_access_tokens", indexes = {
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 회원 단위 폐기 기준 시각 (epoch ms)
+     */
+    @Column(name = "issued_before")
+    private Long issuedBefore;
+
+    /**
+     * 기록 정리 시각 (epoch ms)
+     */
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    public static RevokedAccessToken ofToken(String tokenId, long expiresAt, LocalDateTime revokedAt) {
+        RevokedAccessToken revoked = new RevokedAccessToken();
+        revoked.tokenId = tokenId;
+        revoked.expiresAt = expiresAt;
+        revoked.revokedAt = revokedAt;
+        return revoked;
+    }
+
+    public static RevokedAccessToken ofUser(Long userId, long issuedBefore, long expiresAt, LocalDateTime revokedAt) {
+        RevokedAccessToken revoked = new RevokedAccessToken();
+        revoked.userId = userId;
+        revoked.issuedBefore = issuedBefore;
+        revoked.expiresAt = expiresAt;
+        revoked.revokedAt = revokedAt;
+        return revoked;
+    }
+
+    public boolean isUserRevocation() {
+        return userId != null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bookworm.infrastructure.security.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RevokedAccessTokenJpaRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+    @Query("SELECT r FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    List<RevokedAccessToken> findActive(@Param("now") long now);
+
+    @Query("SELECT r FROM RevokedAccessToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<RevokedAccessToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") long now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") long now);
+}
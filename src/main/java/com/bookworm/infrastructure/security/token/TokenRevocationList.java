@@ -0,0 +1,141 @@
+package com.bookworm.infrastructure.security.token;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 토큰 폐기 목록
+ *
+ * 원리:
+ * 1. 판정은 메모리 목록만 사용 (요청 경로에서 DB 접근 없음)
+ * 2. 폐기는 DB에 기록한 뒤 자기 목록에 즉시 반영
+ * 3. 다른 인스턴스의 폐기는 주기적으로 revoked_at 기준 증분 조회하여 반영
+ *    (인스턴스 간 시계 차이를 고려해 직전 동기화 시각보다 SYNC_OVERLAP_SECONDS 앞에서부터 조회)
+ * 4. 토큰 유효 시간이 지난 기록은 의미가 없으므로 메모리/DB에서 정리 → 목록 크기가 작게 유지됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "bookworm.token", name = "enabled", havingValue = "true")
+public class TokenRevocationList {
+
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+
+    private final RevokedAccessTokenJpaRepository revokedAccessTokenRepository;
+    private final AccessTokenService accessTokenService;
+
+    /**
+     * 토큰 ID → 기록 정리 시각
+     */
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    /**
+     * 회원 ID → 이 시각 이전 발급 토큰 무효 (정리 시각과 함께 보관)
+     */
+    private final Map<Long, UserRevocation> revokedUsers = new ConcurrentHashMap<>();
+
+    private volatile LocalDateTime lastSyncedAt;
+
+    private record UserRevocation(long issuedBefore, long expiresAt) {
+    }
+
+    @PostConstruct
+    void loadAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        revokedAccessTokenRepository.findActive(System.currentTimeMillis()).forEach(this::apply);
+        lastSyncedAt = startedAt;
+        log.info("토큰 폐기 목록 로드 - 토큰: {}건, 회원: {}건", revokedTokens.size(), revokedUsers.size());
+    }
+
+    /**
+     * 폐기 여부 판정 (메모리만 사용)
+     */
+    public boolean isRevoked(AccessTokenClaims claims) {
+        if (revokedTokens.containsKey(claims.tokenId())) {
+            return true;
+        }
+        UserRevocation userRevocation = revokedUsers.get(claims.userId());
+        return userRevocation != null && claims.issuedAt() <= userRevocation.issuedBefore();
+    }
+
+    /**
+     * 토큰 한 건 폐기 (로그아웃)
+     */
+    @Transactional
+    public void revokeToken(AccessTokenClaims claims) {
+        RevokedAccessToken revoked = RevokedAccessToken.ofToken(
+                claims.tokenId(), claims.expiresAt(), LocalDateTime.now());
+        revokedAccessTokenRepository.save(revoked);
+        apply(revoked);
+        log.info("토큰 폐기: 사용자 ID={}, tokenId={}", claims.userId(), claims.tokenId());
+    }
+
+    /**
+     * 회원의 기존 토큰 전체 폐기 (비활성화, 권한 변경 등)
+     */
+    @Transactional
+    public void revokeAllForUser(Long userId) {
+        long now = System.currentTimeMillis();
+        RevokedAccessToken revoked = RevokedAccessToken.ofUser(
+                userId, now, now + accessTokenService.getTtlMillis(), LocalDateTime.now());
+        revokedAccessTokenRepository.save(revoked);
+        apply(revoked);
+        log.info("회원 토큰 전체 폐기: 사용자 ID={}", userId);
+    }
+
+    /**
+     * 다른 인스턴스의 폐기 기록 반영
+     */
+    @Scheduled(fixedDelayString = "${bookworm.token.revocation-sync-interval-ms:2000}")
+    public void sync() {
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            List<RevokedAccessToken> recent = revokedAccessTokenRepository.findRevokedSince(
+                    lastSyncedAt.minusSeconds(SYNC_OVERLAP_SECONDS), System.currentTimeMillis());
+            recent.forEach(this::apply);
+            lastSyncedAt = startedAt;
+        } catch (Exception e) {
+            log.error("토큰 폐기 목록 동기화 실패", e);
+        }
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 (매시 정각)
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    @Transactional
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+        revokedUsers.values().removeIf(revocation -> revocation.expiresAt() <= now);
+
+        try {
+            int deleted = revokedAccessTokenRepository.deleteExpired(now);
+            if (deleted > 0) {
+                log.debug("만료된 토큰 폐기 기록 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("토큰 폐기 기록 정리 실패", e);
+        }
+    }
+
+    private void apply(RevokedAccessToken revoked) {
+        if (revoked.isUserRevocation()) {
+            UserRevocation next = new UserRevocation(revoked.getIssuedBefore(), revoked.getExpiresAt());
+            revokedUsers.merge(revoked.getUserId(), next,
+                    (current, candidate) -> candidate.issuedBefore() > current.issuedBefore() ? candidate : current);
+        } else {
+            revokedTokens.put(revoked.getTokenId(), revoked.getExpiresAt());
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.bookworm.infrastructure.session;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.PrincipalNameIndexResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.bookworm.infrastructure.session.SharedSessionSchemaManager.ATTRIBUTE_TABLE;
+import static com.bookworm.infrastructure.session.SharedSessionSchemaManager.SESSION_TABLE;
+
+/**
+ * DB 공유 세션 저장소 (H2/MySQL)
+ *
+ * 원리:
+ * 1. 세션 행 + 속성 행으로 저장, 조회는 LEFT JOIN 한 번
+ * 2. 저장 시 변경된 속성만 INSERT/UPDATE/DELETE (SharedSession이 변경분 추적)
+ * 3. 마지막 접근 시각만 바뀐 요청은 touch-interval이 지났을 때만 SessionTouchBuffer에 넘겨 일괄 기록
+ * 4. principal_name 컬럼으로 사용자별 세션 조회 → Spring Security 동시 세션 제어를 인스턴스 간에 공유
+ *
+ * 만료 세션은 조회 시 즉시 삭제하고, 나머지는 주기적으로 정리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "bookworm.session", name = "store", havingValue = "jdbc")
+public class JdbcSharedSessionRepository implements FindByIndexNameSessionRepository<SharedSession> {
+
+    private static final String SELECT_COLUMNS =
+            "SELECT s.primary_id, s.session_id, s.principal_name, s.creation_time, s.last_access_time," +
+                    " s.max_inactive_seconds, a.attribute_name, a.attribute_bytes" +
+                    " FROM " + SESSION_TABLE + " s" +
+                    " LEFT JOIN " + ATTRIBUTE_TABLE + " a ON a.session_primary_id = s.primary_id";
+
+    private static final String INSERT_SESSION = "INSERT INTO " + SESSION_TABLE +
+            " (primary_id, session_id, principal_name, creation_time, last_access_time, max_inactive_seconds, expiry_time)" +
+            " VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE_SESSION = "UPDATE " + SESSION_TABLE +
+            " SET session_id = ?, principal_name = ?, last_access_time = ?, max_inactive_seconds = ?, expiry_time = ?" +
+            " WHERE primary_id = ?";
+
+    private static final String INSERT_ATTRIBUTE = "INSERT INTO " + ATTRIBUTE_TABLE +
+            " (session_primary_id, attribute_name, attribute_bytes) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_ATTRIBUTE = "UPDATE " + ATTRIBUTE_TABLE +
+            " SET attribute_bytes = ? WHERE session_primary_id = ? AND attribute_name = ?";
+
+    private static final String DELETE_ATTRIBUTE = "DELETE FROM " + ATTRIBUTE_TABLE +
+            " WHERE session_primary_id = ? AND attribute_name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SharedSessionSchemaManager schemaManager;
+    private final SessionTouchBuffer touchBuffer;
+    private final SharedSessionProperties properties;
+    private final Duration defaultMaxInactiveInterval;
+
+    private final PrincipalNameIndexResolver<SharedSession> principalNameResolver = new PrincipalNameIndexResolver<>();
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer;
+
+    public JdbcSharedSessionRepository(JdbcTemplate jdbcTemplate,
+                                       PlatformTransactionManager transactionManager,
+                                       SharedSessionSchemaManager schemaManager,
+                                       SessionTouchBuffer touchBuffer,
+                                       SharedSessionProperties properties,
+                                       @Value("${server.servlet.session.timeout:30m}") Duration defaultMaxInactiveInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schemaManager = schemaManager;
+        this.touchBuffer = touchBuffer;
+        this.properties = properties;
+        this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+        this.deserializer = new DeserializingConverter(getClass().getClassLoader());
+    }
+
+    @PostConstruct
+    void initialize() {
+        schemaManager.initializeSchema();
+    }
+
+    // ==================== SessionRepository ====================
+
+    @Override
+    public SharedSession createSession() {
+        return new SharedSession(defaultMaxInactiveInterval);
+    }
+
+    @Override
+    public void save(SharedSession session) {
+        String principalName = principalNameResolver.resolveIndexValueFor(session);
+        boolean principalChanged = !Objects.equals(principalName, session.getPrincipalName());
+        session.setPrincipalName(principalName);
+
+        if (session.isNew()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                insertSession(session);
+                writeAttributes(session);
+            });
+            session.markSaved();
+            return;
+        }
+
+        if (session.isMetadataChanged() || principalChanged || !session.getAttributeChanges().isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                updateSession(session);
+                writeAttributes(session);
+            });
+            touchBuffer.discard(session.getPrimaryId());
+            session.markSaved();
+            return;
+        }
+
+        // 접근 시각만 바뀐 경우: 갱신 간격이 지났을 때만 지연 기록
+        Duration sinceLastTouch = Duration.between(session.getPersistedLastAccessedTime(), session.getLastAccessedTime());
+        if (sinceLastTouch.getSeconds() >= properties.getTouchIntervalSeconds()) {
+            touchBuffer.record(session);
+            session.markTouched();
+        }
+    }
+
+    @Override
+    public SharedSession findById(String id) {
+        List<SharedSession> sessions = query(SELECT_COLUMNS + " WHERE s.session_id = ?", id);
+        if (sessions.isEmpty()) {
+            return null;
+        }
+
+        SharedSession session = sessions.get(0);
+        Instant pendingLastAccess = touchBuffer.pendingLastAccess(session.getPrimaryId());
+        if (pendingLastAccess != null) {
+            session.applyPendingTouch(pendingLastAccess);
+        }
+
+        if (session.isExpired()) {
+            deleteById(id);
+            return null;
+        }
+        return session;
+    }
+
+    @Override
+    public void deleteById(String id) {
+        List<String> primaryIds = jdbcTemplate.queryForList(
+                "SELECT primary_id FROM " + SESSION_TABLE + " WHERE session_id = ?", String.class, id);
+        for (String primaryId : primaryIds) {
+            touchBuffer.discard(primaryId);
+            jdbcTemplate.update("DELETE FROM " + SESSION_TABLE + " WHERE primary_id = ?", primaryId);
+        }
+    }
+
+    // ==================== FindByIndexNameSessionRepository ====================
+
+    @Override
+    public Map<String, SharedSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
+        if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, SharedSession> result = new HashMap<>();
+        for (SharedSession session : query(SELECT_COLUMNS + " WHERE s.principal_name = ?", indexValue)) {
+            Instant pendingLastAccess = touchBuffer.pendingLastAccess(session.getPrimaryId());
+            if (pendingLastAccess != null) {
+                session.applyPendingTouch(pendingLastAccess);
+            }
+            if (!session.isExpired()) {
+                result.put(session.getId(), session);
+            }
+        }
+        return result;
+    }
+
+    // ==================== 만료 세션 정리 ====================
+
+    @Scheduled(cron = "${bookworm.session.cleanup-cron:0 * * * * *}")
+    public void cleanUpExpiredSessions() {
+        try {
+            int deleted = jdbcTemplate.update(
+                    "DELETE FROM " + SESSION_TABLE + " WHERE expiry_time < ?", System.currentTimeMillis());
+            if (deleted > 0) {
+                log.debug("만료 세션 정리: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("만료 세션 정리 실패", e);
+        }
+    }
+
+    // ==================== JDBC ====================
+
+    private void insertSession(SharedSession session) {
+        jdbcTemplate.update(INSERT_SESSION,
+                session.getPrimaryId(),
+                session.getId(),
+                session.getPrincipalName(),
+                session.getCreationTime().toEpochMilli(),
+                session.getLastAccessedTime().toEpochMilli(),
+                (int) session.getMaxInactiveInterval().getSeconds(),
+                session.getExpiryTime());
+    }
+
+    private void updateSession(SharedSession session) {
+        jdbcTemplate.update(UPDATE_SESSION,
+                session.getId(),
+                session.getPrincipalName(),
+                session.getLastAccessedTime().toEpochMilli(),
+                (int) session.getMaxInactiveInterval().getSeconds(),
+                session.getExpiryTime(),
+                session.getPrimaryId());
+    }
+
+    /**
+     * 변경된 속성만 종류별로 배치 기록
+     */
+    private void writeAttributes(SharedSession session) {
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+
+        session.getAttributeChanges().forEach((name, change) -> {
+            switch (change) {
+                case INSERT -> inserts.add(new Object[]{
+                        session.getPrimaryId(), name, serialize(session.getAttribute(name))});
+                case UPDATE -> updates.add(new Object[]{
+                        serialize(session.getAttribute(name)), session.getPrimaryId(), name});
+                case DELETE -> deletes.add(new Object[]{session.getPrimaryId(), name});
+            }
+        });
+
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_ATTRIBUTE, deletes);
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_ATTRIBUTE, updates);
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_ATTRIBUTE, inserts);
+        }
+    }
+
+    /**
+     * 세션 + 속성 조인 결과를 세션 단위로 묶어 복원
+     */
+    private List<SharedSession> query(String sql, Object parameter) {
+        Map<String, MapSession> loaded = new HashMap<>();
+        Map<String, String> principalNames = new HashMap<>();
+
+        jdbcTemplate.query(sql, rs -> {
+            String primaryId = rs.getString("primary_id");
+            MapSession mapSession = loaded.get(primaryId);
+            if (mapSession == null) {
+                mapSession = new MapSession(rs.getString("session_id"));
+                mapSession.setCreationTime(Instant.ofEpochMilli(rs.getLong("creation_time")));
+                mapSession.setLastAccessedTime(Instant.ofEpochMilli(rs.getLong("last_access_time")));
+                mapSession.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("max_inactive_seconds")));
+                loaded.put(primaryId, mapSession);
+                principalNames.put(primaryId, rs.getString("principal_name"));
+            }
+
+            String attributeName = rs.getString("attribute_name");
+            if (attributeName != null) {
+                mapSession.setAttribute(attributeName, deserialize(rs.getBytes("attribute_bytes")));
+            }
+        }, parameter);
+
+        List<SharedSession> sessions = new ArrayList<>(loaded.size());
+        loaded.forEach((primaryId, mapSession) ->
+                sessions.add(new SharedSession(primaryId, mapSession, principalNames.get(primaryId))));
+        return sessions;
+    }
+
+    private byte[] serialize(Object value) {
+        return serializer.convert(value);
+    }
+
+    private Object deserialize(byte[] bytes) {
+        return deserializer.convert(bytes);
+    }
+}
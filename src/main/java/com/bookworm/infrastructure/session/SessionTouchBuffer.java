@@ -0,0 +1,123 @@
+package com.bookworm.infrastructure.session;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션 마지막 접근 시각 지연 기록기
+ *
+ * 원리:
+ * 1. 요청마다 UPDATE하지 않고 세션별 최신 접근 시각만 메모리에 보관 (같은 세션은 덮어씀)
+ * 2. 주기적으로 모아서 JDBC 배치 UPDATE
+ * 3. 다른 인스턴스가 더 최근 시각을 이미 기록했으면 되돌리지 않음 (last_access_time < ? 조건)
+ * 4. 배치 기록이 실패하면 해당 배치를 다시 대기열에 넣어 다음 주기에 재시도 (그 사이 들어온 더 최근 값 우선)
+ *
+ * 인스턴스가 비정상 종료되면 마지막 주기분 접근 기록이 유실될 수 있으나,
+ * 갱신 간격이 만료 시간보다 훨씬 짧으므로 만료가 조금 앞당겨지는 정도에 그침
+ */
+@Component
+@ConditionalOnProperty(prefix = "bookworm.session", name = "store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class SessionTouchBuffer {
+
+    private static final String UPDATE_SQL = "UPDATE " + SharedSessionSchemaManager.SESSION_TABLE +
+            " SET last_access_time = ?, expiry_time = ?" +
+            " WHERE primary_id = ? AND last_access_time < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SharedSessionProperties properties;
+
+    private final Map<String, Touch> pending = new ConcurrentHashMap<>();
+
+    record Touch(long lastAccessTime, long expiryTime) {
+    }
+
+    /**
+     * 접근 시각 기록 예약 (더 최근 값만 유지)
+     */
+    void record(SharedSession session) {
+        merge(session.getPrimaryId(),
+                new Touch(session.getLastAccessedTime().toEpochMilli(), session.getExpiryTime()));
+    }
+
+    private void merge(String primaryId, Touch touch) {
+        pending.merge(primaryId, touch,
+                (current, next) -> next.lastAccessTime() > current.lastAccessTime() ? next : current);
+    }
+
+    /**
+     * 아직 기록되지 않은 접근 시각
+     */
+    Instant pendingLastAccess(String primaryId) {
+        Touch touch = pending.get(primaryId);
+        return touch != null ? Instant.ofEpochMilli(touch.lastAccessTime()) : null;
+    }
+
+    /**
+     * 세션 삭제/메타데이터 갱신 시 대기 중인 기록 제거
+     */
+    void discard(String primaryId) {
+        pending.remove(primaryId);
+    }
+
+    @Scheduled(fixedDelayString = "${bookworm.session.touch-flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>(properties.getTouchBatchSize());
+        int flushed = 0;
+        try {
+
+            for (String primaryId : List.copyOf(pending.keySet())) {
+                Touch touch = pending.remove(primaryId);
+                if (touch == null) {
+                    continue;
+                }
+                batch.add(new Object[]{touch.lastAccessTime(), touch.expiryTime(), primaryId, touch.lastAccessTime()});
+
+                if (batch.size() == properties.getTouchBatchSize()) {
+                    jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                    flushed += batch.size();
+                    batch.clear();
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+                flushed += batch.size();
+            }
+            log.debug("세션 접근 시각 일괄 기록: {}건", flushed);
+        } catch (Exception e) {
+            requeue(batch);
+            log.error("세션 접근 시각 일괄 기록 실패 - {}건 재시도 대기", batch.size(), e);
+        }
+    }
+
+    /**
+     * 실패한 배치를 대기열로 되돌림 (배치 행: last_access_time, expiry_time, primary_id, last_access_time)
+     */
+    private void requeue(List<Object[]> batch) {
+        for (Object[] row : batch) {
+            merge((String) row[2], new Touch((Long) row[0], (Long) row[1]));
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,215 @@
+package com.bookworm.infrastructure.session;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.Session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * DB 공유 세션
+ *
+ * 원리:
+ * 1. 실제 값은 MapSession에 두고, 저장 이후 바뀐 부분만 추적
+ * 2. 속성: DB에 있던 이름인지에 따라 INSERT/UPDATE/DELETE로 구분하여 변경분만 기록
+ * 3. 메타데이터(세션 ID, 만료 간격, 사용자명) 변경은 세션 행 UPDATE
+ * 4. 마지막 접근 시각만 바뀐 경우는 저장소가 모아서 지연 기록
+ *
+ * 속성 객체 내부를 직접 바꾼 경우는 감지하지 않으므로 변경 후 setAttribute를 다시 호출해야 함
+ */
+public final class SharedSession implements Session {
+
+    enum AttributeChange { INSERT, UPDATE, DELETE }
+
+    private final MapSession delegate;
+    private final String primaryId;
+
+    private boolean isNew;
+    private boolean metadataChanged;
+    private String principalName;
+    private Instant persistedLastAccessedTime;
+
+    private final Set<String> persistedAttributeNames;
+    private final Map<String, AttributeChange> attributeChanges = new HashMap<>();
+
+    /**
+     * 새 세션
+     */
+    SharedSession(Duration maxInactiveInterval) {
+        this.delegate = new MapSession();
+        this.delegate.setMaxInactiveInterval(maxInactiveInterval);
+        this.primaryId = UUID.randomUUID().toString();
+        this.isNew = true;
+        this.persistedLastAccessedTime = delegate.getLastAccessedTime();
+        this.persistedAttributeNames = new HashSet<>();
+    }
+
+    /**
+     * DB에서 읽은 세션
+     */
+    SharedSession(String primaryId, MapSession loaded, String principalName) {
+        this.delegate = loaded;
+        this.primaryId = primaryId;
+        this.isNew = false;
+        this.principalName = principalName;
+        this.persistedLastAccessedTime = loaded.getLastAccessedTime();
+        this.persistedAttributeNames = new HashSet<>(loaded.getAttributeNames());
+    }
+
+    // ==================== Session ====================
+
+    @Override
+    public String getId() {
+        return delegate.getId();
+    }
+
+    @Override
+    public String changeSessionId() {
+        metadataChanged = true;
+        return delegate.changeSessionId();
+    }
+
+    @Override
+    public <T> T getAttribute(String attributeName) {
+        return delegate.getAttribute(attributeName);
+    }
+
+    @Override
+    public Set<String> getAttributeNames() {
+        return delegate.getAttributeNames();
+    }
+
+    @Override
+    public void setAttribute(String attributeName, Object attributeValue) {
+        if (attributeValue == null) {
+            removeAttribute(attributeName);
+            return;
+        }
+        delegate.setAttribute(attributeName, attributeValue);
+        attributeChanges.put(attributeName, persistedAttributeNames.contains(attributeName)
+                ? AttributeChange.UPDATE
+                : AttributeChange.INSERT);
+    }
+
+    @Override
+    public void removeAttribute(String attributeName) {
+        delegate.removeAttribute(attributeName);
+        if (persistedAttributeNames.contains(attributeName)) {
+            attributeChanges.put(attributeName, AttributeChange.DELETE);
+        } else {
+            attributeChanges.remove(attributeName);
+        }
+    }
+
+    @Override
+    public Instant getCreationTime() {
+        return delegate.getCreationTime();
+    }
+
+    @Override
+    public void setLastAccessedTime(Instant lastAccessedTime) {
+        delegate.setLastAccessedTime(lastAccessedTime);
+    }
+
+    @Override
+    public Instant getLastAccessedTime() {
+        return delegate.getLastAccessedTime();
+    }
+
+    @Override
+    public void setMaxInactiveInterval(Duration interval) {
+        if (!interval.equals(delegate.getMaxInactiveInterval())) {
+            metadataChanged = true;
+        }
+        delegate.setMaxInactiveInterval(interval);
+    }
+
+    @Override
+    public Duration getMaxInactiveInterval() {
+        return delegate.getMaxInactiveInterval();
+    }
+
+    @Override
+    public boolean isExpired() {
+        return delegate.isExpired();
+    }
+
+    // ==================== 저장소 전용 ====================
+
+    String getPrimaryId() {
+        return primaryId;
+    }
+
+    boolean isNew() {
+        return isNew;
+    }
+
+    boolean isMetadataChanged() {
+        return metadataChanged;
+    }
+
+    String getPrincipalName() {
+        return principalName;
+    }
+
+    void setPrincipalName(String principalName) {
+        this.principalName = principalName;
+    }
+
+    Instant getPersistedLastAccessedTime() {
+        return persistedLastAccessedTime;
+    }
+
+    Map<String, AttributeChange> getAttributeChanges() {
+        return attributeChanges;
+    }
+
+    /**
+     * 만료 시각 (epoch ms), 만료 간격이 음수면 만료 없음
+     */
+    long getExpiryTime() {
+        Duration interval = getMaxInactiveInterval();
+        return interval.isNegative()
+                ? Long.MAX_VALUE
+                : getLastAccessedTime().plus(interval).toEpochMilli();
+    }
+
+    /**
+     * DB 기록 완료 후 추적 상태 초기화
+     */
+    void markSaved() {
+        attributeChanges.forEach((name, change) -> {
+            if (change == AttributeChange.DELETE) {
+                persistedAttributeNames.remove(name);
+            } else {
+                persistedAttributeNames.add(name);
+            }
+        });
+        attributeChanges.clear();
+        isNew = false;
+        metadataChanged = false;
+        persistedLastAccessedTime = getLastAccessedTime();
+    }
+
+    /**
+     * 접근 시각 갱신이 지연 기록 대기열에 들어간 경우 기준 시각만 이동
+     */
+    void markTouched() {
+        persistedLastAccessedTime = getLastAccessedTime();
+    }
+
+    /**
+     * 지연 기록 대기열에 남아 있는 더 최근 접근 시각 반영
+     */
+    void applyPendingTouch(Instant lastAccessedTime) {
+        if (lastAccessedTime.isAfter(delegate.getLastAccessedTime())) {
+            delegate.setLastAccessedTime(lastAccessedTime);
+            persistedLastAccessedTime = lastAccessedTime;
+        }
+    }
+}
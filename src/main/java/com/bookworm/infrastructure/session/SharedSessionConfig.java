@@ -0,0 +1,25 @@
+package com.bookworm.infrastructure.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
+
+/**
+ * 공유 세션 저장소 활성화 (bookworm.session.store=jdbc)
+ * - 서블릿 컨테이너 세션 대신 JdbcSharedSessionRepository를 HttpSession으로 사용
+ * - 동시 세션 제어(maximumSessions)도 DB 세션 기준으로 동작하도록 세션 레지스트리 교체
+ * - 세션 쿠키는 server.servlet.session.cookie 설정을 그대로 사용
+ */
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(prefix = "bookworm.session", name = "store", havingValue = "jdbc")
+public class SharedSessionConfig {
+
+    @Bean
+    public SpringSessionBackedSessionRegistry<SharedSession> sessionRegistry(
+            JdbcSharedSessionRepository sharedSessionRepository) {
+        return new SpringSessionBackedSessionRegistry<>(sharedSessionRepository);
+    }
+}
@@ -0,0 +1,42 @@
+package com.bookworm.infrastructure.session;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * 공유 세션 저장소 설정
+ * - store: container(서블릿 컨테이너 메모리 세션) | jdbc(DB 공유 세션)
+ */
+@Component
+@ConfigurationProperties(prefix = "bookworm.session")
+@Validated
+@Getter @Setter
+public class SharedSessionProperties {
+
+    private String store = "container";
+
+    /**
+     * 마지막 접근 시각 갱신 최소 간격
+     * 이전 기록 이후 이 시간이 지나지 않은 요청은 DB에 쓰지 않음
+     */
+    @Min(value = 1, message = "접근 시각 갱신 간격은 최소 1초 이상이어야 합니다")
+    @Max(value = 600, message = "접근 시각 갱신 간격은 600초를 초과할 수 없습니다")
+    private int touchIntervalSeconds = 60;
+
+    /**
+     * 모아 둔 접근 시각 갱신을 일괄 기록하는 주기
+     */
+    @Min(value = 100, message = "일괄 기록 주기는 최소 100ms 이상이어야 합니다")
+    private long touchFlushIntervalMs = 5000;
+
+    @Min(value = 1, message = "배치 크기는 1 이상이어야 합니다")
+    @Max(value = 5000, message = "배치 크기는 5,000을 초과할 수 없습니다")
+    private int touchBatchSize = 500;
+
+    private String cleanupCron = "0 * * * * *";
+}
@@ -0,0 +1,84 @@
+package com.bookworm.infrastructure.session;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공유 세션 테이블 스키마 관리
+ *
+ * - shared_sessions: 세션 메타데이터 (primary_id는 세션 ID 변경과 무관한 고정 키)
+ * - shared_session_attributes: 속성별 직렬화 값 (세션 삭제 시 함께 삭제)
+ *
+ * JPA 엔티티로 관리하지 않으므로 ddl-auto와 무관하게 직접 생성
+ */
+@Component
+@ConditionalOnProperty(prefix = "bookworm.session", name = "store", havingValue = "jdbc")
+@RequiredArgsConstructor
+@Slf4j
+public class SharedSessionSchemaManager {
+
+    static final String SESSION_TABLE = "shared_sessions";
+    static final String ATTRIBUTE_TABLE = "shared_session_attributes";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 테이블이 없으면 생성
+     */
+    public void initializeSchema() {
+        if (isMySql()) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + SESSION_TABLE + " (" +
+                    " primary_id CHAR(36) NOT NULL," +
+                    " session_id CHAR(36) NOT NULL," +
+                    " principal_name VARCHAR(100) NULL," +
+                    " creation_time BIGINT NOT NULL," +
+                    " last_access_time BIGINT NOT NULL," +
+                    " max_inactive_seconds INT NOT NULL," +
+                    " expiry_time BIGINT NOT NULL," +
+                    " PRIMARY KEY (primary_id)," +
+                    " UNIQUE KEY uk_shared_session_id (session_id)," +
+                    " KEY idx_shared_session_principal (principal_name)," +
+                    " KEY idx_shared_session_expiry (expiry_time)" +
+                    ") ENGINE=InnoDB");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ATTRIBUTE_TABLE + " (" +
+                    " session_primary_id CHAR(36) NOT NULL," +
+                    " attribute_name VARCHAR(200) NOT NULL," +
+                    " attribute_bytes BLOB NOT NULL," +
+                    " PRIMARY KEY (session_primary_id, attribute_name)," +
+                    " CONSTRAINT fk_shared_session_attributes FOREIGN KEY (session_primary_id)" +
+                    " REFERENCES " + SESSION_TABLE + " (primary_id) ON DELETE CASCADE" +
+                    ") ENGINE=InnoDB");
+        } else {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + SESSION_TABLE + " (" +
+                    " primary_id CHAR(36) PRIMARY KEY," +
+                    " session_id CHAR(36) NOT NULL UNIQUE," +
+                    " principal_name VARCHAR(100)," +
+                    " creation_time BIGINT NOT NULL," +
+                    " last_access_time BIGINT NOT NULL," +
+                    " max_inactive_seconds INT NOT NULL," +
+                    " expiry_time BIGINT NOT NULL)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_shared_session_principal ON " +
+                    SESSION_TABLE + " (principal_name)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_shared_session_expiry ON " +
+                    SESSION_TABLE + " (expiry_time)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + ATTRIBUTE_TABLE + " (" +
+                    " session_primary_id CHAR(36) NOT NULL," +
+                    " attribute_name VARCHAR(200) NOT NULL," +
+                    " attribute_bytes BLOB NOT NULL," +
+                    " PRIMARY KEY (session_primary_id, attribute_name)," +
+                    " FOREIGN KEY (session_primary_id) REFERENCES " + SESSION_TABLE +
+                    " (primary_id) ON DELETE CASCADE)");
+        }
+        log.info("공유 세션 테이블 준비 완료: {}, {}", SESSION_TABLE, ATTRIBUTE_TABLE);
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+}
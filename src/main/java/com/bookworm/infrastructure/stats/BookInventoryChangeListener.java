@@ -0,0 +1,115 @@
+package com.bookworm.infrastructure.stats;
+
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.vo.book.BookLanguage;
+import com.bookworm.domain.vo.book.BookQuantity;
+import com.bookworm.domain.vo.book.BookType;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도서 변경 커밋 리스너 → 재고 통계 반영
+ *
+ * - Hibernate POST_COMMIT 이벤트를 사용하므로 롤백된 변경은 반영되지 않음
+ * - 등록/삭제/수정뿐 아니라 대출/반납에 따른 재고 변경도 같은 경로로 반영
+ * - 변경 전 상태를 알 수 없는 수정은 다음 대조에서 교정
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookInventoryChangeListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final BookInventoryStatistics bookInventoryStatistics;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Book) {
+            bookInventoryStatistics.apply(null, toEntry(event.getPersister(), event.getState()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Book)) {
+            return;
+        }
+
+        if (event.getOldState() == null) {
+            log.debug("변경 전 상태가 없는 도서 수정 - 다음 대조에서 교정: {}", event.getId());
+            return;
+        }
+
+        bookInventoryStatistics.apply(
+                toEntry(event.getPersister(), event.getOldState()),
+                toEntry(event.getPersister(), event.getState()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Book) {
+            bookInventoryStatistics.apply(toEntry(event.getPersister(), event.getDeletedState()), null);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Book.class.equals(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 커밋되지 않은 변경은 반영하지 않음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 커밋되지 않은 변경은 반영하지 않음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 커밋되지 않은 변경은 반영하지 않음
+    }
+
+    private BookInventoryStatistics.Entry toEntry(EntityPersister persister, Object[] state) {
+        String[] names = persister.getPropertyNames();
+        String status = null;
+        String type = null;
+        String language = null;
+        long quantity = 0;
+
+        for (int i = 0; i < names.length; i++) {
+            Object value = state[i];
+            switch (names[i]) {
+                case "status" -> status = value != null ? value.toString() : null;
+                case "type" -> type = value instanceof BookType bookType ? bookType.getValue() : null;
+                case "language" -> language = value instanceof BookLanguage bookLanguage ? bookLanguage.getValue() : null;
+                case "quantity" -> quantity = value instanceof BookQuantity bookQuantity && bookQuantity.getValue() != null
+                        ? bookQuantity.getValue() : 0;
+                default -> { }
+            }
+        }
+
+        return new BookInventoryStatistics.Entry(status, type, language, quantity);
+    }
+}
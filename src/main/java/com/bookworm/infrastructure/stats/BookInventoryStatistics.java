@@ -0,0 +1,239 @@
+package com.bookworm.infrastructure.stats;
+
+import com.bookworm.domain.constant.BookStatus;
+import com.bookworm.domain.repository.BookStatisticsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 도서 재고 통계 메모리 집계기
+ *
+ * 원리:
+ * 1. 시작 시 DB 집계로 한 번 채움
+ * 2. 이후 도서 등록/수정/삭제/재고 변경이 커밋될 때마다 변경 전후 값의 차이만 반영 (LongAdder, 잠금 없음)
+ * 3. 주기적으로 DB 집계와 대조하여 어긋난 값(벌크 SQL 변경 등) 교정
+ *    - 집계 조회는 한 스냅숏(REPEATABLE READ)에서 읽고, 조회 중 커밋된 변경은 기존/새 카운터 모두에 반영 후 교체
+ *
+ * 통계 조회는 DB를 거치지 않고 카운터 값만 읽음
+ *
+ * 다중 인스턴스 주의:
+ * - 변경 반영은 자기 인스턴스에서 커밋된 변경만 받으므로, 다른 인스턴스의 변경은 다음 대조 때 반영됨
+ * - 즉 인스턴스별 통계는 최대 대조 간격(reconcile-interval-ms, 기본 10분)만큼 늦을 수 있음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookInventoryStatistics {
+
+    private final BookStatisticsRepository bookStatisticsRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Counters counters = new Counters();
+
+    /**
+     * DB 집계 적재 중인 새 카운터 (적재 중이 아니면 null) - 적재 중 변경을 함께 받아 교체 시 누락 방지
+     */
+    private volatile Counters building;
+    private volatile boolean ready = false;
+
+    /**
+     * 도서 한 권의 통계 반영 값 (status, type, language, quantity)
+     */
+    public record Entry(String status, String type, String language, long quantity) {
+
+        boolean isAvailable() {
+            return BookStatus.AVAILABLE.name().equals(status);
+        }
+    }
+
+    /**
+     * 변경 반영 (등록: before = null, 삭제: after = null)
+     */
+    public void apply(Entry before, Entry after) {
+        if (Objects.equals(before, after)) {
+            return;
+        }
+
+        // building을 먼저 읽어야 교체(counters → building 순) 사이에 끼어도 어느 한쪽에는 반영됨
+        Counters next = this.building;
+        Counters current = this.counters;
+        add(current, before, after);
+        if (next != null && next != current) {
+            add(next, before, after);
+        }
+    }
+
+    private static void add(Counters target, Entry before, Entry after) {
+        if (before != null) {
+            target.add(before, -1);
+        }
+        if (after != null) {
+            target.add(after, 1);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Map<String, Long> getCountByStatus() {
+        return counters.byStatus.snapshot();
+    }
+
+    public Map<String, Long> getCountByType() {
+        return counters.byType.snapshot();
+    }
+
+    public Map<String, Long> getCountByLanguage() {
+        return counters.byLanguage.snapshot();
+    }
+
+    public long getTotalQuantity() {
+        return counters.totalQuantity.sum();
+    }
+
+    public long getAvailableQuantity() {
+        return counters.availableQuantity.sum();
+    }
+
+    public long getBorrowedQuantity() {
+        Counters current = this.counters;
+        return current.totalQuantity.sum() - current.availableQuantity.sum();
+    }
+
+    /**
+     * 시작 시 DB 집계로 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            this.counters = loadFromDatabase();
+            this.building = null;
+            this.ready = true;
+            log.info("재고 통계 초기화 완료 - 전체 재고: {}, 이용 가능: {}",
+                    getTotalQuantity(), getAvailableQuantity());
+        } catch (Exception e) {
+            log.error("재고 통계 초기화 실패 - 다음 대조 시 재시도합니다.", e);
+        }
+    }
+
+    /**
+     * DB 집계와 대조하여 교정 (기본 10분 간격)
+     * - 적재 중 커밋된 변경은 새 카운터에도 반영되므로 교체로 잃지 않음
+     * - 스냅숏 시작과 겹쳐 커밋된 변경만 한쪽으로 어긋날 수 있으며 다음 대조에서 맞춰짐
+     */
+    @Scheduled(fixedDelayString = "${bookworm.inventory-stats.reconcile-interval-ms:600000}",
+            initialDelayString = "${bookworm.inventory-stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Counters fresh = loadFromDatabase();
+            Counters current = this.counters;
+
+            if (ready && !fresh.sameAs(current)) {
+                log.warn("재고 통계 불일치 교정 - 전체 재고: {} → {}, 이용 가능: {} → {}",
+                        current.totalQuantity.sum(), fresh.totalQuantity.sum(),
+                        current.availableQuantity.sum(), fresh.availableQuantity.sum());
+            }
+
+            this.counters = fresh;
+            this.building = null;
+            this.ready = true;
+        } catch (Exception e) {
+            log.error("재고 통계 대조 실패", e);
+        }
+    }
+
+    /**
+     * 새 카운터를 building으로 걸어 둔 채 DB 집계를 더함 (적재 중 변경은 apply가 함께 반영)
+     */
+    private Counters loadFromDatabase() {
+        Counters loaded = new Counters();
+        this.building = loaded;
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+            transactionTemplate.executeWithoutResult(status -> {
+                loaded.byStatus.load(bookStatisticsRepository.getBookCountByStatus());
+                loaded.byType.load(bookStatisticsRepository.getBookCountByType());
+                loaded.byLanguage.load(bookStatisticsRepository.getBookCountByLanguage());
+                loaded.totalQuantity.add(bookStatisticsRepository.getTotalQuantity());
+                loaded.availableQuantity.add(bookStatisticsRepository.getAvailableQuantity());
+            });
+            return loaded;
+        } catch (RuntimeException e) {
+            this.building = null;
+            throw e;
+        }
+    }
+
+    /**
+     * 카운터 묶음 (대조 시 통째로 교체)
+     */
+    private static final class Counters {
+        private final CountMap byStatus = new CountMap();
+        private final CountMap byType = new CountMap();
+        private final CountMap byLanguage = new CountMap();
+        private final LongAdder totalQuantity = new LongAdder();
+        private final LongAdder availableQuantity = new LongAdder();
+
+        void add(Entry entry, int sign) {
+            byStatus.add(entry.status(), sign);
+            byType.add(entry.type(), sign);
+            byLanguage.add(entry.language(), sign);
+            totalQuantity.add(sign * entry.quantity());
+            if (entry.isAvailable()) {
+                availableQuantity.add(sign * entry.quantity());
+            }
+        }
+
+        boolean sameAs(Counters other) {
+            return byStatus.snapshot().equals(other.byStatus.snapshot())
+                    && byType.snapshot().equals(other.byType.snapshot())
+                    && byLanguage.snapshot().equals(other.byLanguage.snapshot())
+                    && totalQuantity.sum() == other.totalQuantity.sum()
+                    && availableQuantity.sum() == other.availableQuantity.sum();
+        }
+    }
+
+    /**
+     * 키별 LongAdder 맵 (0이 된 키는 조회 결과에서 제외)
+     */
+    private static final class CountMap {
+        private final ConcurrentHashMap<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        void add(String key, long delta) {
+            if (key != null) {
+                counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+
+        void load(Map<String, Long> values) {
+            values.forEach(this::add);
+        }
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> result = new HashMap<>();
+            counts.forEach((key, adder) -> {
+                long value = adder.sum();
+                if (value != 0) {
+                    result.put(key, value);
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.bookworm.infrastructure.stats;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일별 대출/반납 롤업 저장소
+ *
+ * - 증분: 상태 전이마다 1행 INSERT (행 갱신이 없으므로 인기 조합에서도 잠금 경합 없음)
+ * - 압축: 한 날짜의 행을 (유형, 언어)별 합계 1행으로 교체
+ * - 조회: 일자 인덱스 범위 합산 (연간 조회도 최대 366일치 압축 행만 읽음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LoanDailyStatsJdbcRepository {
+
+    static final String TABLE = "loan_daily_stats";
+
+    private static final String INSERT_DELTA =
+            "INSERT INTO " + TABLE + " (stat_date, book_type, language, loan_count, return_count, " +
+            "overdue_return_count, extension_count, compacted) VALUES (?, ?, ?, ?, ?, ?, ?, FALSE)";
+
+    private static final String INSERT_COMPACTED =
+            "INSERT INTO " + TABLE + " (stat_date, book_type, language, loan_count, return_count, " +
+            "overdue_return_count, extension_count, compacted) " +
+            "SELECT stat_date, book_type, language, SUM(loan_count), SUM(return_count), " +
+            "SUM(overdue_return_count), SUM(extension_count), TRUE " +
+            "FROM " + TABLE + " WHERE stat_date = ? AND id <= ? " +
+            "GROUP BY stat_date, book_type, language";
+
+    private static final String DELETE_COMPACTED_SOURCE =
+            "DELETE FROM " + TABLE + " WHERE stat_date = ? AND id <= ?";
+
+    private static final String SUM_COLUMNS =
+            "COALESCE(SUM(loan_count), 0), COALESCE(SUM(return_count), 0), " +
+            "COALESCE(SUM(overdue_return_count), 0), COALESCE(SUM(extension_count), 0)";
+
+    /**
+     * 기존 데이터로 롤업 전체 재구성 (대출일 / 반납일 / 연장일 기준)
+     */
+    private static final String REBUILD =
+            "INSERT INTO " + TABLE + " (stat_date, book_type, language, loan_count, return_count, " +
+            "overdue_return_count, extension_count, compacted) " +
+            "SELECT s.stat_date, s.book_type, s.language, SUM(s.loans), SUM(s.returns), " +
+            "SUM(s.overdue_returns), SUM(s.extensions), TRUE FROM (" +
+            "  SELECT l.loan_date AS stat_date, b.type AS book_type, b.language AS language, " +
+            "    1 AS loans, 0 AS returns, 0 AS overdue_returns, 0 AS extensions " +
+            "  FROM book_loans l JOIN books b ON b.id = l.book_id " +
+            "  UNION ALL " +
+            "  SELECT CAST(l.returned_at AS DATE), b.type, b.language, 0, 1, " +
+            "    CASE WHEN CAST(l.returned_at AS DATE) > l.due_date THEN 1 ELSE 0 END, 0 " +
+            "  FROM book_loans l JOIN books b ON b.id = l.book_id " +
+            "  WHERE l.status = 'RETURNED' AND l.returned_at IS NOT NULL " +
+            "  UNION ALL " +
+            "  SELECT CAST(e.extended_at AS DATE), b.type, b.language, 0, 0, 0, 1 " +
+            "  FROM loan_extensions e JOIN book_loans l ON l.id = e.loan_id JOIN books b ON b.id = l.book_id" +
+            ") s GROUP BY s.stat_date, s.book_type, s.language";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 증분 행 추가
+     */
+    public void insertDelta(LocalDate statDate, String bookType, String language,
+                            int loans, int returns, int overdueReturns, int extensions) {
+        jdbcTemplate.update(INSERT_DELTA, Date.valueOf(statDate), bookType, language,
+                loans, returns, overdueReturns, extensions);
+    }
+
+    /**
+     * 압축이 필요한 날짜 (기준일 이전이면서 미압축 행이 있는 날짜)
+     */
+    public List<LocalDate> findDatesToCompact(LocalDate before) {
+        return jdbcTemplate.queryForList(
+                        "SELECT DISTINCT stat_date FROM " + TABLE +
+                                " WHERE compacted = FALSE AND stat_date < ? ORDER BY stat_date",
+                        Date.class, Date.valueOf(before))
+                .stream()
+                .map(Date::toLocalDate)
+                .toList();
+    }
+
+    /**
+     * 한 날짜 압축 - 현재까지의 행을 합계 행으로 교체
+     * (id 상한을 먼저 고정하므로 압축 중 추가된 행은 다음 압축 대상으로 남음)
+     *
+     * @return 삭제된 원본 행 수
+     */
+    public int compact(LocalDate statDate) {
+        Date date = Date.valueOf(statDate);
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM " + TABLE + " WHERE stat_date = ?", Long.class, date);
+        if (maxId == null) {
+            return 0;
+        }
+
+        jdbcTemplate.update(INSERT_COMPACTED, date, maxId);
+        return jdbcTemplate.update(DELETE_COMPACTED_SOURCE, date, maxId);
+    }
+
+    /**
+     * 기간 합계 [startDate, endDate]
+     */
+    public LoanDailyTotals sumPeriod(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.queryForObject(
+                "SELECT " + SUM_COLUMNS + " FROM " + TABLE + " WHERE stat_date BETWEEN ? AND ?",
+                (rs, rowNum) -> new LoanDailyTotals(null, null,
+                        rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)),
+                Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    /**
+     * 기간 내 (유형, 언어)별 합계 [startDate, endDate]
+     */
+    public List<LoanDailyTotals> sumPeriodByTypeAndLanguage(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(
+                "SELECT book_type, language, " + SUM_COLUMNS + " FROM " + TABLE +
+                        " WHERE stat_date BETWEEN ? AND ? GROUP BY book_type, language" +
+                        " ORDER BY book_type, language",
+                (rs, rowNum) -> new LoanDailyTotals(rs.getString(1), rs.getString(2),
+                        rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6)),
+                Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    /**
+     * 재구성/압축된 행이 있는지 (증분 행만 있으면 아직 재구성 전)
+     */
+    public boolean hasCompactedRows() {
+        return !jdbcTemplate.queryForList(
+                "SELECT id FROM " + TABLE + " WHERE compacted = TRUE LIMIT 1", Long.class).isEmpty();
+    }
+
+    /**
+     * 재구성 전이면 기존 대출/반납/연장 이력으로 롤업 재구성 (호출 측 REPEATABLE READ 트랜잭션 필요)
+     *
+     * 1. 테이블 전체 잠금 조회 - 커밋 전까지 다른 인스턴스의 증분 기록과 재구성은 대기
+     * 2. 잠금 후 다시 확인해 이미 재구성됐으면 건너뜀
+     * 3. 잠금 전에 커밋된 증분 행은 해당 대출이 이력에 이미 있으므로 지우고 이력으로 다시 집계
+     *    (잠금 후 증분은 대기 중이라 이력 스냅숏에 없고, 커밋 후 증분 행으로 한 번만 반영)
+     *
+     * @return 생성된 롤업 행 수 (이미 재구성됐으면 -1)
+     */
+    public int rebuildIfNeeded() {
+        jdbcTemplate.queryForList("SELECT id FROM " + TABLE + " FOR UPDATE", Long.class);
+        if (hasCompactedRows()) {
+            return -1;
+        }
+
+        jdbcTemplate.update("DELETE FROM " + TABLE);
+        return jdbcTemplate.update(REBUILD);
+    }
+}
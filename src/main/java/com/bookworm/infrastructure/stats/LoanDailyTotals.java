@@ -0,0 +1,13 @@
+package com.bookworm.infrastructure.stats;
+
+/**
+ * 롤업 합계 (bookType/language가 null이면 전체 합계)
+ */
+public record LoanDailyTotals(
+        String bookType,
+        String language,
+        long loans,
+        long returns,
+        long overdueReturns,
+        long extensions
+) {}
@@ -0,0 +1,157 @@
+package com.bookworm.infrastructure.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 버킷 기반 슬라이딩 윈도우 카운터 (키별 건수)
+ *
+ * 원리:
+ * 1. 윈도우를 고정 길이 버킷 N개의 링으로 나누고, 키별 건수를 현재 버킷과 윈도우 합계에 함께 더함
+ * 2. 시간이 지나 버킷이 윈도우 밖으로 밀려나면 그 버킷의 건수를 합계에서 빼고 버킷을 재사용
+ * 3. 조회 시 합계만 훑으며 크기 K의 최소 힙으로 상위 K개 선택 - O(키 수 x log K)
+ *
+ * 증가는 읽기 잠금(동시 실행), 버킷 교체는 쓰기 잠금(버킷 길이마다 1회)으로 보호
+ */
+public class SlidingWindowCounter {
+
+    private static final Comparator<Ranked> ASCENDING = Comparator
+            .comparingLong(Ranked::count)
+            .thenComparing(Ranked::key, Comparator.reverseOrder());
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Bucket[] ring;
+    private final ConcurrentHashMap<Long, LongAdder> totals = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile long headIndex;
+
+    /**
+     * 키와 윈도우 내 건수
+     */
+    public record Ranked(Long key, long count) {}
+
+    public SlidingWindowCounter(long bucketMillis, int bucketCount, long nowMillis) {
+        if (bucketMillis <= 0 || bucketCount <= 0) {
+            throw new IllegalArgumentException("버킷 길이와 개수는 1 이상이어야 합니다.");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        this.ring = new Bucket[bucketCount];
+        this.headIndex = nowMillis / bucketMillis;
+
+        for (int i = 0; i < bucketCount; i++) {
+            ring[i] = new Bucket();
+        }
+    }
+
+    /**
+     * 지정 시각에 발생한 건수 추가 (윈도우보다 오래된 시각은 무시)
+     */
+    public void add(Long key, long atMillis, long delta) {
+        long index = atMillis / bucketMillis;
+        if (index > headIndex) {
+            advance(atMillis);
+        }
+
+        lock.readLock().lock();
+        try {
+            if (index <= headIndex - bucketCount) {
+                return;
+            }
+            ring[slot(index)].counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            totals.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 현재 시각 기준으로 윈도우를 밀어 만료된 버킷 정리
+     */
+    public void advance(long nowMillis) {
+        long index = nowMillis / bucketMillis;
+        if (index <= headIndex) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 잠금 대기 중 다른 스레드가 이미 같은 지점 이후로 밀었으면 중복 정리하지 않음
+            if (index <= headIndex) {
+                return;
+            }
+            long from = Math.max(headIndex + 1, index - bucketCount + 1);
+            for (long i = from; i <= index; i++) {
+                Bucket expired = ring[slot(i)];
+                expired.counts.forEach((key, adder) -> subtract(key, adder.sum()));
+                ring[slot(i)] = new Bucket();
+            }
+            headIndex = index;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 윈도우 내 건수 상위 K개 (건수 내림차순, 같으면 키 오름차순)
+     */
+    public List<Ranked> topK(int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Ranked> heap = new PriorityQueue<>(k + 1, ASCENDING);
+        for (Map.Entry<Long, LongAdder> entry : totals.entrySet()) {
+            long count = entry.getValue().sum();
+            if (count <= 0) {
+                continue;
+            }
+
+            Ranked candidate = new Ranked(entry.getKey(), count);
+            if (heap.size() < k) {
+                heap.offer(candidate);
+            } else if (ASCENDING.compare(candidate, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(candidate);
+            }
+        }
+
+        List<Ranked> result = new ArrayList<>(heap);
+        result.sort(ASCENDING.reversed());
+        return result;
+    }
+
+    /**
+     * 윈도우 내 추적 중인 키 수
+     */
+    public int size() {
+        return totals.size();
+    }
+
+    private void subtract(Long key, long amount) {
+        LongAdder total = totals.get(key);
+        if (total == null) {
+            return;
+        }
+        total.add(-amount);
+        if (total.sum() <= 0) {
+            totals.remove(key, total);
+        }
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) bucketCount);
+    }
+
+    private static final class Bucket {
+        private final ConcurrentHashMap<Long, LongAdder> counts = new ConcurrentHashMap<>();
+    }
+}
@@ -0,0 +1,55 @@
+package com.bookworm.infrastructure.trending;
+
+import com.bookworm.domain.common.TimeProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간별 도서 대출 건수 슬라이딩 윈도우 (1시간 / 1일 / 7일)
+ */
+@Component
+public class TrendingBookCounter {
+
+    private final TimeProvider timeProvider;
+    private final Map<TrendingWindow, SlidingWindowCounter> counters = new EnumMap<>(TrendingWindow.class);
+
+    public TrendingBookCounter(TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+        long now = nowMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            counters.put(window, new SlidingWindowCounter(window.getBucketMillis(), window.getBucketCount(), now));
+        }
+    }
+
+    /**
+     * 대출 발생 기록 (모든 윈도우에 반영)
+     */
+    public void record(Long bookId, LocalDateTime occurredAt, long quantity) {
+        long at = toMillis(occurredAt);
+        counters.values().forEach(counter -> counter.add(bookId, at, quantity));
+    }
+
+    /**
+     * 현재 시각 기준으로 만료된 버킷 정리
+     */
+    public void advance() {
+        long now = nowMillis();
+        counters.values().forEach(counter -> counter.advance(now));
+    }
+
+    public List<SlidingWindowCounter.Ranked> topK(TrendingWindow window, int k) {
+        return counters.get(window).topK(k);
+    }
+
+    private long nowMillis() {
+        return timeProvider.getClock().millis();
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(timeProvider.getClock().getZone()).toInstant().toEpochMilli();
+    }
+}
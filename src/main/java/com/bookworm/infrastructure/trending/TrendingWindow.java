@@ -0,0 +1,39 @@
+package com.bookworm.infrastructure.trending;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 도서 집계 윈도우
+ * - 버킷 길이가 짧을수록 윈도우 경계가 정확하지만 메모리 사용 증가
+ */
+@Getter
+public enum TrendingWindow {
+    HOUR("1h", TimeUnit.MINUTES.toMillis(1), 60),
+    DAY("1d", TimeUnit.HOURS.toMillis(1), 24),
+    WEEK("7d", TimeUnit.HOURS.toMillis(1), 24 * 7);
+
+    private final String code;
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    TrendingWindow(String code, long bucketMillis, int bucketCount) {
+        this.code = code;
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+    }
+
+    public long getLengthMillis() {
+        return bucketMillis * bucketCount;
+    }
+
+    public static TrendingWindow fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(window -> window.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "지원하지 않는 집계 기간입니다: " + code + " (1h, 1d, 7d)"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.bookworm.interfaces.common;
 
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -255,6 +256,15 @@ public class ApiResponseHelper {
         return error(HttpStatus.SERVICE_UNAVAILABLE, message);
     }
 
+    /**
+     * 서비스 이용 불가 응답 - Retry-After 헤더 포함 (초 단위 재시도 안내)
+     */
+    public static <T> ResponseEntity<ApiResponse<T>> serviceUnavailable(String message, long retryAfterSeconds) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE.value(), message));
+    }
+
     /**
      * 서비스 이용 불가 응답 - 기본 메시지
      */
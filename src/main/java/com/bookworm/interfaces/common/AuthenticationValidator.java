@@ -1,9 +1,12 @@
 package com.bookworm.interfaces.common;
 
 
+import com.bookworm.infrastructure.security.CustomUserDetailsService.CustomUserDetails;
+import com.bookworm.infrastructure.security.token.AccessTokenClaims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 /**
@@ -57,6 +60,30 @@ public class AuthenticationValidator {
         return adminId;
     }
 
+    /**
+     * Spring Security 인증 정보의 회원 ID (세션 로그인 Principal 또는 서명 토큰 클레임)
+     * @throws UnauthorizedException 회원 정보를 알 수 없는 경우
+     */
+    public Long resolveUserId(Authentication authentication) {
+        Object principal = authentication != null ? authentication.getPrincipal() : null;
+
+        if (principal instanceof CustomUserDetails details) {
+            return details.getUser().id();
+        }
+        if (principal instanceof AccessTokenClaims claims) {
+            return claims.userId();
+        }
+        throw new UnauthorizedException("로그인이 필요합니다.");
+    }
+
+    /**
+     * 관리자 권한(ROLE_ADMIN) 보유 여부
+     */
+    public boolean hasAdminRole(Authentication authentication) {
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
     /**
      * 사용자 인증 상태 확인 (예외 발생하지 않음)
      * @param request HTTP 요청
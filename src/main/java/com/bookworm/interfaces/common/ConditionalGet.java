@@ -0,0 +1,53 @@
+package com.bookworm.interfaces.common;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 조건부 GET(ETag / If-None-Match) 처리 헬퍼
+ *
+ * 사용 순서:
+ * 1. ETag를 먼저 계산 (버전/집계 조회만 - 본문 조회 전)
+ * 2. notModified()가 true면 null 반환 → 304, 본문 조회/직렬화 없음
+ * 3. 아니면 평소대로 응답을 만들고 withETag()로 ETag 부여
+ *
+ * Cache-Control: private, no-cache - 브라우저는 저장하되 매번 재검증
+ * (직접 지정하지 않으면 Spring Security가 no-store를 붙여 재검증 요청 자체가 오지 않음)
+ */
+public final class ConditionalGet {
+
+    private static final String REVALIDATE = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * If-None-Match가 현재 ETag와 일치하면 304 상태를 설정하고 true
+     */
+    public static boolean notModified(ServletWebRequest webRequest, String etag) {
+        if (etag == null) {
+            return false;
+        }
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE);
+        }
+        return webRequest.checkNotModified(etag);
+    }
+
+    /**
+     * 성공 응답에만 ETag 부여
+     */
+    public static <T> ResponseEntity<T> withETag(ResponseEntity<T> response, String etag) {
+        if (etag == null || !response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(response.getHeaders())
+                .eTag(etag)
+                .body(response.getBody());
+    }
+}
@@ -90,6 +90,11 @@ public class SessionManager {
      * 로그인이 필요한 API에서 사용
      */
     public Long getUserIdFromSession(HttpServletRequest request) {
+        // 서명 토큰 인증 요청은 필터가 요청 속성으로 전달 (세션 조회 생략)
+        if (request.getAttribute(USER_ID_ATTR) instanceof Long tokenUserId) {
+            return tokenUserId;
+        }
+
         HttpSession session = request.getSession(false);
 
         if (session == null || session.getAttribute(USER_ID_ATTR) == null) {
@@ -104,6 +109,10 @@ public class SessionManager {
      * 관리자 권한이 필요한 API에서 사용
      */
     public Long getAdminIdFromSession(HttpServletRequest request) {
+        if (request.getAttribute(ADMIN_ID_ATTR) instanceof Long tokenAdminId) {
+            return tokenAdminId;
+        }
+
         HttpSession session = request.getSession(false);
 
         if (session == null || session.getAttribute(ADMIN_ID_ATTR) == null) {
@@ -1,13 +1,15 @@
 package com.bookworm.interfaces.controller;
 
+import com.bookworm.application.dto.AuthenticatedUser;
 import com.bookworm.application.dto.LoginRequest;
 import com.bookworm.application.dto.LoginResponse;
 import com.bookworm.application.dto.SignUpRequest;
 import com.bookworm.application.dto.SignUpResponse;
 import com.bookworm.application.service.user.UserSignUpService;
-import com.bookworm.domain.entity.User;
-import com.bookworm.domain.repository.UserRepository;
-import com.bookworm.domain.vo.user.Email;
+import com.bookworm.domain.exception.DuplicateUserException;
+import com.bookworm.infrastructure.security.CustomUserDetailsService;
+import com.bookworm.infrastructure.security.PasswordHashingRejectedException;
+import com.bookworm.infrastructure.security.CustomUserDetailsService.CustomUserDetails;
 import com.bookworm.interfaces.common.ApiResponse;
 import com.bookworm.interfaces.common.ApiResponseHelper;
 import com.bookworm.interfaces.common.AuthenticationValidator;
@@ -48,7 +50,7 @@ import java.util.List;
 public class AuthController {
 
     private final UserSignUpService userSignUpService;
-    private final UserRepository userRepository;
+    private final CustomUserDetailsService customUserDetailsService;
     private final SessionManager sessionManager;
     private final AuthenticationValidator authValidator;
 
@@ -71,6 +73,13 @@ public class AuthController {
                     createdUser,
                     "사용자가 성공적으로 생성되었습니다."
             );
+        } catch (DuplicateUserException e) {
+            log.warn("[회원가입] 이메일 중복 - 이메일: {}", request.email());
+            return ApiResponseHelper.conflict(e.getMessage());
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("[회원가입] 비밀번호 해싱 대기열 포화 - 이메일: {}", request.email());
+            return ApiResponseHelper.serviceUnavailable(e.getMessage(),
+                    PasswordHashingRejectedException.RETRY_AFTER_SECONDS);
         } catch (Exception e) {
             log.error("[회원가입] 실패 - 이메일: {}, 오류: {}", request.email(), e.getMessage());
             return ApiResponseHelper.badRequest("회원가입에 실패했습니다: " + e.getMessage());
@@ -94,10 +103,10 @@ public class AuthController {
             // 1. 기존 UserSignUpService를 통한 인증
             LoginResponse loginResponse = userSignUpService.authenticate(request.email(), request.password());
 
-            log.debug("[통합 로그인] 2단계 - User 엔티티 조회 시작");
+            log.debug("[통합 로그인] 2단계 - 인증 사용자 스냅샷 조회 시작");
 
-            // 2. User 엔티티 조회 (Spring Security Context 설정용)
-            User user = findUserByEmail(request.email());
+            // 2. 인증 사용자 스냅샷 조회 (1단계 인증 시 캐시됨 - DB 재조회 없음)
+            AuthenticatedUser user = findUserByEmail(request.email());
 
             log.debug("[통합 로그인] 3단계 - Spring Security Context 설정 시작");
 
@@ -116,6 +125,10 @@ public class AuthController {
 
             return ApiResponseHelper.ok(loginResponse, "로그인에 성공했습니다.");
 
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("[통합 로그인] 비밀번호 해싱 대기열 포화 - 이메일: {}", request.email());
+            return ApiResponseHelper.serviceUnavailable(e.getMessage(),
+                    PasswordHashingRejectedException.RETRY_AFTER_SECONDS);
         } catch (Exception e) {
             log.error("[통합 로그인] 실패 - 이메일: {}, 오류 클래스: {}, 오류 메시지: {}",
                     request.email(), e.getClass().getSimpleName(), e.getMessage());
@@ -167,10 +180,12 @@ public class AuthController {
             if (authentication != null && authentication.isAuthenticated() &&
                     !"anonymousUser".equals(authentication.getPrincipal())) {
 
-                // Spring Security Context에서 사용자 정보 추출
+                // Spring Security Context에서 사용자 정보 추출 (Principal 스냅샷 우선)
                 String userEmail = authentication.getName();
-                User user = findUserByEmail(userEmail);
-                LoginResponse response = LoginResponse.from(user);
+                AuthenticatedUser user = authentication.getPrincipal() instanceof CustomUserDetails details
+                        ? details.getUser()
+                        : findUserByEmail(userEmail);
+                LoginResponse response = user.toLoginResponse();
 
                 log.debug("[사용자 정보 조회] 성공 (Spring Security) - 사용자: {}", userEmail);
                 return ApiResponseHelper.ok(response, "사용자 정보를 성공적으로 조회했습니다.");
@@ -229,12 +244,11 @@ public class AuthController {
     // === Private Helper Methods ===
 
     /**
-     * 이메일로 사용자 조회
+     * 이메일로 인증 사용자 스냅샷 조회 (캐시 → DB)
      */
-    private User findUserByEmail(String email) {
+    private AuthenticatedUser findUserByEmail(String email) {
         try {
-            Email emailVo = Email.of(email);
-            return userRepository.findByEmail(emailVo)
+            return customUserDetailsService.loadSnapshot(email)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         } catch (Exception e) {
             throw new RuntimeException("사용자 조회에 실패했습니다: " + e.getMessage(), e);
@@ -244,18 +258,18 @@ public class AuthController {
     /**
      * Spring Security Context 설정
      */
-    private void setSecurityContext(User user, HttpServletRequest request) {
+    private void setSecurityContext(AuthenticatedUser user, HttpServletRequest request) {
         try {
             // 권한 설정
             List<SimpleGrantedAuthority> authorities = List.of(
-                    new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                    new SimpleGrantedAuthority("ROLE_" + user.role())
             );
 
             // Authentication 객체 생성
             Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    user.getEmail().getValue(),  // Principal: 사용자 이메일
-                    null,                        // Credentials: 저장하지 않음
-                    authorities                  // Authorities: 역할 기반 권한
+                    new CustomUserDetails(user.withoutPassword()),  // Principal: 인증 사용자 스냅샷
+                    null,                                           // Credentials: 저장하지 않음
+                    authorities                                     // Authorities: 역할 기반 권한
             );
 
             // Security Context 설정
@@ -268,7 +282,7 @@ public class AuthController {
             session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY, securityContext);
 
             log.debug("[Security Context] 설정 완료 - 사용자: {}, 역할: {}",
-                    user.getEmail().getValue(), user.getRole());
+                    user.email(), user.role());
 
         } catch (Exception e) {
             log.error("[Security Context] 설정 실패", e);
@@ -4,13 +4,17 @@ package com.bookworm.interfaces.controller;
 import com.bookworm.application.dto.*;
 import com.bookworm.application.service.book.BookCommandService;
 import com.bookworm.application.service.book.BookQueryService;
+import com.bookworm.application.service.book.RelatedBookService;
+import com.bookworm.application.service.common.EntityTagService;
 import com.bookworm.interfaces.common.ApiResponse;
 import com.bookworm.interfaces.common.ApiResponseHelper;
+import com.bookworm.interfaces.common.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -21,6 +25,7 @@ import java.util.List;
  * - 기존 ApiResponseHelper 활용
  * - JSR-303 검증 자동 적용
  * - 관리자 전용 API
+ * - 조회 API는 ETag 조건부 응답 지원 (If-None-Match 일치 시 본문 조회 없이 304)
  */
 @RestController
 @RequestMapping("/api/books")
@@ -30,6 +35,8 @@ public class BookController {
 
     private final BookCommandService bookCommandService;
     private final BookQueryService bookQueryService;
+    private final RelatedBookService relatedBookService;
+    private final EntityTagService entityTagService;
 
     // === 조회 API (Query) ===
 
@@ -40,11 +47,17 @@ public class BookController {
     @GetMapping
     public ResponseEntity<ApiResponse<BookPageResponse>> getAllBooks(
             @RequestParam(defaultValue = "0") Integer page,
-            @RequestParam(defaultValue = "20") Integer size) {
+            @RequestParam(defaultValue = "20") Integer size,
+            ServletWebRequest webRequest) {
+
+        String etag = entityTagService.bookCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
 
         try {
             BookPageResponse response = bookQueryService.getAllBooks(page, size);
-            return ApiResponseHelper.ok(response, "도서 목록 조회 성공");
+            return ConditionalGet.withETag(ApiResponseHelper.ok(response, "도서 목록 조회 성공"), etag);
 
         } catch (Exception e) {
             log.error("도서 목록 조회 실패: {}", e.getMessage(), e);
@@ -79,10 +92,15 @@ public class BookController {
      * GET /api/books/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<BookResponse>> getBook(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<BookResponse>> getBook(@PathVariable Long id, ServletWebRequest webRequest) {
+        String etag = entityTagService.bookTag(id);
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             BookResponse response = bookQueryService.getBook(id);
-            return ApiResponseHelper.ok(response, "도서 조회 성공");
+            return ConditionalGet.withETag(ApiResponseHelper.ok(response, "도서 조회 성공"), etag);
 
         } catch (IllegalArgumentException e) {
             log.warn("도서 조회 실패 - ID: {}, 원인: {}", id, e.getMessage());
@@ -94,15 +112,38 @@ public class BookController {
         }
     }
 
+    /**
+     * 함께 대출된 도서 조회 (추천 인덱스, DB 조회 없음)
+     * GET /api/books/{id}/related?limit=10
+     */
+    @GetMapping("/{id}/related")
+    public ResponseEntity<ApiResponse<List<RelatedBookResponse>>> getRelatedBooks(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<RelatedBookResponse> response = relatedBookService.getRelatedBooks(id, limit);
+            return ApiResponseHelper.ok(response, "함께 대출된 도서 조회 성공");
+
+        } catch (Exception e) {
+            log.error("함께 대출된 도서 조회 실패 - ID: {}: {}", id, e.getMessage(), e);
+            return ApiResponseHelper.error(500, "함께 대출된 도서 조회에 실패했습니다.");
+        }
+    }
+
     /**
      * 이용 가능한 도서 목록 조회
      * GET /api/books/available
      */
     @GetMapping("/available")
-    public ResponseEntity<ApiResponse<List<BookResponse>>> getAvailableBooks() {
+    public ResponseEntity<ApiResponse<List<BookResponse>>> getAvailableBooks(ServletWebRequest webRequest) {
+        String etag = entityTagService.bookCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             List<BookResponse> response = bookQueryService.getAvailableBooks();
-            return ApiResponseHelper.ok(response, "이용 가능한 도서 목록 조회 성공");
+            return ConditionalGet.withETag(ApiResponseHelper.ok(response, "이용 가능한 도서 목록 조회 성공"), etag);
 
         } catch (Exception e) {
             log.error("이용 가능한 도서 목록 조회 실패: {}", e.getMessage(), e);
@@ -115,10 +156,15 @@ public class BookController {
      * GET /api/books/borrowed
      */
     @GetMapping("/borrowed")
-    public ResponseEntity<ApiResponse<List<BookResponse>>> getBorrowedBooks() {
+    public ResponseEntity<ApiResponse<List<BookResponse>>> getBorrowedBooks(ServletWebRequest webRequest) {
+        String etag = entityTagService.bookCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             List<BookResponse> response = bookQueryService.getBorrowedBooks();
-            return ApiResponseHelper.ok(response, "대출 중인 도서 목록 조회 성공");
+            return ConditionalGet.withETag(ApiResponseHelper.ok(response, "대출 중인 도서 목록 조회 성공"), etag);
 
         } catch (Exception e) {
             log.error("대출 중인 도서 목록 조회 실패: {}", e.getMessage(), e);
@@ -1,22 +1,29 @@
 package com.bookworm.interfaces.controller;
 
 import com.bookworm.application.dto.BookOptionsResponse;
+import com.bookworm.application.dto.TrendingBookResponse;
 import com.bookworm.application.service.book.BookQueryService;
+import com.bookworm.application.service.book.TrendingBookService;
 import com.bookworm.application.service.common.BookStatisticsResponse;
 import com.bookworm.interfaces.common.ApiResponse;
 import com.bookworm.interfaces.common.ApiResponseHelper;
+import com.bookworm.interfaces.common.ConditionalGet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
 
 /**
  * 도서 통계 및 옵션 조회 API Controller
  * - 대시보드용 통계 데이터
  * - 폼 입력용 옵션 데이터
- * - 캐싱 적용 권장
+ * - 통계/옵션/건수는 ETag 조건부 응답 지원 (인기 도서는 시간 창 기반 메모리 집계라 제외)
  */
 @RestController
 @RequestMapping("/api/books")
@@ -25,16 +32,22 @@ import org.springframework.web.bind.annotation.RestController;
 public class BookInfoController {
 
     private final BookQueryService bookQueryService;
+    private final TrendingBookService trendingBookService;
 
     /**
      * 도서 통계 조회
      * GET /api/books/statistics
      */
     @GetMapping("/statistics")
-    public ResponseEntity<ApiResponse<BookStatisticsResponse>> getBookStatistics() {
+    public ResponseEntity<ApiResponse<BookStatisticsResponse>> getBookStatistics(ServletWebRequest webRequest) {
         try {
+            // 메모리 집계 값으로 응답을 만든 뒤 내용 해시로 ETag 계산 (테이블 집계 없음)
             BookStatisticsResponse response = bookQueryService.getBookStatistics();
-            return ApiResponseHelper.ok(response, "도서 통계 조회 성공");
+            String etag = "statistics-" + Integer.toHexString(response.hashCode());
+            if (ConditionalGet.notModified(webRequest, etag)) {
+                return null;
+            }
+            return ConditionalGet.withETag(ApiResponseHelper.ok(response, "도서 통계 조회 성공"), etag);
 
         } catch (Exception e) {
             log.error("도서 통계 조회 실패: {}", e.getMessage(), e);
@@ -42,15 +55,40 @@ public class BookInfoController {
         }
     }
 
+    /**
+     * 인기 도서 조회 (메모리 스냅샷)
+     * GET /api/books/trending?window=7d&limit=10
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingBookResponse>>> getTrendingBooks(
+            @RequestParam(defaultValue = "7d") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        try {
+            List<TrendingBookResponse> response = trendingBookService.getTrendingBooks(window, limit);
+            return ApiResponseHelper.ok(response, "인기 도서 조회 성공");
+
+        } catch (IllegalArgumentException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("인기 도서 조회 실패: {}", e.getMessage(), e);
+            return ApiResponseHelper.error(500, "인기 도서 조회에 실패했습니다.");
+        }
+    }
+
     /**
      * 도서 등록/수정용 옵션 조회
      * GET /api/books/options
      */
     @GetMapping("/options")
-    public ResponseEntity<ApiResponse<BookOptionsResponse>> getBookOptions() {
+    public ResponseEntity<ApiResponse<BookOptionsResponse>> getBookOptions(ServletWebRequest webRequest) {
         try {
+            // 코드 상수 기반이라 내용 해시로 ETag 계산 (DB 조회 없음)
             BookOptionsResponse response = bookQueryService.getBookOptions();
-            return ApiResponseHelper.ok(response, "도서 옵션 조회 성공");
+            String etag = "options-" + Integer.toHexString(response.hashCode());
+            if (ConditionalGet.notModified(webRequest, etag)) {
+                return null;
+            }
+            return ConditionalGet.withETag(ApiResponseHelper.ok(response, "도서 옵션 조회 성공"), etag);
 
         } catch (Exception e) {
             log.error("도서 옵션 조회 실패: {}", e.getMessage(), e);
@@ -63,10 +101,15 @@ public class BookInfoController {
      * GET /api/books/count
      */
     @GetMapping("/count")
-    public ResponseEntity<ApiResponse<Long>> getTotalBookCount() {
+    public ResponseEntity<ApiResponse<Long>> getTotalBookCount(ServletWebRequest webRequest) {
         try {
+            // 건수 자체가 응답이므로 값으로 ETag 계산
             long count = bookQueryService.getTotalBookCount();
-            return ApiResponseHelper.ok(count, "전체 도서 수 조회 성공");
+            String etag = "count-" + Long.toString(count, 36);
+            if (ConditionalGet.notModified(webRequest, etag)) {
+                return null;
+            }
+            return ConditionalGet.withETag(ApiResponseHelper.ok(count, "전체 도서 수 조회 성공"), etag);
 
         } catch (Exception e) {
             log.error("전체 도서 수 조회 실패: {}", e.getMessage(), e);
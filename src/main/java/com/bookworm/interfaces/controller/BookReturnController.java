@@ -3,6 +3,7 @@ package com.bookworm.interfaces.controller;
 import com.bookworm.application.dto.BookReturnRequest;
 import com.bookworm.application.dto.BookReturnResponse;
 import com.bookworm.application.dto.BookReturnStatistics;
+import com.bookworm.application.dto.LoanActivityStatistics;
 import com.bookworm.application.dto.LoanResponse;
 import com.bookworm.application.service.Loan.BookReturnService;
 import com.bookworm.domain.exception.LoanBusinessException;
@@ -162,6 +163,20 @@ public class BookReturnController {
         return ResponseEntity.ok(statistics);
     }
 
+    /**
+     * 대출 활동 통계 조회 (대출/반납/연체 반납/연장, 유형·언어별 합계)
+     */
+    @GetMapping("/statistics/activity")
+    public ResponseEntity<LoanActivityStatistics> getActivityStatistics(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+
+        log.info("대출 활동 통계 조회 API 호출. 기간: {} ~ {}", startDate, endDate);
+
+        LoanActivityStatistics statistics = bookReturnService.getActivityStatistics(startDate, endDate);
+        return ResponseEntity.ok(statistics);
+    }
+
     // ===== 예외 처리 =====
 
     /**
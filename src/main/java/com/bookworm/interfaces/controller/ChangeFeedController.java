@@ -0,0 +1,48 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.dto.ChangeFeedResponse;
+import com.bookworm.application.service.common.ChangeFeedService;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 도서/대출 변경 피드 API (관리자 전용)
+ *
+ * 사용 순서:
+ * 1. GET /api/changes/token으로 현재 토큰을 받아 둔 뒤 전체 목록 조회
+ * 2. 이후 GET /api/changes?since={토큰}을 주기적으로 호출, 응답의 nextToken을 다음 since로 사용
+ * 3. hasMore면 바로 이어서 호출, resetRequired면 1번부터 다시
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    /**
+     * 토큰 이후 변경 조회
+     * GET /api/changes?since=1234&limit=500
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<ChangeFeedResponse>> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) Integer limit) {
+        return ApiResponseHelper.ok(changeFeedService.getChanges(since, limit), "변경 피드 조회 성공");
+    }
+
+    /**
+     * 현재 시점 토큰 (전체 목록 조회 직전에 받아 둘 값)
+     * GET /api/changes/token
+     */
+    @GetMapping("/token")
+    public ResponseEntity<ApiResponse<String>> getCurrentToken() {
+        return ApiResponseHelper.ok(changeFeedService.currentToken(), "변경 피드 토큰 조회 성공");
+    }
+}
@@ -0,0 +1,129 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.dto.FineAccrualResult;
+import com.bookworm.application.dto.FineBalanceResponse;
+import com.bookworm.application.dto.FineLedgerEntryResponse;
+import com.bookworm.application.dto.FineSettlementRequest;
+import com.bookworm.application.service.Loan.FineService;
+import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import com.bookworm.interfaces.common.AuthenticationValidator;
+import com.bookworm.interfaces.common.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 연체료 API Controller
+ * - 회원: 본인 잔액/원장 조회 (/me - 로그인 정보로 대상 결정)
+ * - 관리자: 회원별 잔액/원장 조회, 납부/면제 처리, 부과 작업 수동 실행 (/admin)
+ */
+@RestController
+@RequestMapping("/api/fines")
+@RequiredArgsConstructor
+@Slf4j
+public class FineController {
+
+    private final FineService fineService;
+    private final AuthenticationValidator authValidator;
+
+    /**
+     * 내 연체료 잔액 조회
+     * GET /api/fines/me
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<FineBalanceResponse>> getMyBalance(Authentication authentication) {
+        try {
+            return getBalance(authValidator.resolveUserId(authentication));
+        } catch (UnauthorizedException e) {
+            return ApiResponseHelper.unauthorized(e.getMessage());
+        }
+    }
+
+    /**
+     * 내 연체료 원장 조회
+     * GET /api/fines/me/ledger?limit=50
+     */
+    @GetMapping("/me/ledger")
+    public ResponseEntity<ApiResponse<List<FineLedgerEntryResponse>>> getMyLedger(
+            @RequestParam(defaultValue = "50") int limit,
+            Authentication authentication) {
+        try {
+            return getLedger(authValidator.resolveUserId(authentication), limit);
+        } catch (UnauthorizedException e) {
+            return ApiResponseHelper.unauthorized(e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 연체료 잔액 조회 (관리자)
+     * GET /api/fines/admin/users/{userId}
+     */
+    @GetMapping("/admin/users/{userId}")
+    public ResponseEntity<ApiResponse<FineBalanceResponse>> getBalance(@PathVariable Long userId) {
+        try {
+            return ApiResponseHelper.ok(fineService.getOutstandingBalance(userId), "연체료 잔액 조회 성공");
+        } catch (Exception e) {
+            log.error("연체료 잔액 조회 실패 - 사용자 ID: {}", userId, e);
+            return ApiResponseHelper.error(500, "연체료 잔액 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 사용자 연체료 원장 조회 (관리자)
+     * GET /api/fines/admin/users/{userId}/ledger?limit=50
+     */
+    @GetMapping("/admin/users/{userId}/ledger")
+    public ResponseEntity<ApiResponse<List<FineLedgerEntryResponse>>> getLedger(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ApiResponseHelper.ok(fineService.getLedger(userId, limit), "연체료 원장 조회 성공");
+        } catch (Exception e) {
+            log.error("연체료 원장 조회 실패 - 사용자 ID: {}", userId, e);
+            return ApiResponseHelper.error(500, "연체료 원장 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 연체료 납부/면제 처리 (관리자)
+     * POST /api/fines/admin/users/{userId}/settlements
+     */
+    @PostMapping("/admin/users/{userId}/settlements")
+    public ResponseEntity<ApiResponse<FineBalanceResponse>> settle(
+            @PathVariable Long userId,
+            @RequestBody FineSettlementRequest request) {
+        try {
+            return ApiResponseHelper.ok(fineService.settle(userId, request), "연체료 처리 성공");
+        } catch (LoanBusinessException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("연체료 처리 실패 - 사용자 ID: {}", userId, e);
+            return ApiResponseHelper.error(500, "연체료 처리에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 연체료 부과 작업 수동 실행 (관리자, 누락된 날짜 보정용 - 오늘 이후 날짜는 400)
+     * POST /api/fines/admin/accruals?date=2024-01-01
+     */
+    @PostMapping("/admin/accruals")
+    public ResponseEntity<ApiResponse<FineAccrualResult>> accrue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        try {
+            return ApiResponseHelper.ok(fineService.accrueFines(date), "연체료 부과 완료");
+        } catch (LoanBusinessException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("연체료 부과 실행 실패 - 기준일: {}", date, e);
+            return ApiResponseHelper.error(500, "연체료 부과에 실패했습니다.");
+        }
+    }
+}
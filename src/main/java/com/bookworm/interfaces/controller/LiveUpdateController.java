@@ -0,0 +1,55 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.service.common.LiveUpdateService;
+import com.bookworm.infrastructure.live.LiveUpdateBroadcaster;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 실시간 재고/대출 이벤트 API (관리자 전용)
+ *
+ * 이벤트 종류: ready(시작 토큰), changes(변경 피드 페이지 - 도서 재고/상태, 대출), reset
+ * - 대시보드는 처음에 REST API로 현재 값을 받은 뒤 이 스트림으로 변경분만 반영
+ * - 이벤트 id는 변경 피드 토큰 - changes.since가 직전 id와 다르면 /api/changes?since={직전 id}로 보충
+ */
+@RestController
+@RequestMapping("/api/admin/live")
+@RequiredArgsConstructor
+public class LiveUpdateController {
+
+    private final LiveUpdateService liveUpdateService;
+    private final LiveUpdateBroadcaster liveUpdateBroadcaster;
+
+    /**
+     * 이벤트 스트림 구독
+     * GET /api/admin/live/stream (Accept: text/event-stream)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return liveUpdateService.subscribe()
+                .map(emitter -> ResponseEntity.ok()
+                        // 리버스 프록시 응답 버퍼링 해제
+                        .header("X-Accel-Buffering", "no")
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header("Retry-After", "30")
+                        .build());
+    }
+
+    /**
+     * 구독자 수, 발행/유실 건수
+     * GET /api/admin/live/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<LiveUpdateBroadcaster.Stats>> getStats() {
+        return ApiResponseHelper.ok(liveUpdateBroadcaster.stats(), "실시간 이벤트 지표 조회 성공");
+    }
+}
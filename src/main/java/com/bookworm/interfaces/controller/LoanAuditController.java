@@ -0,0 +1,119 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.dto.LoanAuditLogResponse;
+import com.bookworm.application.dto.LoanExtensionResponse;
+import com.bookworm.application.service.Loan.LoanAuditService;
+import com.bookworm.application.service.Loan.LoanService;
+import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대출 감사 로그 조회 API Controller (관리자 전용)
+ * - 대출별, 사용자별, 기간별 조회
+ * - 대출 연장 이력 조회
+ */
+@RestController
+@RequestMapping("/api/admin/audit-logs")
+@RequiredArgsConstructor
+@Slf4j
+public class LoanAuditController {
+
+    private final LoanAuditService loanAuditService;
+    private final LoanService loanService;
+
+    /**
+     * 대출별 감사 로그 조회
+     * GET /api/admin/audit-logs/loans/{loanId}?limit=100
+     */
+    @GetMapping("/loans/{loanId}")
+    public ResponseEntity<ApiResponse<List<LoanAuditLogResponse>>> getLoanAuditLogs(
+            @PathVariable Long loanId,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        try {
+            List<LoanAuditLogResponse> response = loanAuditService.findAuditLogsByLoan(loanId, limit);
+            return ApiResponseHelper.ok(response, "대출 감사 로그 조회 성공");
+
+        } catch (LoanBusinessException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("대출 감사 로그 조회 실패 - 대출 ID: {}", loanId, e);
+            return ApiResponseHelper.error(500, "대출 감사 로그 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 대출 연장 이력 조회
+     * GET /api/admin/audit-logs/loans/{loanId}/extensions
+     */
+    @GetMapping("/loans/{loanId}/extensions")
+    public ResponseEntity<ApiResponse<List<LoanExtensionResponse>>> getLoanExtensions(@PathVariable Long loanId) {
+        try {
+            List<LoanExtensionResponse> response = loanService.getExtensionHistory(loanId);
+            return ApiResponseHelper.ok(response, "대출 연장 이력 조회 성공");
+
+        } catch (Exception e) {
+            log.error("대출 연장 이력 조회 실패 - 대출 ID: {}", loanId, e);
+            return ApiResponseHelper.error(500, "대출 연장 이력 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 사용자별 감사 로그 조회
+     * GET /api/admin/audit-logs/users/{userId}?from=2024-01-01T00:00:00&to=2024-02-01T00:00:00
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<List<LoanAuditLogResponse>>> getUserAuditLogs(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        try {
+            List<LoanAuditLogResponse> response = loanAuditService.findAuditLogsByUser(userId, from, to, limit);
+            return ApiResponseHelper.ok(response, "사용자 감사 로그 조회 성공");
+
+        } catch (LoanBusinessException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("사용자 감사 로그 조회 실패 - 사용자 ID: {}", userId, e);
+            return ApiResponseHelper.error(500, "사용자 감사 로그 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 기간별 감사 로그 조회
+     * GET /api/admin/audit-logs?from=...&to=...&eventType=LOAN_CREATED
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<LoanAuditLogResponse>>> getAuditLogs(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String eventType,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        try {
+            List<LoanAuditLogResponse> response = loanAuditService.findAuditLogsByPeriod(from, to, eventType, limit);
+            return ApiResponseHelper.ok(response, "감사 로그 조회 성공");
+
+        } catch (LoanBusinessException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("감사 로그 조회 실패 - 기간: {} ~ {}", from, to, e);
+            return ApiResponseHelper.error(500, "감사 로그 조회에 실패했습니다.");
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.bookworm.interfaces.controller;
 
 import com.bookworm.application.dto.*;
 import com.bookworm.application.service.Loan.LoanService;
+import com.bookworm.application.service.common.EntityTagService;
 import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.interfaces.common.ConditionalGet;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
  * 간단한 대출 컨트롤러
  * - 핵심 기능만 제공
  * - 기본적인 예외 처리
+ * - 조회 API는 ETag 조건부 응답 지원 (If-None-Match 일치 시 본문 조회 없이 304)
  */
 @Slf4j
 @RestController
@@ -26,6 +30,7 @@ import java.util.List;
 public class LoanController {
 
     private final LoanService loanService;
+    private final EntityTagService entityTagService;
 
     // ==================== 대출 생성 ====================
 
@@ -107,10 +112,15 @@ public class LoanController {
      * 대출 상세 조회
      */
     @GetMapping("/{loanId}")
-    public ResponseEntity<LoanResponse> getLoan(@PathVariable Long loanId) {
+    public ResponseEntity<LoanResponse> getLoan(@PathVariable Long loanId, ServletWebRequest webRequest) {
+        String etag = entityTagService.loanTag(loanId);
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             LoanResponse response = loanService.getLoan(loanId);
-            return ResponseEntity.ok(response);
+            return ConditionalGet.withETag(ResponseEntity.ok(response), etag);
         } catch (Exception e) {
             log.warn("대출 조회 실패 - 대출 ID: {}, 오류: {}", loanId, e.getMessage());
             return ResponseEntity.notFound().build();
@@ -123,25 +133,57 @@ public class LoanController {
     @GetMapping
     public ResponseEntity<Page<LoanResponse>> getAllLoans(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            ServletWebRequest webRequest) {
+
+        String etag = entityTagService.loanCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
 
         try {
             Page<LoanResponse> response = loanService.getAllLoans(page, size);
-            return ResponseEntity.ok(response);
+            return ConditionalGet.withETag(ResponseEntity.ok(response), etag);
         } catch (Exception e) {
             log.error("대출 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    /**
+     * 대출 조건 검색 (관리자)
+     * 예: /api/loans/search?overdue=true&sortBy=dueDate&direction=ASC
+     */
+    @GetMapping("/search")
+    public ResponseEntity<LoanPageResponse> searchLoans(@ModelAttribute LoanSearchRequest request,
+                                                        ServletWebRequest webRequest) {
+        String etag = entityTagService.loanCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
+        try {
+            LoanPageResponse response = loanService.searchLoans(request);
+            return ConditionalGet.withETag(ResponseEntity.ok(response), etag);
+        } catch (Exception e) {
+            log.error("대출 검색 실패 - 조건: {}", request, e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     /**
      * 사용자별 대출 조회
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<LoanResponse>> getUserLoans(@PathVariable Long userId) {
+    public ResponseEntity<List<LoanResponse>> getUserLoans(@PathVariable Long userId, ServletWebRequest webRequest) {
+        String etag = entityTagService.userLoansTag(userId);
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             List<LoanResponse> response = loanService.getUserLoans(userId);
-            return ResponseEntity.ok(response);
+            return ConditionalGet.withETag(ResponseEntity.ok(response), etag);
         } catch (Exception e) {
             log.warn("사용자 대출 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
             return ResponseEntity.badRequest().build();
@@ -152,10 +194,15 @@ public class LoanController {
      * 활성 대출 조회
      */
     @GetMapping("/active")
-    public ResponseEntity<List<LoanResponse>> getActiveLoans() {
+    public ResponseEntity<List<LoanResponse>> getActiveLoans(ServletWebRequest webRequest) {
+        String etag = entityTagService.loanCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             List<LoanResponse> response = loanService.getActiveLoans();
-            return ResponseEntity.ok(response);
+            return ConditionalGet.withETag(ResponseEntity.ok(response), etag);
         } catch (Exception e) {
             log.error("활성 대출 조회 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -166,10 +213,15 @@ public class LoanController {
      * 연체 대출 조회
      */
     @GetMapping("/overdue")
-    public ResponseEntity<List<LoanResponse>> getOverdueLoans() {
+    public ResponseEntity<List<LoanResponse>> getOverdueLoans(ServletWebRequest webRequest) {
+        String etag = entityTagService.loanCollectionTag();
+        if (ConditionalGet.notModified(webRequest, etag)) {
+            return null;
+        }
+
         try {
             List<LoanResponse> response = loanService.getOverdueLoans();
-            return ResponseEntity.ok(response);
+            return ConditionalGet.withETag(ResponseEntity.ok(response), etag);
         } catch (Exception e) {
             log.error("연체 대출 조회 실패", e);
             return ResponseEntity.internalServerError().build();
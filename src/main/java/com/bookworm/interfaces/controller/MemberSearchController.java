@@ -0,0 +1,67 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.dto.LoanResponse;
+import com.bookworm.application.dto.SignUpResponse;
+import com.bookworm.application.service.user.MemberSearchService;
+import com.bookworm.domain.exception.UserBusinessException;
+import com.bookworm.interfaces.common.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 관리자용 회원 검색 API 컨트롤러
+ * 대출 창구에서 이름 또는 전화번호로 회원과 대출을 조회
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/members")
+@RequiredArgsConstructor
+public class MemberSearchController {
+
+    private final MemberSearchService memberSearchService;
+
+    /**
+     * 회원 검색 API
+     * 예: /api/admin/members/search?q=홍길동, /api/admin/members/search?q=5678
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<SignUpResponse>>> searchMembers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("회원 검색 요청: Query={}, Limit={}", q, limit);
+
+        try {
+            List<SignUpResponse> members = memberSearchService.searchMembers(q, limit);
+            return ResponseEntity.ok(ApiResponse.success(members, "회원 검색을 완료했습니다."));
+        } catch (UserBusinessException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+
+    /**
+     * 회원 대출 검색 API
+     */
+    @GetMapping("/loans")
+    public ResponseEntity<ApiResponse<List<LoanResponse>>> searchMemberLoans(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.info("회원 대출 검색 요청: Query={}, Limit={}", q, limit);
+
+        try {
+            List<LoanResponse> loans = memberSearchService.searchMemberLoans(q, limit);
+            return ResponseEntity.ok(ApiResponse.success(loans, "회원 대출 검색을 완료했습니다."));
+        } catch (UserBusinessException e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(HttpStatus.BAD_REQUEST.value(), e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.dto.ReservationRequest;
+import com.bookworm.application.dto.ReservationResponse;
+import com.bookworm.application.service.reservation.ReservationService;
+import com.bookworm.domain.exception.LibraryBusinessException;
+import com.bookworm.domain.exception.ReservationNotFoundException;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import com.bookworm.interfaces.common.AuthenticationValidator;
+import com.bookworm.interfaces.common.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 도서 예약 API Controller
+ * - 예약 등록/취소
+ * - 사용자별 예약, 도서별 대기열 조회
+ * - 예약자는 로그인 정보로 정함 (요청 본문의 userId는 관리자만 사용), 타인 예약 취소/조회는 관리자만
+ */
+@RestController
+@RequestMapping("/api/reservations")
+@RequiredArgsConstructor
+@Slf4j
+public class ReservationController {
+
+    private final ReservationService reservationService;
+    private final AuthenticationValidator authValidator;
+
+    /**
+     * 도서 예약
+     * POST /api/reservations
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<ReservationResponse>> reserve(@RequestBody ReservationRequest request,
+                                                                    Authentication authentication) {
+        try {
+            ReservationResponse response = reservationService.reserve(request,
+                    authValidator.resolveUserId(authentication), authValidator.hasAdminRole(authentication));
+            return ApiResponseHelper.created(response, "도서 예약 성공", "/api/reservations/" + response.id());
+
+        } catch (UnauthorizedException e) {
+            return ApiResponseHelper.unauthorized(e.getMessage());
+        } catch (LibraryBusinessException | IllegalArgumentException e) {
+            log.warn("도서 예약 실패 - 도서 ID: {}, 사유: {}", request.bookId(), e.getMessage());
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("도서 예약 중 오류 발생", e);
+            return ApiResponseHelper.error(500, "도서 예약에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 예약 취소
+     * DELETE /api/reservations/{reservationId}
+     */
+    @DeleteMapping("/{reservationId}")
+    public ResponseEntity<ApiResponse<ReservationResponse>> cancel(@PathVariable Long reservationId,
+                                                                   Authentication authentication) {
+        try {
+            ReservationResponse response = reservationService.cancel(reservationId,
+                    authValidator.resolveUserId(authentication), authValidator.hasAdminRole(authentication));
+            return ApiResponseHelper.ok(response, "예약 취소 성공");
+
+        } catch (UnauthorizedException e) {
+            return ApiResponseHelper.unauthorized(e.getMessage());
+        } catch (AccessDeniedException e) {
+            return ApiResponseHelper.forbidden(e.getMessage());
+        } catch (ReservationNotFoundException e) {
+            return ApiResponseHelper.notFound(e.getMessage());
+        } catch (LibraryBusinessException e) {
+            return ApiResponseHelper.badRequest(e.getMessage());
+        } catch (Exception e) {
+            log.error("예약 취소 중 오류 발생 - 예약 ID: {}", reservationId, e);
+            return ApiResponseHelper.error(500, "예약 취소에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 사용자별 예약 조회 (본인 또는 관리자)
+     * GET /api/reservations/users/{userId}
+     */
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> getUserReservations(@PathVariable Long userId,
+                                                                                      Authentication authentication) {
+        try {
+            if (!authValidator.hasAdminRole(authentication)
+                    && !userId.equals(authValidator.resolveUserId(authentication))) {
+                return ApiResponseHelper.forbidden("본인의 예약만 조회할 수 있습니다.");
+            }
+            return ApiResponseHelper.ok(reservationService.getUserReservations(userId), "사용자 예약 조회 성공");
+        } catch (UnauthorizedException e) {
+            return ApiResponseHelper.unauthorized(e.getMessage());
+        } catch (Exception e) {
+            log.error("사용자 예약 조회 실패 - 사용자 ID: {}", userId, e);
+            return ApiResponseHelper.error(500, "사용자 예약 조회에 실패했습니다.");
+        }
+    }
+
+    /**
+     * 도서별 예약 대기열 조회 (대기 순서대로)
+     * GET /api/reservations/books/{bookId}
+     */
+    @GetMapping("/books/{bookId}")
+    public ResponseEntity<ApiResponse<List<ReservationResponse>>> getBookQueue(@PathVariable Long bookId) {
+        try {
+            return ApiResponseHelper.ok(reservationService.getBookQueue(bookId), "도서 예약 대기열 조회 성공");
+        } catch (Exception e) {
+            log.error("도서 예약 대기열 조회 실패 - 도서 ID: {}", bookId, e);
+            return ApiResponseHelper.error(500, "도서 예약 대기열 조회에 실패했습니다.");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.infrastructure.security.BoundedPasswordEncoder;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 보안 처리 지표 조회 API (관리자 전용)
+ * - 비밀번호 해싱 실행기 상태와 해싱/검증 소요 시간
+ */
+@RestController
+@RequestMapping("/api/admin/security")
+@RequiredArgsConstructor
+public class SecurityMetricsController {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    /**
+     * 비밀번호 해싱 지표
+     * GET /api/admin/security/password-hashing
+     */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<ApiResponse<BoundedPasswordEncoder.Stats>> getPasswordHashingStats() {
+        return ApiResponseHelper.ok(passwordEncoder.stats(), "비밀번호 해싱 지표 조회 성공");
+    }
+}
@@ -0,0 +1,89 @@
+package com.bookworm.interfaces.controller;
+
+import com.bookworm.application.dto.AccessTokenResponse;
+import com.bookworm.application.dto.LoginRequest;
+import com.bookworm.application.dto.LoginResponse;
+import com.bookworm.application.service.user.UserSignUpService;
+import com.bookworm.infrastructure.security.PasswordHashingRejectedException;
+import com.bookworm.infrastructure.security.token.AccessTokenAuthenticationFilter;
+import com.bookworm.infrastructure.security.token.AccessTokenClaims;
+import com.bookworm.infrastructure.security.token.AccessTokenService;
+import com.bookworm.infrastructure.security.token.TokenRevocationList;
+import com.bookworm.interfaces.common.ApiResponse;
+import com.bookworm.interfaces.common.ApiResponseHelper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+
+/**
+ * 서명 토큰 인증 API (세션 없는 API 클라이언트용)
+ * - bookworm.token.enabled=true 일 때만 활성화
+ * - 발급된 토큰은 Authorization: Bearer 헤더로 전달하며, 서버에 세션을 만들지 않음
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/auth/token")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "bookworm.token", name = "enabled", havingValue = "true")
+public class TokenAuthController {
+
+    private final UserSignUpService userSignUpService;
+    private final AccessTokenService accessTokenService;
+    private final TokenRevocationList tokenRevocationList;
+
+    /**
+     * 토큰 발급 (이메일/비밀번호 인증)
+     */
+    @PostMapping
+    public ResponseEntity<ApiResponse<AccessTokenResponse>> issue(@Valid @RequestBody LoginRequest request) {
+        log.info("[토큰 발급] 요청 - 이메일: {}", request.email());
+
+        try {
+            LoginResponse user = userSignUpService.authenticate(request.email(), request.password());
+            AccessTokenService.IssuedToken token = accessTokenService.issue(
+                    user.id(), user.email(), user.role(), user.status());
+
+            log.info("[토큰 발급] 성공 - 사용자 ID: {}", user.id());
+            return ApiResponseHelper.ok(
+                    AccessTokenResponse.bearer(token.value(), accessTokenService.getTtlMillis() / 1000, user),
+                    "토큰이 발급되었습니다.");
+        } catch (PasswordHashingRejectedException e) {
+            log.warn("[토큰 발급] 비밀번호 해싱 대기열 포화 - 이메일: {}", request.email());
+            return ApiResponseHelper.serviceUnavailable(e.getMessage(),
+                    PasswordHashingRejectedException.RETRY_AFTER_SECONDS);
+        } catch (Exception e) {
+            log.warn("[토큰 발급] 실패 - 이메일: {}, 오류: {}", request.email(), e.getMessage());
+            return ApiResponseHelper.unauthorized("토큰 발급에 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 토큰 폐기 (로그아웃)
+     */
+    @PostMapping("/revoke")
+    public ResponseEntity<ApiResponse<Void>> revoke(HttpServletRequest request) {
+        Optional<AccessTokenClaims> claims = AccessTokenAuthenticationFilter.resolveToken(request)
+                .flatMap(accessTokenService::verify);
+
+        if (claims.isEmpty()) {
+            return ApiResponseHelper.unauthorized("유효한 토큰이 없습니다.");
+        }
+
+        try {
+            tokenRevocationList.revokeToken(claims.get());
+            return ApiResponseHelper.ok("토큰이 폐기되었습니다.");
+        } catch (Exception e) {
+            log.error("[토큰 폐기] 오류 발생", e);
+            return ApiResponseHelper.internalServerError("토큰 폐기 중 오류가 발생했습니다.");
+        }
+    }
+}
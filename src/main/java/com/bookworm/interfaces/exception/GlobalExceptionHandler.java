@@ -3,10 +3,12 @@ package com.bookworm.interfaces.exception;
 import com.bookworm.domain.exception.AuthenticationException;
 import com.bookworm.domain.exception.DuplicateUserException;
 import com.bookworm.domain.exception.InvalidEmailException;
+import com.bookworm.infrastructure.security.PasswordHashingRejectedException;
 import com.bookworm.interfaces.exception.ApiError;
 import com.bookworm.interfaces.exception.ResourceNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -141,6 +143,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(apiError);
     }
 
+    /**
+     * 비밀번호 해싱 실행기 포화 예외 처리
+     * 로그인/가입이 몰려 대기열이 가득 찬 경우 - 잠시 후 재시도 안내
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    public ResponseEntity<ApiError> handlePasswordHashingRejectedException(PasswordHashingRejectedException ex) {
+        log.warn("비밀번호 해싱 요청 거절: {}", ex.getMessage());
+
+        ApiError apiError = new ApiError(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "요청이 많아 처리할 수 없습니다.",
+                LocalDateTime.now(),
+                Map.of("message", ex.getMessage())
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(PasswordHashingRejectedException.RETRY_AFTER_SECONDS))
+                .body(apiError);
+    }
+
     /**
      * 예상치 못한 예외 처리
      * 모든 예외의 최종 처리점
@@ -0,0 +1,278 @@
+package com.bookworm.application.service.Loan;
+
+import com.bookworm.application.dto.FineAccrualResult;
+import com.bookworm.application.dto.FineBalanceResponse;
+import com.bookworm.application.dto.FineSettlementRequest;
+import com.bookworm.domain.common.LibraryPolicy;
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.entity.FineLedgerEntry;
+import com.bookworm.domain.entity.UserFineBalance;
+import com.bookworm.domain.exception.LoanBusinessException;
+import com.bookworm.infrastructure.fine.FineAccrualJdbcRepository;
+import com.bookworm.infrastructure.repository.FineLedgerRepository;
+import com.bookworm.infrastructure.repository.UserFineBalanceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 연체료 서비스 테스트
+ *
+ * 부과 구간 분할/재실행 중복 방지와 납부·면제 금액 범위 확인
+ * (부과 SQL은 NOT EXISTS 조건을 흉내 낸 메모리 저장소로 대체, DB 없음)
+ */
+class FineServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    private final TimeProvider timeProvider = new TimeProvider(
+            Clock.fixed(Instant.parse("2024-03-10T03:00:00Z"), ZoneOffset.UTC));
+    private final InMemoryAccrualRepository accrualRepository = new InMemoryAccrualRepository();
+    private final Map<Long, UserFineBalance> balances = new HashMap<>();
+    private final List<FineLedgerEntry> savedEntries = new ArrayList<>();
+    private final LibraryPolicy libraryPolicy = new LibraryPolicy();
+
+    private final FineService fineService = new FineService(
+            accrualRepository, ledgerRepository(), balanceRepository(),
+            libraryPolicy, timeProvider, new NoOpTransactionManager());
+
+    // ==================== 부과 ====================
+
+    @Test
+    void accrualForTodayOrLaterIsRejected() {
+        accrualRepository.addLoan(1L, TODAY.minusDays(3));
+
+        assertThatThrownBy(() -> fineService.accrueFines(TODAY))
+                .isInstanceOf(LoanBusinessException.class);
+        assertThatThrownBy(() -> fineService.accrueFines(TODAY.plusDays(1)))
+                .isInstanceOf(LoanBusinessException.class);
+        assertThat(accrualRepository.ranges).isEmpty();
+    }
+
+    @Test
+    void chunksCoverEveryOverdueDueDateOnce() {
+        LocalDate accrualDate = TODAY.minusDays(1);
+        accrualRepository.addLoan(1L, LocalDate.of(2024, 2, 1));
+        accrualRepository.addLoan(2L, LocalDate.of(2024, 2, 20));
+        accrualRepository.addLoan(3L, accrualDate.minusDays(1));
+        // 반납 예정일 당일은 아직 연체가 아님
+        accrualRepository.addLoan(4L, accrualDate);
+
+        FineAccrualResult result = fineService.accrueFines(accrualDate);
+
+        assertThat(result.accruedLoans()).isEqualTo(3L);
+        assertThat(result.chunks()).isEqualTo(accrualRepository.ranges.size());
+        assertThat(accrualRepository.ranges.get(0)[0]).isEqualTo(LocalDate.of(2024, 2, 1));
+        assertThat(accrualRepository.ranges.get(accrualRepository.ranges.size() - 1)[1]).isEqualTo(accrualDate);
+        for (int i = 1; i < accrualRepository.ranges.size(); i++) {
+            // 구간 [from, to)가 빈틈/겹침 없이 이어짐
+            assertThat(accrualRepository.ranges.get(i)[0]).isEqualTo(accrualRepository.ranges.get(i - 1)[1]);
+        }
+        assertThat(accrualRepository.accrued).containsExactlyInAnyOrder(
+                "1@" + accrualDate, "2@" + accrualDate, "3@" + accrualDate);
+    }
+
+    @Test
+    void rerunningTheSameDateAccruesNothingNew() {
+        LocalDate accrualDate = TODAY.minusDays(1);
+        accrualRepository.addLoan(1L, LocalDate.of(2024, 2, 1));
+        accrualRepository.addLoan(2L, accrualDate.minusDays(2));
+
+        FineAccrualResult first = fineService.accrueFines(accrualDate);
+        int postCallsAfterFirstRun = accrualRepository.postCalls;
+        FineAccrualResult second = fineService.accrueFines(accrualDate);
+
+        assertThat(first.accruedLoans()).isEqualTo(2L);
+        assertThat(first.postedEntries()).isEqualTo(2L);
+        assertThat(second.accruedLoans()).isZero();
+        assertThat(second.postedEntries()).isZero();
+        // 새 부과가 없는 구간은 잔액 반영을 건너뜀
+        assertThat(accrualRepository.postCalls).isEqualTo(postCallsAfterFirstRun);
+    }
+
+    @Test
+    void nothingToAccrueWhenNoLoanIsOverdue() {
+        LocalDate accrualDate = TODAY.minusDays(1);
+        accrualRepository.addLoan(1L, accrualDate);
+
+        FineAccrualResult result = fineService.accrueFines(accrualDate);
+
+        assertThat(result.chunks()).isZero();
+        assertThat(accrualRepository.ranges).isEmpty();
+    }
+
+    // ==================== 납부/면제 ====================
+
+    @Test
+    void settlementUpToTheBalanceIsApplied() {
+        givenBalance(7L, 1_000);
+
+        FineBalanceResponse partial = fineService.settle(7L, new FineSettlementRequest("PAYMENT", 400L));
+        FineBalanceResponse rest = fineService.settle(7L, new FineSettlementRequest("WAIVER", 600L));
+
+        assertThat(partial.balance()).isEqualTo(600L);
+        assertThat(rest.balance()).isZero();
+        assertThat(savedEntries).hasSize(2);
+        assertThat(savedEntries.get(0).getAmount()).isEqualTo(-400L);
+        assertThat(savedEntries.get(1).getAmount()).isEqualTo(-600L);
+    }
+
+    @Test
+    void settlementAboveTheBalanceIsRejected() {
+        givenBalance(7L, 1_000);
+
+        assertThatThrownBy(() -> fineService.settle(7L, new FineSettlementRequest("PAYMENT", 1_001L)))
+                .isInstanceOf(LoanBusinessException.class);
+
+        assertThat(balances.get(7L).getBalance()).isEqualTo(1_000L);
+        assertThat(savedEntries).isEmpty();
+    }
+
+    @Test
+    void nonPositiveAmountsAreRejected() {
+        givenBalance(7L, 1_000);
+
+        assertThatThrownBy(() -> fineService.settle(7L, new FineSettlementRequest("PAYMENT", 0L)))
+                .isInstanceOf(LoanBusinessException.class);
+        assertThatThrownBy(() -> fineService.settle(7L, new FineSettlementRequest("PAYMENT", -100L)))
+                .isInstanceOf(LoanBusinessException.class);
+        assertThatThrownBy(() -> fineService.settle(7L, new FineSettlementRequest("PAYMENT", null)))
+                .isInstanceOf(LoanBusinessException.class);
+        assertThat(savedEntries).isEmpty();
+    }
+
+    @Test
+    void accrualCannotBeRequestedAsASettlement() {
+        givenBalance(7L, 1_000);
+
+        assertThatThrownBy(() -> fineService.settle(7L, new FineSettlementRequest("ACCRUAL", 100L)))
+                .isInstanceOf(LoanBusinessException.class);
+        assertThat(balances.get(7L).getBalance()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void settlementForUserWithoutFinesIsRejected() {
+        assertThatThrownBy(() -> fineService.settle(8L, new FineSettlementRequest("PAYMENT", 100L)))
+                .isInstanceOf(LoanBusinessException.class);
+    }
+
+    private void givenBalance(long userId, long amount) {
+        LocalDateTime now = timeProvider.currentDateTime();
+        UserFineBalance balance = UserFineBalance.empty(userId, now);
+        balance.apply(amount, now);
+        balances.put(userId, balance);
+    }
+
+    private UserFineBalanceRepository balanceRepository() {
+        return fake(UserFineBalanceRepository.class, (name, args) -> switch (name) {
+            case "findById", "findByIdForUpdate" -> Optional.ofNullable(balances.get((Long) args[0]));
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private FineLedgerRepository ledgerRepository() {
+        return fake(FineLedgerRepository.class, (name, args) -> {
+            if (!name.equals("save")) {
+                throw new UnsupportedOperationException(name);
+            }
+            savedEntries.add((FineLedgerEntry) args[0]);
+            return args[0];
+        });
+    }
+
+    private interface Handler {
+        Object handle(String methodName, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T fake(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+
+    /**
+     * 부과 SQL 대체 - 활성 대출의 (대출, 부과일) 조합당 한 번만 부과 (uk_fine_accrual + NOT EXISTS)
+     */
+    private static final class InMemoryAccrualRepository extends FineAccrualJdbcRepository {
+        private final Map<Long, LocalDate> dueDates = new HashMap<>();
+        private final Set<String> accrued = new HashSet<>();
+        private final List<LocalDate[]> ranges = new ArrayList<>();
+        private int pending;
+        private int postCalls;
+
+        InMemoryAccrualRepository() {
+            super(null);
+        }
+
+        void addLoan(long loanId, LocalDate dueDate) {
+            dueDates.put(loanId, dueDate);
+        }
+
+        @Override
+        public LocalDate findOldestOverdueDueDate(LocalDate accrualDate) {
+            return dueDates.values().stream()
+                    .filter(dueDate -> dueDate.isBefore(accrualDate))
+                    .min(LocalDate::compareTo)
+                    .orElse(null);
+        }
+
+        @Override
+        public int insertAccruals(LocalDate accrualDate, LocalDate dueFrom, LocalDate dueTo,
+                                  long dailyFine, LocalDateTime now) {
+            ranges.add(new LocalDate[]{dueFrom, dueTo});
+            int inserted = 0;
+            for (Map.Entry<Long, LocalDate> loan : dueDates.entrySet()) {
+                LocalDate dueDate = loan.getValue();
+                if (!dueDate.isBefore(dueFrom) && dueDate.isBefore(dueTo)
+                        && accrued.add(loan.getKey() + "@" + accrualDate)) {
+                    inserted++;
+                }
+            }
+            pending += inserted;
+            return inserted;
+        }
+
+        @Override
+        public int postPendingEntries(LocalDateTime now) {
+            postCalls++;
+            int posted = pending;
+            pending = 0;
+            return posted;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.bookworm.application.service.Loan;
+
+import com.bookworm.domain.common.TimeProvider;
+import com.bookworm.domain.entity.Book;
+import com.bookworm.domain.entity.BookLoan;
+import com.bookworm.domain.vo.book.BookLanguage;
+import com.bookworm.domain.vo.book.BookType;
+import com.bookworm.domain.vo.bookloan.LoanPeriod;
+import com.bookworm.infrastructure.stats.LoanDailyStatsJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 롤업 서비스 테스트
+ *
+ * 상태 전이별 증분 기준일/카운터, 날짜별 압축 트랜잭션, 시작 시 재구성 여부 확인
+ * (저장소는 호출만 기록하는 대체 구현, DB 없음)
+ */
+class LoanStatisticsRollupServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    private final RecordingRollupRepository repository = new RecordingRollupRepository();
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final LoanStatisticsRollupService service = new LoanStatisticsRollupService(
+            repository,
+            new TimeProvider(Clock.fixed(Instant.parse("2024-03-10T03:00:00Z"), ZoneOffset.UTC)),
+            transactionManager);
+
+    // ==================== 증분 기록 ====================
+
+    @Test
+    void loanCreationCountsOnTheLoanDate() {
+        BookLoan loan = loan();
+
+        service.recordLoanCreated(loan);
+
+        assertThat(repository.deltas).containsExactly(
+                new Delta(loan.getLoanPeriod().getLoanDate(), "FICTION", "KOREAN", 1, 0, 0, 0));
+    }
+
+    @Test
+    void returnCountsOnTodayWithTheOverdueFlag() {
+        BookLoan loan = loan();
+
+        service.recordReturn(loan, false);
+        service.recordReturn(loan, true);
+
+        assertThat(repository.deltas).containsExactly(
+                new Delta(TODAY, "FICTION", "KOREAN", 0, 1, 0, 0),
+                new Delta(TODAY, "FICTION", "KOREAN", 0, 1, 1, 0));
+    }
+
+    @Test
+    void extensionCountsOnToday() {
+        service.recordExtension(loan());
+
+        assertThat(repository.deltas).containsExactly(
+                new Delta(TODAY, "FICTION", "KOREAN", 0, 0, 0, 1));
+    }
+
+    // ==================== 압축 ====================
+
+    @Test
+    void compactionRunsEveryPastDateInItsOwnTransaction() {
+        repository.datesToCompact = List.of(TODAY.minusDays(3), TODAY.minusDays(1));
+
+        service.compactDailyStats();
+
+        // 오늘 증분은 아직 쌓이는 중이므로 기준일(오늘) 이전만 조회
+        assertThat(repository.compactBefore).isEqualTo(TODAY);
+        assertThat(repository.compacted).containsExactly(TODAY.minusDays(3), TODAY.minusDays(1));
+        assertThat(transactionManager.definitions).hasSize(2);
+    }
+
+    @Test
+    void compactionWithNothingPendingOpensNoTransaction() {
+        service.compactDailyStats();
+
+        assertThat(repository.compacted).isEmpty();
+        assertThat(transactionManager.definitions).isEmpty();
+    }
+
+    // ==================== 시작 시 재구성 ====================
+
+    @Test
+    void startupSkipsTheRebuildOnceCompactedRowsExist() {
+        repository.hasCompactedRows = true;
+
+        service.initializeRollup();
+
+        assertThat(repository.rebuilds).isZero();
+        assertThat(transactionManager.definitions).isEmpty();
+        assertThat(service.isReady()).isTrue();
+    }
+
+    @Test
+    void startupRebuildsUnderRepeatableReadWhenNeverRebuilt() {
+        service.initializeRollup();
+
+        assertThat(repository.rebuilds).isEqualTo(1);
+        assertThat(transactionManager.definitions).hasSize(1);
+        assertThat(transactionManager.definitions.get(0).getIsolationLevel())
+                .isEqualTo(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        assertThat(service.isReady()).isTrue();
+    }
+
+    @Test
+    void failedRebuildLeavesTheRollupNotReady() {
+        repository.failRebuild = true;
+
+        service.initializeRollup();
+
+        assertThat(service.isReady()).isFalse();
+    }
+
+    private static BookLoan loan() {
+        Book book = Book.of()
+                .type(BookType.of("FICTION"))
+                .language(BookLanguage.of("KOREAN"))
+                .build();
+        LocalDate loanDate = LocalDate.now();
+        return BookLoan.of()
+                .book(book)
+                .loanPeriod(LoanPeriod.of(loanDate, loanDate.plusDays(14)))
+                .build();
+    }
+
+    record Delta(LocalDate statDate, String bookType, String language,
+                 int loans, int returns, int overdueReturns, int extensions) {
+    }
+
+    private static final class RecordingRollupRepository extends LoanDailyStatsJdbcRepository {
+        private final List<Delta> deltas = new ArrayList<>();
+        private final List<LocalDate> compacted = new ArrayList<>();
+        private List<LocalDate> datesToCompact = List.of();
+        private LocalDate compactBefore;
+        private boolean hasCompactedRows;
+        private boolean failRebuild;
+        private int rebuilds;
+
+        RecordingRollupRepository() {
+            super(null);
+        }
+
+        @Override
+        public void insertDelta(LocalDate statDate, String bookType, String language,
+                                int loans, int returns, int overdueReturns, int extensions) {
+            deltas.add(new Delta(statDate, bookType, language, loans, returns, overdueReturns, extensions));
+        }
+
+        @Override
+        public List<LocalDate> findDatesToCompact(LocalDate before) {
+            compactBefore = before;
+            return datesToCompact;
+        }
+
+        @Override
+        public int compact(LocalDate statDate) {
+            compacted.add(statDate);
+            return 1;
+        }
+
+        @Override
+        public boolean hasCompactedRows() {
+            return hasCompactedRows;
+        }
+
+        @Override
+        public int rebuildIfNeeded() {
+            if (failRebuild) {
+                throw new IllegalStateException("rebuild failed");
+            }
+            rebuilds++;
+            return 0;
+        }
+    }
+
+    private static final class RecordingTransactionManager implements PlatformTransactionManager {
+        private final List<TransactionDefinition> definitions = new ArrayList<>();
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            definitions.add(definition);
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
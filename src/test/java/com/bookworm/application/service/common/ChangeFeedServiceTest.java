@@ -0,0 +1,229 @@
+package com.bookworm.application.service.common;
+
+import com.bookworm.application.dto.ChangeFeedResponse;
+import com.bookworm.infrastructure.changefeed.ChangeFeedProperties;
+import com.bookworm.infrastructure.changefeed.EntityChange;
+import com.bookworm.infrastructure.changefeed.EntityChange.ChangeType;
+import com.bookworm.infrastructure.changefeed.EntityChange.EntityType;
+import com.bookworm.infrastructure.changefeed.EntityChangeLogRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경 피드 서비스 테스트
+ *
+ * 순번 공백 처리(공백 기준 시각 전후), 페이지 경계, 토큰 만료, 같은 엔티티 변경 합치기 확인
+ * (변경 이력 저장소는 메모리 목록으로 대체, 삭제로 끝나는 변경만 사용해 엔티티 조회 없이 검증)
+ */
+class ChangeFeedServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 3, 10, 12, 0);
+    private static final LocalDateTime SETTLED = CUTOFF.minusSeconds(30);
+    private static final LocalDateTime RECENT = CUTOFF.plusSeconds(5);
+
+    private final InMemoryChangeLog changeLog = new InMemoryChangeLog();
+    private final ChangeFeedProperties properties = new ChangeFeedProperties();
+    private final ChangeFeedService service = new ChangeFeedService(changeLog, properties, null);
+
+    // ==================== 순번 공백 ====================
+
+    @Test
+    void contiguousRowsAreReadUpToThePageSize() {
+        changeLog.add(1, SETTLED).add(2, RECENT).add(3, RECENT);
+
+        ChangeFeedService.ChangeRows page = service.readRows(0, 10);
+
+        assertThat(sequences(page)).containsExactly(1L, 2L, 3L);
+        assertThat(page.nextSequence()).isEqualTo(3L);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void recentGapStopsTheReadBeforeIt() {
+        // 4번을 받은 트랜잭션이 아직 커밋 전일 수 있음
+        changeLog.add(1, SETTLED).add(2, SETTLED).add(3, RECENT).add(5, RECENT);
+
+        ChangeFeedService.ChangeRows page = service.readRows(0, 10);
+
+        assertThat(sequences(page)).containsExactly(1L, 2L, 3L);
+        assertThat(page.nextSequence()).isEqualTo(3L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void gapOlderThanTheCutoffIsSkippedAsRolledBack() {
+        changeLog.add(1, SETTLED).add(3, SETTLED).add(4, RECENT);
+
+        ChangeFeedService.ChangeRows page = service.readRows(0, 10);
+
+        assertThat(sequences(page)).containsExactly(1L, 3L, 4L);
+        assertThat(page.nextSequence()).isEqualTo(4L);
+        assertThat(page.hasMore()).isFalse();
+    }
+
+    @Test
+    void gapRightAfterTheTokenIsJudgedTheSameWay() {
+        changeLog.add(10, SETTLED).add(12, RECENT);
+
+        ChangeFeedService.ChangeRows page = service.readRows(10, 10);
+
+        assertThat(page.rows()).isEmpty();
+        assertThat(page.nextSequence()).isEqualTo(10L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void cutoffIsTakenBeforeTheRowsAreRead() {
+        properties.setGapGraceMs(2_500);
+        changeLog.add(1, SETTLED);
+
+        service.readRows(0, 10);
+
+        assertThat(changeLog.calls).containsExactly("findGapCutoff:2500", "findMinSequence", "findAfter:0:11");
+    }
+
+    @Test
+    void fullPageReportsMore() {
+        changeLog.add(1, SETTLED).add(2, SETTLED).add(3, SETTLED);
+
+        ChangeFeedService.ChangeRows page = service.readRows(0, 2);
+
+        assertThat(sequences(page)).containsExactly(1L, 2L);
+        assertThat(page.nextSequence()).isEqualTo(2L);
+        assertThat(page.hasMore()).isTrue();
+    }
+
+    @Test
+    void tokenOlderThanTheRetainedLogIsExpired() {
+        changeLog.add(50, SETTLED);
+
+        assertThat(service.readRows(48, 10).expired()).isTrue();
+        assertThat(service.readRows(49, 10).expired()).isFalse();
+    }
+
+    // ==================== 변경 피드 응답 ====================
+
+    @Test
+    void lastChangePerEntityWinsAndDeletesAreReportedById() {
+        changeLog.add(1, SETTLED, EntityType.BOOK, 100, ChangeType.UPSERT)
+                .add(2, SETTLED, EntityType.LOAN, 200, ChangeType.INSERT)
+                .add(3, SETTLED, EntityType.BOOK, 101, ChangeType.DELETE)
+                .add(4, SETTLED, EntityType.BOOK, 100, ChangeType.DELETE)
+                .add(5, SETTLED, EntityType.LOAN, 200, ChangeType.DELETE);
+
+        ChangeFeedResponse response = service.getChanges("0", null);
+
+        assertThat(response.books()).isEmpty();
+        assertThat(response.loans()).isEmpty();
+        // 합친 뒤 마지막 변경 순서대로
+        assertThat(response.deletedBookIds()).containsExactly(101L, 100L);
+        assertThat(response.deletedLoanIds()).containsExactly(200L);
+        assertThat(response.nextToken()).isEqualTo("5");
+        assertThat(response.resetRequired()).isFalse();
+    }
+
+    @Test
+    void expiredTokenAsksForAFullReload() {
+        changeLog.add(50, SETTLED);
+        changeLog.maxBeforeCutoff = 50L;
+
+        ChangeFeedResponse response = service.getChanges("10", null);
+
+        assertThat(response.resetRequired()).isTrue();
+        assertThat(response.nextToken()).isEqualTo("50");
+    }
+
+    @Test
+    void limitIsClampedToTheConfiguredMaximum() {
+        properties.setMaxPageSize(100);
+
+        service.getChanges("0", 5_000);
+        service.getChanges("0", 0);
+
+        assertThat(changeLog.calls).contains("findAfter:0:101", "findAfter:0:2");
+    }
+
+    @Test
+    void invalidTokensAreRejected() {
+        assertThatThrownBy(() -> service.getChanges("abc", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getChanges("-1", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ==================== 현재 토큰 ====================
+
+    @Test
+    void currentTokenStopsAtTheLastSettledSequence() {
+        changeLog.maxBeforeCutoff = 41L;
+        assertThat(service.currentToken()).isEqualTo("41");
+
+        changeLog.maxBeforeCutoff = null;
+        changeLog.add(42, RECENT);
+        assertThat(service.currentToken()).isEqualTo("41");
+    }
+
+    @Test
+    void currentTokenOfAnEmptyLogIsZero() {
+        assertThat(service.currentToken()).isEqualTo("0");
+    }
+
+    private static List<Long> sequences(ChangeFeedService.ChangeRows page) {
+        return page.rows().stream().map(EntityChange::sequence).toList();
+    }
+
+    /**
+     * 순번 순으로 보관하는 변경 이력 (공백 기준 시각은 CUTOFF 고정)
+     */
+    private static final class InMemoryChangeLog extends EntityChangeLogRepository {
+        private final List<EntityChange> rows = new ArrayList<>();
+        private final List<String> calls = new ArrayList<>();
+        private Long maxBeforeCutoff;
+
+        InMemoryChangeLog() {
+            super(null, null, null);
+        }
+
+        InMemoryChangeLog add(long sequence, LocalDateTime changedAt) {
+            return add(sequence, changedAt, EntityType.BOOK, sequence, ChangeType.DELETE);
+        }
+
+        InMemoryChangeLog add(long sequence, LocalDateTime changedAt,
+                              EntityType entityType, long entityId, ChangeType changeType) {
+            rows.add(new EntityChange(sequence, entityType, entityId, changeType, changedAt));
+            return this;
+        }
+
+        @Override
+        public LocalDateTime findGapCutoff(long graceMs) {
+            calls.add("findGapCutoff:" + graceMs);
+            return CUTOFF;
+        }
+
+        @Override
+        public Long findMinSequence() {
+            calls.add("findMinSequence");
+            return rows.isEmpty() ? null : rows.get(0).sequence();
+        }
+
+        @Override
+        public List<EntityChange> findAfter(long sequence, int limit) {
+            calls.add("findAfter:" + sequence + ":" + limit);
+            return rows.stream()
+                    .filter(row -> row.sequence() > sequence)
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public Long findMaxSequenceBefore(LocalDateTime before) {
+            return maxBeforeCutoff;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.bookworm.domain.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 시간 정렬 ID의 비트 배치와 순서 테스트
+ *
+ * 공용 생성기(shared)는 다른 테스트와 공유되므로 노드를 바꾸지 않고 별도 인스턴스로 확인
+ */
+class EntityIdGeneratorTest {
+
+    private static final int SEQUENCE_BITS = EntityIdGenerator.SEQUENCE_BITS;
+    private static final int NODE_BITS = EntityIdGenerator.NODE_BITS;
+
+    @Test
+    void encodesNodeAndCreationTimeWithin53Bits() {
+        EntityIdGenerator generator = new EntityIdGenerator(5);
+
+        Instant before = Instant.now();
+        long id = generator.next();
+        Instant after = Instant.now();
+
+        assertThat(id).isPositive();
+        assertThat(id).isLessThan(1L << 53);
+        assertThat((id >>> SEQUENCE_BITS) & EntityIdGenerator.MAX_NODE).isEqualTo(5L);
+        assertThat(EntityIdGenerator.createdAt(id).toEpochMilli())
+                .isBetween(before.toEpochMilli(), after.toEpochMilli());
+    }
+
+    @Test
+    void idsIncreaseEvenWhenSequenceOverflowsWithinOneMillisecond() {
+        EntityIdGenerator generator = new EntityIdGenerator(1);
+
+        // ms당 128개를 넘겨 다음 ms로 넘어가는 경로까지 포함
+        long previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.next();
+            assertThat(id).isGreaterThan(previous);
+            assertThat((id >>> SEQUENCE_BITS) & EntityIdGenerator.MAX_NODE).isEqualTo(1L);
+            previous = id;
+        }
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveTheSameId() throws Exception {
+        EntityIdGenerator generator = new EntityIdGenerator(2);
+        int threads = 4;
+        int perThread = 20_000;
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.next());
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        EntityIdGenerator first = new EntityIdGenerator(3);
+        EntityIdGenerator second = new EntityIdGenerator(4);
+
+        List<Long> firstIds = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            firstIds.add(first.next());
+        }
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(firstIds).doesNotContain(second.next());
+        }
+    }
+
+    @Test
+    void firstIdAtBoundsIdsCreatedFromThatInstant() {
+        EntityIdGenerator generator = new EntityIdGenerator(EntityIdGenerator.MAX_NODE);
+
+        long id = generator.next();
+        Instant createdAt = EntityIdGenerator.createdAt(id);
+
+        assertThat(EntityIdGenerator.firstIdAt(createdAt)).isLessThanOrEqualTo(id);
+        assertThat(EntityIdGenerator.firstIdAt(createdAt.plusMillis(1))).isGreaterThan(id);
+        assertThat(EntityIdGenerator.firstIdAt(createdAt) & ((1L << (NODE_BITS + SEQUENCE_BITS)) - 1)).isZero();
+    }
+
+    @Test
+    void firstIdAtBeforeEpochIsZero() {
+        assertThat(EntityIdGenerator.firstIdAt(Instant.parse("2000-01-01T00:00:00Z"))).isZero();
+    }
+
+    @Test
+    void rejectsOutOfRangeNodes() {
+        assertThrows(IllegalArgumentException.class, () -> new EntityIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new EntityIdGenerator(EntityIdGenerator.MAX_NODE + 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> EntityIdGenerator.configureNode(EntityIdGenerator.BULK_LOAD_NODE));
+    }
+}
@@ -0,0 +1,172 @@
+package com.bookworm.infrastructure.archive;
+
+import com.bookworm.domain.constant.LoanStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.hibernate.Session;
+import org.hibernate.jdbc.Work;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대출 보관 저장소 테스트
+ *
+ * 한 배치의 복사 → 변경 이력 → 삭제 순서와, 모든 단계가 같은 ID/상태 조건을 쓰는지 확인
+ * (EntityManager/Session/Connection은 실행한 문장만 기록하는 프록시, DB 없음)
+ */
+class LoanArchiveRepositoryTest {
+
+    private static final List<Long> IDS = List.of(11L, 12L);
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 2, 0);
+
+    private final List<Executed> executed = new ArrayList<>();
+    private final Map<String, Integer> updateCounts = new HashMap<>();
+    private final LoanArchiveRepository repository = new LoanArchiveRepository();
+
+    LoanArchiveRepositoryTest() {
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager());
+    }
+
+    @Test
+    void batchIsCopiedLoggedThenDeleted() {
+        updateCounts.put("insert into ArchivedBookLoan", 2);
+        updateCounts.put("delete from BookLoan", 2);
+
+        int moved = repository.moveToArchive(IDS, NOW);
+
+        assertThat(moved).isEqualTo(2);
+        assertThat(executed).hasSize(5);
+        assertThat(executed.get(0).statement()).startsWith("insert into ArchivedLoanExtension");
+        assertThat(executed.get(1).statement()).startsWith("insert into ArchivedBookLoan");
+        // 벌크 삭제는 리스너를 거치지 않으므로 삭제 전에 변경 이력을 같은 트랜잭션에서 직접 기록
+        assertThat(executed.get(2).statement()).startsWith("INSERT INTO entity_changes");
+        assertThat(executed.get(3).statement()).startsWith("delete from LoanExtension");
+        assertThat(executed.get(4).statement()).startsWith("delete from BookLoan");
+    }
+
+    @Test
+    void everyStepUsesTheSameIdsAndStatuses() {
+        updateCounts.put("insert into ArchivedBookLoan", 2);
+        updateCounts.put("delete from BookLoan", 2);
+
+        repository.moveToArchive(IDS, NOW);
+
+        for (Executed step : executed) {
+            if (step.statement().startsWith("INSERT INTO entity_changes")) {
+                assertThat(step.statement()).contains("FROM book_loans WHERE id IN (?,?) AND status IN (?,?)");
+                assertThat(step.parameters().values())
+                        .containsExactly("LOAN", "DELETE", 11L, 12L, "RETURNED", "CANCELLED");
+            } else {
+                assertThat(step.parameters().get("ids")).isEqualTo(IDS);
+                assertThat(step.parameters().get("statuses"))
+                        .isEqualTo(List.of(LoanStatus.RETURNED, LoanStatus.CANCELLED));
+            }
+        }
+        assertThat(executed.get(1).parameters().get("now")).isEqualTo(NOW);
+    }
+
+    @Test
+    void copyAndDeleteCountMismatchFailsTheBatch() {
+        // ID 조회 후 한 건이 다시 대출 상태로 바뀐 경우 등 - 예외로 호출 측 트랜잭션(복사/이력 포함)을 롤백
+        updateCounts.put("insert into ArchivedBookLoan", 2);
+        updateCounts.put("delete from BookLoan", 1);
+
+        assertThatThrownBy(() -> repository.moveToArchive(IDS, NOW))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    /**
+     * 실행된 HQL/SQL과 바인딩 값 (JDBC는 위치 순서, HQL은 이름)
+     */
+    record Executed(String statement, Map<String, Object> parameters) {
+    }
+
+    private int updateCount(String statement) {
+        return updateCounts.entrySet().stream()
+                .filter(entry -> statement.startsWith(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(0);
+    }
+
+    private EntityManager entityManager() {
+        Session session = proxy(Session.class, (name, args) -> {
+            if (!name.equals("doWork")) {
+                throw new UnsupportedOperationException(name);
+            }
+            ((Work) args[0]).execute(connection());
+            return null;
+        });
+
+        return proxy(EntityManager.class, (name, args) -> switch (name) {
+            case "createQuery" -> query((String) args[0]);
+            case "unwrap" -> session;
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private Query query(String hql) {
+        Executed step = new Executed(hql, new HashMap<>());
+        Query[] self = new Query[1];
+        self[0] = proxy(Query.class, (name, args) -> switch (name) {
+            case "setParameter" -> {
+                step.parameters().put((String) args[0], args[1]);
+                yield self[0];
+            }
+            case "executeUpdate" -> {
+                executed.add(step);
+                yield updateCount(hql);
+            }
+            default -> throw new UnsupportedOperationException(name);
+        });
+        return self[0];
+    }
+
+    private Connection connection() {
+        return proxy(Connection.class, (name, args) -> {
+            if (!name.equals("prepareStatement")) {
+                throw new UnsupportedOperationException(name);
+            }
+            return statement((String) args[0]);
+        });
+    }
+
+    private PreparedStatement statement(String sql) {
+        Executed step = new Executed(sql, new TreeMap<>());
+        return proxy(PreparedStatement.class, (name, args) -> switch (name) {
+            case "setLong", "setString" -> {
+                step.parameters().put(String.format("%03d", (Integer) args[0]), args[1]);
+                yield null;
+            }
+            case "executeUpdate" -> {
+                executed.add(step);
+                yield IDS.size();
+            }
+            case "close" -> null;
+            default -> throw new UnsupportedOperationException(name);
+        });
+    }
+
+    private interface Handler {
+        Object handle(String methodName, Object[] args) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.handle(method.getName(), args));
+    }
+}
@@ -0,0 +1,86 @@
+package com.bookworm.infrastructure.changefeed;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 이력 저장소의 공백 기준 시각 테스트
+ *
+ * DB 현재 시각/진행 중 최고령 트랜잭션 시작 시각 중 이른 쪽에서 여유 시간을 뺀 값인지,
+ * 진행 중 트랜잭션 조회가 실패하면 이후 DB 시각만 쓰는지 확인 (DB 없음)
+ */
+class EntityChangeLogRepositoryTest {
+
+    private static final LocalDateTime DB_NOW = LocalDateTime.of(2024, 3, 10, 12, 0, 0);
+
+    private final StubJdbcTemplate jdbcTemplate = new StubJdbcTemplate();
+    private final EntityChangeLogRepository repository = new EntityChangeLogRepository(jdbcTemplate, null, null);
+
+    @Test
+    void cutoffIsDatabaseTimeMinusGraceWithoutTransactionTracking() {
+        jdbcTemplate.oldestActive = DB_NOW.minusMinutes(5);
+
+        assertThat(repository.findGapCutoff(10_000)).isEqualTo(DB_NOW.minusSeconds(10));
+        assertThat(jdbcTemplate.queries).hasSize(1);
+    }
+
+    @Test
+    void oldestActiveTransactionMovesTheCutoffBack() {
+        trackActiveTransactions();
+        jdbcTemplate.oldestActive = DB_NOW.minusMinutes(5);
+
+        assertThat(repository.findGapCutoff(10_000)).isEqualTo(DB_NOW.minusMinutes(5).minusSeconds(10));
+    }
+
+    @Test
+    void noActiveTransactionKeepsTheDatabaseTime() {
+        trackActiveTransactions();
+
+        assertThat(repository.findGapCutoff(0)).isEqualTo(DB_NOW);
+        assertThat(jdbcTemplate.queries).hasSize(2);
+    }
+
+    @Test
+    void failedTransactionLookupFallsBackToTheGraceOnly() {
+        trackActiveTransactions();
+        jdbcTemplate.failActiveLookup = true;
+
+        assertThat(repository.findGapCutoff(10_000)).isEqualTo(DB_NOW.minusSeconds(10));
+        repository.findGapCutoff(10_000);
+
+        // 권한이 없으면 매 요청마다 다시 시도하지 않음
+        assertThat(jdbcTemplate.queries).hasSize(3);
+    }
+
+    private void trackActiveTransactions() {
+        ReflectionTestUtils.setField(repository, "trackActiveTransactions", true);
+    }
+
+    private static final class StubJdbcTemplate extends JdbcTemplate {
+        private final List<String> queries = new ArrayList<>();
+        private LocalDateTime oldestActive;
+        private boolean failActiveLookup;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            queries.add(sql);
+            if (sql.contains("innodb_trx")) {
+                if (failActiveLookup) {
+                    throw new DataAccessResourceFailureException("Access denied; PROCESS privilege required");
+                }
+                return oldestActive == null ? null : (T) Timestamp.valueOf(oldestActive);
+            }
+            return (T) Timestamp.valueOf(DB_NOW);
+        }
+    }
+}
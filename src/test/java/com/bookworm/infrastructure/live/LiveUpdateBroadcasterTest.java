@@ -0,0 +1,171 @@
+package com.bookworm.infrastructure.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 이벤트 브로드캐스터 테스트
+ *
+ * 전송을 가로채는 emitter로 구독자 버퍼(가장 오래된 것부터 버림)와 전송 스케줄링 확인
+ */
+class LiveUpdateBroadcasterTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\S+)");
+
+    private final LiveUpdateProperties properties = new LiveUpdateProperties();
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+    private LiveUpdateBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        if (broadcaster != null) {
+            broadcaster.shutdown();
+        }
+    }
+
+    @Test
+    void slowSubscriberKeepsOnlyTheNewestEvents() throws Exception {
+        properties.setBufferSize(2);
+        properties.setSenderThreads(1);
+        broadcaster = broadcaster(3, false);
+
+        broadcaster.subscribe("0", Map.of());
+        RecordingEmitter emitter = emitters.get(0);
+        // ready 전송 중에 막아 두고 그동안 발행
+        assertThat(emitter.firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 5; i++) {
+            broadcaster.publish(String.valueOf(i), "loan", Map.of("seq", i));
+        }
+        emitter.release.countDown();
+
+        assertThat(emitter.delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.ids).containsExactly("0", "4", "5");
+        assertThat(broadcaster.stats().droppedCount()).isEqualTo(3L);
+        assertThat(broadcaster.stats().publishedCount()).isEqualTo(5L);
+    }
+
+    @Test
+    void backlogLargerThanOneDrainIsDeliveredInOrder() throws Exception {
+        properties.setSenderThreads(2);
+        broadcaster = broadcaster(201, false);
+
+        broadcaster.subscribe("0", Map.of());
+        RecordingEmitter emitter = emitters.get(0);
+        assertThat(emitter.firstSendStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i <= 200; i++) {
+            broadcaster.publish(String.valueOf(i), "loan", Map.of("seq", i));
+        }
+        emitter.release.countDown();
+
+        assertThat(emitter.delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        List<String> expected = IntStream.rangeClosed(0, 200)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+        assertThat(emitter.ids).containsExactlyElementsOf(expected);
+        // 구독자당 전송 작업은 한 번에 하나만 실행
+        assertThat(emitter.maxConcurrentSends.get()).isEqualTo(1);
+        assertThat(broadcaster.stats().droppedCount()).isZero();
+    }
+
+    @Test
+    void failedSendRemovesSubscriber() throws Exception {
+        broadcaster = broadcaster(1, true);
+
+        broadcaster.subscribe("0", Map.of());
+        RecordingEmitter emitter = emitters.get(0);
+        emitter.release.countDown();
+
+        assertThat(emitter.completedWithError.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(broadcaster.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    void subscriptionsOverTheLimitAreRejected() {
+        properties.setMaxSubscribers(1);
+        broadcaster = broadcaster(1, false);
+
+        assertThat(broadcaster.subscribe("0", Map.of())).isPresent();
+        assertThat(broadcaster.subscribe("0", Map.of())).isEmpty();
+        assertThat(broadcaster.stats().rejectedSubscriptions()).isEqualTo(1L);
+    }
+
+    private LiveUpdateBroadcaster broadcaster(int expectedEvents, boolean failing) {
+        return new LiveUpdateBroadcaster(properties, new ObjectMapper()) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                RecordingEmitter emitter = new RecordingEmitter(timeoutMs, expectedEvents, failing);
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+    }
+
+    /**
+     * 전송된 이벤트 id 기록 - 첫 전송은 release까지 대기
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstSendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch delivered;
+        private final CountDownLatch completedWithError = new CountDownLatch(1);
+        private final AtomicInteger concurrentSends = new AtomicInteger();
+        private final AtomicInteger maxConcurrentSends = new AtomicInteger();
+        private final boolean failing;
+
+        RecordingEmitter(long timeoutMs, int expectedEvents, boolean failing) {
+            super(timeoutMs);
+            this.delivered = new CountDownLatch(expectedEvents);
+            this.failing = failing;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            int running = concurrentSends.incrementAndGet();
+            maxConcurrentSends.accumulateAndGet(running, Math::max);
+            try {
+                firstSendStarted.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                if (failing) {
+                    throw new IOException("connection reset");
+                }
+                String text = builder.build().stream()
+                        .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                        .map(String::valueOf)
+                        .collect(Collectors.joining());
+                Matcher matcher = EVENT_ID.matcher(text);
+                if (matcher.find()) {
+                    ids.add(matcher.group(1));
+                    delivered.countDown();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            } finally {
+                concurrentSends.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completedWithError.countDown();
+        }
+    }
+}
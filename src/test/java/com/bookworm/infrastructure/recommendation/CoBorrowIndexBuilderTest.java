@@ -0,0 +1,85 @@
+package com.bookworm.infrastructure.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 함께 대출 인덱스 빌더의 쌍 키 압축과 도서 번호 매핑 테스트
+ *
+ * 도서 ID는 53비트 시간 정렬 값이라 int로 자를 수 없으므로, 조밀한 번호로 바꾼 뒤 쌍 키에 넣는지 확인
+ */
+class CoBorrowIndexBuilderTest {
+
+    /** 53비트 시간 정렬 ID 범위의 도서 ID */
+    private static final long LARGE_ID = (1L << 52) + 12_345L;
+
+    @Test
+    void pairKeyRoundTrips() {
+        int[][] pairs = {{0, 1}, {1, 2}, {123_456, 7_654_321}, {Integer.MAX_VALUE - 1, Integer.MAX_VALUE}};
+
+        for (int[] pair : pairs) {
+            long key = CoBorrowIndexBuilder.pairKey(pair[0], pair[1]);
+
+            assertThat(CoBorrowIndexBuilder.firstOf(key)).isEqualTo(pair[0]);
+            assertThat(CoBorrowIndexBuilder.secondOf(key)).isEqualTo(pair[1]);
+        }
+    }
+
+    @Test
+    void pairKeysAreDistinctAndOrderedByFirstThenSecond() {
+        long a = CoBorrowIndexBuilder.pairKey(1, 2);
+        long b = CoBorrowIndexBuilder.pairKey(1, 3);
+        long c = CoBorrowIndexBuilder.pairKey(2, 0);
+
+        assertThat(a).isLessThan(b);
+        assertThat(b).isLessThan(c);
+        assertThat(CoBorrowIndexBuilder.pairKey(0, 1)).isNotEqualTo(CoBorrowIndexBuilder.pairKey(1, 0));
+    }
+
+    @Test
+    void bookIndexerAssignsDenseIndexesInFirstSeenOrder() {
+        CoBorrowIndexBuilder.BookIndexer indexer = new CoBorrowIndexBuilder.BookIndexer();
+
+        assertThat(indexer.indexOf(LARGE_ID)).isZero();
+        assertThat(indexer.indexOf(LARGE_ID + (1L << 32))).isEqualTo(1);
+        assertThat(indexer.indexOf(LARGE_ID)).isZero();
+        assertThat(indexer.indexOf(0L)).isEqualTo(2);
+
+        assertThat(indexer.size()).isEqualTo(3);
+        assertThat(indexer.bookIdAt(0)).isEqualTo(LARGE_ID);
+        assertThat(indexer.bookIdAt(1)).isEqualTo(LARGE_ID + (1L << 32));
+        assertThat(indexer.bookIdAt(2)).isEqualTo(0L);
+    }
+
+    @Test
+    void bookIndexerGrowsPastInitialCapacity() {
+        CoBorrowIndexBuilder.BookIndexer indexer = new CoBorrowIndexBuilder.BookIndexer();
+        int count = 50_000;
+
+        for (int i = 0; i < count; i++) {
+            assertThat(indexer.indexOf(LARGE_ID + i * 7L)).isEqualTo(i);
+        }
+
+        assertThat(indexer.size()).isEqualTo(count);
+        assertThat(indexer.indexOf(LARGE_ID + (count - 1) * 7L)).isEqualTo(count - 1);
+        assertThat(indexer.bookIdAt(count - 1)).isEqualTo(LARGE_ID + (count - 1) * 7L);
+    }
+
+    @Test
+    void pairCountsAccumulatePerPackedKey() {
+        LongIntHashMap pairCounts = new LongIntHashMap(4);
+        long key = CoBorrowIndexBuilder.pairKey(3, 70_000);
+
+        for (int i = 0; i < 5; i++) {
+            pairCounts.addTo(key, 1);
+        }
+        for (int i = 0; i < 1_000; i++) {
+            pairCounts.addTo(CoBorrowIndexBuilder.pairKey(i, i + 1), 1);
+        }
+
+        assertThat(pairCounts.get(key)).isEqualTo(5);
+        assertThat(pairCounts.get(CoBorrowIndexBuilder.pairKey(70_000, 3))).isZero();
+        assertThat(pairCounts.size()).isEqualTo(1_001);
+    }
+}
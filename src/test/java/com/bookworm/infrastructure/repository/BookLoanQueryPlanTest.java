@@ -0,0 +1,297 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.constant.LoanStatus;
+import com.bookworm.infrastructure.config.QueryDslConfig;
+import com.bookworm.infrastructure.search.UserSearchIndex;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * book_loans 조회 쿼리 실행 계획 회귀 테스트 (H2)
+ *
+ * 원리:
+ * 1. StatementInspector로 각 Repository 메서드가 실제로 만든 SQL을 수집
+ * 2. 같은 SQL을 H2 EXPLAIN으로 실행해 계획을 확인
+ * 3. book_loans가 인덱스 없이 전체 스캔(BOOK_LOANS.tableScan)되면 실패
+ *
+ * 제외: 도서 제목 부분 일치 검색은 LIKE '%..%' 특성상 인덱스를 탈 수 없어 대상에서 뺌
+ * (회원 이름 검색은 회원 검색 색인으로 ID를 찾은 뒤 findByUserIds로 조회)
+ */
+@DataJpaTest
+@ActiveProfiles("local")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, UserSearchIndex.class, LoanFilterQueryEngine.class, BookLoanRepositoryImpl.class,
+        BookLoanQueryPlanTest.SqlCaptureConfig.class})
+class BookLoanQueryPlanTest {
+
+    private static final String FULL_SCAN_MARKER = "BOOK_LOANS.TABLESCAN";
+
+    @Autowired
+    private BookLoanJpaRepository bookLoanJpaRepository;
+
+    @Autowired
+    private BookLoanRepositoryImpl bookLoanRepositoryImpl;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final LocalDate today = LocalDate.now();
+
+    // ==================== BookLoanJpaRepository ====================
+
+    @Test
+    void findByIdAndStatusWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findByIdAndStatusWithFetch(1L, LoanStatus.ACTIVE));
+    }
+
+    @Test
+    void findByUserIdAndStatusWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findByUserIdAndStatusWithFetch(1L, LoanStatus.ACTIVE));
+    }
+
+    @Test
+    void findOverdueLoansWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findOverdueLoansWithFetch(LoanStatus.ACTIVE, today));
+    }
+
+    @Test
+    void countLoansByPeriod() {
+        assertNoFullScan(() -> bookLoanJpaRepository.countLoansByPeriod(today.minusDays(30), today));
+    }
+
+    @Test
+    void summarizeReturns() {
+        assertNoFullScan(() -> bookLoanJpaRepository.summarizeReturns(
+                LoanStatus.RETURNED, today.minusDays(30).atStartOfDay(), today.atStartOfDay()));
+    }
+
+    @Test
+    void findBookIdAndCreatedAtSince() {
+        LocalDateTime since = LocalDateTime.now().minusDays(7);
+        assertNoFullScan(() -> bookLoanJpaRepository.findBookIdAndCreatedAtSince(since.toLocalDate(), since));
+    }
+
+    @Test
+    void findByUserIdWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findByUserIdWithFetch(1L, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findByBookIdWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findByBookIdWithFetch(1L));
+    }
+
+    @Test
+    void findUpcomingDueLoansWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findUpcomingDueLoansWithFetch(today, today.plusDays(3)));
+    }
+
+    @Test
+    void findReturnedLoansWithFetch() {
+        assertNoFullScan(() -> bookLoanJpaRepository.findReturnedLoansWithFetch());
+    }
+
+    @Test
+    void countActiveByUserIdJpa() {
+        assertNoFullScan(() -> bookLoanJpaRepository.countActiveByUserId(1L));
+    }
+
+    // ==================== BookLoanRepositoryImpl (QueryDSL) ====================
+
+    @Test
+    void findByUserId() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findByUserId(1L));
+    }
+
+    @Test
+    void findActiveByUserId() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findActiveByUserId(1L));
+    }
+
+    @Test
+    void findByBookId() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findByBookId(1L));
+    }
+
+    @Test
+    void findActiveByBookId() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findActiveByBookId(1L));
+    }
+
+    @Test
+    void findActiveLoans() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findActiveLoans());
+    }
+
+    @Test
+    void findOverdueLoans() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findOverdueLoans(today));
+    }
+
+    @Test
+    void findReturnedLoans() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findReturnedLoans());
+    }
+
+    @Test
+    void findUpcomingDueLoans() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findUpcomingDueLoans(today, today.plusDays(3)));
+    }
+
+    @Test
+    void findLoansDueBetween() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findLoansDueBetween(today, today.plusDays(7)));
+    }
+
+    @Test
+    void countActiveByUserId() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.countActiveByUserId(1L));
+    }
+
+    @Test
+    void countByBookId() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.countByBookId(1L));
+    }
+
+    @Test
+    void findLoansBetweenDates() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findLoansBetweenDates(today.minusDays(30), today));
+    }
+
+    @Test
+    void findByUserIds() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findByUserIds(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void findLoansWithConditions() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findLoansWithConditions(
+                1L, null, "ACTIVE", null, null, null, null, null, null, null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findLoansWithConditionsOverdue() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findLoansWithConditions(
+                null, null, null, null, null, null, null, true, null, null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findLoansWithConditionsLoanDateRange() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findLoansWithConditions(
+                null, null, null, today.minusDays(30), today, null, null, null, null, null, PageRequest.of(0, 20)));
+    }
+
+    @Test
+    void findLoansWithConditionsBookTitle() {
+        assertNoFullScan(() -> bookLoanRepositoryImpl.findLoansWithConditions(
+                null, null, null, null, null, null, null, null, null, "java", PageRequest.of(0, 20)));
+    }
+
+    // ==================== 검증 ====================
+
+    /**
+     * 호출 중 실행된 book_loans 조회 SQL마다 EXPLAIN 계획에 전체 스캔이 없는지 확인
+     */
+    private void assertNoFullScan(Runnable query) {
+        sqlCapture.clear();
+        query.run();
+
+        List<String> statements = sqlCapture.selectsOn("book_loans");
+        assertThat(statements).as("book_loans 조회 SQL이 수집되지 않았습니다").isNotEmpty();
+
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan.toUpperCase(Locale.ROOT))
+                    .as("전체 스캔 발생%nSQL: %s%n계획: %s", sql, plan)
+                    .doesNotContain(FULL_SCAN_MARKER);
+        }
+    }
+
+    /**
+     * 파라미터는 계획 선택에 쓰이지 않으므로 NULL로 채워 EXPLAIN 실행
+     */
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameterCount = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameterCount; i++) {
+                statement.setObject(i, null);
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            throw new IllegalStateException("EXPLAIN 실행 실패: " + sql, e);
+        }
+    }
+
+    /**
+     * Hibernate가 실행하는 SQL 수집기
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> selectsOn(String table) {
+            return statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                    .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(table))
+                    .toList();
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.bookworm.infrastructure.repository;
+
+import com.bookworm.domain.constant.LoanStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대출 동적 검색 조건 테스트
+ *
+ * 검색 조건 → 조건 모양(비트) → WHERE 절 변환과 정렬 속성 허용 목록 확인
+ * (WHERE 절은 QueryDSL 문자열 표현으로 비교, 값은 {이름} 자리표시자로 나타남, DB 없음)
+ */
+class LoanFilterQueryEngineTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    private final LoanFilterQueryEngine engine = new LoanFilterQueryEngine();
+
+    // ==================== 정렬 ====================
+
+    @Test
+    void allowedSortPropertyIsKeptWithIdAsTieBreaker() {
+        assertThat(LoanFilterQueryEngine.sortKeys(Sort.by(Sort.Direction.ASC, "dueDate")))
+                .containsExactly("dueDate:ASC", "id:DESC");
+    }
+
+    @Test
+    void unknownSortPropertiesAreIgnored() {
+        Sort sort = Sort.by(Sort.Direction.ASC, "user.password", "book.title", "loanDate");
+
+        assertThat(LoanFilterQueryEngine.sortKeys(sort)).containsExactly("loanDate:ASC", "id:DESC");
+        assertThat(LoanFilterQueryEngine.sortKeys(Sort.by("status"))).containsExactly("id:DESC");
+    }
+
+    @Test
+    void explicitIdSortIsNotRepeated() {
+        assertThat(LoanFilterQueryEngine.sortKeys(Sort.by(Sort.Direction.ASC, "id")))
+                .containsExactly("id:ASC");
+    }
+
+    // ==================== 조건 모양 ====================
+
+    @Test
+    void shapeHasOneBitPerPresentCondition() {
+        LoanFilter filter = new LoanFilter(1L, null, null, 2L, LoanStatus.ACTIVE, false,
+                null, TODAY, null, null, "java", TODAY);
+
+        assertThat(filter.shape()).isEqualTo(LoanFilter.USER_ID | LoanFilter.BOOK_ID | LoanFilter.STATUS
+                | LoanFilter.NOT_OVERDUE | LoanFilter.DUE_TO | LoanFilter.BOOK_TITLE);
+        assertThat(empty().shape()).isZero();
+    }
+
+    @Test
+    void contradictoryFiltersSkipTheQuery() {
+        assertThat(empty().isEmptyResult()).isFalse();
+        // 회원 이름 색인에 일치 회원 없음
+        assertThat(new LoanFilter(null, List.of(), null, null, null, null,
+                null, null, null, null, null, TODAY).isEmptyResult()).isTrue();
+        // 연체는 대출 중(ACTIVE)만 가능
+        assertThat(new LoanFilter(null, null, null, null, LoanStatus.RETURNED, true,
+                null, null, null, null, null, TODAY).isEmptyResult()).isTrue();
+        // 시작일이 종료일보다 늦은 기간
+        assertThat(new LoanFilter(null, null, null, null, null, null,
+                TODAY, TODAY.minusDays(1), null, null, null, TODAY).isEmptyResult()).isTrue();
+        assertThat(new LoanFilter(null, null, null, null, null, null,
+                null, null, TODAY, TODAY.minusDays(1), null, TODAY).isEmptyResult()).isTrue();
+    }
+
+    // ==================== WHERE 절 ====================
+
+    @Test
+    void noConditionsMeansNoWhereClause() {
+        assertThat(engine.predicate(0).hasValue()).isFalse();
+    }
+
+    @Test
+    void overdueUsesStatusAndDueDateRangeInsteadOfTheStatusParameter() {
+        String where = engine.predicate(LoanFilter.OVERDUE | LoanFilter.STATUS).toString();
+
+        assertThat(where).contains("bookLoan.status = ACTIVE");
+        assertThat(where).contains("bookLoan.loanPeriod.dueDate < {today}");
+        assertThat(where).doesNotContain("{status}");
+    }
+
+    @Test
+    void notOverdueKeepsClosedLoansAndLoansNotYetDue() {
+        String where = engine.predicate(LoanFilter.NOT_OVERDUE).toString();
+
+        assertThat(where).contains("bookLoan.status != ACTIVE");
+        assertThat(where).contains("bookLoan.loanPeriod.dueDate >= {today}");
+    }
+
+    @Test
+    void dateRangesAreInclusive() {
+        String where = engine.predicate(LoanFilter.DUE_FROM | LoanFilter.DUE_TO
+                | LoanFilter.LOAN_FROM | LoanFilter.LOAN_TO).toString();
+
+        assertThat(where).contains("bookLoan.loanPeriod.dueDate >= {dueFrom}");
+        assertThat(where).contains("bookLoan.loanPeriod.dueDate <= {dueTo}");
+        assertThat(where).contains("bookLoan.loanPeriod.loanDate >= {loanFrom}");
+        assertThat(where).contains("bookLoan.loanPeriod.loanDate <= {loanTo}");
+    }
+
+    @Test
+    void memberAndTitleSearchesBecomeIdConditions() {
+        String byIndex = engine.predicate(LoanFilter.USER_IDS).toString();
+        String byName = engine.predicate(LoanFilter.USER_NAME).toString();
+        String byTitle = engine.predicate(LoanFilter.BOOK_TITLE).toString();
+
+        assertThat(byIndex).contains("bookLoan.user.id in {userIds}");
+        assertThat(byName).startsWith("bookLoan.user.id in ");
+        assertThat(byName).contains("nameMatch.searchName");
+        assertThat(byName).contains("{userNamePattern}");
+        assertThat(byTitle).startsWith("bookLoan.book.id in ");
+        assertThat(byTitle).contains("{titlePattern}");
+    }
+
+    @Test
+    void selectiveConditionsComeFirst() {
+        String where = engine.predicate(LoanFilter.USER_ID | LoanFilter.BOOK_ID | LoanFilter.STATUS
+                | LoanFilter.DUE_FROM | LoanFilter.BOOK_TITLE).toString();
+
+        int userId = where.indexOf("{userId}");
+        int bookId = where.indexOf("{bookId}");
+        int status = where.indexOf("{status}");
+        int dueFrom = where.indexOf("{dueFrom}");
+        int title = where.indexOf("{titlePattern}");
+
+        assertThat(userId).isGreaterThanOrEqualTo(0);
+        assertThat(bookId).isGreaterThan(userId);
+        assertThat(status).isGreaterThan(bookId);
+        assertThat(dueFrom).isGreaterThan(status);
+        assertThat(title).isGreaterThan(dueFrom);
+    }
+
+    private static LoanFilter empty() {
+        return new LoanFilter(null, null, null, null, null, null,
+                null, null, null, null, null, TODAY);
+    }
+}
@@ -0,0 +1,108 @@
+package com.bookworm.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일 존재 필터 카운터 테스트
+ *
+ * 개별 추가/재구성 적재 구분과 감소 규칙 확인 (DB 없음)
+ */
+class EmailBloomFilterTest {
+
+    @Test
+    void addedEmailsAreAlwaysReported() {
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(2_000, 0.01);
+        List<String> emails = emails("member", 1_000);
+
+        emails.forEach(counters::add);
+
+        assertThat(emails.stream().allMatch(counters::mightContain)).isTrue();
+        assertThat(counters.size()).isEqualTo(1_000L);
+    }
+
+    @Test
+    void unknownEmailsAreMostlyReportedAbsent() {
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(2_000, 0.01);
+        emails("member", 1_000).forEach(counters::load);
+
+        long falsePositives = emails("stranger", 10_000).stream()
+                .filter(counters::mightContain)
+                .count();
+
+        // 용량의 절반만 채웠으므로 목표 오탐률(1%)보다 낮아야 함
+        assertThat(falsePositives).isLessThan(100L);
+    }
+
+    @Test
+    void removingAnAddedEmailClearsIt() {
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(1_000, 0.01);
+
+        counters.add("reader@example.com");
+        counters.remove("reader@example.com");
+
+        assertThat(counters.mightContain("reader@example.com")).isFalse();
+        assertThat(counters.size()).isZero();
+    }
+
+    @Test
+    void loadedEmailsAreNotRemovable() {
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(1_000, 0.01);
+
+        counters.load("reader@example.com");
+        counters.remove("reader@example.com");
+
+        assertThat(counters.mightContain("reader@example.com")).isTrue();
+        assertThat(counters.size()).isEqualTo(1L);
+    }
+
+    @Test
+    void repeatedRemoveDecrementsOnce() {
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(1_000, 0.01);
+
+        // 재구성 적재분과 같은 이메일이 다시 가입 처리된 경우 - 한 번만 빠져야 적재분이 남음
+        counters.load("reader@example.com");
+        counters.add("reader@example.com");
+        counters.remove("reader@example.com");
+        counters.remove("reader@example.com");
+
+        assertThat(counters.mightContain("reader@example.com")).isTrue();
+        assertThat(counters.size()).isEqualTo(1L);
+    }
+
+    @Test
+    void removingAnUnknownEmailLeavesOthersIntact() {
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(100, 0.01);
+        List<String> emails = emails("member", 100);
+        emails.forEach(counters::add);
+
+        emails("stranger", 1_000).forEach(counters::remove);
+
+        assertThat(emails.stream().allMatch(counters::mightContain)).isTrue();
+        assertThat(counters.size()).isEqualTo(100L);
+    }
+
+    @Test
+    void saturatedCountersStayPinned() {
+        // 카운터 16개에 40건 - 모든 카운터가 15에 도달
+        EmailBloomFilter.Counters counters = new EmailBloomFilter.Counters(1, 0.5);
+        List<String> emails = emails("member", 40);
+        emails.forEach(counters::add);
+
+        emails.forEach(counters::remove);
+
+        // 포화 카운터는 감소하지 않으므로 "없음" 오판 없이 오탐 방향으로만 남음
+        assertThat(emails.stream().allMatch(counters::mightContain)).isTrue();
+        assertThat(counters.size()).isZero();
+    }
+
+    private static List<String> emails(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> prefix + i + "@example.com")
+                .toList();
+    }
+}
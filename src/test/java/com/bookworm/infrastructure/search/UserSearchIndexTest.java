@@ -0,0 +1,36 @@
+package com.bookworm.infrastructure.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원 검색 색인 gram 분해 테스트
+ *
+ * 저장 gram(2-gram + 3-gram)과 검색어 gram 선택 규칙 확인 (DB 없음)
+ */
+class UserSearchIndexTest {
+
+    @Test
+    void indexStoresBigramsAndTrigrams() {
+        assertThat(UserSearchIndex.indexGrams("kims"))
+                .containsExactly("ki", "im", "ms", "kim", "ims");
+    }
+
+    @Test
+    void twoCharacterTermUsesItsBigram() {
+        assertThat(UserSearchIndex.termGrams("im")).containsExactly("im");
+        assertThat(UserSearchIndex.indexGrams("kims")).contains("im");
+    }
+
+    @Test
+    void longerTermUsesTrigrams() {
+        assertThat(UserSearchIndex.termGrams("kims")).containsExactly("kim", "ims");
+    }
+
+    @Test
+    void singleCharacterTermHasNoGrams() {
+        assertThat(UserSearchIndex.termGrams("k")).isEmpty();
+        assertThat(UserSearchIndex.indexGrams("k")).isEmpty();
+    }
+}
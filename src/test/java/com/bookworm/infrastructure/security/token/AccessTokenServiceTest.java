@@ -0,0 +1,145 @@
+package com.bookworm.infrastructure.security.token;
+
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 서명 토큰 발급/검증 테스트
+ *
+ * 발급 토큰 왕복, 서명·형식 오류, 만료 판정 확인
+ * (만료/형식 오류 토큰은 같은 키로 직접 서명해 만듦)
+ */
+class AccessTokenServiceTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private final AccessTokenService service = new AccessTokenService(properties(KEY, 900));
+
+    // ==================== 발급/검증 ====================
+
+    @Test
+    void issuedTokenVerifiesToTheSameClaims() {
+        AccessTokenService.IssuedToken issued = service.issue(7L, "reader@bookworm.com", "USER", "ACTIVE");
+
+        AccessTokenClaims claims = service.verify(issued.value()).orElseThrow();
+
+        assertThat(claims).isEqualTo(issued.claims());
+        assertThat(claims.expiresAt() - claims.issuedAt()).isEqualTo(900_000L);
+        assertThat(issued.value()).startsWith("v1.");
+    }
+
+    @Test
+    void everyIssuedTokenHasItsOwnId() {
+        AccessTokenService.IssuedToken first = service.issue(7L, "reader@bookworm.com", "USER", "ACTIVE");
+        AccessTokenService.IssuedToken second = service.issue(7L, "reader@bookworm.com", "USER", "ACTIVE");
+
+        assertThat(first.claims().tokenId()).isNotEqualTo(second.claims().tokenId());
+    }
+
+    // ==================== 서명 ====================
+
+    @Test
+    void tamperedBodyIsRejected() {
+        String token = service.issue(7L, "reader@bookworm.com", "USER", "ACTIVE").value();
+        String[] parts = token.split("\\.");
+        // 본문의 역할만 바꾸고 원래 서명을 붙임
+        String body = new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                .replace("|USER|", "|ADMIN|");
+        String forged = "v1." + encode(body.getBytes(StandardCharsets.UTF_8)) + "." + parts[2];
+
+        assertThat(service.verify(forged)).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        byte[] otherKey = "fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8);
+        String token = new AccessTokenService(properties(otherKey, 900))
+                .issue(7L, "reader@bookworm.com", "USER", "ACTIVE").value();
+
+        assertThat(service.verify(token)).isEmpty();
+    }
+
+    @Test
+    void malformedTokensAreRejected() {
+        long now = System.currentTimeMillis();
+
+        assertThat(service.verify(null)).isEmpty();
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("v1.")).isEmpty();
+        assertThat(service.verify("v1.abc")).isEmpty();
+        assertThat(service.verify("v1.***.***")).isEmpty();
+        // 버전이 다르면 서명이 맞아도 거부
+        assertThat(service.verify(signed("v2", "t|7|reader@bookworm.com|USER|ACTIVE|" + now + "|" + (now + 60_000))))
+                .isEmpty();
+        // 서명은 맞지만 필드 수/숫자 형식이 잘못된 본문
+        assertThat(service.verify(signed("v1", "t|7|reader@bookworm.com|USER|" + now + "|" + (now + 60_000))))
+                .isEmpty();
+        assertThat(service.verify(signed("v1", "t|x|reader@bookworm.com|USER|ACTIVE|" + now + "|" + (now + 60_000))))
+                .isEmpty();
+    }
+
+    // ==================== 만료 ====================
+
+    @Test
+    void expiredTokenIsRejected() {
+        long now = System.currentTimeMillis();
+        String live = signed("v1", "t1|7|reader@bookworm.com|USER|ACTIVE|" + (now - 1_000) + "|" + (now + 60_000));
+        String expired = signed("v1", "t2|7|reader@bookworm.com|USER|ACTIVE|" + (now - 60_000) + "|" + (now - 1));
+
+        assertThat(service.verify(live)).isPresent();
+        assertThat(service.verify(expired)).isEmpty();
+    }
+
+    @Test
+    void expiryIsInclusiveOfTheExpiryInstant() {
+        AccessTokenClaims claims = new AccessTokenClaims("t", 7L, "reader@bookworm.com", "USER", "ACTIVE", 0L, 1_000L);
+
+        assertThat(claims.isExpired(999L)).isFalse();
+        assertThat(claims.isExpired(1_000L)).isTrue();
+    }
+
+    // ==================== 설정 ====================
+
+    @Test
+    void missingOrShortSecretFailsAtStartup() {
+        AccessTokenProperties blank = new AccessTokenProperties();
+        blank.setSecret(" ");
+
+        assertThatThrownBy(() -> new AccessTokenService(blank))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new AccessTokenService(properties(new byte[31], 900)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static AccessTokenProperties properties(byte[] key, int ttlSeconds) {
+        AccessTokenProperties properties = new AccessTokenProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(key));
+        properties.setTtlSeconds(ttlSeconds);
+        return properties;
+    }
+
+    /**
+     * 서비스와 같은 형식/키로 직접 서명한 토큰
+     */
+    private static String signed(String version, String body) {
+        String signed = version + "." + encode(body.getBytes(StandardCharsets.UTF_8));
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+            return signed + "." + encode(mac.doFinal(signed.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(byte[] value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value);
+    }
+}
@@ -0,0 +1,171 @@
+package com.bookworm.infrastructure.security.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서명 토큰 폐기 목록 테스트
+ *
+ * 토큰/회원 단위 폐기 판정, 다른 인스턴스 기록 동기화, 만료 기록 정리 확인
+ * (폐기 기록 저장소는 호출만 기록하는 프록시, DB 없음)
+ */
+class TokenRevocationListTest {
+
+    private final List<RevokedAccessToken> saved = new ArrayList<>();
+    private final List<LocalDateTime> syncedSince = new ArrayList<>();
+    private List<RevokedAccessToken> active = List.of();
+    private List<RevokedAccessToken> revokedElsewhere = List.of();
+    private boolean failSync;
+    private int deleteExpiredCalls;
+
+    private final AccessTokenService accessTokenService = new AccessTokenService(properties());
+    private final TokenRevocationList revocationList = new TokenRevocationList(repository(), accessTokenService);
+
+    // ==================== 폐기 판정 ====================
+
+    @Test
+    void revokedTokenIsRejectedButOtherTokensOfTheUserAreNot() {
+        revocationList.loadAll();
+        AccessTokenClaims loggedOut = accessTokenService.issue(7L, "reader@bookworm.com", "USER", "ACTIVE").claims();
+        AccessTokenClaims other = accessTokenService.issue(7L, "reader@bookworm.com", "USER", "ACTIVE").claims();
+
+        revocationList.revokeToken(loggedOut);
+
+        assertThat(revocationList.isRevoked(loggedOut)).isTrue();
+        assertThat(revocationList.isRevoked(other)).isFalse();
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getTokenId()).isEqualTo(loggedOut.tokenId());
+        assertThat(saved.get(0).getExpiresAt()).isEqualTo(loggedOut.expiresAt());
+    }
+
+    @Test
+    void userRevocationRejectsOnlyTokensIssuedBeforeIt() {
+        revocationList.loadAll();
+        long now = System.currentTimeMillis();
+
+        revocationList.revokeAllForUser(7L);
+
+        assertThat(revocationList.isRevoked(claims("old", 7L, now - 1_000))).isTrue();
+        assertThat(revocationList.isRevoked(claims("new", 7L, now + 60_000))).isFalse();
+        assertThat(revocationList.isRevoked(claims("other", 8L, now - 1_000))).isFalse();
+        // 기록은 그 시점에 발급된 토큰이 모두 만료될 때까지 유지
+        assertThat(saved.get(0).getExpiresAt() - saved.get(0).getIssuedBefore())
+                .isEqualTo(accessTokenService.getTtlMillis());
+    }
+
+    @Test
+    void recordsStoredBeforeStartupAreLoaded() {
+        long now = System.currentTimeMillis();
+        active = List.of(
+                RevokedAccessToken.ofToken("t1", now + 60_000, LocalDateTime.now()),
+                RevokedAccessToken.ofUser(7L, now, now + 60_000, LocalDateTime.now()));
+
+        revocationList.loadAll();
+
+        assertThat(revocationList.isRevoked(claims("t1", 8L, now))).isTrue();
+        assertThat(revocationList.isRevoked(claims("t2", 7L, now - 1))).isTrue();
+    }
+
+    // ==================== 동기화 ====================
+
+    @Test
+    void syncAppliesRevocationsFromOtherInstances() {
+        LocalDateTime beforeLoad = LocalDateTime.now();
+        revocationList.loadAll();
+        long now = System.currentTimeMillis();
+        revokedElsewhere = List.of(RevokedAccessToken.ofToken("t1", now + 60_000, LocalDateTime.now()));
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked(claims("t1", 7L, now))).isTrue();
+        // 시계 차이를 고려해 직전 동기화 시각보다 앞에서부터 조회
+        assertThat(syncedSince.get(0).isBefore(beforeLoad.minusSeconds(9))).isTrue();
+    }
+
+    @Test
+    void failedSyncRetriesFromTheSamePoint() {
+        revocationList.loadAll();
+        failSync = true;
+        revocationList.sync();
+        failSync = false;
+        revocationList.sync();
+
+        assertThat(syncedSince).hasSize(2);
+        assertThat(syncedSince.get(1)).isEqualTo(syncedSince.get(0));
+    }
+
+    @Test
+    void olderUserRevocationDoesNotShortenANewerOne() {
+        revocationList.loadAll();
+        long now = System.currentTimeMillis();
+        revokedElsewhere = List.of(
+                RevokedAccessToken.ofUser(7L, now, now + 60_000, LocalDateTime.now()),
+                RevokedAccessToken.ofUser(7L, now - 30_000, now + 30_000, LocalDateTime.now()));
+
+        revocationList.sync();
+
+        assertThat(revocationList.isRevoked(claims("t1", 7L, now - 10_000))).isTrue();
+    }
+
+    // ==================== 정리 ====================
+
+    @Test
+    void expiredRecordsArePurgedFromMemoryAndDatabase() {
+        long now = System.currentTimeMillis();
+        active = List.of(
+                RevokedAccessToken.ofToken("expired", now - 1, LocalDateTime.now()),
+                RevokedAccessToken.ofToken("live", now + 60_000, LocalDateTime.now()));
+        revocationList.loadAll();
+
+        revocationList.purgeExpired();
+
+        assertThat(revocationList.isRevoked(claims("expired", 7L, now))).isFalse();
+        assertThat(revocationList.isRevoked(claims("live", 7L, now))).isTrue();
+        assertThat(deleteExpiredCalls).isEqualTo(1);
+    }
+
+    private static AccessTokenClaims claims(String tokenId, Long userId, long issuedAt) {
+        return new AccessTokenClaims(tokenId, userId, "reader@bookworm.com", "USER", "ACTIVE",
+                issuedAt, issuedAt + 900_000);
+    }
+
+    private static AccessTokenProperties properties() {
+        AccessTokenProperties properties = new AccessTokenProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(
+                "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8)));
+        return properties;
+    }
+
+    private RevokedAccessTokenJpaRepository repository() {
+        return (RevokedAccessTokenJpaRepository) Proxy.newProxyInstance(
+                RevokedAccessTokenJpaRepository.class.getClassLoader(),
+                new Class<?>[]{RevokedAccessTokenJpaRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findActive" -> active;
+                    case "findRevokedSince" -> {
+                        syncedSince.add((LocalDateTime) args[0]);
+                        if (failSync) {
+                            throw new IllegalStateException("database unavailable");
+                        }
+                        yield revokedElsewhere;
+                    }
+                    case "save" -> {
+                        saved.add((RevokedAccessToken) args[0]);
+                        yield args[0];
+                    }
+                    case "deleteExpired" -> {
+                        deleteExpiredCalls++;
+                        yield 1;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
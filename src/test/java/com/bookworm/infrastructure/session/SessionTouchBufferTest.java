@@ -0,0 +1,158 @@
+package com.bookworm.infrastructure.session;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 접근 시각 지연 기록 테스트
+ *
+ * JdbcTemplate.batchUpdate를 가로채 호출 시점의 배치 내용을 복사해 확인 (DB 없음)
+ */
+class SessionTouchBufferTest {
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final SharedSessionProperties properties = new SharedSessionProperties();
+    private final SessionTouchBuffer buffer = new SessionTouchBuffer(jdbcTemplate, properties);
+
+    @Test
+    void keepsOnlyTheLatestAccessPerSession() {
+        SharedSession session = session(Instant.ofEpochMilli(10_000));
+        buffer.record(session);
+
+        session.setLastAccessedTime(Instant.ofEpochMilli(5_000));
+        buffer.record(session);
+        assertThat(buffer.pendingLastAccess(session.getPrimaryId())).isEqualTo(Instant.ofEpochMilli(10_000));
+
+        session.setLastAccessedTime(Instant.ofEpochMilli(20_000));
+        buffer.record(session);
+        assertThat(buffer.pendingLastAccess(session.getPrimaryId())).isEqualTo(Instant.ofEpochMilli(20_000));
+    }
+
+    @Test
+    void flushWritesOneRowPerSessionInBatches() {
+        properties.setTouchBatchSize(2);
+        List<SharedSession> sessions = List.of(
+                session(Instant.ofEpochMilli(1_000)),
+                session(Instant.ofEpochMilli(2_000)),
+                session(Instant.ofEpochMilli(3_000)));
+        sessions.forEach(buffer::record);
+        // 같은 세션의 반복 접근은 한 행으로 합쳐짐
+        buffer.record(sessions.get(0));
+
+        buffer.flush();
+
+        assertThat(jdbcTemplate.batches).hasSize(2);
+        assertThat(jdbcTemplate.batches.get(0)).hasSize(2);
+        assertThat(jdbcTemplate.batches.get(1)).hasSize(1);
+
+        List<Object[]> rows = jdbcTemplate.rows();
+        assertThat(rows).hasSize(3);
+        for (SharedSession session : sessions) {
+            Object[] row = rows.stream()
+                    .filter(candidate -> session.getPrimaryId().equals(candidate[2]))
+                    .findFirst()
+                    .orElseThrow();
+            long lastAccess = session.getLastAccessedTime().toEpochMilli();
+            assertThat(row[0]).isEqualTo(lastAccess);
+            assertThat(row[1]).isEqualTo(session.getExpiryTime());
+            // 더 최근 값이 이미 기록되어 있으면 되돌리지 않는 조건 값
+            assertThat(row[3]).isEqualTo(lastAccess);
+            assertThat(buffer.pendingLastAccess(session.getPrimaryId())).isNull();
+        }
+    }
+
+    @Test
+    void discardedSessionsAreNotWritten() {
+        SharedSession kept = session(Instant.ofEpochMilli(1_000));
+        SharedSession discarded = session(Instant.ofEpochMilli(2_000));
+        buffer.record(kept);
+        buffer.record(discarded);
+
+        buffer.discard(discarded.getPrimaryId());
+        buffer.flush();
+
+        assertThat(jdbcTemplate.rows()).hasSize(1);
+        assertThat(jdbcTemplate.rows().get(0)[2]).isEqualTo(kept.getPrimaryId());
+    }
+
+    @Test
+    void flushWithNothingPendingSkipsTheDatabase() {
+        buffer.flush();
+
+        assertThat(jdbcTemplate.batches).isEmpty();
+    }
+
+    @Test
+    void failedBatchIsLoggedNotThrown() {
+        jdbcTemplate.failing = true;
+        SharedSession session = session(Instant.ofEpochMilli(1_000));
+        buffer.record(session);
+
+        buffer.flush();
+
+        assertThat(jdbcTemplate.batches).hasSize(1);
+        // 실패한 배치는 대기열로 돌아가 다음 주기에 다시 기록됨
+        assertThat(buffer.pendingLastAccess(session.getPrimaryId())).isEqualTo(Instant.ofEpochMilli(1_000));
+
+        jdbcTemplate.failing = false;
+        buffer.flush();
+
+        assertThat(jdbcTemplate.batches).hasSize(2);
+        assertThat(jdbcTemplate.batches.get(1).get(0)[2]).isEqualTo(session.getPrimaryId());
+        assertThat(buffer.pendingLastAccess(session.getPrimaryId())).isNull();
+    }
+
+    @Test
+    void requeuedTouchDoesNotOverrideNewerAccess() {
+        properties.setTouchBatchSize(1);
+        SharedSession session = session(Instant.ofEpochMilli(1_000));
+        buffer.record(session);
+        jdbcTemplate.failing = true;
+        // 배치 기록 중 같은 세션에 더 최근 접근이 들어온 경우
+        jdbcTemplate.onBatch = () -> {
+            session.setLastAccessedTime(Instant.ofEpochMilli(2_000));
+            buffer.record(session);
+        };
+
+        buffer.flush();
+
+        assertThat(buffer.pendingLastAccess(session.getPrimaryId())).isEqualTo(Instant.ofEpochMilli(2_000));
+    }
+
+    private static SharedSession session(Instant lastAccess) {
+        SharedSession session = new SharedSession(Duration.ofMinutes(30));
+        session.setLastAccessedTime(lastAccess);
+        return session;
+    }
+
+    /**
+     * 배치 목록은 호출 후 재사용되므로 호출 시점에 복사해 둠
+     */
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<List<Object[]>> batches = new ArrayList<>();
+        private boolean failing;
+        private Runnable onBatch = () -> {
+        };
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            batches.add(new ArrayList<>(batchArgs));
+            onBatch.run();
+            if (failing) {
+                throw new IllegalStateException("batch failed");
+            }
+            return new int[batchArgs.size()];
+        }
+
+        List<Object[]> rows() {
+            return batches.stream().flatMap(List::stream).toList();
+        }
+    }
+}
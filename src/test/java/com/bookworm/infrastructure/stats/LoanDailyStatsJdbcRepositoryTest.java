@@ -0,0 +1,120 @@
+package com.bookworm.infrastructure.stats;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일별 롤업 저장소 테스트
+ *
+ * JdbcTemplate 호출을 순서대로 기록해 증분 기록/압축 상한/재구성 잠금 순서 확인 (DB 없음)
+ */
+class LoanDailyStatsJdbcRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 9);
+
+    private final RecordingJdbcTemplate jdbcTemplate = new RecordingJdbcTemplate();
+    private final LoanDailyStatsJdbcRepository repository = new LoanDailyStatsJdbcRepository(jdbcTemplate);
+
+    @Test
+    void deltaIsOneUncompactedInsert() {
+        repository.insertDelta(DAY, "FICTION", "KOREAN", 0, 1, 1, 0);
+
+        assertThat(jdbcTemplate.calls).hasSize(1);
+        Call insert = jdbcTemplate.calls.get(0);
+        assertThat(insert.sql()).startsWith("INSERT INTO loan_daily_stats");
+        assertThat(insert.sql()).contains("FALSE)");
+        assertThat(insert.args()).containsExactly(Date.valueOf(DAY), "FICTION", "KOREAN", 0, 1, 1, 0);
+    }
+
+    @Test
+    void compactionBoundsBothStatementsByTheMaxIdReadFirst() {
+        jdbcTemplate.maxId = 42L;
+        jdbcTemplate.updateResult = 5;
+
+        int removed = repository.compact(DAY);
+
+        assertThat(removed).isEqualTo(5);
+        assertThat(jdbcTemplate.calls).hasSize(3);
+        assertThat(jdbcTemplate.calls.get(0).sql()).startsWith("SELECT MAX(id)");
+
+        // 합계 행 추가와 원본 삭제가 같은 id 상한을 써서, 압축 중 들어온 증분 행은 다음 압축으로 남음
+        Call insert = jdbcTemplate.calls.get(1);
+        assertThat(insert.sql()).contains("SUM(loan_count)");
+        assertThat(insert.sql()).contains("id <= ?");
+        assertThat(insert.args()).containsExactly(Date.valueOf(DAY), 42L);
+
+        Call delete = jdbcTemplate.calls.get(2);
+        assertThat(delete.sql()).startsWith("DELETE FROM loan_daily_stats");
+        assertThat(delete.args()).containsExactly(Date.valueOf(DAY), 42L);
+    }
+
+    @Test
+    void compactionOfAnEmptyDayWritesNothing() {
+        jdbcTemplate.maxId = null;
+
+        assertThat(repository.compact(DAY)).isZero();
+        assertThat(jdbcTemplate.calls).hasSize(1);
+    }
+
+    @Test
+    void rebuildLocksTheTableBeforeCheckingAndSkipsWhenAlreadyRebuilt() {
+        jdbcTemplate.compactedRowExists = true;
+
+        assertThat(repository.rebuildIfNeeded()).isEqualTo(-1);
+
+        assertThat(jdbcTemplate.calls).hasSize(2);
+        assertThat(jdbcTemplate.calls.get(0).sql()).endsWith("FOR UPDATE");
+        assertThat(jdbcTemplate.calls.get(1).sql()).contains("compacted = TRUE");
+    }
+
+    @Test
+    void rebuildReplacesDeltasWithTheAggregatedHistory() {
+        jdbcTemplate.updateResult = 3;
+
+        assertThat(repository.rebuildIfNeeded()).isEqualTo(3);
+
+        assertThat(jdbcTemplate.calls).hasSize(4);
+        assertThat(jdbcTemplate.calls.get(0).sql()).endsWith("FOR UPDATE");
+        assertThat(jdbcTemplate.calls.get(2).sql()).isEqualTo("DELETE FROM loan_daily_stats");
+        assertThat(jdbcTemplate.calls.get(3).sql()).contains("FROM book_loans l JOIN books b");
+    }
+
+    record Call(String sql, List<Object> args) {
+    }
+
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Call> calls = new ArrayList<>();
+        private Long maxId;
+        private int updateResult;
+        private boolean compactedRowExists;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+            calls.add(new Call(sql, List.of(args)));
+            return (T) maxId;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            calls.add(new Call(sql, List.of(args)));
+            return sql.contains("compacted = TRUE") && compactedRowExists
+                    ? (List<T>) List.of(1L)
+                    : List.of();
+        }
+
+        @Override
+        public int update(String sql, Object... args) {
+            calls.add(new Call(sql, List.of(args)));
+            return updateResult;
+        }
+    }
+}
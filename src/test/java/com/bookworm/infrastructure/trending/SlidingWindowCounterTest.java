@@ -0,0 +1,126 @@
+package com.bookworm.infrastructure.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SlidingWindowCounter 윈도우 이동 테스트
+ *
+ * 버킷 1초 x 3개 (윈도우 3초), 시각은 밀리초 정수로 직접 지정
+ */
+class SlidingWindowCounterTest {
+
+    private static final long BUCKET_MILLIS = 1_000;
+    private static final int BUCKET_COUNT = 3;
+
+    @Test
+    void addsWithinWindowAndRanksByCount() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKET_COUNT, 0);
+
+        counter.add(1L, 0, 5);
+        counter.add(2L, 1_000, 3);
+        counter.add(3L, 2_000, 3);
+        counter.add(1L, 2_500, 2);
+
+        assertThat(counter.topK(3)).containsExactly(
+                new SlidingWindowCounter.Ranked(1L, 7),
+                new SlidingWindowCounter.Ranked(2L, 3),
+                new SlidingWindowCounter.Ranked(3L, 3));
+        assertThat(counter.topK(1)).containsExactly(new SlidingWindowCounter.Ranked(1L, 7));
+    }
+
+    @Test
+    void advanceExpiresOnlyBucketsLeavingTheWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKET_COUNT, 0);
+        counter.add(1L, 0, 5);
+        counter.add(1L, 1_000, 2);
+        counter.add(2L, 2_000, 1);
+
+        // 버킷 0만 윈도우 밖으로
+        counter.advance(3_000);
+
+        assertThat(counter.topK(2)).containsExactly(
+                new SlidingWindowCounter.Ranked(1L, 2),
+                new SlidingWindowCounter.Ranked(2L, 1));
+    }
+
+    @Test
+    void advancePastWholeWindowClearsEverything() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKET_COUNT, 0);
+        counter.add(1L, 0, 5);
+        counter.add(2L, 2_000, 1);
+
+        counter.advance(60_000);
+
+        assertThat(counter.size()).isZero();
+        assertThat(counter.topK(5)).isEmpty();
+    }
+
+    @Test
+    void ignoresEventsOlderThanWindow() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKET_COUNT, 10_000);
+
+        counter.add(1L, 7_000, 1);
+        counter.add(2L, 8_000, 1);
+
+        assertThat(counter.topK(5)).containsExactly(new SlidingWindowCounter.Ranked(2L, 1));
+    }
+
+    @Test
+    void advanceToEarlierTimeDoesNothing() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKET_COUNT, 0);
+        counter.add(1L, 5_000, 1);
+
+        counter.advance(1_000);
+        counter.add(2L, 5_500, 1);
+
+        assertThat(counter.topK(5)).hasSize(2);
+    }
+
+    @Test
+    void concurrentAdvanceNeverMovesHeadBackwards() throws Exception {
+        int lastIndex = 200;
+        SlidingWindowCounter counter = new SlidingWindowCounter(BUCKET_MILLIS, BUCKET_COUNT, 0);
+
+        List<Long> times = new ArrayList<>();
+        for (long i = 1; i <= lastIndex; i++) {
+            times.add(i * BUCKET_MILLIS);
+        }
+        Collections.shuffle(times);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (long time : times) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    counter.advance(time);
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        // 머리가 마지막 버킷에 있으면 윈도우 바로 밖의 시각은 버려지고 마지막 버킷 시각은 반영됨
+        counter.add(1L, (lastIndex - BUCKET_COUNT) * BUCKET_MILLIS, 1);
+        counter.add(2L, lastIndex * BUCKET_MILLIS, 1);
+
+        assertThat(counter.topK(5)).containsExactly(new SlidingWindowCounter.Ranked(2L, 1));
+    }
+}